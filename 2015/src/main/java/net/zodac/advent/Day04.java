@@ -17,8 +17,11 @@
 
 package net.zodac.advent;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 import net.zodac.advent.util.CryptoUtils;
 
 /**
@@ -28,6 +31,13 @@ import net.zodac.advent.util.CryptoUtils;
  */
 public final class Day04 {
 
+    private static final String HASHING_ALGORITHM = "MD5";
+    private static final int CANDIDATES_PER_CHUNK = 4_096;
+    private static final int MAXIMUM_NUMBER_OF_DIGITS = 10; // Enough for Integer.MAX_VALUE
+    private static final int NIBBLES_PER_BYTE = 2;
+    private static final int DECIMAL_RADIX = 10;
+    private static final long NOT_FOUND = Long.MAX_VALUE;
+
     private Day04() {
 
     }
@@ -37,33 +47,76 @@ public final class Day04 {
      * if it starts with the provided {@code prefixToFind}.
      *
      * <p>
-     * The counter is incremented until either the wanted prefix is found, or {@link Integer#MAX_VALUE}.
+     * The counter is incremented until either the wanted prefix is found, or {@link Integer#MAX_VALUE}. The counters are split into chunks of
+     * {@value #CANDIDATES_PER_CHUNK}, which are claimed in ascending order by one worker per available processor. Each worker reuses its own
+     * {@link CryptoUtils.Hasher} and input buffer, and compares the prefix against the raw nibbles of the digest rather than hex-encoding it.
+     * Once a match is found, any chunk starting beyond that match is skipped, but all earlier chunks are still checked to completion, so the
+     * smallest matching counter is always returned.
      *
      * @param secretKey    the secret key prefix to the hash input
-     * @param prefixToFind the wanted prefix to the hash output
+     * @param prefixToFind the wanted prefix to the hash output, in hexadecimal
      * @return the number of attempts needed to find the wanted prefix
-     * @throws IllegalArgumentException if the {@code prefixToFind} is not found
+     * @throws IllegalArgumentException if the {@code prefixToFind} is not found, or is not a valid hexadecimal value
      * @throws NoSuchAlgorithmException thrown if the {@link MessageDigest} hashing algorithm is not found
      */
     public static long indexOfHashWithPrefix(final String secretKey, final String prefixToFind) throws NoSuchAlgorithmException {
-        for (int i = 0; i < Integer.MAX_VALUE; i++) {
-            final String stringToHash = secretKey + i;
-            final char[] hash = CryptoUtils.hexadecimalHash(stringToHash, "MD5");
+        final int[] prefixNibbles = CryptoUtils.toNibbles(prefixToFind);
+        final byte[] secretKeyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
+        final ThreadLocal<CryptoUtils.Hasher> hasherPerThread = CryptoUtils.hasherPerThread(HASHING_ALGORITHM);
 
-            if (doesArrayStartWith(hash, prefixToFind.toCharArray())) {
-                return i;
-            }
+        if (prefixNibbles.length > hasherPerThread.get().digestLength() * NIBBLES_PER_BYTE) {
+            throw new IllegalArgumentException(String.format("No valid MD5 hash found for '%s' starting with prefix '%s'", secretKey, prefixToFind));
         }
 
-        throw new IllegalArgumentException(String.format("No valid MD5 hash found for '%s' starting with prefix '%s'", secretKey, prefixToFind));
+        final AtomicLong nextChunkStart = new AtomicLong(0L);
+        final AtomicLong smallestMatch = new AtomicLong(NOT_FOUND);
+
+        IntStream.range(0, Runtime.getRuntime().availableProcessors())
+            .parallel() // Each worker only shares the atomic counters, fine to execute in parallel
+            .forEach(_ -> mine(hasherPerThread.get(), secretKeyBytes, prefixNibbles, nextChunkStart, smallestMatch));
+
+        final long result = smallestMatch.get();
+        if (result == NOT_FOUND) {
+            throw new IllegalArgumentException(String.format("No valid MD5 hash found for '%s' starting with prefix '%s'", secretKey, prefixToFind));
+        }
+        return result;
     }
 
-    private static boolean doesArrayStartWith(final char[] array, final char[] prefix) {
-        for (int j = 0; j < prefix.length; j++) {
-            if (prefix[j] != array[j]) {
-                return false;
+    private static void mine(final CryptoUtils.Hasher hasher, final byte[] secretKeyBytes, final int[] prefixNibbles,
+                             final AtomicLong nextChunkStart, final AtomicLong smallestMatch) {
+        final byte[] input = new byte[secretKeyBytes.length + MAXIMUM_NUMBER_OF_DIGITS];
+        System.arraycopy(secretKeyBytes, 0, input, 0, secretKeyBytes.length);
+
+        while (true) {
+            final long chunkStart = nextChunkStart.getAndAdd(CANDIDATES_PER_CHUNK);
+            if (chunkStart >= Integer.MAX_VALUE || chunkStart >= smallestMatch.get()) {
+                return;
+            }
+
+            final long chunkEnd = Math.min(chunkStart + CANDIDATES_PER_CHUNK, Integer.MAX_VALUE);
+            for (long i = chunkStart; i < chunkEnd; i++) {
+                final int inputLength = secretKeyBytes.length + writeDigits(i, input, secretKeyBytes.length);
+
+                if (hasher.hashStartsWith(input, 0, inputLength, prefixNibbles)) {
+                    smallestMatch.accumulateAndGet(i, Math::min);
+                    break; // Any later value in this chunk will be larger, so we can skip straight to the next chunk
+                }
             }
         }
-        return true;
+    }
+
+    // Writes the decimal digits of the value into the buffer without creating a String, returning the number of digits written
+    private static int writeDigits(final long value, final byte[] buffer, final int offset) {
+        int numberOfDigits = 1;
+        for (long remaining = value / DECIMAL_RADIX; remaining > 0; remaining /= DECIMAL_RADIX) {
+            numberOfDigits++;
+        }
+
+        long remaining = value;
+        for (int i = offset + numberOfDigits - 1; i >= offset; i--) {
+            buffer[i] = (byte) ('0' + (remaining % DECIMAL_RADIX));
+            remaining /= DECIMAL_RADIX;
+        }
+        return numberOfDigits;
     }
 }
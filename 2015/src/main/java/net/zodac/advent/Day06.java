@@ -18,8 +18,9 @@
 package net.zodac.advent;
 
 import java.util.Collection;
-import net.zodac.advent.grid.Grid;
+import net.zodac.advent.grid.BooleanGrid;
 import net.zodac.advent.grid.GridFactory;
+import net.zodac.advent.grid.IntGrid;
 import net.zodac.advent.grid.Point;
 import net.zodac.advent.pojo.GridUpdateInstruction;
 import net.zodac.advent.pojo.tuple.Triple;
@@ -38,43 +39,43 @@ public final class Day06 {
     }
 
     /**
-     * Creates a {@link Boolean} {@link Grid} and sets {@link Point} based on the input {@link GridUpdateInstruction}.
+     * Creates a {@link BooleanGrid} and sets {@link Point} based on the input {@link GridUpdateInstruction}.
      *
-     * @param instructionsAndPoints the {@link Point}s defining a box on the {@link Boolean} {@link Grid}, with the {@link GridUpdateInstruction}
-     * @return the number of {@link Boolean} {@link Grid} {@link Point}s that have been turned on
+     * @param instructionsAndPoints the {@link Point}s defining a box on the {@link BooleanGrid}, with the {@link GridUpdateInstruction}
+     * @return the number of {@link BooleanGrid} {@link Point}s that have been turned on
      */
     public static long countSwitchedOnLights(final Collection<Triple<GridUpdateInstruction, Point, Point>> instructionsAndPoints) {
-        final Grid<Boolean> booleanGrid = GridFactory.ofBooleansWithSize(GRID_SIZE);
+        final BooleanGrid booleanGrid = GridFactory.ofBooleanGridWithSize(GRID_SIZE);
 
         for (final Triple<GridUpdateInstruction, Point, Point> instructionAndPoints : instructionsAndPoints) {
             final GridUpdateInstruction gridUpdateInstruction = instructionAndPoints.first();
             final Point first = instructionAndPoints.second();
             final Point second = instructionAndPoints.third();
 
-            booleanGrid.drawBox(first.x(), first.y(), second.x(), second.y(),
-                currentValue -> canUpdateBooleanGrid(gridUpdateInstruction, currentValue));
+            updateBooleanGrid(booleanGrid, gridUpdateInstruction, first, second);
         }
 
-        return booleanGrid.sumValues(booleanValue -> Boolean.TRUE.equals(booleanValue) ? 1 : 0);
+        return booleanGrid.sumValues();
     }
 
-    private static boolean canUpdateBooleanGrid(final GridUpdateInstruction gridUpdateInstruction, final boolean currentValue) {
-        return switch (gridUpdateInstruction) {
-            case ON -> true;
-            case OFF -> false;
-            case TOGGLE -> !currentValue;
+    private static void updateBooleanGrid(final BooleanGrid booleanGrid, final GridUpdateInstruction gridUpdateInstruction, final Point first,
+                                          final Point second) {
+        switch (gridUpdateInstruction) {
+            case ON -> booleanGrid.setBox(first.x(), first.y(), second.x(), second.y(), true);
+            case OFF -> booleanGrid.setBox(first.x(), first.y(), second.x(), second.y(), false);
+            case TOGGLE -> booleanGrid.toggleBox(first.x(), first.y(), second.x(), second.y());
             default -> throw new IllegalStateException("Cannot update with instruction: " + gridUpdateInstruction);
-        };
+        }
     }
 
     /**
-     * Creates an {@link Integer} {@link Grid} and sets {@link Point} based on the input {@link GridUpdateInstruction}.
+     * Creates an {@link IntGrid} and sets {@link Point} based on the input {@link GridUpdateInstruction}.
      *
-     * @param instructionsAndPoints the {@link Point}s defining a box on the {@link Integer} {@link Grid}, with the {@link GridUpdateInstruction}
-     * @return the total value of all {@link Integer} {@link Grid} {@link Point}s
+     * @param instructionsAndPoints the {@link Point}s defining a box on the {@link IntGrid}, with the {@link GridUpdateInstruction}
+     * @return the total value of all {@link IntGrid} {@link Point}s
      */
     public static long calculateBrightness(final Collection<Triple<GridUpdateInstruction, Point, Point>> instructionsAndPoints) {
-        final Grid<Integer> integerGrid = GridFactory.ofIntegersWithSize(GRID_SIZE);
+        final IntGrid integerGrid = GridFactory.ofIntGridWithSize(GRID_SIZE);
 
         for (final Triple<GridUpdateInstruction, Point, Point> instructionAndPoints : instructionsAndPoints) {
             final GridUpdateInstruction gridUpdateInstruction = instructionAndPoints.first();
@@ -85,7 +86,7 @@ public final class Day06 {
                 currentValue -> updateIntegerGrid(gridUpdateInstruction, currentValue));
         }
 
-        return integerGrid.sumValues(integerValue -> integerValue);
+        return integerGrid.sumValues();
     }
 
     private static int updateIntegerGrid(final GridUpdateInstruction gridUpdateInstruction, final int currentValue) {
@@ -17,6 +17,8 @@
 
 package net.zodac.advent;
 
+import net.zodac.advent.pojo.LookAndSaySequence;
+
 /**
  * Solution for 2015, Day 10.
  *
@@ -29,43 +31,16 @@ public final class Day10 {
     }
 
     /**
-     * Performs the 'lookAndSay' sequence on the input {@code numberOfExecutions} times, and returns the length of the result.
+     * Performs the 'lookAndSay' sequence on the input {@code numberOfExecutions} times, and returns the length of the result. The sequence itself is
+     * never built, so the memory used does not grow with {@code numberOfExecutions}.
      *
      * @param input              the {@link String} to perform the sequence on
      * @param numberOfExecutions the number of times to perform the sequence
      * @return the length of the end result after the sequence has been applied {@code numberOfExecutions} times
+     * @throws IllegalArgumentException thrown if the {@code input} is blank or is not made up of digits
+     * @see LookAndSaySequence
      */
     public static long performLookAndSaySequenceAndReturnLength(final String input, final int numberOfExecutions) {
-        String output = input;
-        for (int i = 0; i < numberOfExecutions; i++) {
-            output = lookAndSay(output);
-        }
-        return output.length();
-    }
-
-    private static String lookAndSay(final String input) {
-        if (input.isBlank()) {
-            throw new IllegalArgumentException("Input cannot be blank");
-        }
-
-        final StringBuilder output = new StringBuilder();
-
-        final int inputLength = input.length();
-        for (int i = 0; i < inputLength; i++) {
-            final char currentChar = input.charAt(i);
-
-            if (!Character.isDigit(currentChar)) {
-                throw new IllegalArgumentException(String.format("Character '%s' is not a valid integer", currentChar));
-            }
-
-            int count = 1;
-            while (i + 1 < inputLength && input.charAt(i + 1) == currentChar) {
-                i++; // If next char is same as current, move the pointer to the next char
-                count++;
-            }
-
-            output.append(count).append(currentChar);
-        }
-        return output.toString();
+        return LookAndSaySequence.lengthAfterSteps(input, numberOfExecutions);
     }
 }
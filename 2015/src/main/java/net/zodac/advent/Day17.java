@@ -17,7 +17,6 @@
 
 package net.zodac.advent;
 
-import java.util.Collection;
 import java.util.List;
 import net.zodac.advent.util.PowerSetUtils;
 
@@ -39,20 +38,10 @@ public final class Day17 {
      * @param values      the input {@link List} of {@link Integer}s
      * @param wantedValue the wanted value of all elements in a combination
      * @return the number of matching combinations
+     * @see PowerSetUtils#countSubsetsWithSum(long[], long)
      */
     public static long numberOfCombinationsMatchingWantedValue(final List<Integer> values, final int wantedValue) {
-        final List<List<Integer>> powerList = PowerSetUtils.getPowerList(values);
-        int numberOfMatchingCombinations = 0;
-
-        for (final List<Integer> combination : powerList) {
-            final int sum = sumOf(combination);
-
-            if (sum == wantedValue) {
-                numberOfMatchingCombinations++;
-            }
-        }
-
-        return numberOfMatchingCombinations;
+        return PowerSetUtils.countSubsetsWithSum(toLongs(values), wantedValue);
     }
 
     /**
@@ -65,34 +54,24 @@ public final class Day17 {
      * @param values      the input {@link List} of {@link Integer}s
      * @param wantedValue the wanted value of all elements in a combination
      * @return the number of matching combinations with the smallest possible size
+     * @see PowerSetUtils#countSubsetsWithSumBySize(long[], long)
      */
     public static long numberOfSmallestSizeCombinationsMatchingWantedValue(final List<Integer> values, final int wantedValue) {
-        final List<List<Integer>> powerList = PowerSetUtils.getPowerList(values);
-        int numberOfSmallestSizeMatchingCombinations = 0;
-        int currentSmallestSize = Integer.MAX_VALUE;
-
-        for (final List<Integer> combination : powerList) {
-            final int sum = sumOf(combination);
+        final long[] numberOfCombinationsBySize = PowerSetUtils.countSubsetsWithSumBySize(toLongs(values), wantedValue);
 
-            if (sum == wantedValue) {
-                if (combination.size() < currentSmallestSize) {
-                    // If this matching combination is smaller than the current smallest, reset the counter and update the smallest size
-                    numberOfSmallestSizeMatchingCombinations = 1;
-                    currentSmallestSize = combination.size();
-                } else if (combination.size() == currentSmallestSize) {
-                    // If this matching combination is the same as the smallest, increment the counter
-                    numberOfSmallestSizeMatchingCombinations++;
-                }
+        for (final long numberOfCombinations : numberOfCombinationsBySize) {
+            if (numberOfCombinations != 0L) {
+                return numberOfCombinations;
             }
         }
 
-        return numberOfSmallestSizeMatchingCombinations;
+        return 0L;
     }
 
-    private static int sumOf(final Collection<Integer> input) {
-        return input
+    private static long[] toLongs(final List<Integer> values) {
+        return values
             .stream()
-            .mapToInt(Integer::intValue)
-            .sum();
+            .mapToLong(Integer::longValue)
+            .toArray();
     }
 }
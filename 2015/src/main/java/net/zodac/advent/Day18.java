@@ -17,11 +17,9 @@
 
 package net.zodac.advent;
 
-import java.util.Set;
-import java.util.function.ToIntFunction;
-import net.zodac.advent.grid.AdjacentDirection;
-import net.zodac.advent.grid.AdjacentPointsSelector;
 import net.zodac.advent.grid.Grid;
+import net.zodac.advent.grid.LifeGrid;
+import net.zodac.advent.grid.LifeRule;
 import net.zodac.advent.grid.Point;
 
 /**
@@ -31,10 +29,6 @@ import net.zodac.advent.grid.Point;
  */
 public final class Day18 {
 
-    private static final Set<Integer> NEIGHBOUR_VALUES_FOR_OFF_POINT = Set.of(3);
-    private static final Set<Integer> NEIGHBOUR_VALUES_FOR_ON_POINT = Set.of(2, 3);
-    private static final ToIntFunction<Boolean> EVALUATOR = booleanValue -> Boolean.TRUE.equals(booleanValue) ? 1 : 0;
-
     private Day18() {
 
     }
@@ -47,48 +41,15 @@ public final class Day18 {
      * @param numberOfIterations the number of times to execute the 'Game of Life'
      * @param cornersAlwaysOn    if {@code true}, the value of the corners of the {@link Grid} must always be set to <b>true</b>
      * @return the number of {@link Point}s that have been turned on
+     * @see LifeGrid
      */
     public static long playGameOfLife(final Grid<Boolean> initialState, final int numberOfIterations, final boolean cornersAlwaysOn) {
-        Grid<Boolean> booleanGrid = initialState;
+        final LifeGrid lifeGrid = LifeGrid.from(initialState, LifeRule.CONWAY);
         if (cornersAlwaysOn) {
-            booleanGrid = initialState.updateCorners(true);
-        }
-
-        for (int i = 0; i < numberOfIterations; i++) {
-            booleanGrid = playGameOfLife(booleanGrid, cornersAlwaysOn);
-        }
-
-        return booleanGrid.sumValues(EVALUATOR);
-    }
-
-    private static Grid<Boolean> playGameOfLife(final Grid<Boolean> booleanGrid, final boolean cornersAlwaysOn) {
-        final int numberOfRows = booleanGrid.numberOfRows();
-        final int numberOfColumns = booleanGrid.numberOfColumns();
-        final Boolean[][] newGrid = new Boolean[numberOfRows][numberOfColumns];
-
-        for (int row = 0; row < numberOfRows; row++) {
-            for (int column = 0; column < numberOfColumns; column++) {
-                if (cornersAlwaysOn && booleanGrid.isCorner(row, column)) {
-                    newGrid[row][column] = true;
-                    continue;
-                }
-
-                final Point currentPoint = Point.of(row, column);
-                final boolean isSet = booleanGrid.at(currentPoint);
-
-                final AdjacentPointsSelector adjacentPointsSelector = AdjacentPointsSelector.bounded(false, AdjacentDirection.ALL, numberOfRows);
-                final int valueOfSetNeighbours = currentPoint.getAdjacentPoints(adjacentPointsSelector)
-                    .mapToInt(point -> EVALUATOR.applyAsInt(booleanGrid.at(point)))
-                    .sum();
-
-                if (isSet) {
-                    newGrid[row][column] = NEIGHBOUR_VALUES_FOR_ON_POINT.contains(valueOfSetNeighbours);
-                } else {
-                    newGrid[row][column] = NEIGHBOUR_VALUES_FOR_OFF_POINT.contains(valueOfSetNeighbours);
-                }
-            }
+            lifeGrid.setCornersAlwaysOn();
         }
 
-        return new Grid<>(newGrid);
+        lifeGrid.step(numberOfIterations);
+        return lifeGrid.countAlive();
     }
 }
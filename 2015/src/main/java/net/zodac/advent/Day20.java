@@ -17,7 +17,7 @@
 
 package net.zodac.advent;
 
-import net.zodac.advent.util.ArrayUtils;
+import net.zodac.advent.math.DivisorSumSieve;
 
 /**
  * Solution for 2015, Day 20.
@@ -40,21 +40,15 @@ public final class Day20 {
      * </pre>
      *
      * <p>
-     * We want the first house that has {@code wantedNumberOfItemsDelivered} items delivered to it.
+     * We want the first house that has {@code wantedNumberOfItemsDelivered} items delivered to it. Since deliverer {@code d} delivers to house
+     * {@code n} exactly when {@code d} divides {@code n}, this is the first house whose divisor sum is large enough.
      *
      * @param wantedNumberOfItemsDelivered the total number of items we want delivered to a single house
      * @param itemsPerDelivery             the number of items delivered in each delivery
      * @return the first house number with the wanted number of deliveries
      */
     public static long deliverToHouses(final int wantedNumberOfItemsDelivered, final int itemsPerDelivery) {
-        final int[] houses = new int[wantedNumberOfItemsDelivered / itemsPerDelivery];
-        for (int deliverer = 1; deliverer < houses.length; deliverer++) {
-            for (int houseNumber = deliverer; houseNumber < houses.length; houseNumber += deliverer) {
-                houses[houseNumber] += (deliverer * itemsPerDelivery);
-            }
-        }
-
-        return ArrayUtils.findSmallestIndexGreaterThanThreshold(houses, wantedNumberOfItemsDelivered);
+        return DivisorSumSieve.findFirstGreaterThan(wantedNumberOfItemsDelivered, itemsPerDelivery);
     }
 
     /**
@@ -74,23 +68,10 @@ public final class Day20 {
      *
      * @param wantedNumberOfItemsDelivered the total number of items we want delivered to a single house
      * @param itemsPerDelivery             the number of items delivered in each delivery
-     * @param maxDeliveriesPerDeliverer      the maximum number of deliveries a single deliverer will make
+     * @param maxDeliveriesPerDeliverer    the maximum number of deliveries a single deliverer will make
      * @return the first house number with the wanted number of deliveries
      */
     public static long deliverToHouses(final int wantedNumberOfItemsDelivered, final int itemsPerDelivery, final int maxDeliveriesPerDeliverer) {
-        final int[] houses = new int[wantedNumberOfItemsDelivered / itemsPerDelivery];
-        for (int deliverer = 1; deliverer < houses.length; deliverer++) {
-            int numberOfHousesDelivered = 0; //
-            for (int houseNumber = deliverer; houseNumber < houses.length; houseNumber += deliverer) {
-                if (numberOfHousesDelivered >= maxDeliveriesPerDeliverer) {
-                    break; // Deliverer cannot deliver to any more houses
-                }
-
-                houses[houseNumber] += (deliverer * itemsPerDelivery);
-                numberOfHousesDelivered++;
-            }
-        }
-
-        return ArrayUtils.findSmallestIndexGreaterThanThreshold(houses, wantedNumberOfItemsDelivered);
+        return DivisorSumSieve.findFirstGreaterThan(wantedNumberOfItemsDelivered, itemsPerDelivery, maxDeliveriesPerDeliverer);
     }
 }
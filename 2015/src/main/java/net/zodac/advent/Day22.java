@@ -17,12 +17,13 @@
 
 package net.zodac.advent;
 
-import net.zodac.advent.pojo.DijkstraSearcher;
-import net.zodac.advent.pojo.SearchNode;
 import net.zodac.advent.pojo.rpg.mage.BattleRound;
 import net.zodac.advent.pojo.rpg.mage.MageBoss;
 import net.zodac.advent.pojo.rpg.mage.MagePlayer;
 import net.zodac.advent.pojo.rpg.mage.Spell;
+import net.zodac.advent.search.SearchAlgorithm;
+import net.zodac.advent.search.SearchResult;
+import net.zodac.advent.search.ShortestPathSearcher;
 
 /**
  * Solution for 2015, Day 22.
@@ -37,18 +38,33 @@ public final class Day22 {
 
     /**
      * Given a {@link MageBoss}, we generate a {@link MagePlayer} and simulate a battle. Each round we will determine the possible next round,
-     * based on available {@link Spell}s and the {@link MagePlayer} mana. Using {@link DijkstraSearcher}'s algorithm, we will attempt to find the
+     * based on available {@link Spell}s and the {@link MagePlayer} mana. Using Dijkstra's algorithm, we will attempt to find the
      * shortest path for mana usage that still lead to a victory.
      *
+     * <p>
+     * Many orders of {@link Spell}s lead to the same hit points, mana and {@link Spell} timers, so each {@link BattleRound} is identified by its
+     * {@link BattleRound#stateKey()}, and each distinct state is only expanded once.
+     *
      * @param player                   the {@link MagePlayer}
      * @param boss                     the {@link MageBoss} to defeat
      * @param healthLossEachPlayerTurn the health the player loses at the start of each turn
      * @return the lowest amount of mana that wins the battle
+     * @throws IllegalStateException thrown if no {@link BattleRound} can be found where the {@link MagePlayer} wins the battle
      * @see BattleRound
-     * @see DijkstraSearcher
+     * @see ShortestPathSearcher
      */
     public static long findCheapestManaCostToWinBattle(final MagePlayer player, final MageBoss boss, final int healthLossEachPlayerTurn) {
-        final SearchNode searchNode = BattleRound.createFirstRound(player, boss, healthLossEachPlayerTurn);
-        return DijkstraSearcher.findShortestDistance(searchNode);
+        final BattleRound firstRound = BattleRound.createFirstRound(player, boss, healthLossEachPlayerTurn);
+        final SearchResult<BattleRound> searchResult = ShortestPathSearcher.findShortestPathByKey(firstRound,
+            (currentRound, edgeConsumer) -> currentRound.getNeighbourNodesByDistance()
+                .forEach((distance, neighbourRound) -> edgeConsumer.accept(neighbourRound, distance)),
+            BattleRound::isAtEndState,
+            SearchAlgorithm.DIJKSTRA,
+            BattleRound::stateKey);
+
+        if (!searchResult.doesPathExist()) {
+            throw new IllegalStateException("Unable to find endState with provided input node");
+        }
+        return searchResult.distance();
     }
 }
@@ -17,11 +17,12 @@
 
 package net.zodac.advent;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import net.zodac.advent.util.MathUtils;
-import net.zodac.advent.util.StringUtils;
+import net.zodac.advent.machine.Opcode;
+import net.zodac.advent.machine.Operation;
+import net.zodac.advent.machine.Program;
+import net.zodac.advent.machine.RegisterMachine;
 
 /**
  * Solution for 2015, Day 23.
@@ -30,8 +31,14 @@ import net.zodac.advent.util.StringUtils;
  */
 public final class Day23 {
 
-    private static final long DEFAULT_REGISTER_VALUE = 0L;
-    private static final int DEFAULT_INDEX_INCREMENT = 1;
+    private static final Map<String, Operation> OPERATIONS_BY_MNEMONIC = Map.of(
+        "hlf", Operation.withFixedArgument(Opcode.DIVIDE, 2),
+        "inc", Operation.withFixedArgument(Opcode.ADD, 1),
+        "tpl", Operation.withFixedArgument(Opcode.MULTIPLY, 3),
+        "jmp", Operation.of(Opcode.JUMP),
+        "jie", Operation.of(Opcode.JUMP_IF_EVEN),
+        "jio", Operation.of(Opcode.JUMP_IF_ONE)
+    );
 
     private Day23() {
 
@@ -41,87 +48,21 @@ public final class Day23 {
      * Based on the input {@link String} commands, we populate a set of registers. Once populated, we retrieve the value of the
      * {@code wantedRegisterValue}.
      *
+     * <p>
+     * The commands are compiled once into a {@link Program}, which is then executed by a {@link RegisterMachine}.
+     *
      * @param commands            the input {@link String} commands
      * @param wantedRegisterValue the register whose value we want
      * @param initialValues       the initial values for registers, if any
      * @return the register value
+     * @throws IllegalArgumentException thrown if any command is invalid
      */
     public static long calculateRegisterValue(final List<String> commands, final char wantedRegisterValue, final Map<Character, Long> initialValues) {
-        final Map<Character, Long> registerValues = populateRegisterValues(commands, initialValues);
-        return registerValues.getOrDefault(wantedRegisterValue, 0L);
-    }
-
-    private static Map<Character, Long> populateRegisterValues(final List<String> commands, final Map<Character, Long> initialValues) {
-        final Map<Character, Long> registerValues = new HashMap<>(initialValues);
-
-        final int numberOfCommands = commands.size();
-        int index = 0;
-        while (index < numberOfCommands) {
-            final String value = commands.get(index);
-            final String[] tokens = StringUtils.splitOnWhitespace(value);
-
-            final String command = tokens[0];
-
-            switch (command) {
-                case "hlf" -> index += halve(registerValues, getRegisterName(tokens));
-                case "inc" -> index += increment(registerValues, getRegisterName(tokens));
-                case "tpl" -> index += triple(registerValues, getRegisterName(tokens));
-                case "jmp" -> index += jump(tokens);
-                case "jie" -> index += jumpIfEven(registerValues, tokens);
-                case "jio" -> index += jumpIfOne(registerValues, tokens);
-                default -> throw new IllegalStateException("Unable to handle command: " + command);
-            }
-        }
-
-        return registerValues;
-    }
-
-    private static int halve(final Map<? super Character, Long> registerValues, final char register) {
-        final long registerValue = registerValues.getOrDefault(register, DEFAULT_REGISTER_VALUE);
-        final long newRegisterValue = registerValue / 2;
-        registerValues.put(register, newRegisterValue);
-        return DEFAULT_INDEX_INCREMENT;
-    }
-
-    private static int increment(final Map<? super Character, Long> registerValues, final char register) {
-        final long registerValue = registerValues.getOrDefault(register, DEFAULT_REGISTER_VALUE);
-        final long newRegisterValue = registerValue + 1;
-        registerValues.put(register, newRegisterValue);
-        return DEFAULT_INDEX_INCREMENT;
-    }
-
-    private static int triple(final Map<? super Character, Long> registerValues, final char register) {
-        final long registerValue = registerValues.getOrDefault(register, DEFAULT_REGISTER_VALUE);
-        final long newRegisterValue = registerValue * 3;
-        registerValues.put(register, newRegisterValue);
-        return DEFAULT_INDEX_INCREMENT;
-    }
-
-    private static int jump(final String[] tokens) {
-        return Integer.parseInt(tokens[1]);
-    }
-
-    private static int jumpIfEven(final Map<Character, Long> registerValues, final String[] tokens) {
-        final char register = getRegisterNameWithoutComma(tokens);
-        final int offset = Integer.parseInt(tokens[2]);
-
-        final long registerValue = registerValues.getOrDefault(register, DEFAULT_REGISTER_VALUE);
-        return MathUtils.isEven(registerValue) ? offset : DEFAULT_INDEX_INCREMENT;
-    }
-
-    private static int jumpIfOne(final Map<Character, Long> registerValues, final String[] tokens) {
-        final char register = getRegisterNameWithoutComma(tokens);
-        final int offset = Integer.parseInt(tokens[2]);
-
-        final long registerValue = registerValues.getOrDefault(register, DEFAULT_REGISTER_VALUE);
-        return registerValue == 1 ? offset : DEFAULT_INDEX_INCREMENT;
-    }
-
-    private static char getRegisterName(final String[] tokens) {
-        return tokens[1].charAt(0);
-    }
+        final Program program = Program.parse(commands, OPERATIONS_BY_MNEMONIC);
+        final RegisterMachine registerMachine = RegisterMachine.create(program);
+        initialValues.forEach(registerMachine::setRegister);
 
-    private static char getRegisterNameWithoutComma(final String[] tokens) {
-        return StringUtils.removeLastCharacter(tokens[1]).charAt(0);
+        registerMachine.run();
+        return registerMachine.register(wantedRegisterValue);
     }
 }
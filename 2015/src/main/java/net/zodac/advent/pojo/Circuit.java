@@ -0,0 +1,304 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.pojo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.regex.Pattern;
+import net.zodac.advent.math.BitwiseOperation;
+import net.zodac.advent.util.NumberUtils;
+import net.zodac.advent.util.StringUtils;
+
+/**
+ * A circuit of 16-bit wires, where each wire is driven by a signal, another wire, or a {@link BitwiseOperation} on one or two inputs.
+ *
+ * <p>
+ * The circuit is compiled once: each wire is given an {@code int} index, and its {@link BitwiseOperation} and inputs are stored in primitive arrays,
+ * where an input is either a wire index (if non-negative) or an encoded signal (if negative). The wires are then sorted into topological order, and
+ * every wire is evaluated iteratively into a {@code char[]}.
+ *
+ * <p>
+ * When a wire is overridden with a new signal, only the wires downstream of it are re-evaluated, in topological order, and propagation stops at any
+ * wire whose value does not change.
+ */
+public final class Circuit {
+
+    private static final Pattern OUTPUT_PATTERN = Pattern.compile(" -> ");
+    private static final int DIRECT_NUMBER_OF_TOKENS = 1;
+    private static final int UNARY_NUMBER_OF_TOKENS = 2;
+    private static final int BINARY_NUMBER_OF_TOKENS = 3;
+    private static final int UNUSED_INPUT = signalInput(0);
+
+    private final Map<String, Integer> indexByLabel;
+    private final BitwiseOperation[] operations;
+    private final int[] firstInputs;
+    private final int[] secondInputs;
+    private final int[] topologicalPositions;
+    private final int[] wiresInTopologicalOrder;
+    private final int[] dependentsOffsets;
+    private final int[] dependents;
+    private final char[] values;
+
+    private Circuit(final Map<String, Integer> indexByLabel,
+                    final BitwiseOperation[] operations,
+                    final int[] firstInputs,
+                    final int[] secondInputs,
+                    final int[] dependentsOffsets,
+                    final int[] dependents,
+                    final int[] wiresInTopologicalOrder) {
+        this.indexByLabel = indexByLabel;
+        this.operations = operations;
+        this.firstInputs = firstInputs;
+        this.secondInputs = secondInputs;
+        this.dependentsOffsets = dependentsOffsets;
+        this.dependents = dependents;
+        this.wiresInTopologicalOrder = wiresInTopologicalOrder;
+
+        topologicalPositions = new int[wiresInTopologicalOrder.length];
+        for (int position = 0; position < wiresInTopologicalOrder.length; position++) {
+            topologicalPositions[wiresInTopologicalOrder[position]] = position;
+        }
+
+        values = new char[wiresInTopologicalOrder.length];
+        for (final int wire : wiresInTopologicalOrder) {
+            values[wire] = calculate(wire);
+        }
+    }
+
+    /**
+     * Compiles a {@link Circuit} from {@link String}s in the format:
+     * <pre>
+     *     [command] -> [label]
+     * </pre>
+     *
+     * <p>
+     * Where the command is one of:
+     * <pre>
+     *     [input]
+     *     NOT [input]
+     *     [input] [AND|OR|LSHIFT|RSHIFT] [input]
+     * </pre>
+     *
+     * <p>
+     * And each input is either a signal or the label of another wire.
+     *
+     * @param values the input {@link String}s
+     * @return the compiled {@link Circuit}
+     * @throws IllegalArgumentException thrown if any command is invalid
+     * @throws IllegalStateException    thrown if an input references a wire that is not defined, or if the wires contain a loop
+     */
+    public static Circuit compile(final Collection<String> values) {
+        final List<String> commands = new ArrayList<>(values.size());
+        final Map<String, Integer> indexByLabel = new HashMap<>();
+        for (final String value : values) {
+            final String[] commandAndOutputLabel = OUTPUT_PATTERN.split(value, 2);
+            if (indexByLabel.putIfAbsent(commandAndOutputLabel[1], commands.size()) != null) {
+                throw new IllegalArgumentException(String.format("Wire '%s' is defined more than once", commandAndOutputLabel[1]));
+            }
+            commands.add(commandAndOutputLabel[0]);
+        }
+
+        final int numberOfWires = commands.size();
+        final BitwiseOperation[] operations = new BitwiseOperation[numberOfWires];
+        final int[] firstInputs = new int[numberOfWires];
+        final int[] secondInputs = new int[numberOfWires];
+        for (int wire = 0; wire < numberOfWires; wire++) {
+            final String[] commandTokens = StringUtils.splitOnWhitespace(commands.get(wire));
+            switch (commandTokens.length) {
+                case DIRECT_NUMBER_OF_TOKENS -> {
+                    operations[wire] = BitwiseOperation.INVALID;
+                    firstInputs[wire] = parseInput(commandTokens[0], indexByLabel);
+                    secondInputs[wire] = UNUSED_INPUT;
+                }
+                case UNARY_NUMBER_OF_TOKENS -> {
+                    operations[wire] = parseOperation(commandTokens[0], commands.get(wire));
+                    firstInputs[wire] = parseInput(commandTokens[1], indexByLabel);
+                    secondInputs[wire] = UNUSED_INPUT;
+                }
+                case BINARY_NUMBER_OF_TOKENS -> {
+                    operations[wire] = parseOperation(commandTokens[1], commands.get(wire));
+                    firstInputs[wire] = parseInput(commandTokens[0], indexByLabel);
+                    secondInputs[wire] = parseInput(commandTokens[2], indexByLabel);
+                }
+                default -> throw new IllegalArgumentException("Unable to parse command: " + commands.get(wire));
+            }
+        }
+
+        // Build the reverse edges (from each wire to the wires that use it) as a compressed adjacency list
+        final int[] dependentsOffsets = new int[numberOfWires + 1];
+        for (int wire = 0; wire < numberOfWires; wire++) {
+            forEachWireInput(firstInputs[wire], secondInputs[wire], input -> dependentsOffsets[input + 1]++);
+        }
+        for (int wire = 0; wire < numberOfWires; wire++) {
+            dependentsOffsets[wire + 1] += dependentsOffsets[wire];
+        }
+        final int[] dependents = new int[dependentsOffsets[numberOfWires]];
+        final int[] nextDependentIndex = Arrays.copyOf(dependentsOffsets, numberOfWires);
+        for (int wire = 0; wire < numberOfWires; wire++) {
+            final int dependent = wire;
+            forEachWireInput(firstInputs[wire], secondInputs[wire], input -> dependents[nextDependentIndex[input]++] = dependent);
+        }
+
+        final int[] wiresInTopologicalOrder = sortTopologically(firstInputs, secondInputs, dependentsOffsets, dependents);
+        return new Circuit(indexByLabel, operations, firstInputs, secondInputs, dependentsOffsets, dependents, wiresInTopologicalOrder);
+    }
+
+    // Kahn's algorithm, where the order array doubles as the queue of wires whose inputs have all been evaluated
+    private static int[] sortTopologically(final int[] firstInputs, final int[] secondInputs, final int[] dependentsOffsets, final int[] dependents) {
+        final int numberOfWires = firstInputs.length;
+        final int[] remainingInputs = new int[numberOfWires];
+        final int[] order = new int[numberOfWires];
+        int orderSize = 0;
+
+        for (int wire = 0; wire < numberOfWires; wire++) {
+            remainingInputs[wire] = (firstInputs[wire] >= 0 ? 1 : 0) + (secondInputs[wire] >= 0 ? 1 : 0);
+            if (remainingInputs[wire] == 0) {
+                order[orderSize++] = wire;
+            }
+        }
+
+        for (int head = 0; head < orderSize; head++) {
+            final int wire = order[head];
+            for (int i = dependentsOffsets[wire]; i < dependentsOffsets[wire + 1]; i++) {
+                final int dependent = dependents[i];
+                remainingInputs[dependent]--;
+                if (remainingInputs[dependent] == 0) {
+                    order[orderSize++] = dependent;
+                }
+            }
+        }
+
+        if (orderSize != numberOfWires) {
+            throw new IllegalStateException(String.format("Circuit contains a loop, only able to order %d of %d wires", orderSize, numberOfWires));
+        }
+        return order;
+    }
+
+    /**
+     * Retrieves the current value of the wire with the given label.
+     *
+     * @param label the label of the wire
+     * @return the 16-bit value of the wire
+     * @throws IllegalStateException thrown if no wire has the given label
+     */
+    public int valueOf(final String label) {
+        return values[indexOf(label)];
+    }
+
+    /**
+     * Overrides the wire with the given label, so that it is driven by the {@code signal} instead of its original command. This override remains in
+     * place for all later evaluations. Only the wires downstream of the overridden wire are re-evaluated.
+     *
+     * @param label  the label of the wire to override
+     * @param signal the new signal for the wire
+     * @throws IllegalStateException thrown if no wire has the given label
+     */
+    public void override(final String label, final int signal) {
+        final int overriddenWire = indexOf(label);
+        operations[overriddenWire] = BitwiseOperation.INVALID;
+        firstInputs[overriddenWire] = signalInput(signal);
+        secondInputs[overriddenWire] = UNUSED_INPUT;
+
+        // Positions (in topological order) of wires that need to be re-evaluated, so they are always processed after all of their inputs
+        final BitSet pendingPositions = new BitSet(values.length);
+        pendingPositions.set(topologicalPositions[overriddenWire]);
+
+        for (int position = pendingPositions.nextSetBit(0); position >= 0; position = pendingPositions.nextSetBit(position + 1)) {
+            final int wire = wiresInTopologicalOrder[position];
+            final char newValue = calculate(wire);
+            if (newValue != values[wire]) {
+                values[wire] = newValue;
+                for (int i = dependentsOffsets[wire]; i < dependentsOffsets[wire + 1]; i++) {
+                    pendingPositions.set(topologicalPositions[dependents[i]]);
+                }
+            }
+        }
+    }
+
+    private char calculate(final int wire) {
+        final int first = inputValue(firstInputs[wire]);
+        final int second = inputValue(secondInputs[wire]);
+
+        final int value = switch (operations[wire]) {
+            case AND -> first & second;
+            case OR -> first | second;
+            case XOR -> first ^ second;
+            case LSHIFT -> first << second;
+            case RSHIFT -> first >>> second;
+            case NOT -> ~first;
+            case INVALID -> first;
+        };
+        return (char) value;
+    }
+
+    private int inputValue(final int input) {
+        return input >= 0 ? values[input] : decodeSignal(input);
+    }
+
+    private int indexOf(final String label) {
+        final Integer index = indexByLabel.get(label);
+        if (index == null) {
+            throw new IllegalStateException(String.format("Expected to find command with label '%s', found nothing", label));
+        }
+        return index;
+    }
+
+    private static int parseInput(final String token, final Map<String, Integer> indexByLabel) {
+        if (NumberUtils.isInteger(token)) {
+            return signalInput(Integer.parseInt(token));
+        }
+
+        final Integer index = indexByLabel.get(token);
+        if (index == null) {
+            throw new IllegalStateException(String.format("Expected to find command with label '%s', found nothing", token));
+        }
+        return index;
+    }
+
+    private static BitwiseOperation parseOperation(final String token, final String command) {
+        final BitwiseOperation bitwiseOperation = BitwiseOperation.get(token);
+        if (bitwiseOperation == BitwiseOperation.INVALID) {
+            throw new IllegalArgumentException("Unable to parse command: " + command);
+        }
+        return bitwiseOperation;
+    }
+
+    private static void forEachWireInput(final int firstInput, final int secondInput, final IntConsumer wireConsumer) {
+        if (firstInput >= 0) {
+            wireConsumer.accept(firstInput);
+        }
+        if (secondInput >= 0) {
+            wireConsumer.accept(secondInput);
+        }
+    }
+
+    // Signals are stored as negative inputs, so they can share an array with wire indices
+    private static int signalInput(final int signal) {
+        return -1 - (signal & Character.MAX_VALUE);
+    }
+
+    private static int decodeSignal(final int input) {
+        return -1 - input;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.pojo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the length of a 'look-and-say' sequence without building it, by splitting the sequence into atoms (Conway's elements) which never
+ * interact with their neighbours again. Each distinct atom is stored once, along with the atoms it decays into after one step, and the sequence is
+ * then tracked as a count of each atom. This uses memory proportional to the number of distinct atoms (92 for most inputs), rather than to the length
+ * of the sequence.
+ *
+ * <p>
+ * The splits are found using Conway's Splitting Theorem, which only holds for a sequence that is at least 2 steps old. So the first
+ * {@value #STEPS_BEFORE_SPLITTING} steps are applied to the input directly, and only then is the sequence split into atoms. Atoms are discovered as
+ * they are needed, rather than from a fixed table, so any input of digits is supported, including digits that are not part of the 92 common
+ * elements.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Look-and-say_sequence">Look-and-say sequence</a>
+ */
+public final class LookAndSaySequence {
+
+    private static final int STEPS_BEFORE_SPLITTING = 2;
+
+    private final Map<String, Integer> indexByAtom = new HashMap<>();
+    private final List<String> atoms = new ArrayList<>();
+    private final List<int[]> decaysByIndex = new ArrayList<>();
+
+    private LookAndSaySequence() {
+
+    }
+
+    /**
+     * Calculates the length of the 'look-and-say' sequence after it is applied to the {@code input} {@code numberOfSteps} times.
+     *
+     * @param input         the initial sequence of digits
+     * @param numberOfSteps the number of times to apply the sequence
+     * @return the length of the sequence
+     * @throws IllegalArgumentException thrown if the {@code input} is blank or contains a non-digit, or {@code numberOfSteps} is negative
+     * @throws ArithmeticException      thrown if the length overflows a {@code long}
+     */
+    public static long lengthAfterSteps(final String input, final int numberOfSteps) {
+        if (input.isBlank()) {
+            throw new IllegalArgumentException("Input cannot be blank");
+        }
+
+        for (final char character : input.toCharArray()) {
+            if (!Character.isDigit(character)) {
+                throw new IllegalArgumentException(String.format("Character '%s' is not a valid integer", character));
+            }
+        }
+
+        if (numberOfSteps < 0) {
+            throw new IllegalArgumentException(String.format("Number of steps must be at least 0, found: %d", numberOfSteps));
+        }
+
+        return new LookAndSaySequence().countLength(input, numberOfSteps);
+    }
+
+    private long countLength(final String input, final int numberOfSteps) {
+        final int stepsBeforeSplitting = Math.min(numberOfSteps, STEPS_BEFORE_SPLITTING);
+        String sequence = input;
+        for (int step = 0; step < stepsBeforeSplitting; step++) {
+            sequence = lookAndSay(sequence);
+        }
+
+        if (numberOfSteps == stepsBeforeSplitting) {
+            return sequence.length();
+        }
+
+        final int[] initialAtoms = split(sequence);
+        long[] countsByIndex = new long[atoms.size()];
+        for (final int index : initialAtoms) {
+            countsByIndex[index]++;
+        }
+
+        for (int step = stepsBeforeSplitting; step < numberOfSteps; step++) {
+            // Find all decays first, since this may discover new atoms
+            final int[][] decays = new int[countsByIndex.length][];
+            for (int index = 0; index < countsByIndex.length; index++) {
+                if (countsByIndex[index] != 0L) {
+                    decays[index] = decayOf(index);
+                }
+            }
+
+            final long[] nextCountsByIndex = new long[atoms.size()];
+            for (int index = 0; index < countsByIndex.length; index++) {
+                if (decays[index] != null) {
+                    for (final int decayIndex : decays[index]) {
+                        nextCountsByIndex[decayIndex] = Math.addExact(nextCountsByIndex[decayIndex], countsByIndex[index]);
+                    }
+                }
+            }
+            countsByIndex = nextCountsByIndex;
+        }
+
+        long length = 0L;
+        for (int index = 0; index < countsByIndex.length; index++) {
+            length = Math.addExact(length, Math.multiplyExact(countsByIndex[index], atoms.get(index).length()));
+        }
+        return length;
+    }
+
+    private int[] decayOf(final int index) {
+        while (decaysByIndex.size() <= index) {
+            decaysByIndex.add(null);
+        }
+
+        int[] decay = decaysByIndex.get(index);
+        if (decay == null) {
+            decay = split(lookAndSay(atoms.get(index)));
+            decaysByIndex.set(index, decay);
+        }
+        return decay;
+    }
+
+    // Splits the sequence at every point where the two sides can never interact, returning the index of each atom
+    private int[] split(final String sequence) {
+        final List<Integer> atomIndices = new ArrayList<>();
+
+        int atomStart = 0;
+        for (int i = 1; i < sequence.length(); i++) {
+            if (sequence.charAt(i) != sequence.charAt(i - 1) && isSplitPoint(sequence, i)) {
+                atomIndices.add(indexOf(sequence.substring(atomStart, i)));
+                atomStart = i;
+            }
+        }
+        atomIndices.add(indexOf(sequence.substring(atomStart)));
+
+        return atomIndices.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Conway's Splitting Theorem: a sequence (at least 2 steps old) {@code LR} splits into {@code L} and {@code R} if the first digit of {@code R}
+     * will never equal the last digit of {@code L}, which never changes. This is the case when:
+     * <ul>
+     *     <li>{@code L} ends in a digit that is not 1, 2 or 3, since every later first digit of {@code R} is a run length of 1, 2 or 3</li>
+     *     <li>{@code L} ends in 2, and {@code R} will never start with 2</li>
+     *     <li>{@code L} ends in 1 or 3, and {@code R} starts with exactly two 2s (which never change), followed by a sequence that will never start
+     *     with 2</li>
+     * </ul>
+     */
+    private static boolean isSplitPoint(final String sequence, final int index) {
+        final char lastOfLeft = sequence.charAt(index - 1);
+        if (!isRunLength(lastOfLeft)) {
+            return true;
+        }
+
+        if (lastOfLeft == '2') {
+            return willNeverStartWithTwo(sequence, index);
+        }
+
+        final int afterTwos = index + 2;
+        return sequence.charAt(index) == '2' && runLength(sequence, index) == 2
+            && (afterTwos == sequence.length() || willNeverStartWithTwo(sequence, afterTwos));
+    }
+
+    /**
+     * Checks whether the sequence starting at {@code start} will never start with 2 in any later step, which is the case when it starts with:
+     * <ul>
+     *     <li>a digit that is not 1, 2 or 3</li>
+     *     <li>exactly one 1, followed by exactly one of any other digit</li>
+     *     <li>exactly three 1s</li>
+     *     <li>exactly one 3, followed by nothing, or by any run that is not three digits long</li>
+     * </ul>
+     * Each of these becomes another of these after one step, so the sequence never starts with 2.
+     */
+    private static boolean willNeverStartWithTwo(final String sequence, final int start) {
+        final char first = sequence.charAt(start);
+        final int firstRunLength = runLength(sequence, start);
+        final int next = start + firstRunLength;
+
+        return switch (first) {
+            case '1' -> firstRunLength == 3 || (firstRunLength == 1 && next < sequence.length() && runLength(sequence, next) == 1);
+            case '2' -> false;
+            case '3' -> firstRunLength == 1 && (next == sequence.length() || runLength(sequence, next) != 3);
+            default -> true;
+        };
+    }
+
+    // Only 1, 2 and 3 can be run lengths once the sequence is at least 1 step old, so any other digit is never created by a later step
+    private static boolean isRunLength(final char digit) {
+        return digit >= '1' && digit <= '3';
+    }
+
+    private static int runLength(final String sequence, final int start) {
+        int end = start + 1;
+        while (end < sequence.length() && sequence.charAt(end) == sequence.charAt(start)) {
+            end++;
+        }
+        return end - start;
+    }
+
+    private int indexOf(final String atom) {
+        final Integer existingIndex = indexByAtom.putIfAbsent(atom, atoms.size());
+        if (existingIndex != null) {
+            return existingIndex;
+        }
+
+        atoms.add(atom);
+        return atoms.size() - 1;
+    }
+
+    private static String lookAndSay(final String input) {
+        final StringBuilder output = new StringBuilder();
+
+        final int inputLength = input.length();
+        for (int i = 0; i < inputLength; i++) {
+            final char currentChar = input.charAt(i);
+
+            int count = 1;
+            while (i + 1 < inputLength && input.charAt(i + 1) == currentChar) {
+                i++; // If next char is same as current, move the pointer to the next char
+                count++;
+            }
+
+            output.append(count).append(currentChar);
+        }
+        return output.toString();
+    }
+}
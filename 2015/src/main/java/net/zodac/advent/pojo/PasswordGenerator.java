@@ -0,0 +1,242 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.pojo;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Generates valid passwords in order, where a password is a fixed-length {@link String} of lowercase letters. A password is valid if it meets these
+ * three criteria:
+ * <ul>
+ *     <li>It does not contain the characters <b>i</b>, <b>l</b> or <b>o</b></li>
+ *     <li>It contains two distinct pairs of characters (<b>abcddee</b> is valid while <b>aabcdaa</b> is not)</li>
+ *     <li>It contains at least one run of three characters in ascending order (<b>ablmnp</b> is valid)</li>
+ * </ul>
+ *
+ * <p>
+ * Passwords are treated as base-{@value #BASE} numbers over the allowed letters, held in an {@code int[]} of digits. Rather than incrementing one
+ * password at a time, the next valid password is found by choosing the smallest digit at each position for which the remaining positions can still be
+ * filled to form a valid password. Whether a suffix can still be completed depends only on the number of remaining positions, the previous digit, the
+ * progress towards a run of three, and the pairs found so far, so this is memoised, and whole ranges of suffixes which cannot be valid are skipped.
+ */
+public final class PasswordGenerator {
+
+    // Excludes 'i', 'l' and 'o'
+    private static final String POSSIBLE_CHARACTERS = "abcdefghjkmnpqrstuvwxyz";
+    private static final int BASE = 23;
+
+    // A run of three ascending characters has been found once the straight state reaches 3
+    private static final int STRAIGHT_FOUND = 3;
+    private static final int NUMBER_OF_STRAIGHT_STATES = STRAIGHT_FOUND + 1;
+
+    // No pairs is 0, a single pair of digit d is (d + 1), and two distinct pairs is (BASE + 1)
+    private static final int NO_PAIRS = 0;
+    private static final int TWO_PAIRS_FOUND = BASE + 1;
+    private static final int NUMBER_OF_PAIR_STATES = TWO_PAIRS_FOUND + 1;
+
+    private static final byte UNKNOWN = 0;
+    private static final byte COMPLETABLE = 1;
+    private static final byte NOT_COMPLETABLE = 2;
+
+    // Whether the next digit is also the next letter in the alphabet, so the two can be part of a run of three
+    private static final boolean[] IS_FOLLOWED_BY_NEXT_LETTER = new boolean[BASE];
+
+    static {
+        for (int digit = 0; digit < BASE - 1; digit++) {
+            IS_FOLLOWED_BY_NEXT_LETTER[digit] = POSSIBLE_CHARACTERS.charAt(digit + 1) == POSSIBLE_CHARACTERS.charAt(digit) + 1;
+        }
+    }
+
+    private final int length;
+    private final int[] digits;
+    private final byte[] completableByState;
+
+    private PasswordGenerator(final int length) {
+        this.length = length;
+        digits = new int[length];
+        completableByState = new byte[(length + 1) * BASE * NUMBER_OF_STRAIGHT_STATES * NUMBER_OF_PAIR_STATES];
+    }
+
+    /**
+     * Finds the next valid password after the {@code currentPassword}, with the same length.
+     *
+     * @param currentPassword the current password
+     * @return the next valid password
+     * @throws IllegalArgumentException thrown if the {@code currentPassword} contains anything other than lowercase letters
+     * @throws IllegalStateException    thrown if there is no valid password after the {@code currentPassword} with the same length
+     */
+    public static String nextValidPassword(final String currentPassword) {
+        return validPasswordsAfter(currentPassword)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException(String.format("No valid password found after '%s'", currentPassword)));
+    }
+
+    /**
+     * Lazily generates each valid password after the {@code currentPassword}, with the same length, in ascending order. The {@link Stream} ends once
+     * there are no more valid passwords of that length.
+     *
+     * @param currentPassword the current password
+     * @return a {@link Stream} of the valid passwords
+     * @throws IllegalArgumentException thrown if the {@code currentPassword} contains anything other than lowercase letters
+     */
+    public static Stream<String> validPasswordsAfter(final String currentPassword) {
+        final PasswordGenerator passwordGenerator = new PasswordGenerator(currentPassword.length());
+        final boolean hasCandidate = passwordGenerator.setToFirstCandidateAfter(currentPassword);
+
+        final Spliterator<String> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private boolean hasNext = hasCandidate;
+
+            @Override
+            public boolean tryAdvance(final Consumer<? super String> action) {
+                hasNext = hasNext && passwordGenerator.advanceToValidPassword(0, true, 0, 0, NO_PAIRS);
+                if (!hasNext) {
+                    return false;
+                }
+
+                action.accept(passwordGenerator.toPassword());
+                hasNext = passwordGenerator.increment();
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    // Sets the digits to the smallest password (using only allowed letters) which is greater than the input
+    private boolean setToFirstCandidateAfter(final String currentPassword) {
+        for (int position = 0; position < length; position++) {
+            final char character = currentPassword.charAt(position);
+            if (character < 'a' || character > 'z') {
+                throw new IllegalArgumentException(String.format("Character '%s' is not a lowercase letter in password: '%s'", character,
+                    currentPassword));
+            }
+
+            final int digit = POSSIBLE_CHARACTERS.indexOf(character);
+            if (digit == -1) {
+                // A forbidden letter is replaced by the next allowed letter, so every later position can reset to the smallest digit
+                digits[position] = POSSIBLE_CHARACTERS.indexOf(character + 1);
+                return true;
+            }
+            digits[position] = digit;
+        }
+        return increment();
+    }
+
+    private boolean increment() {
+        for (int position = length - 1; position >= 0; position--) {
+            if (digits[position] < BASE - 1) {
+                digits[position]++;
+                return true;
+            }
+            digits[position] = 0;
+        }
+        return false;
+    }
+
+    // Finds the smallest valid password which is at least the current digits, updating the digits in place
+    private boolean advanceToValidPassword(final int position, final boolean isAtLowerBound, final int previousDigit, final int straightState,
+                                           final int pairState) {
+        if (position == length) {
+            return straightState == STRAIGHT_FOUND && pairState == TWO_PAIRS_FOUND;
+        }
+
+        final int lowestDigit = isAtLowerBound ? digits[position] : 0;
+        for (int digit = lowestDigit; digit < BASE; digit++) {
+            final int nextStraightState = nextStraightState(position, previousDigit, straightState, digit);
+            final int nextPairState = nextPairState(position, previousDigit, pairState, digit);
+
+            if (isAtLowerBound && digit == lowestDigit) {
+                // The rest of the password must still be at least the current digits, so cannot simply check if it is completable
+                if (advanceToValidPassword(position + 1, true, digit, nextStraightState, nextPairState)) {
+                    return true;
+                }
+            } else if (isCompletable(length - position - 1, digit, nextStraightState, nextPairState)) {
+                digits[position] = digit;
+                fillSmallestCompletion(position + 1, digit, nextStraightState, nextPairState);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void fillSmallestCompletion(final int startPosition, final int startDigit, final int startStraightState, final int startPairState) {
+        int previousDigit = startDigit;
+        int straightState = startStraightState;
+        int pairState = startPairState;
+
+        for (int position = startPosition; position < length; position++) {
+            for (int digit = 0; digit < BASE; digit++) {
+                final int nextStraightState = nextStraightState(position, previousDigit, straightState, digit);
+                final int nextPairState = nextPairState(position, previousDigit, pairState, digit);
+                if (isCompletable(length - position - 1, digit, nextStraightState, nextPairState)) {
+                    digits[position] = digit;
+                    previousDigit = digit;
+                    straightState = nextStraightState;
+                    pairState = nextPairState;
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean isCompletable(final int remainingPositions, final int previousDigit, final int straightState, final int pairState) {
+        if (remainingPositions == 0) {
+            return straightState == STRAIGHT_FOUND && pairState == TWO_PAIRS_FOUND;
+        }
+
+        final int stateIndex = ((remainingPositions * BASE + previousDigit) * NUMBER_OF_STRAIGHT_STATES + straightState) * NUMBER_OF_PAIR_STATES
+            + pairState;
+        if (completableByState[stateIndex] == UNKNOWN) {
+            boolean isCompletable = false;
+            for (int digit = 0; digit < BASE && !isCompletable; digit++) {
+                isCompletable = isCompletable(remainingPositions - 1, digit, nextStraightState(1, previousDigit, straightState, digit),
+                    nextPairState(1, previousDigit, pairState, digit));
+            }
+            completableByState[stateIndex] = isCompletable ? COMPLETABLE : NOT_COMPLETABLE;
+        }
+        return completableByState[stateIndex] == COMPLETABLE;
+    }
+
+    private static int nextStraightState(final int position, final int previousDigit, final int straightState, final int digit) {
+        if (straightState == STRAIGHT_FOUND) {
+            return STRAIGHT_FOUND;
+        }
+        if (position > 0 && digit == previousDigit + 1 && IS_FOLLOWED_BY_NEXT_LETTER[previousDigit]) {
+            return straightState + 1;
+        }
+        return 1;
+    }
+
+    private static int nextPairState(final int position, final int previousDigit, final int pairState, final int digit) {
+        if (position == 0 || digit != previousDigit || pairState == TWO_PAIRS_FOUND) {
+            return pairState;
+        }
+        return pairState == NO_PAIRS || pairState == digit + 1 ? digit + 1 : TWO_PAIRS_FOUND;
+    }
+
+    private String toPassword() {
+        final char[] password = new char[length];
+        for (int position = 0; position < length; position++) {
+            password[position] = POSSIBLE_CHARACTERS.charAt(digits[position]);
+        }
+        return String.valueOf(password);
+    }
+}
@@ -23,8 +23,7 @@ package net.zodac.advent.pojo.rpg.mage;
 public final class ActiveSpell {
 
     private final Spell spell;
-
-    private int remainingDuration;
+    private final int remainingDuration;
 
     private ActiveSpell(final Spell spell, final int remainingDuration) {
         this.spell = spell;
@@ -59,11 +58,4 @@ public final class ActiveSpell {
     public int remainingDuration() {
         return remainingDuration;
     }
-
-    /**
-     * Removes <b>1</b> turn from the remaining duration of the {@link ActiveSpell}.
-     */
-    public void reduceDuration() {
-        remainingDuration--;
-    }
 }
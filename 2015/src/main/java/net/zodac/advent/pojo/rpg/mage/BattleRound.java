@@ -23,18 +23,20 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import net.zodac.advent.pojo.SearchNode;
 
 /**
- * Implementation of {@link SearchNode} that defines each {@link SearchNode} as a round of a battle (pitting a {@link MagePlayer} against a
- * {@link MageBoss}). We carry the state of each round to the next {@link SearchNode}, updating hitPoints, mana, {@link ActiveSpell}s, etc.
+ * Defines a single round of a battle (pitting a {@link MagePlayer} against a {@link MageBoss}), used as a state when searching for the cheapest
+ * winning battle. We carry the state of each round to the next {@link BattleRound}, updating hitPoints, mana, {@link ActiveSpell}s, etc.
+ *
+ * <p>
+ * Generating the neighbours of a {@link BattleRound} does not modify it, and every {@link BattleRound} can be reduced to a {@link #stateKey()}, so
+ * rounds reached through different orders of {@link Spell}s can be recognised as the same state.
  */
-public final class BattleRound implements SearchNode {
+public final class BattleRound {
 
     private static final long DISTANCE_FOR_IMMEDIATE_ROUND = 0L;
     private static final int MINIMUM_BOSS_DAMAGE_TO_PLAYER_PER_ROUND = 1;
-    private static final Set<Spell> AVAILABLE_SPELLS = Set.of(
+    private static final List<Spell> AVAILABLE_SPELLS = List.of(
         Spell.missile(4, 53),
         Spell.drain(2, 2, 73),
         Spell.shield(7, 6, 113),
@@ -42,14 +44,17 @@ public final class BattleRound implements SearchNode {
         Spell.recharge(101, 5, 229)
     );
 
+    // Bit widths of each value packed into the state key, 12 + 20 + 12 + (5 * 3) + 1 = 60 bits
+    private static final int HIT_POINTS_BITS = 12;
+    private static final int MANA_BITS = 20;
+    private static final int REMAINING_DURATION_BITS = 3;
+
     private final MageBoss boss;
     private final List<ActiveSpell> activeSpells;
     private final List<Spell> castSpells;
     private final boolean isPlayerRound;
     private final int heathLossEachPlayerRound;
-
-    private MagePlayer player;
-    private long distance = Long.MAX_VALUE;
+    private final MagePlayer player;
 
     private BattleRound(final MagePlayer player, final MageBoss boss, final List<ActiveSpell> activeSpells,
                         final List<Spell> castSpells,
@@ -104,8 +109,12 @@ public final class BattleRound implements SearchNode {
         return new BattleRound(player, boss, activeSpells, castSpells, false, heathLossEachPlayerRound);
     }
 
-    @Override
-    public Map<Long, ? extends SearchNode> getNeighbourNodesByDistance() {
+    /**
+     * Retrieve all neighbouring {@link BattleRound}s of this {@link BattleRound}, keyed by the mana spent to reach them.
+     *
+     * @return the neighbouring {@link BattleRound}s
+     */
+    public Map<Long, BattleRound> getNeighbourNodesByDistance() {
         if (isGameFinished()) {
             return Map.of();
         }
@@ -118,26 +127,30 @@ public final class BattleRound implements SearchNode {
         final int totalManaIncrease = activeSpells.stream().map(ActiveSpell::spell).mapToInt(Spell::manaRecovery).sum();
         final int totalDefense = activeSpells.stream().map(ActiveSpell::spell).mapToInt(Spell::defence).sum();
 
-        activeSpells.forEach(ActiveSpell::reduceDuration);
-        activeSpells.removeIf(activeSpell -> activeSpell.remainingDuration() <= 0);
+        // Work on copies, so this round is unchanged and can still be identified by its state key
+        final List<ActiveSpell> remainingSpells = activeSpells
+            .stream()
+            .filter(activeSpell -> activeSpell.remainingDuration() > 1)
+            .map(activeSpell -> ActiveSpell.create(activeSpell.spell(), activeSpell.remainingDuration() - 1))
+            .toList();
 
         if (isPlayerRound) {
             // Decrease player's health at start of the round
-            if (heathLossEachPlayerRound != 0) {
-                player = player.attack(heathLossEachPlayerRound);
-            }
+            final MagePlayer currentPlayer = heathLossEachPlayerRound == 0 ? player : player.attack(heathLossEachPlayerRound);
 
             // Create a new possible round for each available Spell
             for (final Spell spell : AVAILABLE_SPELLS) {
-                if (isSpellTooExpensive(spell.cost(), player.mana() + totalManaIncrease) || isSpellAlreadyActive(activeSpells, spell)) {
+                if (isSpellTooExpensive(spell.cost(), currentPlayer.mana() + totalManaIncrease) || isSpellAlreadyActive(remainingSpells, spell)) {
                     continue;
                 }
 
-                final BattleRound spellBattleRound = generateRoundForSpell(totalDamage, totalHealing, totalManaIncrease, spell);
+                final BattleRound spellBattleRound =
+                    generateRoundForSpell(currentPlayer, remainingSpells, totalDamage, totalHealing, totalManaIncrease, spell);
                 neighbourNodes.put((long) spell.cost(), spellBattleRound);
             }
         } else {
-            final BattleRound nextBossBattleRound = generateBossRound(totalDamage, totalHealing, totalManaIncrease, totalDefense);
+            final BattleRound nextBossBattleRound =
+                generateBossRound(remainingSpells, totalDamage, totalHealing, totalManaIncrease, totalDefense);
             // Boss must go next
             neighbourNodes.put(DISTANCE_FOR_IMMEDIATE_ROUND, nextBossBattleRound);
         }
@@ -155,11 +168,9 @@ public final class BattleRound implements SearchNode {
             .anyMatch(activeSpell -> spell.equals(activeSpell.spell()));
     }
 
-    private BattleRound generateRoundForSpell(final int totalDamage, final int totalHealing, final int totalManaIncrease, final Spell spell) {
-        final List<ActiveSpell> newActiveSpells = new ArrayList<>(activeSpells
-            .stream()
-            .map(activeSpell -> ActiveSpell.create(activeSpell.spell(), activeSpell.remainingDuration()))
-            .toList());
+    private BattleRound generateRoundForSpell(final MagePlayer currentPlayer, final List<ActiveSpell> remainingSpells, final int totalDamage,
+                                              final int totalHealing, final int totalManaIncrease, final Spell spell) {
+        final List<ActiveSpell> newActiveSpells = new ArrayList<>(remainingSpells);
         final int manaChange = totalManaIncrease - spell.cost();
 
         final Collection<Spell> newCastedSpells = new ArrayList<>(castSpells);
@@ -168,49 +179,71 @@ public final class BattleRound implements SearchNode {
         if (spell.spellDuration() == 0) {
             final int hitPointsChange = totalHealing + spell.healing();
 
-            final MagePlayer newPlayer = player.update(hitPointsChange, manaChange);
+            final MagePlayer newPlayer = currentPlayer.update(hitPointsChange, manaChange);
 
             final int damageToBoss = totalDamage + spell.damage();
             final MageBoss newBoss = boss.attack(damageToBoss);
             return createBossRound(newPlayer, newBoss, newActiveSpells, List.copyOf(newCastedSpells), heathLossEachPlayerRound);
         }
 
-        final MagePlayer newPlayer = player.update(totalHealing, manaChange);
+        final MagePlayer newPlayer = currentPlayer.update(totalHealing, manaChange);
         final MageBoss newBoss = boss.attack(totalDamage);
 
         newActiveSpells.add(ActiveSpell.create(spell, spell.spellDuration()));
         return createBossRound(newPlayer, newBoss, newActiveSpells, List.copyOf(newCastedSpells), heathLossEachPlayerRound);
     }
 
-    private BattleRound generateBossRound(final int damageToBoss, final int totalHealing, final int totalManaIncrease, final int totalDefense) {
+    private BattleRound generateBossRound(final List<ActiveSpell> remainingSpells, final int damageToBoss, final int totalHealing,
+                                          final int totalManaIncrease, final int totalDefense) {
         final MageBoss updatedBoss = boss.attack(damageToBoss);
 
-        final List<ActiveSpell> newActiveSpells = new ArrayList<>(activeSpells
-            .stream()
-            .map(activeSpell -> ActiveSpell.create(activeSpell.spell(), activeSpell.remainingDuration()))
-            .toList());
-
         if (updatedBoss.hitPoints() <= 0) {
-            return createPlayerRound(player, updatedBoss, newActiveSpells, castSpells, heathLossEachPlayerRound);
+            return createPlayerRound(player, updatedBoss, remainingSpells, castSpells, heathLossEachPlayerRound);
         }
 
         final int bossDamageToPlayer = Math.max(MINIMUM_BOSS_DAMAGE_TO_PLAYER_PER_ROUND, boss.attack() - totalDefense);
         final int hitPointsChange = totalHealing - bossDamageToPlayer;
         final MagePlayer newPlayer = player.update(hitPointsChange, totalManaIncrease);
-        return createPlayerRound(newPlayer, updatedBoss, newActiveSpells, castSpells, heathLossEachPlayerRound);
+        return createPlayerRound(newPlayer, updatedBoss, remainingSpells, castSpells, heathLossEachPlayerRound);
     }
 
-    @Override
-    public long getDistance() {
-        return distance;
+    /**
+     * Packs the state of this {@link BattleRound} that affects future rounds into a single {@code long}. This is the {@link MagePlayer} hit points
+     * and mana, the {@link MageBoss} hit points, the remaining duration of each {@link ActiveSpell}, and whose turn it is. The {@link Spell}s cast to
+     * reach this {@link BattleRound} are not included, and neither are the {@link MageBoss} attack or the health lost each round, since these do not
+     * change during a battle.
+     *
+     * @return the state key
+     * @throws IllegalStateException thrown if any value is too large to be packed
+     */
+    public long stateKey() {
+        long key = isPlayerRound ? 1L : 0L;
+        key = pack(key, player.hitPoints(), HIT_POINTS_BITS);
+        key = pack(key, player.mana(), MANA_BITS);
+        key = pack(key, boss.hitPoints(), HIT_POINTS_BITS);
+
+        final int[] remainingDurations = new int[AVAILABLE_SPELLS.size()];
+        for (final ActiveSpell activeSpell : activeSpells) {
+            remainingDurations[AVAILABLE_SPELLS.indexOf(activeSpell.spell())] = activeSpell.remainingDuration();
+        }
+        for (final int remainingDuration : remainingDurations) {
+            key = pack(key, remainingDuration, REMAINING_DURATION_BITS);
+        }
+        return key;
     }
 
-    @Override
-    public void setDistance(final long distance) {
-        this.distance = distance;
+    private static long pack(final long key, final int value, final int bits) {
+        if (value >>> bits != 0) {
+            throw new IllegalStateException(String.format("Value must be between 0 and %d to be packed, found: %d", (1 << bits) - 1, value));
+        }
+        return (key << bits) | value;
     }
 
-    @Override
+    /**
+     * Checks whether the battle has finished with the {@link MagePlayer} still alive.
+     *
+     * @return {@code true} if the {@link MagePlayer} has won the battle
+     */
     public boolean isAtEndState() {
         return isGameFinished() && isPlayerAlive();
     }
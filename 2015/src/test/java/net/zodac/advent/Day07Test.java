@@ -41,6 +41,12 @@ class Day07Test {
         final long part1Result = day.evaluate("i");
         assertThat(part1Result)
             .isEqualTo(65_079L);
+
+        final long part2Result = day.evaluateWithOverride("d", "x", "456");
+        assertThat(part2Result)
+            .isEqualTo(456L);
+        assertThat(day.evaluate("h"))
+            .isEqualTo(65_079L);
     }
 
     @Test
@@ -41,6 +41,19 @@ class Day10Test {
             .isEqualTo(6L);
     }
 
+    @Test
+    void exampleAfterManySteps() {
+        final String value = InputReader
+            .forExample(INPUT_FILENAME)
+            .asStrings()
+            .readFirstLine();
+
+        // The 100th term of the sequence starting from "1", from OEIS A005341
+        final long result = Day10.performLookAndSaySequenceAndReturnLength(value, 99);
+        assertThat(result)
+            .isEqualTo(511_247_092_564L);
+    }
+
     @Test
     void part1() {
         final String value = InputReader
@@ -39,6 +39,10 @@ class Day11Test {
         final String part1Result = Day11.findNextValidPassword(value);
         assertThat(part1Result)
             .isEqualTo("abcdffaa");
+
+        final String forbiddenCharacterResult = Day11.findNextValidPassword("ghijklmn");
+        assertThat(forbiddenCharacterResult)
+            .isEqualTo("ghjaabcc");
     }
 
     @Test
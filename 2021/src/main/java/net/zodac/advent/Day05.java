@@ -18,10 +18,9 @@
 package net.zodac.advent;
 
 import java.util.Collection;
-import net.zodac.advent.grid.Grid;
-import net.zodac.advent.grid.GridFactory;
-import net.zodac.advent.grid.Point;
+import java.util.List;
 import net.zodac.advent.pojo.Line;
+import net.zodac.advent.pojo.LineOverlapCounter;
 
 /**
  * Solution for 2021, Day 5.
@@ -30,76 +29,41 @@ import net.zodac.advent.pojo.Line;
  */
 public final class Day05 {
 
-    private static final int NUMBER_SIGNIFYING_OVERLAP = 2;
-
     private Day05() {
 
     }
 
     /**
-     * Draws only the horizontal and vertical {@link Line}s in the supplied {@code coordinateLines} onto a {@link Integer} {@link Grid} and counts the
-     * number of points that have overlapping {@link Line}s.
+     * Counts the number of points that have overlapping {@link Line}s, considering only the horizontal and vertical {@link Line}s in the supplied
+     * {@code coordinateLines}.
      *
-     * @param coordinateLines the {@link Line}s to be drawn on the {@link Integer} {@link Grid}
+     * @param coordinateLines the {@link Line}s to be checked for overlaps
      * @return the number of overlapping points
      * @see Line#isHorizontal()
      * @see Line#isVertical()
+     * @see LineOverlapCounter#countOverlappingPointsOfAxisAlignedLines(Collection)
      */
     public static long addHorizontalAndVerticalLinesAndReturnOverlap(final Collection<Line> coordinateLines) {
-        final int maxGridSize = getMaxGridSize(coordinateLines);
-        Grid<Integer> integerGrid = GridFactory.ofIntegersWithSize(maxGridSize);
-
-        for (final Line coordinateLine : coordinateLines) {
-            integerGrid = addLine(integerGrid, coordinateLine, false);
-        }
+        final List<Line> horizontalAndVerticalLines = coordinateLines
+            .stream()
+            .filter(coordinateLine -> !coordinateLine.isPerfectDiagonal())
+            .toList();
 
-        return integerGrid.findValue(integer -> integer >= NUMBER_SIGNIFYING_OVERLAP).count();
+        return LineOverlapCounter.countOverlappingPointsOfAxisAlignedLines(horizontalAndVerticalLines);
     }
 
     /**
-     * Draws the horizontal, vertical and 'perfect' diagonal {@link Line}s in the supplied {@code coordinateLines} onto a {@link Integer} {@link Grid}
-     * and counts the number of points that have overlapping {@link Line}s.
+     * Counts the number of points that have overlapping {@link Line}s, considering the horizontal, vertical and 'perfect' diagonal {@link Line}s in
+     * the supplied {@code coordinateLines}.
      *
-     * @param coordinateLines the {@link Line}s to be drawn on the {@link Integer} {@link Grid}
+     * @param coordinateLines the {@link Line}s to be checked for overlaps
      * @return the number of overlapping points
      * @see Line#isHorizontal()
      * @see Line#isVertical()
      * @see Line#isPerfectDiagonal()
+     * @see LineOverlapCounter#countOverlappingPoints(Collection)
      */
     public static long addAllLinesAndReturnOverlap(final Collection<Line> coordinateLines) {
-        final int maxGridSize = getMaxGridSize(coordinateLines);
-        Grid<Integer> integerGrid = GridFactory.ofIntegersWithSize(maxGridSize);
-
-        for (final Line coordinateLine : coordinateLines) {
-            integerGrid = addLine(integerGrid, coordinateLine, true);
-        }
-
-        return integerGrid.findValue(integer -> integer >= NUMBER_SIGNIFYING_OVERLAP).count();
-    }
-
-    private static int getMaxGridSize(final Collection<Line> coordinateLines) {
-        int max = 0;
-        for (final Line coordinateLine : coordinateLines) {
-            if (coordinateLine.maxCoordinateValue() > max) {
-                max = coordinateLine.maxCoordinateValue();
-            }
-        }
-
-        // Coordinates (0,0) would need a grid of size 1, not 0, so make sure to add 1
-        return max + 1;
-    }
-
-    // Don't think this is needed in the base Grid class, but maybe one day...
-    private static Grid<Integer> addLine(final Grid<Integer> integerGrid, final Line line, final boolean allowAllLines) {
-        if (!allowAllLines && line.isPerfectDiagonal()) {
-            return integerGrid;
-        }
-
-        final Integer[][] internalGrid = integerGrid.getInternalGrid();
-        for (final Point point : line.getPointsInLine()) {
-            internalGrid[point.y()][point.x()]++;
-        }
-
-        return new Grid<>(internalGrid);
+        return LineOverlapCounter.countOverlappingPoints(coordinateLines);
     }
 }
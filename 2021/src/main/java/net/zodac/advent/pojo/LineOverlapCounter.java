@@ -0,0 +1,356 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.pojo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import net.zodac.advent.grid.Point;
+
+/**
+ * Utility class that counts the number of points covered by at least two {@link Line}s, without building a full {@link Integer} grid.
+ *
+ * <p>
+ * There are two modes:
+ * <ul>
+ *     <li>{@link #countOverlappingPointsOfAxisAlignedLines(Collection)}, which only supports {@link Line}s along a row or column. These are merged
+ *     into intervals and their crossings counted with a sweep-line, so no points are rasterised and the cost only depends on the number of
+ *     {@link Line}s.</li>
+ *     <li>{@link #countOverlappingPoints(Collection)}, which supports 'perfect' diagonals too. Each point is counted into a flat {@code byte[]}
+ *     covering the bounding box of the {@link Line}s, or into an open-addressed {@code long}-keyed table if the bounding box is too large.</li>
+ * </ul>
+ */
+public final class LineOverlapCounter {
+
+    private static final int MAX_DENSE_CELLS = 1 << 24;
+    private static final byte OVERLAP_COUNT = 2;
+
+    private LineOverlapCounter() {
+
+    }
+
+    /**
+     * Counts the number of points covered by at least two of the supplied {@code lines}, where each {@link Line} must be along a single row or
+     * column.
+     *
+     * <p>
+     * For both rows and columns, the {@link Line}s on each row/column are merged into disjoint intervals covered at least once ({@code U} for rows,
+     * {@code V} for columns) and at least twice ({@code A} for rows, {@code B} for columns). The overlapping points are then
+     * {@code A ∪ B ∪ (U ∩ V)}, which by inclusion-exclusion (since {@code A ⊆ U} and {@code B ⊆ V}) has size:
+     * <pre>
+     *     |A| + |B| + |U ∩ V| - |A ∩ V| - |B ∩ U|
+     * </pre>
+     * Each intersection is a count of row/column interval crossings, found by sweeping across the columns with a Fenwick tree over the rows.
+     *
+     * @param lines the {@link Line}s
+     * @return the number of points covered by at least two {@link Line}s
+     * @throws IllegalArgumentException thrown if any {@link Line} is not along a single row or column
+     */
+    public static long countOverlappingPointsOfAxisAlignedLines(final Collection<Line> lines) {
+        final List<Segment> rowSegments = new ArrayList<>();
+        final List<Segment> columnSegments = new ArrayList<>();
+
+        for (final Line line : lines) {
+            final Point first = line.first();
+            final Point second = line.second();
+
+            if (first.y() == second.y()) {
+                rowSegments.add(Segment.of(first.y(), first.x(), second.x()));
+            } else if (first.x() == second.x()) {
+                columnSegments.add(Segment.of(first.x(), first.y(), second.y()));
+            } else {
+                throw new IllegalArgumentException(String.format("%s is not along a single row or column: %s", Line.class.getSimpleName(), line));
+            }
+        }
+
+        final List<Segment> rowsCoveredOnce = new ArrayList<>();
+        final List<Segment> rowsCoveredTwice = new ArrayList<>();
+        mergeSegments(rowSegments, rowsCoveredOnce, rowsCoveredTwice);
+
+        final List<Segment> columnsCoveredOnce = new ArrayList<>();
+        final List<Segment> columnsCoveredTwice = new ArrayList<>();
+        mergeSegments(columnSegments, columnsCoveredOnce, columnsCoveredTwice);
+
+        return totalLength(rowsCoveredTwice)
+            + totalLength(columnsCoveredTwice)
+            + countCrossings(rowsCoveredOnce, columnsCoveredOnce)
+            - countCrossings(rowsCoveredTwice, columnsCoveredOnce)
+            - countCrossings(rowsCoveredOnce, columnsCoveredTwice);
+    }
+
+    /**
+     * Counts the number of points covered by at least two of the supplied {@code lines}, where each {@link Line} is along a single row, column or
+     * 'perfect' diagonal.
+     *
+     * <p>
+     * Every point of every {@link Line} is counted, but the counts saturate at two, so only a single {@code byte} is needed per point. If the
+     * bounding box of the {@link Line}s has at most {@value #MAX_DENSE_CELLS} points, a flat array is used, otherwise only the points that are
+     * actually covered are stored. If there are no diagonal {@link Line}s, nothing is rasterised and
+     * {@link #countOverlappingPointsOfAxisAlignedLines(Collection)} is used instead.
+     *
+     * @param lines the {@link Line}s
+     * @return the number of points covered by at least two {@link Line}s
+     */
+    public static long countOverlappingPoints(final Collection<Line> lines) {
+        if (lines.stream().allMatch(line -> line.first().x() == line.second().x() || line.first().y() == line.second().y())) {
+            return countOverlappingPointsOfAxisAlignedLines(lines);
+        }
+
+        final PointCounter pointCounter = createPointCounter(lines);
+        long overlappingPoints = 0L;
+
+        for (final Line line : lines) {
+            final int xStep = Integer.signum(line.second().x() - line.first().x());
+            final int yStep = Integer.signum(line.second().y() - line.first().y());
+            final int length = Math.max(Math.abs(line.second().x() - line.first().x()), Math.abs(line.second().y() - line.first().y()));
+
+            int x = line.first().x();
+            int y = line.first().y();
+            for (int i = 0; i <= length; i++) {
+                if (pointCounter.incrementAndCheckForNewOverlap(x, y)) {
+                    overlappingPoints++;
+                }
+                x += xStep;
+                y += yStep;
+            }
+        }
+
+        return overlappingPoints;
+    }
+
+    private static PointCounter createPointCounter(final Collection<Line> lines) {
+        int minX = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        long numberOfPoints = 0L;
+
+        for (final Line line : lines) {
+            minX = Math.min(minX, Math.min(line.first().x(), line.second().x()));
+            maxX = Math.max(maxX, Math.max(line.first().x(), line.second().x()));
+            minY = Math.min(minY, Math.min(line.first().y(), line.second().y()));
+            maxY = Math.max(maxY, Math.max(line.first().y(), line.second().y()));
+            numberOfPoints += 1L + Math.max(Math.abs((long) line.second().x() - line.first().x()),
+                Math.abs((long) line.second().y() - line.first().y()));
+        }
+
+        final long width = (long) maxX - minX + 1L;
+        final long height = (long) maxY - minY + 1L;
+        if (width * height <= MAX_DENSE_CELLS) {
+            return new DensePointCounter(minX, minY, (int) width, (int) height);
+        }
+        return new SparsePointCounter(numberOfPoints);
+    }
+
+    private static void mergeSegments(final List<Segment> segments, final List<Segment> coveredOnce, final List<Segment> coveredTwice) {
+        segments.sort(Comparator.comparingInt(Segment::fixed).thenComparingInt(Segment::start));
+
+        int i = 0;
+        while (i < segments.size()) {
+            final int fixed = segments.get(i).fixed();
+
+            int unionStart = segments.get(i).start();
+            int unionEnd = segments.get(i).end();
+            int doubleStart = 0;
+            int doubleEnd = Integer.MIN_VALUE;
+            boolean hasDouble = false;
+            i++;
+
+            // Sorted by start, so the part of a segment that overlaps the union of the previous segments is covered at least twice
+            while (i < segments.size() && segments.get(i).fixed() == fixed) {
+                final Segment segment = segments.get(i);
+                if (segment.start() > unionEnd) {
+                    coveredOnce.add(new Segment(fixed, unionStart, unionEnd));
+                    unionStart = segment.start();
+                    unionEnd = segment.end();
+                } else {
+                    final int overlapEnd = Math.min(segment.end(), unionEnd);
+                    if (hasDouble && segment.start() <= doubleEnd + 1) {
+                        doubleEnd = Math.max(doubleEnd, overlapEnd);
+                    } else {
+                        if (hasDouble) {
+                            coveredTwice.add(new Segment(fixed, doubleStart, doubleEnd));
+                        }
+                        doubleStart = segment.start();
+                        doubleEnd = overlapEnd;
+                        hasDouble = true;
+                    }
+                    unionEnd = Math.max(unionEnd, segment.end());
+                }
+                i++;
+            }
+
+            coveredOnce.add(new Segment(fixed, unionStart, unionEnd));
+            if (hasDouble) {
+                coveredTwice.add(new Segment(fixed, doubleStart, doubleEnd));
+            }
+        }
+    }
+
+    private static long totalLength(final List<Segment> segments) {
+        long totalLength = 0L;
+        for (final Segment segment : segments) {
+            totalLength += (long) segment.end() - segment.start() + 1L;
+        }
+        return totalLength;
+    }
+
+    // Segments must be disjoint within each row/column, so each crossing point is counted exactly once
+    private static long countCrossings(final List<Segment> rowSegments, final List<Segment> columnSegments) {
+        if (rowSegments.isEmpty() || columnSegments.isEmpty()) {
+            return 0L;
+        }
+
+        final int[] rows = rowSegments.stream().mapToInt(Segment::fixed).distinct().sorted().toArray();
+        final long[] activeRows = new long[rows.length + 1];
+
+        // Each row segment becomes active at its start column, and inactive after its end column
+        final long[][] updates = new long[rowSegments.size() * 2][];
+        for (int i = 0; i < rowSegments.size(); i++) {
+            final Segment rowSegment = rowSegments.get(i);
+            final int rowIndex = Arrays.binarySearch(rows, rowSegment.fixed());
+            updates[2 * i] = new long[] {rowSegment.start(), rowIndex, 1L};
+            updates[2 * i + 1] = new long[] {rowSegment.end() + 1L, rowIndex, -1L};
+        }
+        Arrays.sort(updates, Comparator.comparingLong(update -> update[0]));
+
+        final List<Segment> sortedColumnSegments = new ArrayList<>(columnSegments);
+        sortedColumnSegments.sort(Comparator.comparingInt(Segment::fixed));
+
+        long crossings = 0L;
+        int nextUpdate = 0;
+        for (final Segment columnSegment : sortedColumnSegments) {
+            while (nextUpdate < updates.length && updates[nextUpdate][0] <= columnSegment.fixed()) {
+                addToFenwickTree(activeRows, (int) updates[nextUpdate][1], updates[nextUpdate][2]);
+                nextUpdate++;
+            }
+
+            final int firstRowIndex = lowerBound(rows, columnSegment.start());
+            final int lastRowIndex = lowerBound(rows, columnSegment.end() + 1L) - 1;
+            if (firstRowIndex <= lastRowIndex) {
+                crossings += sumFenwickTree(activeRows, lastRowIndex) - sumFenwickTree(activeRows, firstRowIndex - 1);
+            }
+        }
+        return crossings;
+    }
+
+    private static void addToFenwickTree(final long[] tree, final int index, final long value) {
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += value;
+        }
+    }
+
+    private static long sumFenwickTree(final long[] tree, final int index) {
+        long sum = 0L;
+        for (int i = index + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private static int lowerBound(final int[] values, final long target) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (values[middle] < target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private record Segment(int fixed, int start, int end) {
+
+        static Segment of(final int fixed, final int first, final int second) {
+            return new Segment(fixed, Math.min(first, second), Math.max(first, second));
+        }
+    }
+
+    private interface PointCounter {
+
+        boolean incrementAndCheckForNewOverlap(int x, int y);
+    }
+
+    private static final class DensePointCounter implements PointCounter {
+
+        private final int minX;
+        private final int minY;
+        private final int width;
+        private final byte[] counts;
+
+        DensePointCounter(final int minX, final int minY, final int width, final int height) {
+            this.minX = minX;
+            this.minY = minY;
+            this.width = width;
+            counts = new byte[width * height];
+        }
+
+        @Override
+        public boolean incrementAndCheckForNewOverlap(final int x, final int y) {
+            final int index = (y - minY) * width + (x - minX);
+            if (counts[index] == OVERLAP_COUNT) {
+                return false;
+            }
+            counts[index]++;
+            return counts[index] == OVERLAP_COUNT;
+        }
+    }
+
+    private static final class SparsePointCounter implements PointCounter {
+
+        private static final long HASH_MULTIPLIER = 0x9E37_79B9_7F4A_7C15L;
+
+        private final long[] keys;
+        private final byte[] counts;
+        private final int mask;
+
+        // Sized up-front for every point being distinct, so the table never needs to grow
+        SparsePointCounter(final long maxNumberOfPoints) {
+            final long capacity = Long.highestOneBit(Math.max(2L, maxNumberOfPoints) * 2L - 1L) << 1;
+            if (capacity > (1 << 30)) {
+                throw new IllegalArgumentException(String.format("Too many points to count: %d", maxNumberOfPoints));
+            }
+
+            keys = new long[(int) capacity];
+            counts = new byte[(int) capacity];
+            mask = (int) capacity - 1;
+        }
+
+        @Override
+        public boolean incrementAndCheckForNewOverlap(final int x, final int y) {
+            final long key = ((long) x << Integer.SIZE) | (y & 0xFFFF_FFFFL);
+            int slot = (int) ((key * HASH_MULTIPLIER) >>> (Long.SIZE - Integer.numberOfTrailingZeros(keys.length)));
+
+            while (counts[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+
+            if (counts[slot] == OVERLAP_COUNT) {
+                return false;
+            }
+            keys[slot] = key;
+            counts[slot]++;
+            return counts[slot] == OVERLAP_COUNT;
+        }
+    }
+}
@@ -17,9 +17,9 @@
 
 package net.zodac.advent;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import net.zodac.advent.machine.Program;
+import net.zodac.advent.machine.RegisterMachine;
 import net.zodac.advent.pojo.AssemblyInstruction;
 import net.zodac.advent.pojo.SegmentedDisplay;
 
@@ -34,6 +34,8 @@ public final class Day10 {
     private static final int CYCLE_INTERVAL_FOR_SIGNAL_CHECK = 40;
     private static final int NUMBER_OF_CHARACTERS_IN_SEGMENTED_DISPLAY = 8;
     private static final int MAXIMUM_PERMITTED_DISTANCE_FOR_SEGMENTED_DISPLAY = 1;
+    private static final char REGISTER_X = 'x';
+    private static final long INITIAL_VALUE_OF_REGISTER_X = 1L;
 
     private Day10() {
 
@@ -63,37 +65,16 @@ public final class Day10 {
      * @return the total signal values
      */
     public static long sumOfSignalValues(final List<AssemblyInstruction> assemblyInstructions) {
-        int valueOfRegisterX = 1;
+        final RegisterMachine registerMachine = createRegisterMachine(assemblyInstructions);
         long sumOfSignalValuesAtImportantCycles = 0;
-        int instructionIndex = 0;
-        int cycle = 1;
 
-        final int numberOfAssemblyInstructions = assemblyInstructions.size();
-        final Map<Integer, Integer> offsetByTargetCycle = new HashMap<>();
-
-        while (instructionIndex < numberOfAssemblyInstructions) {
+        for (int cycle = 1; !registerMachine.isHalted(); cycle++) {
             if (isCycleToConsiderSignal(cycle)) {
-                final long signalValue = ((long) valueOfRegisterX * cycle);
+                final long signalValue = registerMachine.register(REGISTER_X) * cycle;
                 sumOfSignalValuesAtImportantCycles += signalValue;
             }
 
-            // If we have any delayed 'addX' commands to execute this cycle, execute them
-            if (offsetByTargetCycle.containsKey(cycle)) {
-                valueOfRegisterX += offsetByTargetCycle.get(cycle);
-                instructionIndex++;
-            } else {
-                // Otherwise handle next instruction
-                final AssemblyInstruction assemblyInstruction = assemblyInstructions.get(instructionIndex);
-
-                if (assemblyInstruction.isNoop()) {
-                    instructionIndex++;
-                } else {
-                    // If not a noop instruction, add the instruction to be executed in the next cycle
-                    offsetByTargetCycle.put(cycle + 1, assemblyInstruction.offset());
-                }
-            }
-
-            cycle++;
+            registerMachine.tick();
         }
 
         return sumOfSignalValuesAtImportantCycles;
@@ -124,40 +105,29 @@ public final class Day10 {
      * @see SegmentedDisplay#getCharacters()
      */
     public static String charactersOnSegmentedDisplay(final List<AssemblyInstruction> assemblyInstructions) {
-        int valueOfRegisterX = 1;
-        int instructionIndex = 0;
-        int cycle = 1;
-
-        final int numberOfAssemblyInstructions = assemblyInstructions.size();
-        final Map<Integer, Integer> offsetByTargetCycle = new HashMap<>();
+        final RegisterMachine registerMachine = createRegisterMachine(assemblyInstructions);
         final SegmentedDisplay segmentedDisplay = SegmentedDisplay.create(NUMBER_OF_CHARACTERS_IN_SEGMENTED_DISPLAY);
 
-        while (instructionIndex < numberOfAssemblyInstructions) {
-            updateSegmentedDisplay(valueOfRegisterX, cycle, segmentedDisplay);
-
-            // If we have any delayed 'addX' commands to execute this cycle, execute them
-            if (offsetByTargetCycle.containsKey(cycle)) {
-                valueOfRegisterX += offsetByTargetCycle.get(cycle);
-                instructionIndex++;
-            } else {
-                // Otherwise handle next instruction
-                final AssemblyInstruction assemblyInstruction = assemblyInstructions.get(instructionIndex);
-
-                if (assemblyInstruction.isNoop()) {
-                    instructionIndex++;
-                } else {
-                    // If not a noop instruction, add the instruction to be executed in the next cycle
-                    offsetByTargetCycle.put(cycle + 1, assemblyInstruction.offset());
-                }
-            }
-
-            cycle++;
+        for (int cycle = 1; !registerMachine.isHalted(); cycle++) {
+            updateSegmentedDisplay(registerMachine.register(REGISTER_X), cycle, segmentedDisplay);
+            registerMachine.tick();
         }
 
         return segmentedDisplay.getCharacters();
     }
 
-    private static void updateSegmentedDisplay(final int valueOfRegisterX, final int cycle, final SegmentedDisplay segmentedDisplay) {
+    // The X register starts at 1, and each 'addx' only updates it at the end of its second cycle, so it is read before each tick
+    private static RegisterMachine createRegisterMachine(final List<AssemblyInstruction> assemblyInstructions) {
+        final Program program = Program.compile(assemblyInstructions
+            .stream()
+            .map(AssemblyInstruction::toInstruction)
+            .toList());
+        final RegisterMachine registerMachine = RegisterMachine.create(program);
+        registerMachine.setRegister(REGISTER_X, INITIAL_VALUE_OF_REGISTER_X);
+        return registerMachine;
+    }
+
+    private static void updateSegmentedDisplay(final long valueOfRegisterX, final int cycle, final SegmentedDisplay segmentedDisplay) {
         final int displayIndex = cycle - 1;
         final int displayRow = displayIndex / segmentedDisplay.length();
         final int displayColumn = displayIndex % segmentedDisplay.length();
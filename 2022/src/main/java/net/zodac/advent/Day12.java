@@ -22,11 +22,13 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.ObjLongConsumer;
 import net.zodac.advent.grid.AdjacentDirection;
 import net.zodac.advent.grid.AdjacentPointsSelector;
 import net.zodac.advent.grid.Point;
-import net.zodac.advent.search.BreadthFirstSearcher;
+import net.zodac.advent.search.SearchAlgorithm;
+import net.zodac.advent.search.SearchResult;
+import net.zodac.advent.search.ShortestPathSearcher;
 
 /**
  * Solution for 2022, Day 12.
@@ -58,7 +60,7 @@ public final class Day12 {
      * @param values    the input {@link String}s representing a 2D array of chars
      * @param startChar the wanted starting characters (in addition to {@link #START_CHARACTER})
      * @return the shortest path from any start point to the end point
-     * @see BreadthFirstSearcher
+     * @see ShortestPathSearcher
      */
     public static long findShortestPathFromPossibleStartsToEnd(final List<String> values, final char startChar) {
         final Map<Point, Integer> heightsByPoint = new HashMap<>();
@@ -94,14 +96,29 @@ public final class Day12 {
             }
         }
 
-        // Calculate BFS distance for each possible starting point, and return the smallest
+        // Search backwards from each end point, so a single search finds the closest of all the possible starting points
         long minDistance = Long.MAX_VALUE;
-        for (final Point startingPoint : startPoints) {
-            final long shortestDistance = BreadthFirstSearcher.findShortestDistance(startingPoint, endPoints, heightsByPoint,
-                point -> point.getAdjacentPoints(AdjacentPointsSelector.unbounded(false, AdjacentDirection.CARDINAL))
-                    .collect(Collectors.toSet()));
-            minDistance = Math.min(minDistance, shortestDistance);
+        for (final Point endPoint : endPoints) {
+            final SearchResult<Point> searchResult = ShortestPathSearcher.findShortestPath(endPoint,
+                (currentPoint, edgeConsumer) -> addReversedSteps(heightsByPoint, currentPoint, edgeConsumer),
+                startPoints::contains,
+                SearchAlgorithm.BREADTH_FIRST);
+            minDistance = Math.min(minDistance, searchResult.distance());
         }
         return minDistance;
     }
+
+    // A step from 'previousPoint' to 'currentPoint' is only valid if it climbs at most one height
+    private static void addReversedSteps(final Map<Point, Integer> heightsByPoint, final Point currentPoint,
+                                         final ObjLongConsumer<Point> edgeConsumer) {
+        final Integer currentHeight = heightsByPoint.get(currentPoint);
+        if (currentHeight == null) {
+            return;
+        }
+
+        final int minimumPreviousHeight = currentHeight - 1;
+        currentPoint.getAdjacentPoints(AdjacentPointsSelector.unbounded(false, AdjacentDirection.CARDINAL))
+            .filter(previousPoint -> heightsByPoint.getOrDefault(previousPoint, Integer.MIN_VALUE) >= minimumPreviousHeight) // Points off the map
+            .forEach(previousPoint -> edgeConsumer.accept(previousPoint, 1L));
+    }
 }
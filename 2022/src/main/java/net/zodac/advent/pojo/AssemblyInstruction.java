@@ -18,6 +18,8 @@
 package net.zodac.advent.pojo;
 
 import java.util.Set;
+import net.zodac.advent.machine.Instruction;
+import net.zodac.advent.machine.Opcode;
 import net.zodac.advent.util.StringUtils;
 
 /**
@@ -30,6 +32,8 @@ public record AssemblyInstruction(String instruction, int offset) {
 
     private static final Set<String> NOOP_INSTRUCTIONS = Set.of("noop");
     private static final int SINGLE_ELEMENT = 1;
+    private static final char REGISTER_X = 'x';
+    private static final int CYCLES_FOR_ADDX = 2;
 
     /**
      * Creates a {@link AssemblyInstruction} from a {@link String} in the format:
@@ -62,4 +66,17 @@ public record AssemblyInstruction(String instruction, int offset) {
     public boolean isNoop() {
         return NOOP_INSTRUCTIONS.contains(instruction);
     }
+
+    /**
+     * Converts the {@link AssemblyInstruction} into an {@link Instruction} that can be run on a
+     * {@link net.zodac.advent.machine.RegisterMachine}. A noop becomes {@link Opcode#NO_OPERATION}, and any other {@link AssemblyInstruction} adds
+     * its offset to the <b>x</b> register with {@link Opcode#ADD}, taking {@value #CYCLES_FOR_ADDX} cycles.
+     *
+     * @return the {@link Instruction}
+     */
+    public Instruction toInstruction() {
+        return isNoop()
+            ? Instruction.create(Opcode.NO_OPERATION, Instruction.NO_REGISTER, 0)
+            : Instruction.create(Opcode.ADD, REGISTER_X, offset, CYCLES_FOR_ADDX);
+    }
 }
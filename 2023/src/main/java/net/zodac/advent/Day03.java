@@ -73,10 +73,11 @@ public final class Day03 {
     }
 
     private static long findSumOfNumbersForPart(final Grid<Character> characterGrid, final Point partPoint) {
-        final AdjacentPointsSelector adjacentPointsSelector = AdjacentPointsSelector.bounded(false, AdjacentDirection.ALL, characterGrid.size());
+        final AdjacentPointsSelector adjacentPointsSelector = AdjacentPointsSelector.unbounded(false, AdjacentDirection.ALL);
 
         return partPoint
             .getAdjacentPoints(adjacentPointsSelector)
+            .filter(characterGrid::exists)
             .filter(point -> Character.isDigit(characterGrid.at(point)))
             .mapToInt(point -> findNumberInRow(characterGrid, point))
             .distinct()
@@ -143,11 +144,11 @@ public final class Day03 {
     }
 
     private static long findSumOfGearRatios(final Grid<Character> characterGrid, final Point gearPoint) {
-        final int size = characterGrid.numberOfRows();
-        final AdjacentPointsSelector adjacentPointsSelector = AdjacentPointsSelector.bounded(false, AdjacentDirection.ALL, size);
+        final AdjacentPointsSelector adjacentPointsSelector = AdjacentPointsSelector.unbounded(false, AdjacentDirection.ALL);
 
         final List<Integer> gearRatioValues = gearPoint
             .getAdjacentPoints(adjacentPointsSelector)
+            .filter(characterGrid::exists)
             .filter(point -> Character.isDigit(characterGrid.at(point)))
             .map(point -> findNumberInRow(characterGrid, point))
             .distinct()
@@ -32,6 +32,10 @@ public final class Day14 {
     private static final char EMPTY_SYMBOL = '.';
     private static final char ROCK_SYMBOL = 'O';
 
+    // 64-bit FNV-1a constants, used to fingerprint each Grid
+    private static final long FINGERPRINT_OFFSET_BASIS = 0xCBF2_9CE4_8422_2325L;
+    private static final long FINGERPRINT_PRIME = 0x0000_0100_0000_01B3L;
+
     private Day14() {
 
     }
@@ -69,15 +73,16 @@ public final class Day14 {
      *
      * <p>
      * Similarly, In order to avoid executing the cycle {@code numberOfCycles} times, we will attempt to search for a {@link Cycle}. If one is found,
-     * we will be able to 'jump-ahead' to the result of {@code numberOfCycles} without having to execute each iteration.
+     * we will be able to 'jump-ahead' to the result of {@code numberOfCycles} without having to execute each iteration. Only a fingerprint of each
+     * {@link Grid} is stored while searching for the {@link Cycle}, rather than the {@link Grid} itself.
      *
      * @param grid           the {@link Character} {@link Grid}
      * @param numberOfCycles the number of rotations to perform on the {@link Grid}
      * @return the load after {@code numberOfCycles} full rotations
      * @see CycleFinder
      */
-    public static long calculateLoadAfterFullCycleOfTurns(final Grid<Character> grid, final int numberOfCycles) {
-        final Cycle<Grid<Character>> cycle = CycleFinder.findCycle(grid, Day14::performFullRotation, numberOfCycles);
+    public static long calculateLoadAfterFullCycleOfTurns(final Grid<Character> grid, final long numberOfCycles) {
+        final Cycle<Grid<Character>> cycle = CycleFinder.findCycleByFingerprint(grid, Day14::performFullRotation, Day14::fingerprint, numberOfCycles);
 
         if (!cycle.doesCycleExist()) {
             throw new IllegalStateException(String.format("Unable to find cycle in %s iterations", numberOfCycles));
@@ -94,6 +99,14 @@ public final class Day14 {
         return eastTurn.rotate(RotationDirection.CLOCKWISE);
     }
 
+    private static long fingerprint(final Grid<Character> grid) {
+        long fingerprint = FINGERPRINT_OFFSET_BASIS;
+        for (int index = 0; index < grid.elementsInGrid(); index++) {
+            fingerprint = (fingerprint ^ grid.at(index)) * FINGERPRINT_PRIME;
+        }
+        return fingerprint;
+    }
+
     private static long calculateLoad(final Grid<Character> grid) {
         int multiplier = 1;
 
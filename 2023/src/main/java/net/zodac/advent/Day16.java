@@ -17,16 +17,11 @@
 
 package net.zodac.advent;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import net.zodac.advent.grid.Direction;
 import net.zodac.advent.grid.Grid;
 import net.zodac.advent.grid.Point;
-import net.zodac.advent.pojo.BeamStep;
 
 /**
  * Solution for 2023, Day 16.
@@ -39,6 +34,8 @@ public final class Day16 {
     private static final char FORWARD_MIRROR_SYMBOL = '/';
     private static final char HORIZONTAL_MIRROR_SYMBOL = '-';
     private static final char VERTICAL_MIRROR_SYMBOL = '|';
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int NUMBER_OF_DIRECTIONS = DIRECTIONS.length;
 
     private Day16() {
 
@@ -100,58 +97,85 @@ public final class Day16 {
     }
 
     private static long findNumberOfEnergisedPoints(final Grid<Character> grid, final Point start, final Direction startDirection) {
-        final Collection<Point> energisedPoints = new HashSet<>();
-        final Collection<BeamStep> visitedBeamSteps = new HashSet<>();
+        // Each beam step is encoded as a single int of the grid index and the direction of the beam, so no objects are created per step
+        final boolean[] energisedPoints = new boolean[grid.elementsInGrid()];
+        final boolean[] visitedBeamSteps = new boolean[grid.elementsInGrid() * NUMBER_OF_DIRECTIONS];
+        final int[] beamStepsToCheck = new int[visitedBeamSteps.length];
+        int numberOfBeamStepsToCheck = 0;
+        int numberOfEnergisedPoints = 0;
+
+        // The start point is treated as an empty space, so the beam continues in the start direction
+        if (grid.exists(start)) {
+            energisedPoints[grid.indexOf(start)] = true;
+            numberOfEnergisedPoints++;
+        }
 
-        Collection<BeamStep> beamStepsToCheck = new ArrayList<>();
-        beamStepsToCheck.add(new BeamStep(start, '.', startDirection));
+        final Point firstPoint = start.move(startDirection);
+        if (grid.exists(firstPoint)) {
+            final int firstBeamStep = toBeamStep(grid.indexOf(firstPoint), startDirection);
+            visitedBeamSteps[firstBeamStep] = true;
+            beamStepsToCheck[numberOfBeamStepsToCheck++] = firstBeamStep;
+        }
 
-        while (!beamStepsToCheck.isEmpty()) {
-            energisedPoints.addAll(
-                beamStepsToCheck.stream().map(BeamStep::point).filter(grid::exists).collect(Collectors.toSet()));
+        final Direction[] nextDirections = new Direction[2];
+        while (numberOfBeamStepsToCheck > 0) {
+            final int beamStep = beamStepsToCheck[--numberOfBeamStepsToCheck];
+            final int index = beamStep / NUMBER_OF_DIRECTIONS;
+            final Direction direction = DIRECTIONS[beamStep % NUMBER_OF_DIRECTIONS];
 
-            final Collection<BeamStep> nextBeamStepsToCheck = new ArrayList<>();
-            for (final BeamStep beamStep : beamStepsToCheck) {
-                // Because we don't need to worry about how many times a Point has been visited (just that it has happened at least once), we don't
-                // need to re-visit any Points. So if we have already done a beam steps, we can skip doing it again.
-                if (visitedBeamSteps.contains(beamStep)) {
+            if (!energisedPoints[index]) {
+                energisedPoints[index] = true;
+                numberOfEnergisedPoints++;
+            }
+
+            // Because a beam can also split into a new beam, there may be more than one next direction
+            final int numberOfNextDirections = getDirectionsForNextBeamStep(grid.at(index), direction, nextDirections);
+            for (int i = 0; i < numberOfNextDirections; i++) {
+                final int nextIndex = grid.neighbourIndex(index, nextDirections[i]);
+                if (nextIndex == -1) {
                     continue;
                 }
 
-                // Because a beam can also split into a new beam, the following methods may update 'nextBeamStepsToCheck' as a side effect
-                final Direction nextDirection = getDirectionForNextBeamStep(grid, beamStep, nextBeamStepsToCheck);
-                addNewBeamStepToCheck(grid, beamStep, nextDirection, nextBeamStepsToCheck);
-                visitedBeamSteps.add(beamStep);
+                // Because we don't need to worry about how many times a Point has been visited (just that it has happened at least once), we don't
+                // need to re-visit any Points. So if we have already done a beam steps, we can skip doing it again.
+                final int nextBeamStep = toBeamStep(nextIndex, nextDirections[i]);
+                if (!visitedBeamSteps[nextBeamStep]) {
+                    visitedBeamSteps[nextBeamStep] = true;
+                    beamStepsToCheck[numberOfBeamStepsToCheck++] = nextBeamStep;
+                }
             }
-
-            beamStepsToCheck = nextBeamStepsToCheck;
         }
 
-        return energisedPoints.size();
+        return numberOfEnergisedPoints;
+    }
+
+    private static int toBeamStep(final int index, final Direction direction) {
+        return (index * NUMBER_OF_DIRECTIONS) + direction.ordinal();
     }
 
-    private static Direction getDirectionForNextBeamStep(final Grid<Character> grid,
-                                                         final BeamStep beamStep,
-                                                         final Collection<? super BeamStep> nextBeamStepsToCheck) {
-        if (beamStep.value() == FORWARD_MIRROR_SYMBOL || beamStep.value() == BACKWARDS_MIRROR_SYMBOL) {
-            return rotate(beamStep, beamStep.value());
+    private static int getDirectionsForNextBeamStep(final char value, final Direction direction, final Direction[] nextDirections) {
+        if (value == FORWARD_MIRROR_SYMBOL || value == BACKWARDS_MIRROR_SYMBOL) {
+            nextDirections[0] = rotate(direction, value);
+            return 1;
         }
 
-        if (beamStep.value() == HORIZONTAL_MIRROR_SYMBOL && !Set.of(Direction.LEFT, Direction.RIGHT).contains(beamStep.direction())) {
-            addNewBeamStepToCheck(grid, beamStep, Direction.LEFT, nextBeamStepsToCheck);
-            return Direction.RIGHT;
+        if (value == HORIZONTAL_MIRROR_SYMBOL && direction != Direction.LEFT && direction != Direction.RIGHT) {
+            nextDirections[0] = Direction.LEFT;
+            nextDirections[1] = Direction.RIGHT;
+            return 2;
         }
 
-        if (beamStep.value() == VERTICAL_MIRROR_SYMBOL && !Set.of(Direction.UP, Direction.DOWN).contains(beamStep.direction())) {
-            addNewBeamStepToCheck(grid, beamStep, Direction.DOWN, nextBeamStepsToCheck);
-            return Direction.UP;
+        if (value == VERTICAL_MIRROR_SYMBOL && direction != Direction.UP && direction != Direction.DOWN) {
+            nextDirections[0] = Direction.DOWN;
+            nextDirections[1] = Direction.UP;
+            return 2;
         }
 
-        return beamStep.direction();
+        nextDirections[0] = direction;
+        return 1;
     }
 
-    private static Direction rotate(final BeamStep beamStep, final char mirrorCharacter) {
-        final Direction direction = beamStep.direction();
+    private static Direction rotate(final Direction direction, final char mirrorCharacter) {
         return switch (direction) {
             case DOWN -> mirrorCharacter == FORWARD_MIRROR_SYMBOL ? Direction.LEFT : Direction.RIGHT;
             case UP -> mirrorCharacter == FORWARD_MIRROR_SYMBOL ? Direction.RIGHT : Direction.LEFT;
@@ -160,15 +184,4 @@ public final class Day16 {
             default -> throw new IllegalArgumentException(String.format("Cannot move beam in %s: %s", Direction.class.getSimpleName(), direction));
         };
     }
-
-    private static void addNewBeamStepToCheck(final Grid<Character> grid,
-                                              final BeamStep beamStep,
-                                              final Direction nextDirection,
-                                              final Collection<? super BeamStep> nextBeamStepsToCheck) {
-        final Point nextPoint = beamStep.point().move(nextDirection);
-        if (grid.exists(nextPoint)) {
-            final BeamStep newBeamStep = new BeamStep(nextPoint, grid.at(nextPoint), nextDirection);
-            nextBeamStepsToCheck.add(newBeamStep);
-        }
-    }
 }
@@ -128,9 +128,10 @@ class PipeLoopFinder { // TODO: Replace with common implementation?
     private Pipe findConnectionForPoint(final Point point,
                                         final Collection<Point> pointsInLoop,
                                         final BiFunction<? super Pipe, ? super Pipe, Pipe> connectionFunction) {
-        final int size = grid.numberOfRows();
-        final AdjacentPointsSelector adjacentPointsSelector = AdjacentPointsSelector.bounded(false, AdjacentDirection.CARDINAL, size);
-        final Set<Point> adjacentPoints = point.getAdjacentPoints(adjacentPointsSelector).collect(Collectors.toSet());
+        final AdjacentPointsSelector adjacentPointsSelector = AdjacentPointsSelector.unbounded(false, AdjacentDirection.CARDINAL);
+        final Set<Point> adjacentPoints = point.getAdjacentPoints(adjacentPointsSelector)
+            .filter(grid::exists)
+            .collect(Collectors.toSet());
         // Order is important, as we want to go from top-left to bottom-right
         final List<Point> pipeConnections = new ArrayList<>(CollectionUtils.intersection(adjacentPoints, pointsInLoop));
 
@@ -17,11 +17,9 @@
 
 package net.zodac.advent;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
-import net.zodac.advent.util.CollectionUtils;
 import net.zodac.advent.util.StringUtils;
 
 /**
@@ -44,22 +42,13 @@ public final class Day01 {
      * @return the total difference between the values of the two {@link List}s
      */
     public static long totalDifferenceBetweenLists(final Collection<String> values) {
-        final List<Long> first = new ArrayList<>();
-        final List<Long> second = new ArrayList<>();
-
-        for (final String input : values) {
-            final List<Long> numbers = StringUtils.collectNumbersInOrder(input);
-            first.add(numbers.getFirst());
-            second.add(numbers.getLast());
-        }
-
-        Collections.sort(first);
-        Collections.sort(second);
+        final long[][] columns = toSortedColumns(values);
+        final long[] first = columns[0];
+        final long[] second = columns[1];
 
         long diff = 0L;
-        final int size = first.size();
-        for (int i = 0; i < size; i++) {
-            diff += Math.abs(first.get(i) - second.get(i));
+        for (int i = 0; i < first.length; i++) {
+            diff += Math.abs(first[i] - second[i]);
         }
 
         return diff;
@@ -79,21 +68,43 @@ public final class Day01 {
      * @return the total of all match values
      */
     public static long sumOfMatchValues(final Collection<String> values) {
-        final Collection<Long> first = new ArrayList<>();
-        final Collection<Long> second = new ArrayList<>();
-
-        for (final String input : values) {
-            final List<Long> numbers = StringUtils.collectNumbersInOrder(input);
-            first.add(numbers.getFirst());
-            second.add(numbers.getLast());
-        }
+        final long[][] columns = toSortedColumns(values);
+        final long[] first = columns[0];
+        final long[] second = columns[1];
 
+        // Both columns are sorted, so the occurrences of each value in the second column can be counted by walking both columns together
         long matchValues = 0L;
-        for (final Long value : first) {
-            final long matchValue = value * CollectionUtils.countMatches(second, value);
-            matchValues += matchValue;
+        int secondIndex = 0;
+        for (final long value : first) {
+            while (secondIndex < second.length && second[secondIndex] < value) {
+                secondIndex++;
+            }
+
+            int occurrences = 0;
+            while (secondIndex + occurrences < second.length && second[secondIndex + occurrences] == value) {
+                occurrences++;
+            }
+
+            matchValues += value * occurrences;
         }
 
         return matchValues;
     }
+
+    private static long[][] toSortedColumns(final Collection<String> values) {
+        final long[] first = new long[values.size()];
+        final long[] second = new long[values.size()];
+
+        int i = 0;
+        for (final String input : values) {
+            final long[] numbers = StringUtils.parseNumbersInOrder(input);
+            first[i] = numbers[0];
+            second[i] = numbers[numbers.length - 1];
+            i++;
+        }
+
+        Arrays.sort(first);
+        Arrays.sort(second);
+        return new long[][] {first, second};
+    }
 }
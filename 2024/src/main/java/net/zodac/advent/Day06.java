@@ -17,13 +17,11 @@
 
 package net.zodac.advent;
 
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import net.zodac.advent.grid.Direction;
 import net.zodac.advent.grid.Grid;
 import net.zodac.advent.grid.Point;
-import net.zodac.advent.search.LoopFinder;
+import net.zodac.advent.pojo.GuardPatrol;
 
 /**
  * Solution for 2024, Day 6.
@@ -57,9 +55,7 @@ public final class Day06 {
      * @return the number of visited {@link Point}
      */
     public static long countTraversedPoints(final Grid<Character> characterGrid) {
-        final Point startPoint = findStartPoint(characterGrid);
-        final Collection<Point> pointsInPath = traverseGridAndReturnVisitedPoints(characterGrid, startPoint);
-        return pointsInPath.size();
+        return createGuardPatrol(characterGrid).countVisitedCells();
     }
 
     /**
@@ -77,71 +73,15 @@ public final class Day06 {
      *
      * @param characterGrid the input {@link Character} {@link Grid}
      * @return the number of possible infinite loops
+     * @see GuardPatrol#countObstructionsCausingLoops()
      */
     public static long countPossibleLoops(final Grid<Character> characterGrid) {
-        final Point startPoint = findStartPoint(characterGrid);
-        final Collection<Point> pointsInPath = traverseGridAndReturnVisitedPoints(characterGrid, startPoint);
-        pointsInPath.remove(startPoint); // Remove startPoint since we cannot place an obstacle there
-
-        // TODO: If the point is in a line with an existing updated point, no need to check it again? Determine this and remove those points
-
-        // For each point in the original path, add an obstacle and see if that forms a loop when traversing
-        return pointsInPath
-            .parallelStream() // No state between iterations, fine to execute in parallel
-            .map(point -> characterGrid.updateAt(point, OBSTACLE_SYMBOL))
-            .filter(updatedGrid -> hasLoop(updatedGrid, startPoint))
-            .count();
-    }
-
-    private static Collection<Point> traverseGridAndReturnVisitedPoints(final Grid<Character> characterGrid, final Point startPoint) {
-        final Collection<Point> visitedPoints = new HashSet<>();
-        Point currentPoint = startPoint;
-        Direction currentDirection = START_DIRECTION;
-
-        do {
-            visitedPoints.add(currentPoint);
-            final Point nextPoint = currentPoint.move(currentDirection);
-
-            if (!characterGrid.exists(nextPoint)) {
-                break;
-            }
-
-            currentDirection = rotateAroundObstacles(characterGrid, currentPoint, currentDirection);
-            currentPoint = currentPoint.move(currentDirection);
-        } while (characterGrid.exists(currentPoint));
-        return visitedPoints;
-    }
-
-    private static boolean hasLoop(final Grid<Character> grid, final Point startPoint) {
-        return LoopFinder.doesLoopExist(grid, startPoint, START_DIRECTION,
-            (characterGrid, point, direction) -> {
-                final Point nextPoint = point.move(direction);
-                if (!characterGrid.exists(nextPoint)) {
-                    return Direction.INVALID;
-                }
-
-                Direction nextDirection = direction;
-                nextDirection = rotateAroundObstacles(characterGrid, point, nextDirection);
-                return nextDirection;
-            },
-            (_, point, direction) -> point.move(direction)
-        );
+        return createGuardPatrol(characterGrid).countObstructionsCausingLoops();
     }
 
-    private static Direction rotateAroundObstacles(final Grid<Character> characterGrid, final Point initialPoint, final Direction initialDirection) {
-        Point nextPoint = initialPoint.move(initialDirection);
-        Direction nextDirection = initialDirection;
-
-        while (characterGrid.at(nextPoint) == OBSTACLE_SYMBOL) {
-            nextDirection = nextDirection.rotateRight();
-            nextPoint = initialPoint.move(nextDirection);
-
-            if (nextDirection == initialDirection) {
-                // Should not ever occur with our inputs, but handle case to avoid infinite loop
-                return Direction.INVALID;
-            }
-        }
-        return nextDirection;
+    private static GuardPatrol createGuardPatrol(final Grid<Character> characterGrid) {
+        final Point startPoint = findStartPoint(characterGrid);
+        return GuardPatrol.create(characterGrid, value -> value == OBSTACLE_SYMBOL, startPoint, START_DIRECTION);
     }
 
     private static Point findStartPoint(final Grid<Character> characterGrid) {
@@ -103,10 +103,11 @@ public final class Day10 {
 
     private static Set<Point> getNextPoints(final Grid<Integer> integerGrid, final Point startPoint) {
         final int currentValue = integerGrid.at(startPoint);
-        final AdjacentPointsSelector adjacentPointsSelector = AdjacentPointsSelector.bounded(false, AdjacentDirection.CARDINAL, integerGrid.size());
+        final AdjacentPointsSelector adjacentPointsSelector = AdjacentPointsSelector.unbounded(false, AdjacentDirection.CARDINAL);
 
         return startPoint
             .getAdjacentPoints(adjacentPointsSelector)
+            .filter(integerGrid::exists)
             .filter(point -> integerGrid.at(point) == currentValue + 1)
             .collect(Collectors.toSet());
     }
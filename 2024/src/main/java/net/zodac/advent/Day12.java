@@ -17,11 +17,10 @@
 
 package net.zodac.advent;
 
-import java.util.Collection;
 import net.zodac.advent.grid.Grid;
 import net.zodac.advent.grid.Point;
-import net.zodac.advent.pojo.PerimeterCounter;
 import net.zodac.advent.search.GroupSearcher;
+import net.zodac.advent.search.GroupSummary;
 
 /**
  * Solution for 2024, Day 12.
@@ -52,21 +51,18 @@ public final class Day12 {
      * @param characterGrid  the input {@link Character} {@link Grid}
      * @param countSidesOnly whether the full perimeter should be considered, or just the sides
      * @return the total value of all connected groups
-     * @see GroupSearcher#findGroups(Grid)
-     * @see PerimeterCounter
+     * @see GroupSearcher#labelGroups(Grid)
      */
     public static long totalValueOfGroups(final Grid<Character> characterGrid, final boolean countSidesOnly) {
-        return GroupSearcher.findGroups(characterGrid)
-            .values()
+        return GroupSearcher.labelGroups(characterGrid)
+            .groups()
             .stream()
-            .flatMap(Collection::stream)
-            .mapToLong(group -> calculateValueOfGroup(group, characterGrid, countSidesOnly))
+            .mapToLong(group -> calculateValueOfGroup(group, countSidesOnly))
             .sum();
     }
 
-    private static long calculateValueOfGroup(final Collection<Point> group, final Grid<Character> characterGrid, final boolean countSidesOnly) {
-        final long perimiterCount = countSidesOnly ? PerimeterCounter.countSides(group) : PerimeterCounter.countFullPerimeter(group, characterGrid);
-        final int area = group.size();
-        return area * perimiterCount;
+    private static long calculateValueOfGroup(final GroupSummary group, final boolean countSidesOnly) {
+        final long perimeterCount = countSidesOnly ? group.sides() : group.perimeter();
+        return group.area() * perimeterCount;
     }
 }
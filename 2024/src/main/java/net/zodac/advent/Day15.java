@@ -208,10 +208,9 @@ public final class Day15 {
     }
 
     private static Grid<Character> expandGridWidthwise(final Grid<Character> grid) {
-        final int newGridSize = grid.size() << 1;
-        final Character[][] newInternalGrid = new Character[grid.size()][newGridSize];
         final int numberOfRows = grid.numberOfRows();
         final int numberOfColumns = grid.numberOfColumns();
+        final Character[][] newInternalGrid = new Character[numberOfRows][numberOfColumns << 1];
 
         for (int i = 0; i < numberOfRows; i++) {
             for (int j = 0; j < numberOfColumns; j++) {
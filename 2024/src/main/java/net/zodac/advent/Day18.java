@@ -17,14 +17,15 @@
 
 package net.zodac.advent;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
-import java.util.function.BiPredicate;
+import net.zodac.advent.function.IntBiPredicate;
 import net.zodac.advent.grid.AdjacentDirection;
 import net.zodac.advent.grid.Grid;
 import net.zodac.advent.grid.GridFactory;
 import net.zodac.advent.grid.Point;
 import net.zodac.advent.search.PathFinder;
+import net.zodac.advent.search.UnionFind;
 
 /**
  * Solution for 2024, Day 18.
@@ -34,6 +35,7 @@ import net.zodac.advent.search.PathFinder;
 public final class Day18 {
 
     private static final char OBSTACLE_SYMBOL = '#';
+    private static final int NO_OBSTACLE = -1;
 
     private Day18() {
 
@@ -58,8 +60,8 @@ public final class Day18 {
         final Grid<Character> grid = createPopulatedGrid(obstaclePoints, gridSize, pointsToCheck);
 
         // Ignore first point, since we're looking for number of steps
-        final BiPredicate<Point, Point> filter = (_, nextPoint) -> grid.at(nextPoint) != OBSTACLE_SYMBOL;
-        return PathFinder.shortest(grid, startPoint, endPoint, AdjacentDirection.CARDINAL, filter).size() - 1L;
+        final IntBiPredicate filter = (_, nextIndex) -> grid.at(nextIndex) != OBSTACLE_SYMBOL;
+        return PathFinder.shortestIndices(grid, grid.indexOf(startPoint), grid.indexOf(endPoint), AdjacentDirection.CARDINAL, filter).length - 1L;
     }
 
     /**
@@ -67,8 +69,11 @@ public final class Day18 {
      * {@link Point}s supplied. We can start from a later index, defined by {@code previouslyCheckedPoints} to speed up our analysis.
      *
      * <p>
-     * We keep adding new {@link Point}s until we find one that prevents any valid path between the start {@link Point} and the end {@link Point}. We
-     * then return this {@link Point} as a {@link String} in the format:
+     * We need to find the first {@link Point} that prevents any valid path between the start {@link Point} and the end {@link Point}. Rather than
+     * searching for a path after each obstacle is added, we work backwards: starting with all obstacles in place, we remove them one at a time in
+     * reverse order, merging each freed {@link Point} with its free neighbours in a {@link UnionFind}. The first obstacle whose removal connects the
+     * start {@link Point} to the end {@link Point} is the one that blocks the path. We then return this {@link Point} as a {@link String} in the
+     * format:
      * <pre>
      *     x,y
      * </pre>
@@ -77,35 +82,82 @@ public final class Day18 {
      * @param gridSize                the size of the {@link Grid}
      * @param previouslyCheckedPoints the starting value to continue checking subsequent {@link Point}s
      * @return the {@link Point} that blocks the start {@link Point} from the end {@link Point}, as a {@link String}
+     * @throws IllegalStateException thrown if no {@link Point} blocks the path
      */
     public static String findPointWhichBlocksPath(final List<Point> obstaclePoints, final int gridSize, final int previouslyCheckedPoints) {
-        final Point startPoint = Point.atOrigin();
-        final Point endPoint = Point.of(gridSize - 1, gridSize - 1);
-        Grid<Character> grid = createPopulatedGrid(obstaclePoints, gridSize, previouslyCheckedPoints);
-
+        final int startIndex = toIndex(Point.atOrigin(), gridSize);
+        final int endIndex = toIndex(Point.of(gridSize - 1, gridSize - 1), gridSize);
         final int numberOfObstaclePoints = obstaclePoints.size();
-        for (int i = previouslyCheckedPoints; i <= numberOfObstaclePoints; i++) {
-            final Point point = obstaclePoints.get(i);
 
-            grid = grid.updateAt(point, OBSTACLE_SYMBOL);
-            final Grid<Character> updatedGrid = grid; // Stupid workaround for lambda function
-            final BiPredicate<Point, Point> filter = (_, nextPoint) -> updatedGrid.at(nextPoint) != OBSTACLE_SYMBOL;
+        // A Point is blocked by its first obstacle, so a repeated obstacle is only freed once the earliest one is removed
+        final int[] firstObstacleByIndex = new int[gridSize * gridSize];
+        Arrays.fill(firstObstacleByIndex, NO_OBSTACLE);
+        for (int i = numberOfObstaclePoints - 1; i >= 0; i--) {
+            firstObstacleByIndex[toIndex(obstaclePoints.get(i), gridSize)] = i;
+        }
+
+        final UnionFind unionFind = new UnionFind(gridSize * gridSize);
+        for (int index = 0; index < firstObstacleByIndex.length; index++) {
+            if (firstObstacleByIndex[index] == NO_OBSTACLE) {
+                connectToFreeNeighbours(unionFind, firstObstacleByIndex, index, gridSize, numberOfObstaclePoints);
+            }
+        }
+
+        if (unionFind.isConnected(startIndex, endIndex)) {
+            throw new IllegalStateException("Unable to find any Point to block the path");
+        }
+
+        for (int i = numberOfObstaclePoints - 1; i >= previouslyCheckedPoints; i--) {
+            final Point point = obstaclePoints.get(i);
+            final int index = toIndex(point, gridSize);
+            if (firstObstacleByIndex[index] != i) {
+                continue;
+            }
 
-            final Set<Point> shortestPath = PathFinder.shortest(updatedGrid, startPoint, endPoint, AdjacentDirection.CARDINAL, filter);
-            if (shortestPath.isEmpty()) {
+            // Only obstacles before 'i' remain in place
+            connectToFreeNeighbours(unionFind, firstObstacleByIndex, index, gridSize, i);
+            if (unionFind.isConnected(startIndex, endIndex)) {
                 return String.format("%s,%s", point.x(), point.y());
             }
         }
         throw new IllegalStateException("Unable to find any Point to block the path");
     }
 
+    private static void connectToFreeNeighbours(final UnionFind unionFind, final int[] firstObstacleByIndex, final int index, final int gridSize,
+                                                final int numberOfObstaclesInPlace) {
+        final int row = index / gridSize;
+        final int column = index % gridSize;
+
+        if (row > 0 && isFree(firstObstacleByIndex, index - gridSize, numberOfObstaclesInPlace)) {
+            unionFind.union(index, index - gridSize);
+        }
+        if (row < gridSize - 1 && isFree(firstObstacleByIndex, index + gridSize, numberOfObstaclesInPlace)) {
+            unionFind.union(index, index + gridSize);
+        }
+        if (column > 0 && isFree(firstObstacleByIndex, index - 1, numberOfObstaclesInPlace)) {
+            unionFind.union(index, index - 1);
+        }
+        if (column < gridSize - 1 && isFree(firstObstacleByIndex, index + 1, numberOfObstaclesInPlace)) {
+            unionFind.union(index, index + 1);
+        }
+    }
+
+    private static boolean isFree(final int[] firstObstacleByIndex, final int index, final int numberOfObstaclesInPlace) {
+        final int firstObstacle = firstObstacleByIndex[index];
+        return firstObstacle == NO_OBSTACLE || firstObstacle >= numberOfObstaclesInPlace;
+    }
+
+    private static int toIndex(final Point point, final int gridSize) {
+        return (point.x() * gridSize) + point.y();
+    }
+
     private static Grid<Character> createPopulatedGrid(final List<Point> values, final int gridSize, final int bytesToCheck) {
-        Grid<Character> grid = GridFactory.ofCharactersWithSize(gridSize);
+        final Grid.Builder<Character> gridBuilder = GridFactory.ofCharactersWithSize(gridSize).toBuilder();
 
         for (int i = 0; i < bytesToCheck; i++) {
             final Point point = values.get(i);
-            grid = grid.updateAt(point, OBSTACLE_SYMBOL);
+            gridBuilder.set(point, OBSTACLE_SYMBOL);
         }
-        return grid;
+        return gridBuilder.build();
     }
 }
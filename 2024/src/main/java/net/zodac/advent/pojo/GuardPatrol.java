@@ -0,0 +1,223 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.pojo;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import net.zodac.advent.grid.Direction;
+import net.zodac.advent.grid.Grid;
+import net.zodac.advent.grid.Point;
+import net.zodac.advent.search.CycleDetectionAlgorithm;
+import net.zodac.advent.search.LoopFinder;
+
+/**
+ * Simulates a guard patrolling a {@link Grid}. The guard moves forward one cell at a time, turning 90° to the right whenever the next cell is an
+ * obstacle, until leaving the {@link Grid}.
+ *
+ * <p>
+ * Cells are referenced by their index in the {@link Grid}, and the guard's state by {@code cell * 4 + direction}, so no {@link Point}s are created
+ * while patrolling. Since the guard can only turn at an obstacle, a jump table is precomputed with the last free cell before the next obstacle in
+ * each {@link Direction} from each cell. Checking whether a single extra obstacle causes a loop then only needs to follow the turns, with the extra
+ * obstacle patched into each jump rather than added to the {@link Grid}, and loops found with {@link CycleDetectionAlgorithm#BRENT} (see
+ * {@link LoopFinder#doesLoopExist(long, java.util.function.LongUnaryOperator, CycleDetectionAlgorithm)}) without storing the visited states.
+ */
+public final class GuardPatrol {
+
+    private static final int NUMBER_OF_DIRECTIONS = 4;
+    private static final int EXIT = LoopFinder.TERMINATED;
+    private static final int NOT_ENTERED = -1;
+
+    // Indexed by direction, in the order the guard turns
+    private static final Direction[] DIRECTIONS = {Direction.UP, Direction.RIGHT, Direction.DOWN, Direction.LEFT};
+    private static final int[] ROW_DELTAS = {-1, 0, 1, 0};
+    private static final int[] COLUMN_DELTAS = {0, 1, 0, -1};
+
+    private final int numberOfColumns;
+    private final int[] cellSteps;
+    private final int[][] lastFreeCells;
+    private final int startCell;
+    private final int[] entryStates;
+    private final int numberOfVisitedCells;
+
+    private GuardPatrol(final int numberOfColumns, final int[][] lastFreeCells, final int startCell, final int[] entryStates,
+                        final int numberOfVisitedCells) {
+        this.numberOfColumns = numberOfColumns;
+        this.lastFreeCells = lastFreeCells;
+        this.startCell = startCell;
+        this.entryStates = entryStates;
+        this.numberOfVisitedCells = numberOfVisitedCells;
+
+        cellSteps = new int[NUMBER_OF_DIRECTIONS];
+        for (int direction = 0; direction < NUMBER_OF_DIRECTIONS; direction++) {
+            cellSteps[direction] = ROW_DELTAS[direction] * numberOfColumns + COLUMN_DELTAS[direction];
+        }
+    }
+
+    /**
+     * Creates a {@link GuardPatrol} on the {@link Grid}, and follows the guard's original path from the {@code startPoint}.
+     *
+     * @param grid           the {@link Grid} to patrol
+     * @param isObstacle     the {@link Predicate} defining whether a value in the {@link Grid} is an obstacle
+     * @param startPoint     the {@link Point} the guard starts from
+     * @param startDirection the {@link Direction} the guard is initially facing
+     * @param <E>            the type of the {@link Grid}
+     * @return the created {@link GuardPatrol}
+     * @throws IllegalArgumentException thrown if the {@code startDirection} is not {@link Direction#UP}, {@link Direction#RIGHT},
+     *                                  {@link Direction#DOWN} or {@link Direction#LEFT}, or if the {@code startPoint} is not inside the {@link Grid}
+     */
+    public static <E> GuardPatrol create(final Grid<E> grid, final Predicate<? super E> isObstacle, final Point startPoint,
+                                         final Direction startDirection) {
+        final int startDirectionIndex = Arrays.asList(DIRECTIONS).indexOf(startDirection);
+        if (startDirectionIndex == -1) {
+            throw new IllegalArgumentException(String.format("Guard must start facing UP, RIGHT, DOWN or LEFT, found: %s", startDirection));
+        }
+
+        if (!grid.exists(startPoint)) {
+            throw new IllegalArgumentException(String.format("Start point %s is outside the grid", startPoint));
+        }
+
+        final boolean[] obstacles = new boolean[grid.elementsInGrid()];
+        for (int cell = 0; cell < obstacles.length; cell++) {
+            obstacles[cell] = isObstacle.test(grid.at(cell));
+        }
+
+        final int[][] lastFreeCells = createJumpTable(obstacles, grid.numberOfRows(), grid.numberOfColumns());
+        final int startCell = grid.indexOf(startPoint);
+        final int[] entryStates = new int[obstacles.length];
+        final int numberOfVisitedCells = followOriginalPath(obstacles, grid.numberOfRows(), grid.numberOfColumns(), startCell,
+            startDirectionIndex, entryStates);
+        return new GuardPatrol(grid.numberOfColumns(), lastFreeCells, startCell, entryStates, numberOfVisitedCells);
+    }
+
+    /**
+     * Returns the number of distinct cells visited by the guard on the original path, including the start cell.
+     *
+     * @return the number of visited cells
+     */
+    public int countVisitedCells() {
+        return numberOfVisitedCells;
+    }
+
+    /**
+     * Counts the number of cells where adding a single obstacle causes the guard to patrol in a loop forever. Only cells on the original path
+     * (other than the start cell) can change the path, and for each of these the guard's patrol is only simulated from the state where it first
+     * reaches the new obstacle, since the path is unchanged until then.
+     *
+     * <p>
+     * A guard boxed in by obstacles on all four sides turns on the spot forever, so this also counts as a loop.
+     *
+     * @return the number of cells where a new obstacle causes a loop
+     */
+    public long countObstructionsCausingLoops() {
+        return IntStream.range(0, entryStates.length)
+            .parallel() // No shared state between candidates, fine to execute in parallel
+            .filter(cell -> cell != startCell && entryStates[cell] != NOT_ENTERED)
+            .filter(cell -> isLoop(entryStates[cell], cell))
+            .count();
+    }
+
+    private boolean isLoop(final int startState, final int addedObstacle) {
+        return LoopFinder.doesLoopExist(startState, state -> nextTurn((int) state, addedObstacle), CycleDetectionAlgorithm.BRENT);
+    }
+
+    // Moves until the next obstacle, then turns right. Returns EXIT if the guard leaves the grid first
+    private int nextTurn(final int state, final int addedObstacle) {
+        final int cell = state / NUMBER_OF_DIRECTIONS;
+        final int direction = state % NUMBER_OF_DIRECTIONS;
+        final int step = cellSteps[direction];
+        int lastFreeCell = lastFreeCells[direction][cell];
+
+        final boolean isInLine = ROW_DELTAS[direction] == 0
+            ? addedObstacle / numberOfColumns == cell / numberOfColumns
+            : addedObstacle % numberOfColumns == cell % numberOfColumns;
+
+        if (isInLine) {
+            final int distanceToAddedObstacle = (addedObstacle - cell) / step;
+            if (distanceToAddedObstacle > 0 && (lastFreeCell == EXIT || distanceToAddedObstacle <= (lastFreeCell - cell) / step)) {
+                lastFreeCell = addedObstacle - step;
+            }
+        }
+
+        if (lastFreeCell == EXIT) {
+            return EXIT;
+        }
+        return lastFreeCell * NUMBER_OF_DIRECTIONS + (direction + 1) % NUMBER_OF_DIRECTIONS;
+    }
+
+    private static int[][] createJumpTable(final boolean[] obstacles, final int numberOfRows, final int numberOfColumns) {
+        final int[][] lastFreeCells = new int[NUMBER_OF_DIRECTIONS][obstacles.length];
+
+        for (int direction = 0; direction < NUMBER_OF_DIRECTIONS; direction++) {
+            final int step = ROW_DELTAS[direction] * numberOfColumns + COLUMN_DELTAS[direction];
+            final int[] lastFreeCellsInDirection = lastFreeCells[direction];
+
+            // Visit the cell ahead of each cell first, so its value can be reused
+            for (int i = 0; i < obstacles.length; i++) {
+                final int cell = step < 0 ? i : obstacles.length - 1 - i;
+                final int aheadRow = cell / numberOfColumns + ROW_DELTAS[direction];
+                final int aheadColumn = cell % numberOfColumns + COLUMN_DELTAS[direction];
+
+                if (obstacles[cell] || aheadRow < 0 || aheadRow >= numberOfRows || aheadColumn < 0 || aheadColumn >= numberOfColumns) {
+                    lastFreeCellsInDirection[cell] = EXIT;
+                } else {
+                    final int ahead = cell + step;
+                    lastFreeCellsInDirection[cell] = obstacles[ahead] ? cell : lastFreeCellsInDirection[ahead];
+                }
+            }
+        }
+        return lastFreeCells;
+    }
+
+    // Populates the state the guard is in just before first entering each cell, and returns the number of visited cells
+    private static int followOriginalPath(final boolean[] obstacles, final int numberOfRows, final int numberOfColumns, final int startCell,
+                                          final int startDirection, final int[] entryStates) {
+        Arrays.fill(entryStates, NOT_ENTERED);
+        final boolean[] visited = new boolean[obstacles.length];
+        visited[startCell] = true;
+        int numberOfVisitedCells = 1;
+
+        // Stop if the original path already loops, rather than patrolling forever
+        final boolean[] visitedStates = new boolean[obstacles.length * NUMBER_OF_DIRECTIONS];
+        int cell = startCell;
+        int direction = startDirection;
+
+        while (!visitedStates[cell * NUMBER_OF_DIRECTIONS + direction]) {
+            visitedStates[cell * NUMBER_OF_DIRECTIONS + direction] = true;
+            final int nextRow = cell / numberOfColumns + ROW_DELTAS[direction];
+            final int nextColumn = cell % numberOfColumns + COLUMN_DELTAS[direction];
+            if (nextRow < 0 || nextRow >= numberOfRows || nextColumn < 0 || nextColumn >= numberOfColumns) {
+                break;
+            }
+
+            final int nextCell = nextRow * numberOfColumns + nextColumn;
+            if (obstacles[nextCell]) {
+                direction = (direction + 1) % NUMBER_OF_DIRECTIONS;
+                continue;
+            }
+
+            if (!visited[nextCell]) {
+                visited[nextCell] = true;
+                entryStates[nextCell] = cell * NUMBER_OF_DIRECTIONS + direction;
+                numberOfVisitedCells++;
+            }
+            cell = nextCell;
+        }
+        return numberOfVisitedCells;
+    }
+}
@@ -15,18 +15,22 @@
  * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
  */
 
-package net.zodac.advent.pojo;
-
-import net.zodac.advent.grid.Direction;
-import net.zodac.advent.grid.Point;
+package net.zodac.advent.function;
 
 /**
- * Basic record holding details of a single step/movement for a beam.
+ * Represents an operation on a single {@code char} operand that produces a {@code char} result.
+ * This is the primitive type specialization of {@link java.util.function.UnaryOperator} for {@code char}.
  *
- * @param point     the current {@link Point}
- * @param value     the value at the current {@link Point}
- * @param direction the direction the beam should move in next
+ * @see FunctionalInterface
  */
-public record BeamStep(Point point, char value, Direction direction) {
+@FunctionalInterface
+public interface CharUnaryOperator {
 
+    /**
+     * Applies this operator to the given operand.
+     *
+     * @param operand the operand
+     * @return the operator result
+     */
+    char applyAsChar(char operand);
 }
@@ -0,0 +1,220 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.grid;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Stream;
+import net.zodac.advent.function.BooleanUnaryOperator;
+import net.zodac.advent.pojo.RotationDirection;
+
+/**
+ * A {@link PrimitiveGrid} of {@code boolean} values, backed by a single {@link BitSet}. Each value takes a single bit, rather than the reference
+ * (and boxed {@link Boolean}) of a {@link Grid} of {@link Boolean}s.
+ *
+ * <p>
+ * Where possible, updates are applied to whole ranges of bits at a time, such as in {@link #setBox(int, int, int, int, boolean)} and
+ * {@link #toggleBox(int, int, int, int)}.
+ */
+public final class BooleanGrid extends PrimitiveGrid {
+
+    private final BitSet values;
+
+    private BooleanGrid(final int numberOfRows, final int numberOfColumns) {
+        super(numberOfRows, numberOfColumns);
+        values = new BitSet(numberOfRows * numberOfColumns);
+    }
+
+    private BooleanGrid(final int numberOfRows, final int numberOfColumns, final BitSet values) {
+        super(numberOfRows, numberOfColumns);
+        this.values = values;
+    }
+
+    /**
+     * Creates a {@link BooleanGrid} of size {@code numberOfRows}x{@code numberOfColumns}, with all values {@code false}.
+     *
+     * @param numberOfRows    the number of rows
+     * @param numberOfColumns the number of columns
+     * @return the created {@link BooleanGrid}
+     * @throws IllegalArgumentException thrown if either dimension is not a positive integer
+     */
+    public static BooleanGrid ofSize(final int numberOfRows, final int numberOfColumns) {
+        return new BooleanGrid(numberOfRows, numberOfColumns);
+    }
+
+    /**
+     * Converts the {@link List} of {@link String}s to a {@link BooleanGrid}. The number of columns is defined by the longest {@link String}, and
+     * any missing values in shorter {@link String}s are {@code false}.
+     *
+     * @param strings              the input {@link List} of {@link String}s
+     * @param symbolSignifyingTrue the symbol in the {@link String} that defines a {@code true} value
+     * @return the {@link BooleanGrid}
+     * @throws IllegalArgumentException thrown if the input is empty
+     */
+    public static BooleanGrid parse(final List<String> strings, final char symbolSignifyingTrue) {
+        final BooleanGrid booleanGrid = ofSize(strings.size(), GridFactory.longestLength(strings));
+
+        for (int row = 0; row < strings.size(); row++) {
+            final String line = strings.get(row);
+            for (int column = 0; column < line.length(); column++) {
+                if (line.charAt(column) == symbolSignifyingTrue) {
+                    booleanGrid.values.set(booleanGrid.index(row, column));
+                }
+            }
+        }
+        return booleanGrid;
+    }
+
+    /**
+     * Returns the value at the given ({@code row}, {@code column}).
+     *
+     * @param row    the row
+     * @param column the column
+     * @return the value
+     * @throws ArrayIndexOutOfBoundsException thrown if the ({@code row}, {@code column}) is outside the grid
+     */
+    public boolean at(final int row, final int column) {
+        return values.get(index(row, column));
+    }
+
+    /**
+     * Returns the value at the given {@link Point}.
+     *
+     * @param point the {@link Point}
+     * @return the value
+     * @throws ArrayIndexOutOfBoundsException thrown if the {@link Point} is outside the grid
+     */
+    public boolean at(final Point point) {
+        return at(point.x(), point.y());
+    }
+
+    /**
+     * Sets the value at the given ({@code row}, {@code column}).
+     *
+     * @param row    the row
+     * @param column the column
+     * @param value  the new value
+     * @throws ArrayIndexOutOfBoundsException thrown if the ({@code row}, {@code column}) is outside the grid
+     */
+    public void set(final int row, final int column, final boolean value) {
+        values.set(index(row, column), value);
+    }
+
+    /**
+     * Draws a box on the {@link BooleanGrid}, where each value from ({@code x1}, {@code y1}) to ({@code x2}, {@code y2}) inclusive is updated
+     * according to the {@link BooleanUnaryOperator}.
+     *
+     * @param x1             the first x coordinate
+     * @param y1             the first y coordinate
+     * @param x2             the second x coordinate
+     * @param y2             the second y coordinate
+     * @param updateFunction the {@link BooleanUnaryOperator} to update the value based on the current value
+     * @see Grid#drawBox(int, int, int, int, java.util.function.UnaryOperator)
+     */
+    public void drawBox(final int x1, final int y1, final int x2, final int y2, final BooleanUnaryOperator updateFunction) {
+        validateBox(x1, y1, x2, y2);
+
+        for (int x = x1; x <= x2; x++) {
+            for (int y = y1; y <= y2; y++) {
+                final int index = index(x, y);
+                values.set(index, updateFunction.applyAsBoolean(values.get(index)));
+            }
+        }
+    }
+
+    /**
+     * Sets every value in the box from ({@code x1}, {@code y1}) to ({@code x2}, {@code y2}) inclusive to {@code value}. Each row of the box is
+     * updated as a single range of bits.
+     *
+     * @param x1    the first x coordinate
+     * @param y1    the first y coordinate
+     * @param x2    the second x coordinate
+     * @param y2    the second y coordinate
+     * @param value the new value
+     */
+    public void setBox(final int x1, final int y1, final int x2, final int y2, final boolean value) {
+        validateBox(x1, y1, x2, y2);
+
+        for (int x = x1; x <= x2; x++) {
+            values.set(index(x, y1), index(x, y2) + 1, value);
+        }
+    }
+
+    /**
+     * Toggles every value in the box from ({@code x1}, {@code y1}) to ({@code x2}, {@code y2}) inclusive. Each row of the box is updated as a
+     * single range of bits.
+     *
+     * @param x1 the first x coordinate
+     * @param y1 the first y coordinate
+     * @param x2 the second x coordinate
+     * @param y2 the second y coordinate
+     */
+    public void toggleBox(final int x1, final int y1, final int x2, final int y2) {
+        validateBox(x1, y1, x2, y2);
+
+        for (int x = x1; x <= x2; x++) {
+            values.flip(index(x, y1), index(x, y2) + 1);
+        }
+    }
+
+    /**
+     * Counts the number of {@code true} values in the {@link BooleanGrid}.
+     *
+     * @return the number of {@code true} values
+     */
+    public long sumValues() {
+        return values.cardinality();
+    }
+
+    /**
+     * Returns all {@link Point}s in the {@link BooleanGrid} which have the {@code wantedValue}, in row-major order.
+     *
+     * @param wantedValue the wanted value
+     * @return a {@link Stream} of the {@link Point}s which have the wanted value
+     */
+    public Stream<Point> findValue(final boolean wantedValue) {
+        return findIndices(index -> values.get(index) == wantedValue);
+    }
+
+    /**
+     * Rotates the {@link BooleanGrid} 90° in the {@code rotationDirection}, returning a new {@link BooleanGrid}.
+     *
+     * @param rotationDirection the direction in which to rotate the {@link BooleanGrid}
+     * @return the rotated {@link BooleanGrid}
+     */
+    public BooleanGrid rotate(final RotationDirection rotationDirection) {
+        final BitSet rotatedValues = new BitSet(elementsInGrid());
+        for (int index = values.nextSetBit(0); index >= 0; index = values.nextSetBit(index + 1)) {
+            rotatedValues.set(rotatedIndex(index / numberOfColumns, index % numberOfColumns, rotationDirection));
+        }
+        return new BooleanGrid(numberOfColumns, numberOfRows, rotatedValues);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || (obj instanceof final BooleanGrid other
+            && numberOfRows == other.numberOfRows
+            && numberOfColumns == other.numberOfColumns
+            && values.equals(other.values));
+    }
+
+    @Override
+    public int hashCode() {
+        return (31 * ((31 * numberOfRows) + numberOfColumns)) + values.hashCode();
+    }
+}
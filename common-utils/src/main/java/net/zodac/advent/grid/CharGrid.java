@@ -0,0 +1,188 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.grid;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import net.zodac.advent.function.CharPredicate;
+import net.zodac.advent.function.CharToIntFunction;
+import net.zodac.advent.function.CharUnaryOperator;
+import net.zodac.advent.pojo.RotationDirection;
+
+/**
+ * A {@link PrimitiveGrid} of {@code char} values, backed by a single {@code char[]}.
+ */
+public final class CharGrid extends PrimitiveGrid {
+
+    private static final char DEFAULT_FILL_VALUE = '.';
+    private static final char MISSING_VALUE = ' ';
+
+    private final char[] values;
+
+    private CharGrid(final int numberOfRows, final int numberOfColumns) {
+        super(numberOfRows, numberOfColumns);
+        values = new char[numberOfRows * numberOfColumns];
+    }
+
+    private CharGrid(final int numberOfRows, final int numberOfColumns, final char[] values) {
+        super(numberOfRows, numberOfColumns);
+        this.values = values;
+    }
+
+    /**
+     * Creates a {@link CharGrid} of size {@code numberOfRows}x{@code numberOfColumns}, with all values <b>'{@value #DEFAULT_FILL_VALUE}'</b>.
+     *
+     * @param numberOfRows    the number of rows
+     * @param numberOfColumns the number of columns
+     * @return the created {@link CharGrid}
+     * @throws IllegalArgumentException thrown if either dimension is not a positive integer
+     */
+    public static CharGrid ofSize(final int numberOfRows, final int numberOfColumns) {
+        final CharGrid charGrid = new CharGrid(numberOfRows, numberOfColumns);
+        Arrays.fill(charGrid.values, DEFAULT_FILL_VALUE);
+        return charGrid;
+    }
+
+    /**
+     * Converts the {@link List} of {@link String}s to a {@link CharGrid}. The number of columns is defined by the longest {@link String}, and any
+     * missing values in shorter {@link String}s are <b>'{@value #MISSING_VALUE}'</b>.
+     *
+     * @param strings the input {@link List} of {@link String}s
+     * @return the {@link CharGrid}
+     * @throws IllegalArgumentException thrown if the input is empty
+     */
+    public static CharGrid parse(final List<String> strings) {
+        final CharGrid charGrid = new CharGrid(strings.size(), GridFactory.longestLength(strings));
+        Arrays.fill(charGrid.values, MISSING_VALUE);
+
+        for (int row = 0; row < strings.size(); row++) {
+            final String line = strings.get(row);
+            line.getChars(0, line.length(), charGrid.values, charGrid.index(row, 0));
+        }
+        return charGrid;
+    }
+
+    /**
+     * Returns the value at the given ({@code row}, {@code column}).
+     *
+     * @param row    the row
+     * @param column the column
+     * @return the value
+     * @throws ArrayIndexOutOfBoundsException thrown if the ({@code row}, {@code column}) is outside the grid
+     */
+    public char at(final int row, final int column) {
+        return values[index(row, column)];
+    }
+
+    /**
+     * Returns the value at the given {@link Point}.
+     *
+     * @param point the {@link Point}
+     * @return the value
+     * @throws ArrayIndexOutOfBoundsException thrown if the {@link Point} is outside the grid
+     */
+    public char at(final Point point) {
+        return at(point.x(), point.y());
+    }
+
+    /**
+     * Sets the value at the given ({@code row}, {@code column}).
+     *
+     * @param row    the row
+     * @param column the column
+     * @param value  the new value
+     * @throws ArrayIndexOutOfBoundsException thrown if the ({@code row}, {@code column}) is outside the grid
+     */
+    public void set(final int row, final int column, final char value) {
+        values[index(row, column)] = value;
+    }
+
+    /**
+     * Draws a box on the {@link CharGrid}, where each value from ({@code x1}, {@code y1}) to ({@code x2}, {@code y2}) inclusive is updated
+     * according to the {@link CharUnaryOperator}.
+     *
+     * @param x1             the first x coordinate
+     * @param y1             the first y coordinate
+     * @param x2             the second x coordinate
+     * @param y2             the second y coordinate
+     * @param updateFunction the {@link CharUnaryOperator} to update the value based on the current value
+     * @see Grid#drawBox(int, int, int, int, java.util.function.UnaryOperator)
+     */
+    public void drawBox(final int x1, final int y1, final int x2, final int y2, final CharUnaryOperator updateFunction) {
+        validateBox(x1, y1, x2, y2);
+
+        for (int x = x1; x <= x2; x++) {
+            final int rowEnd = index(x, y2);
+            for (int index = index(x, y1); index <= rowEnd; index++) {
+                values[index] = updateFunction.applyAsChar(values[index]);
+            }
+        }
+    }
+
+    /**
+     * Count the value of all elements in the {@link CharGrid}. The actual value of each element is defined by the input {@code evaluator}.
+     *
+     * @param evaluator {@link CharToIntFunction} used to convert each {@code char} into an {@code int}
+     * @return the sum of all converted values
+     */
+    public long sumValues(final CharToIntFunction evaluator) {
+        long sum = 0L;
+        for (final char value : values) {
+            sum += evaluator.applyAsInt(value);
+        }
+        return sum;
+    }
+
+    /**
+     * Returns all {@link Point}s in the {@link CharGrid} which match the {@link CharPredicate}, in row-major order.
+     *
+     * @param predicate the {@link CharPredicate} defining the wanted value
+     * @return a {@link Stream} of the {@link Point}s which match the {@link CharPredicate}
+     */
+    public Stream<Point> findValue(final CharPredicate predicate) {
+        return findIndices(index -> predicate.test(values[index]));
+    }
+
+    /**
+     * Rotates the {@link CharGrid} 90° in the {@code rotationDirection}, returning a new {@link CharGrid}.
+     *
+     * @param rotationDirection the direction in which to rotate the {@link CharGrid}
+     * @return the rotated {@link CharGrid}
+     */
+    public CharGrid rotate(final RotationDirection rotationDirection) {
+        final char[] rotatedValues = new char[values.length];
+        for (int index = 0; index < values.length; index++) {
+            rotatedValues[rotatedIndex(index / numberOfColumns, index % numberOfColumns, rotationDirection)] = values[index];
+        }
+        return new CharGrid(numberOfColumns, numberOfRows, rotatedValues);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || (obj instanceof final CharGrid other
+            && numberOfRows == other.numberOfRows
+            && numberOfColumns == other.numberOfColumns
+            && Arrays.equals(values, other.values));
+    }
+
+    @Override
+    public int hashCode() {
+        return (31 * ((31 * numberOfRows) + numberOfColumns)) + Arrays.hashCode(values);
+    }
+}
@@ -17,6 +17,7 @@
 
 package net.zodac.advent.grid;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -24,6 +25,7 @@ import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Function;
@@ -33,55 +35,126 @@ import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import net.zodac.advent.pojo.RotationDirection;
 import net.zodac.advent.util.ArrayUtils;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Abstract class defining a grid of {@link Point}s.
  *
+ * <p>
+ * The {@link Grid} may be rectangular, and its values are stored in a single row-major array. As well as the ({@code row}, {@code column}) and
+ * {@link Point} accessors, each value can be accessed by its index in that array (see {@link #indexOf(int, int)}), which allows hot loops to
+ * iterate over the {@link Grid} without creating a {@link Point} for each value.
+ *
+ * <p>
+ * Single-value updates like {@link #updateAt(Point, Object)} do not copy the values. Instead, the new {@link Grid} shares the values of the
+ * original, with a small sorted set of overridden values on top. Once there are more than {@value #MAX_NUMBER_OF_OVERRIDES} overridden values, the
+ * next update copies the values into a new array instead. For many updates, use a {@link Builder} instead.
+ *
+ * <p>
+ * Reads (including {@link #equals(Object)}, {@link #hashCode()} and {@link #findValue(Predicate)}) apply any overridden values as they go, and never
+ * change how the values are stored, so a {@link Grid} can be safely used as a key in a {@link java.util.HashMap} or read from multiple threads.
+ * The only in-place update, {@link #drawBox(int, int, int, int, UnaryOperator)}, always copies the values first, so a {@link Grid} is never
+ * affected by updates to another {@link Grid}.
+ *
  * @param <E> the type of the {@link Point}s on the {@link Grid}
  */
 // TODO: Lots of 'x/y', 'i/j', 'row/column'; be more consistent
 public class Grid<E> {
 
+    // Row and column offsets of the cardinal neighbours, followed by the diagonal neighbours
+    private static final int[] NEIGHBOUR_ROW_OFFSETS = {-1, 1, 0, 0, -1, -1, 1, 1};
+    private static final int[] NEIGHBOUR_COLUMN_OFFSETS = {0, 0, -1, 1, -1, 1, -1, 1};
+    private static final int NUMBER_OF_CARDINAL_NEIGHBOURS = 4;
+    private static final int MAX_NUMBER_OF_OVERRIDES = 32;
+    private static final int[] NO_OVERRIDDEN_INDICES = new int[0];
+
     /**
-     * The length (or width) of the {@link Grid}.
+     * The number of rows in the {@link Grid}.
      */
-    protected final int gridSize;
+    protected final int numberOfRows;
 
     /**
-     * The values of the {@link Grid}.
+     * The number of columns in the {@link Grid}.
      */
-    protected final E[][] internalGrid;
+    protected final int numberOfColumns;
+
+    // Values in row-major order, which may be shared with other grids, so must be copied before being updated in place
+    private E[] values;
 
-    private final int elementsInGrid;
+    // Sorted indices of the values that differ from the shared values, with the overriding values at the same positions (or null if none)
+    private int[] overriddenIndices = NO_OVERRIDDEN_INDICES;
+    private E @Nullable [] overriddenValues;
 
     /**
      * Default constructor.
      *
      * @param internalGrid the actual {@link Grid} represented as a 2D array.
+     * @throws IllegalArgumentException thrown if the rows of the {@code internalGrid} do not all have the same length
      */
     public Grid(final E[][] internalGrid) {
-        gridSize = internalGrid.length;
-        this.internalGrid = ArrayUtils.deepCopy(internalGrid);
-        elementsInGrid = gridSize * gridSize;
+        numberOfRows = internalGrid.length;
+        numberOfColumns = numberOfRows == 0 ? 0 : internalGrid[0].length;
+        values = createArray(internalGrid.getClass().getComponentType().getComponentType(), numberOfRows * numberOfColumns);
+
+        for (int row = 0; row < numberOfRows; row++) {
+            if (internalGrid[row].length != numberOfColumns) {
+                throw new IllegalArgumentException(
+                    String.format("Expected all rows to have %d columns, found %d in row %d", numberOfColumns, internalGrid[row].length, row));
+            }
+            System.arraycopy(internalGrid[row], 0, values, row * numberOfColumns, numberOfColumns);
+        }
     }
 
     /**
      * Constructor that creates the internal {@code grid} and initialises the data.
      *
      * @param gridSize     the size of the {@link Grid}.
-     * @param internalGrid the actual {@link Grid} represented as a 2D array.
+     * @param internalGrid the actual {@link Grid} represented as a 2D array, used to define the type of the values
      * @param initialValue the initial value for each {@link Point} in the {@link Grid}
      */
     public Grid(final int gridSize, final E[][] internalGrid, final E initialValue) {
-        this.gridSize = gridSize;
-        this.internalGrid = ArrayUtils.deepCopy(internalGrid);
-        elementsInGrid = gridSize * gridSize;
+        numberOfRows = gridSize;
+        numberOfColumns = gridSize;
+        values = createArray(internalGrid.getClass().getComponentType().getComponentType(), gridSize * gridSize);
+        Arrays.fill(values, initialValue);
+    }
 
-        for (int row = 0; row < gridSize; row++) {
-            for (int column = 0; column < gridSize; column++) {
-                this.internalGrid[row][column] = initialValue;
-            }
+    /**
+     * Constructor that creates a rectangular {@link Grid} from values which are already in row-major order.
+     *
+     * @param numberOfRows    the number of rows in the {@link Grid}
+     * @param numberOfColumns the number of columns in the {@link Grid}
+     * @param values          the values of the {@link Grid}, in row-major order
+     * @throws IllegalArgumentException thrown if the number of {@code values} does not match the dimensions of the {@link Grid}
+     */
+    public Grid(final int numberOfRows, final int numberOfColumns, final E[] values) {
+        if (numberOfRows < 0 || numberOfColumns < 0 || values.length != numberOfRows * numberOfColumns) {
+            throw new IllegalArgumentException(
+                String.format("Expected %dx%d values, found: %d", numberOfRows, numberOfColumns, values.length));
         }
+
+        this.numberOfRows = numberOfRows;
+        this.numberOfColumns = numberOfColumns;
+        this.values = Arrays.copyOf(values, values.length);
+    }
+
+    // Uses the values without copying them, so they must not be updated in place by any other Grid or Builder
+    private Grid(final int numberOfRows, final int numberOfColumns, final E[] values, final int[] overriddenIndices,
+                 final E @Nullable [] overriddenValues) {
+        this.numberOfRows = numberOfRows;
+        this.numberOfColumns = numberOfColumns;
+        this.values = values;
+        this.overriddenIndices = overriddenIndices;
+        this.overriddenValues = overriddenValues;
+    }
+
+    /**
+     * Creates a {@link Builder} initialised with a copy of the values of this {@link Grid}.
+     *
+     * @return the {@link Builder}
+     */
+    public Builder<E> toBuilder() {
+        return new Builder<>(numberOfRows, numberOfColumns, copyOfValues());
     }
 
     /**
@@ -102,7 +175,7 @@ public class Grid<E> {
         }
 
         final E[][] internalArray = ArrayUtils.toArrayOfArrays(gridValues, converter);
-        return new Grid<>(internalArray); // TODO: Any scenario where grid is not a square? Enforce if not, document otherwise
+        return new Grid<>(internalArray);
     }
 
     /**
@@ -112,32 +185,26 @@ public class Grid<E> {
      * @return the sum of all {@link Point}s in the {@link Grid}
      */
     public long sumValues(final ToIntFunction<? super E> evaluator) {
-        int count = 0;
+        long count = 0;
 
-        for (int row = 0; row < internalGrid.length; row++) {
-            for (int column = 0; column < internalGrid[0].length; column++) {
-                final E value = at(row, column);
-                count += evaluator.applyAsInt(value);
-            }
+        for (int index = 0; index < values.length; index++) {
+            count += evaluator.applyAsInt(at(index));
         }
 
         return count;
     }
 
     /**
-     * Sets the corners of the {@link Grid} to the input {@code newValue}.
+     * Sets the corners of the {@link Grid} to the input {@code newValue}. The values of this {@link Grid} are shared rather than copied.
      *
      * @param newValue the new value for the corners
      * @return a new instance of {@link Grid} with the updated corners
      */
     public Grid<E> updateCorners(final E newValue) {
-        final E[][] internalGridCopy = ArrayUtils.deepCopy(internalGrid);
-        internalGridCopy[0][0] = newValue;
-        internalGridCopy[0][gridSize - 1] = newValue;
-        internalGridCopy[gridSize - 1][0] = newValue;
-        internalGridCopy[gridSize - 1][gridSize - 1] = newValue;
-
-        return new Grid<>(internalGridCopy);
+        return withOverride(indexOf(0, 0), newValue)
+            .withOverride(indexOf(0, numberOfColumns - 1), newValue)
+            .withOverride(indexOf(numberOfRows - 1, 0), newValue)
+            .withOverride(indexOf(numberOfRows - 1, numberOfColumns - 1), newValue);
     }
 
     /**
@@ -222,40 +289,53 @@ public class Grid<E> {
      *     0 0 0 0 0 0 0 0 0 0
      * </pre>
      *
+     * <p>
+     * The values are copied before they are updated, since they may be shared with other {@link Grid}s. For many updates, use a {@link Builder}
+     * instead.
+     *
      * @param x1             the first x coordinate
      * @param y1             the first y coordinate
      * @param x2             the second x coordinate
      * @param y2             the second y coordinate
      * @param updateFunction the {@link Function} to update the internal {@link Grid} value based on the current value
+     * @throws IllegalArgumentException thrown if any corner of the box is outside the {@link Grid}
      */
     public void drawBox(final int x1, final int y1, final int x2, final int y2, final UnaryOperator<E> updateFunction) {
         if (x1 < 0 || y1 < 0) {
             throw new IllegalArgumentException(String.format("x1, y1 must be at least 0, found: (%s, %s)", x1, y1));
         }
 
-        if (x2 > numberOfRows() || y2 > numberOfColumns()) {
-            throw new IllegalArgumentException(String.format("x2, y2 must be at less than (%s, %s), found: (%s, %s)", numberOfRows(),
+        if (x2 >= numberOfRows() || y2 >= numberOfColumns()) {
+            throw new IllegalArgumentException(String.format("x2, y2 must be less than (%s, %s), found: (%s, %s)", numberOfRows(),
                 numberOfColumns(), x2, y2));
         }
 
+        values = copyOfValues();
+        overriddenIndices = NO_OVERRIDDEN_INDICES;
+        overriddenValues = null;
         for (int x = x1; x <= x2; x++) {
+            final int rowStart = x * numberOfColumns;
             for (int y = y1; y <= y2; y++) {
-                internalGrid[x][y] = updateFunction.apply(internalGrid[x][y]);
+                values[rowStart + y] = updateFunction.apply(values[rowStart + y]);
             }
         }
     }
 
     /**
-     * Creates a copy of the existing {@link Grid}, then overwrites the value at the given {@link Point} with the supplied {@code value}.
+     * Creates a new {@link Grid} matching the existing {@link Grid}, except the value at the given {@link Point} is the supplied {@code value}. The
+     * values of this {@link Grid} are shared rather than copied, so this only needs {@code O(1)} memory.
      *
      * @param point the {@link Point} to update
      * @param value the new value to be set
      * @return the new {@link Grid}
+     * @throws ArrayIndexOutOfBoundsException thrown if the {@link Point} is outside the {@link Grid}
      */
     public Grid<E> updateAt(final Point point, final E value) {
-        final E[][] newGrid = ArrayUtils.deepCopy(internalGrid);
-        newGrid[point.x()][point.y()] = value;
-        return new Grid<>(newGrid);
+        if (!exists(point)) {
+            throw new ArrayIndexOutOfBoundsException(
+                String.format("(%d, %d) is outside of the %dx%d grid", point.x(), point.y(), numberOfRows, numberOfColumns));
+        }
+        return withOverride(indexOf(point), value);
     }
 
     /**
@@ -266,10 +346,7 @@ public class Grid<E> {
      * @return {@code true} if the input {@link Point} is a corner of the {@link Grid}
      */
     public boolean isCorner(final int row, final int column) {
-        return (row == 0 && column == 0)
-            || (row == gridSize - 1 && column == gridSize - 1)
-            || (row == 0 && column == gridSize - 1)
-            || (row == gridSize - 1 && column == 0);
+        return (row == 0 || row == numberOfRows - 1) && (column == 0 || column == numberOfColumns - 1);
     }
 
     /**
@@ -278,7 +355,12 @@ public class Grid<E> {
      * @return the {@link Grid} as a 2D array
      */
     public E[][] getInternalGrid() {
-        return ArrayUtils.deepCopy(internalGrid);
+        final E[] currentValues = copyOfValues();
+        final E[][] internalGrid = create2DimensionalArray(values.getClass().getComponentType(), numberOfRows, numberOfColumns);
+        for (int row = 0; row < numberOfRows; row++) {
+            System.arraycopy(currentValues, row * numberOfColumns, internalGrid[row], 0, numberOfColumns);
+        }
+        return internalGrid;
     }
 
     /**
@@ -287,7 +369,7 @@ public class Grid<E> {
      * @return the number of rows
      */
     public int numberOfRows() {
-        return internalGrid.length;
+        return numberOfRows;
     }
 
     /**
@@ -296,16 +378,7 @@ public class Grid<E> {
      * @return the number of columns
      */
     public int numberOfColumns() {
-        return internalGrid[0].length;
-    }
-
-    /**
-     * The size of the {@link Grid}. Equivalent to {@link #numberOfRows()}.
-     *
-     * @return the size of the {@link Grid}
-     */
-    public int size() {
-        return numberOfRows();
+        return numberOfColumns;
     }
 
     /**
@@ -314,7 +387,7 @@ public class Grid<E> {
      * @return the number of elements
      */
     public int elementsInGrid() {
-        return elementsInGrid;
+        return values.length;
     }
 
     /**
@@ -323,9 +396,14 @@ public class Grid<E> {
      * @param row    the row
      * @param column the column
      * @return the value
+     * @throws ArrayIndexOutOfBoundsException thrown if the ({@code row}, {@code column}) is outside the {@link Grid}
      */
     public E at(final int row, final int column) {
-        return internalGrid[row][column];
+        if (!exists(row, column)) {
+            throw new ArrayIndexOutOfBoundsException(
+                String.format("(%d, %d) is outside of the %dx%d grid", row, column, numberOfRows, numberOfColumns));
+        }
+        return at(indexOf(row, column));
     }
 
     /**
@@ -333,19 +411,134 @@ public class Grid<E> {
      *
      * @param point the {@link Point}
      * @return the value
+     * @throws ArrayIndexOutOfBoundsException thrown if the {@link Point} is outside the {@link Grid}
      */
     public E at(final Point point) {
-        return internalGrid[point.x()][point.y()];
+        return at(point.x(), point.y());
     }
 
     /**
-     * Returns the row of values at the given {@code row}.
+     * Returns the value at the given {@code index}.
+     *
+     * @param index the index of the value, in row-major order
+     * @return the value
+     * @see #indexOf(int, int)
+     */
+    public E at(final int index) {
+        if (overriddenValues != null) {
+            final int overrideIndex = Arrays.binarySearch(overriddenIndices, index);
+            if (overrideIndex >= 0) {
+                return overriddenValues[overrideIndex];
+            }
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns a copy of the row of values at the given {@code row}.
      *
      * @param row the row
      * @return the values
      */
     public E[] rowAt(final int row) {
-        return internalGrid[row];
+        return copyOfValues(row * numberOfColumns, (row + 1) * numberOfColumns);
+    }
+
+    /**
+     * Returns the index of the ({@code row}, {@code column}) in the {@link Grid}, where values are stored in row-major order. No bounds checks are
+     * performed, so {@link #exists(int, int)} should be checked first if the coordinates may be outside the {@link Grid}.
+     *
+     * @param row    the row
+     * @param column the column
+     * @return the index of the value
+     */
+    public int indexOf(final int row, final int column) {
+        return (row * numberOfColumns) + column;
+    }
+
+    /**
+     * Returns the index of the {@link Point} in the {@link Grid}, where values are stored in row-major order.
+     *
+     * @param point the {@link Point}
+     * @return the index of the value
+     * @see #indexOf(int, int)
+     */
+    public int indexOf(final Point point) {
+        return indexOf(point.x(), point.y());
+    }
+
+    /**
+     * Converts an {@code index} in the {@link Grid} back into its {@link Point}.
+     *
+     * @param index the index of the value, in row-major order
+     * @return the {@link Point}
+     */
+    public Point pointOf(final int index) {
+        return Point.of(index / numberOfColumns, index % numberOfColumns);
+    }
+
+    /**
+     * Returns the index of the neighbour of {@code index} in the given {@link Direction}.
+     *
+     * @param index     the index of the value, in row-major order
+     * @param direction the {@link Direction} of the neighbour
+     * @return the index of the neighbour, or <b>-1</b> if the neighbour is outside the {@link Grid}
+     * @throws IllegalArgumentException thrown if the {@link Direction} is {@link Direction#INVALID}
+     */
+    public int neighbourIndex(final int index, final Direction direction) {
+        final int row = index / numberOfColumns;
+        final int column = index % numberOfColumns;
+
+        return switch (direction) {
+            case DOWN -> indexIfExists(row + 1, column);
+            case DOWN_LEFT -> indexIfExists(row + 1, column - 1);
+            case DOWN_RIGHT -> indexIfExists(row + 1, column + 1);
+            case LEFT -> indexIfExists(row, column - 1);
+            case RIGHT -> indexIfExists(row, column + 1);
+            case UP -> indexIfExists(row - 1, column);
+            case UP_LEFT -> indexIfExists(row - 1, column - 1);
+            case UP_RIGHT -> indexIfExists(row - 1, column + 1);
+            case INVALID -> throw new IllegalArgumentException(String.format("Cannot move in '%s' direction", direction));
+        };
+    }
+
+    /**
+     * Writes the indices of all neighbours of {@code index} which are inside the {@link Grid} into {@code neighbours}, and returns how many were
+     * written. The {@code neighbours} array can be reused between calls, so no allocations are needed when iterating over the {@link Grid}.
+     *
+     * @param index             the index of the value, in row-major order
+     * @param adjacentDirection the {@link AdjacentDirection} defining which neighbours to find
+     * @param neighbours        the array to populate, which must have space for at least <b>8</b> values
+     * @return the number of neighbour indices written to {@code neighbours}
+     */
+    public int neighbourIndices(final int index, final AdjacentDirection adjacentDirection, final int[] neighbours) {
+        final int row = index / numberOfColumns;
+        final int column = index % numberOfColumns;
+        final int firstOffset = AdjacentDirection.isCardinal(adjacentDirection) ? 0 : NUMBER_OF_CARDINAL_NEIGHBOURS;
+        final int lastOffset = AdjacentDirection.isDiagonal(adjacentDirection) ? NEIGHBOUR_ROW_OFFSETS.length : NUMBER_OF_CARDINAL_NEIGHBOURS;
+
+        int numberOfNeighbours = 0;
+        for (int offset = firstOffset; offset < lastOffset; offset++) {
+            final int neighbourRow = row + NEIGHBOUR_ROW_OFFSETS[offset];
+            final int neighbourColumn = column + NEIGHBOUR_COLUMN_OFFSETS[offset];
+
+            if (exists(neighbourRow, neighbourColumn)) {
+                neighbours[numberOfNeighbours] = indexOf(neighbourRow, neighbourColumn);
+                numberOfNeighbours++;
+            }
+        }
+        return numberOfNeighbours;
+    }
+
+    /**
+     * Checks if the given ({@code row}, {@code column}) exists in the bounds of the {@link Grid}.
+     *
+     * @param row    the row
+     * @param column the column
+     * @return {@code true} if the ({@code row}, {@code column}) is valid for this {@link Grid}
+     */
+    public boolean exists(final int row, final int column) {
+        return row >= 0 && row < numberOfRows && column >= 0 && column < numberOfColumns;
     }
 
     /**
@@ -354,15 +547,8 @@ public class Grid<E> {
      * @param point the {@link Point} to check
      * @return {@code true} if the {@link Point} is valid for this {@link Grid}
      */
-    // TODO: Update all boundary checks to use this instead? Less efficient, but simpler
-    //   Name? Maybe isInBounds() would be better?
     public boolean exists(final Point point) {
-        try {
-            at(point);
-            return true;
-        } catch (final ArrayIndexOutOfBoundsException ignored) {
-            return false;
-        }
+        return exists(point.x(), point.y());
     }
 
     /**
@@ -372,8 +558,8 @@ public class Grid<E> {
      */
     public Set<Point> allPoints() {
         final Set<Point> allPoints = new TreeSet<>();
-        for (int i = 0; i < internalGrid.length; i++) {
-            for (int j = 0; j < internalGrid[0].length; j++) {
+        for (int i = 0; i < numberOfRows; i++) {
+            for (int j = 0; j < numberOfColumns; j++) {
                 allPoints.add(Point.of(i, j));
             }
         }
@@ -391,7 +577,7 @@ public class Grid<E> {
 
         final Set<Point> firstRow = new HashSet<>();
         final Set<Point> lastRow = new HashSet<>();
-        for (int j = 0; j < internalGrid[0].length; j++) {
+        for (int j = 0; j < numberOfColumns; j++) {
             firstRow.add(Point.of(0, j));
             lastRow.add(Point.of(numberOfRows() - 1, j));
         }
@@ -400,7 +586,7 @@ public class Grid<E> {
 
         final Set<Point> firstColumn = new HashSet<>();
         final Set<Point> lastColumn = new HashSet<>();
-        for (int i = 0; i < internalGrid.length; i++) {
+        for (int i = 0; i < numberOfRows; i++) {
             firstColumn.add(Point.of(i, 0));
             lastColumn.add(Point.of(i, numberOfColumns() - 1));
         }
@@ -418,15 +604,9 @@ public class Grid<E> {
      */
     public Stream<Point> findValue(final Predicate<? super E> predicate) {
         final Collection<Point> points = new HashSet<>();
-        for (int i = 0; i < internalGrid.length; i++) {
-            final E[] row = internalGrid[i];
-
-            for (int j = 0; j < row.length; j++) {
-                final E value = row[j];
-
-                if (predicate.test(value)) {
-                    points.add(Point.of(i, j));
-                }
+        for (int index = 0; index < values.length; index++) {
+            if (predicate.test(at(index))) {
+                points.add(pointOf(index));
             }
         }
         return points.stream();
@@ -441,11 +621,11 @@ public class Grid<E> {
      */
     public Stream<Integer> findColumnsWith(final Predicate<? super E> predicate) {
         final Collection<Integer> matchingColumns = new ArrayList<>();
-        for (int i = 0; i < internalGrid[0].length; i++) {
+        for (int i = 0; i < numberOfColumns; i++) {
             boolean match = true;
 
-            for (final E[] characters : internalGrid) {
-                final E value = characters[i];
+            for (int index = i; index < values.length; index += numberOfColumns) {
+                final E value = at(index);
                 if (!predicate.test(value)) {
                     match = false;
                     break;
@@ -468,11 +648,11 @@ public class Grid<E> {
      */
     public Stream<Integer> findRowsWith(final Predicate<? super E> predicate) {
         final Collection<Integer> matchingRows = new HashSet<>();
-        for (int i = 0; i < internalGrid.length; i++) {
-            final E[] row = internalGrid[i];
+        for (int i = 0; i < numberOfRows; i++) {
             boolean match = true;
 
-            for (final E value : row) {
+            for (int index = indexOf(i, 0); index < indexOf(i + 1, 0); index++) {
+                final E value = at(index);
                 if (!predicate.test(value)) {
                     match = false;
                     break;
@@ -495,7 +675,22 @@ public class Grid<E> {
      * @see ArrayUtils#rotate(Object[][], RotationDirection)
      */
     public Grid<E> rotate(final RotationDirection rotationDirection) {
-        return new Grid<>(ArrayUtils.rotate(internalGrid, rotationDirection));
+        final E[] currentValues = copyOfValues();
+        final E[] rotatedValues = createArray(values.getClass().getComponentType(), values.length);
+
+        for (int row = 0; row < numberOfRows; row++) {
+            for (int column = 0; column < numberOfColumns; column++) {
+                final int rotatedIndex = switch (rotationDirection) {
+                    case ANTI_CLOCKWISE -> ((numberOfColumns - 1 - column) * numberOfRows) + row;
+                    case CLOCKWISE -> (column * numberOfRows) + (numberOfRows - 1 - row);
+                    default -> throw new IllegalArgumentException("Unable to handle rotation in direction: " + rotationDirection);
+                };
+                rotatedValues[rotatedIndex] = currentValues[indexOf(row, column)];
+            }
+        }
+
+        // Rows and columns are swapped by the rotation
+        return new Grid<>(numberOfColumns, numberOfRows, rotatedValues, NO_OVERRIDDEN_INDICES, null);
     }
 
     /**
@@ -506,14 +701,14 @@ public class Grid<E> {
     public Set<Point> borderPoints() {
         final Set<Point> borderPoints = new HashSet<>();
 
-        for (int col = 0; col < internalGrid[0].length; col++) {
+        for (int col = 0; col < numberOfColumns; col++) {
             borderPoints.add(Point.of(0, col)); // Top row
-            borderPoints.add(Point.of(internalGrid.length - 1, col)); // Bottom row
+            borderPoints.add(Point.of(numberOfRows - 1, col)); // Bottom row
         }
 
-        for (int row = 1; row < internalGrid.length; row++) {
+        for (int row = 1; row < numberOfRows; row++) {
             borderPoints.add(Point.of(row, 0)); // Left column
-            borderPoints.add(Point.of(row, internalGrid[0].length - 1)); // Right column
+            borderPoints.add(Point.of(row, numberOfColumns - 1)); // Right column
         }
 
         return borderPoints;
@@ -529,15 +724,15 @@ public class Grid<E> {
     public void print(final boolean withHeaders, final Function<? super E, Character> transformFunction) {
         if (withHeaders) {
             log(" | ");
-            for (int i = 0; i < internalGrid[0].length; i++) {
+            for (int i = 0; i < numberOfColumns; i++) {
                 log(i % 10);
             }
 
-            logLine("\n" + "-".repeat(internalGrid[0].length) + "---");
+            logLine("\n" + "-".repeat(numberOfColumns) + "---");
         }
 
-        for (int i = 0; i < internalGrid.length; i++) {
-            final E[] row = internalGrid[i];
+        for (int i = 0; i < numberOfRows; i++) {
+            final E[] row = rowAt(i);
 
             if (withHeaders) {
                 log((i % 10) + "| ");
@@ -551,6 +746,74 @@ public class Grid<E> {
         logLine("");
     }
 
+    private Grid<E> withOverride(final int index, final E value) {
+        final int existingOverride = Arrays.binarySearch(overriddenIndices, index);
+        if (existingOverride < 0 && overriddenIndices.length == MAX_NUMBER_OF_OVERRIDES) {
+            final E[] newValues = copyOfValues();
+            newValues[index] = value;
+            return new Grid<>(numberOfRows, numberOfColumns, newValues, NO_OVERRIDDEN_INDICES, null);
+        }
+
+        final int[] newOverriddenIndices;
+        final E[] newOverriddenValues;
+        final E @Nullable [] currentOverriddenValues = overriddenValues;
+        if (currentOverriddenValues != null && existingOverride >= 0) {
+            newOverriddenIndices = overriddenIndices;
+            newOverriddenValues = Arrays.copyOf(currentOverriddenValues, currentOverriddenValues.length);
+            newOverriddenValues[existingOverride] = value;
+        } else {
+            final int insertionPoint = -(existingOverride + 1);
+            final int numberOfOverrides = overriddenIndices.length;
+            final int numberOfLaterOverrides = numberOfOverrides - insertionPoint;
+            newOverriddenIndices = new int[numberOfOverrides + 1];
+            newOverriddenValues = createArray(values.getClass().getComponentType(), numberOfOverrides + 1);
+
+            System.arraycopy(overriddenIndices, 0, newOverriddenIndices, 0, insertionPoint);
+            System.arraycopy(overriddenIndices, insertionPoint, newOverriddenIndices, insertionPoint + 1, numberOfLaterOverrides);
+            newOverriddenIndices[insertionPoint] = index;
+
+            if (currentOverriddenValues != null) {
+                System.arraycopy(currentOverriddenValues, 0, newOverriddenValues, 0, insertionPoint);
+                System.arraycopy(currentOverriddenValues, insertionPoint, newOverriddenValues, insertionPoint + 1, numberOfLaterOverrides);
+            }
+            newOverriddenValues[insertionPoint] = value;
+        }
+
+        return new Grid<>(numberOfRows, numberOfColumns, values, newOverriddenIndices, newOverriddenValues);
+    }
+
+    private E[] copyOfValues() {
+        return copyOfValues(0, values.length);
+    }
+
+    // A copy of the values from fromIndex (inclusive) to toIndex (exclusive), with any overrides in that range applied
+    private E[] copyOfValues(final int fromIndex, final int toIndex) {
+        final E[] copy = Arrays.copyOfRange(values, fromIndex, toIndex);
+        if (overriddenValues != null) {
+            for (int i = 0; i < overriddenIndices.length; i++) {
+                final int index = overriddenIndices[i];
+                if (index >= fromIndex && index < toIndex) {
+                    copy[index - fromIndex] = overriddenValues[i];
+                }
+            }
+        }
+        return copy;
+    }
+
+    private int indexIfExists(final int row, final int column) {
+        return exists(row, column) ? indexOf(row, column) : -1;
+    }
+
+    @SuppressWarnings("unchecked") // Creating a 1D array of a generic type
+    private static <E> E[] createArray(final Class<?> arrayClass, final int length) {
+        return (E[]) Array.newInstance(arrayClass, length);
+    }
+
+    @SuppressWarnings("unchecked") // Creating a 2D array of a generic type
+    private static <E> E[][] create2DimensionalArray(final Class<?> arrayClass, final int outerLength, final int innerLength) {
+        return (E[][]) Array.newInstance(arrayClass, outerLength, innerLength);
+    }
+
     private static void logLine(final Object input) {
         log(String.valueOf(input) + '\n');
     }
@@ -563,11 +826,97 @@ public class Grid<E> {
 
     @Override
     public boolean equals(final Object obj) {
-        return this == obj || (obj instanceof final Grid<?> otherGrid && Arrays.deepEquals(internalGrid, otherGrid.internalGrid));
+        return this == obj || (obj instanceof final Grid<?> otherGrid
+            && numberOfRows == otherGrid.numberOfRows
+            && numberOfColumns == otherGrid.numberOfColumns
+            && hasEqualValues(otherGrid));
     }
 
+    private boolean hasEqualValues(final Grid<?> otherGrid) {
+        for (int index = 0; index < values.length; index++) {
+            if (!Objects.equals(at(index), otherGrid.at(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Matches Arrays.hashCode() of the values with any overrides applied, without copying them
     @Override
     public int hashCode() {
-        return Arrays.deepHashCode(internalGrid);
+        int valuesHashCode = 1;
+        for (int index = 0; index < values.length; index++) {
+            valuesHashCode = (31 * valuesHashCode) + Objects.hashCode(at(index));
+        }
+        return (31 * ((31 * numberOfRows) + numberOfColumns)) + valuesHashCode;
+    }
+
+    /**
+     * Mutable builder for a {@link Grid}, used when applying many updates, where each {@link #updateAt(Point, Object)} would create a new
+     * {@link Grid}. The values are only copied once when the {@link Builder} is created, and {@link #build()} hands them to the {@link Grid}
+     * without copying. Any update after {@link #build()} copies the values first, so a built {@link Grid} is never changed by the {@link Builder}.
+     *
+     * @param <E> the type of the {@link Point}s on the {@link Grid}
+     */
+    public static final class Builder<E> {
+
+        private final int numberOfRows;
+        private final int numberOfColumns;
+        private E[] values;
+        private boolean valuesShared;
+
+        private Builder(final int numberOfRows, final int numberOfColumns, final E[] values) {
+            this.numberOfRows = numberOfRows;
+            this.numberOfColumns = numberOfColumns;
+            this.values = values;
+        }
+
+        /**
+         * Returns the current value at the given {@link Point}.
+         *
+         * @param point the {@link Point}
+         * @return the value
+         * @throws ArrayIndexOutOfBoundsException thrown if the {@link Point} is outside the {@link Grid}
+         */
+        public E at(final Point point) {
+            return values[indexOf(point)];
+        }
+
+        /**
+         * Sets the value at the given {@link Point}.
+         *
+         * @param point the {@link Point} to update
+         * @param value the new value to be set
+         * @return this {@link Builder}
+         * @throws ArrayIndexOutOfBoundsException thrown if the {@link Point} is outside the {@link Grid}
+         */
+        public Builder<E> set(final Point point, final E value) {
+            final int index = indexOf(point);
+            if (valuesShared) {
+                values = Arrays.copyOf(values, values.length);
+                valuesShared = false;
+            }
+
+            values[index] = value;
+            return this;
+        }
+
+        /**
+         * Creates a {@link Grid} with the current values.
+         *
+         * @return the created {@link Grid}
+         */
+        public Grid<E> build() {
+            valuesShared = true;
+            return new Grid<>(numberOfRows, numberOfColumns, values, NO_OVERRIDDEN_INDICES, null);
+        }
+
+        private int indexOf(final Point point) {
+            if (point.x() < 0 || point.x() >= numberOfRows || point.y() < 0 || point.y() >= numberOfColumns) {
+                throw new ArrayIndexOutOfBoundsException(
+                    String.format("(%d, %d) is outside of the %dx%d grid", point.x(), point.y(), numberOfRows, numberOfColumns));
+            }
+            return (point.x() * numberOfColumns) + point.y();
+        }
     }
 }
@@ -105,4 +105,103 @@ public final class GridFactory {
 
         return new Grid<>(gridSize, new Integer[gridSize][gridSize], 0);
     }
+
+    /**
+     * Converts the {@link List} of {@link String}s to a {@link BooleanGrid}, with each value stored as a single bit.
+     *
+     * @param strings              the input {@link List} of {@link String}s
+     * @param symbolSignifyingTrue the symbol in the {@link String} that defines a {@code true} value
+     * @return the {@link BooleanGrid}
+     * @see BooleanGrid#parse(List, char)
+     */
+    public static BooleanGrid ofBooleanGrid(final List<String> strings, final char symbolSignifyingTrue) {
+        return BooleanGrid.parse(strings, symbolSignifyingTrue);
+    }
+
+    /**
+     * Creates a {@link BooleanGrid} with the dimensions {@code gridSize}x{@code gridSize}.
+     *
+     * @param gridSize the length and width of the {@link BooleanGrid}
+     * @return the created {@link BooleanGrid}, with default value <b>false</b>
+     * @throws IllegalArgumentException thrown if input size is less than <b>0</b>
+     */
+    public static BooleanGrid ofBooleanGridWithSize(final int gridSize) {
+        if (gridSize <= 0) {
+            throw new IllegalArgumentException("Size must be positive integer, found: " + gridSize);
+        }
+
+        return BooleanGrid.ofSize(gridSize, gridSize);
+    }
+
+    /**
+     * Converts the {@link List} of {@link String}s to a {@link CharGrid}.
+     *
+     * @param strings the input {@link List} of {@link String}s
+     * @return the {@link CharGrid}
+     * @see CharGrid#parse(List)
+     */
+    public static CharGrid ofCharGrid(final List<String> strings) {
+        return CharGrid.parse(strings);
+    }
+
+    /**
+     * Creates a {@link CharGrid} with the dimensions {@code gridSize}x{@code gridSize}.
+     *
+     * @param gridSize the length and width of the {@link CharGrid}
+     * @return the created {@link CharGrid}, with default value <b>'.'</b>
+     * @throws IllegalArgumentException thrown if input size is less than <b>0</b>
+     */
+    public static CharGrid ofCharGridWithSize(final int gridSize) {
+        if (gridSize <= 0) {
+            throw new IllegalArgumentException("Size must be positive integer, found: " + gridSize);
+        }
+
+        return CharGrid.ofSize(gridSize, gridSize);
+    }
+
+    /**
+     * Converts the {@link List} of {@link String}s to an {@link IntGrid}. Note that this expects no blank spaces, and will assume every character
+     * is a single digit {@code int}.
+     *
+     * @param strings the input {@link List} of {@link String}s
+     * @return the {@link IntGrid}, with default value <b>0</b>
+     * @see IntGrid#parse(List)
+     */
+    public static IntGrid ofIntGrid(final List<String> strings) {
+        return IntGrid.parse(strings);
+    }
+
+    /**
+     * Creates an {@link IntGrid} with the dimensions {@code gridSize}x{@code gridSize}.
+     *
+     * @param gridSize the length and width of the {@link IntGrid}
+     * @return the created {@link IntGrid}, with default value <b>0</b>
+     * @throws IllegalArgumentException thrown if input size is less than <b>0</b>
+     */
+    public static IntGrid ofIntGridWithSize(final int gridSize) {
+        if (gridSize <= 0) {
+            throw new IllegalArgumentException("Size must be positive integer, found: " + gridSize);
+        }
+
+        return IntGrid.ofSize(gridSize, gridSize);
+    }
+
+    /**
+     * Finds the length of the longest {@link String} in the input, used to size the primitive grids so that every row can hold the longest line.
+     *
+     * @param strings the input lines
+     * @return the length of the longest line
+     * @throws IllegalArgumentException thrown if the input is empty, or the first line is empty
+     */
+    static int longestLength(final List<String> strings) {
+        if (strings.isEmpty() || strings.getFirst().isEmpty()) {
+            throw new IllegalArgumentException("Input cannot be empty");
+        }
+
+        int longestLength = 0;
+        for (final String string : strings) {
+            longestLength = Math.max(longestLength, string.length());
+        }
+        return longestLength;
+    }
 }
@@ -0,0 +1,197 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.grid;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+import net.zodac.advent.pojo.RotationDirection;
+import net.zodac.advent.util.NumberUtils;
+
+/**
+ * A {@link PrimitiveGrid} of {@code int} values, backed by a single {@code int[]}.
+ */
+public final class IntGrid extends PrimitiveGrid {
+
+    private final int[] values;
+
+    private IntGrid(final int numberOfRows, final int numberOfColumns) {
+        super(numberOfRows, numberOfColumns);
+        values = new int[numberOfRows * numberOfColumns];
+    }
+
+    private IntGrid(final int numberOfRows, final int numberOfColumns, final int[] values) {
+        super(numberOfRows, numberOfColumns);
+        this.values = values;
+    }
+
+    /**
+     * Creates an {@link IntGrid} of size {@code numberOfRows}x{@code numberOfColumns}, with all values <b>0</b>.
+     *
+     * @param numberOfRows    the number of rows
+     * @param numberOfColumns the number of columns
+     * @return the created {@link IntGrid}
+     * @throws IllegalArgumentException thrown if either dimension is not a positive integer
+     */
+    public static IntGrid ofSize(final int numberOfRows, final int numberOfColumns) {
+        return new IntGrid(numberOfRows, numberOfColumns);
+    }
+
+    /**
+     * Converts the {@link List} of {@link String}s to an {@link IntGrid}. Note that this expects no blank spaces, and will assume every character
+     * is a single digit {@code int}. Any non-digit, or missing values in shorter {@link String}s, are <b>0</b>.
+     *
+     * @param strings the input {@link List} of {@link String}s
+     * @return the {@link IntGrid}
+     * @throws IllegalArgumentException thrown if the input is empty
+     */
+    public static IntGrid parse(final List<String> strings) {
+        final IntGrid intGrid = ofSize(strings.size(), GridFactory.longestLength(strings));
+
+        for (int row = 0; row < strings.size(); row++) {
+            final String line = strings.get(row);
+            for (int column = 0; column < line.length(); column++) {
+                intGrid.values[intGrid.index(row, column)] = NumberUtils.toIntOrDefault(line.charAt(column), 0);
+            }
+        }
+        return intGrid;
+    }
+
+    /**
+     * Returns the value at the given ({@code row}, {@code column}).
+     *
+     * @param row    the row
+     * @param column the column
+     * @return the value
+     * @throws ArrayIndexOutOfBoundsException thrown if the ({@code row}, {@code column}) is outside the grid
+     */
+    public int at(final int row, final int column) {
+        return values[index(row, column)];
+    }
+
+    /**
+     * Returns the value at the given {@link Point}.
+     *
+     * @param point the {@link Point}
+     * @return the value
+     * @throws ArrayIndexOutOfBoundsException thrown if the {@link Point} is outside the grid
+     */
+    public int at(final Point point) {
+        return at(point.x(), point.y());
+    }
+
+    /**
+     * Sets the value at the given ({@code row}, {@code column}).
+     *
+     * @param row    the row
+     * @param column the column
+     * @param value  the new value
+     * @throws ArrayIndexOutOfBoundsException thrown if the ({@code row}, {@code column}) is outside the grid
+     */
+    public void set(final int row, final int column, final int value) {
+        values[index(row, column)] = value;
+    }
+
+    /**
+     * Draws a box on the {@link IntGrid}, where each value from ({@code x1}, {@code y1}) to ({@code x2}, {@code y2}) inclusive is updated
+     * according to the {@link IntUnaryOperator}.
+     *
+     * @param x1             the first x coordinate
+     * @param y1             the first y coordinate
+     * @param x2             the second x coordinate
+     * @param y2             the second y coordinate
+     * @param updateFunction the {@link IntUnaryOperator} to update the value based on the current value
+     * @see Grid#drawBox(int, int, int, int, java.util.function.UnaryOperator)
+     */
+    public void drawBox(final int x1, final int y1, final int x2, final int y2, final IntUnaryOperator updateFunction) {
+        validateBox(x1, y1, x2, y2);
+
+        for (int x = x1; x <= x2; x++) {
+            final int rowEnd = index(x, y2);
+            for (int index = index(x, y1); index <= rowEnd; index++) {
+                values[index] = updateFunction.applyAsInt(values[index]);
+            }
+        }
+    }
+
+    /**
+     * Sums all values in the {@link IntGrid}.
+     *
+     * @return the sum of all values
+     */
+    public long sumValues() {
+        long sum = 0L;
+        for (final int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Sums all values in the {@link IntGrid}, after each value is converted by the {@code evaluator}.
+     *
+     * @param evaluator {@link IntUnaryOperator} used to convert each value before it is summed
+     * @return the sum of all converted values
+     */
+    public long sumValues(final IntUnaryOperator evaluator) {
+        long sum = 0L;
+        for (final int value : values) {
+            sum += evaluator.applyAsInt(value);
+        }
+        return sum;
+    }
+
+    /**
+     * Returns all {@link Point}s in the {@link IntGrid} which match the {@link IntPredicate}, in row-major order.
+     *
+     * @param predicate the {@link IntPredicate} defining the wanted value
+     * @return a {@link Stream} of the {@link Point}s which match the {@link IntPredicate}
+     */
+    public Stream<Point> findValue(final IntPredicate predicate) {
+        return findIndices(index -> predicate.test(values[index]));
+    }
+
+    /**
+     * Rotates the {@link IntGrid} 90° in the {@code rotationDirection}, returning a new {@link IntGrid}.
+     *
+     * @param rotationDirection the direction in which to rotate the {@link IntGrid}
+     * @return the rotated {@link IntGrid}
+     */
+    public IntGrid rotate(final RotationDirection rotationDirection) {
+        final int[] rotatedValues = new int[values.length];
+        for (int index = 0; index < values.length; index++) {
+            rotatedValues[rotatedIndex(index / numberOfColumns, index % numberOfColumns, rotationDirection)] = values[index];
+        }
+        return new IntGrid(numberOfColumns, numberOfRows, rotatedValues);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || (obj instanceof final IntGrid other
+            && numberOfRows == other.numberOfRows
+            && numberOfColumns == other.numberOfColumns
+            && Arrays.equals(values, other.values));
+    }
+
+    @Override
+    public int hashCode() {
+        return (31 * ((31 * numberOfRows) + numberOfColumns)) + Arrays.hashCode(values);
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.grid;
+
+import java.util.stream.IntStream;
+
+/**
+ * A {@link PrimitiveGrid} which runs a cellular automaton (such as <a href="https://en.wikipedia.org/wiki/Conway%27s_Game_of_Life">Conway's Game of
+ * Life</a>) with a given {@link LifeRule}. Cells outside the grid are always dead.
+ *
+ * <p>
+ * Each row is packed into {@code long} words, with one bit per cell, so a single word holds 64 cells. For each word, the eight neighbouring words
+ * (shifted by one column where needed) are summed with bitwise full adders into a 4-bit count for all 64 cells at once, and the {@link LifeRule} is
+ * applied to those counts. Two buffers are kept and swapped after each generation, so stepping does not allocate.
+ *
+ * <p>
+ * Each row only reads the previous generation, so rows can also be stepped in parallel with {@link #stepInParallel(int)}, split into bands of rows.
+ */
+public final class LifeGrid extends PrimitiveGrid {
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final int ROWS_PER_BAND = 64;
+
+    private final LifeRule lifeRule;
+    private final int wordsPerRow;
+    private final long lastWordMask;
+    private final int[] neighbourCountsToCheck;
+
+    private long[] cells;
+    private long[] nextCells;
+    private boolean cornersAlwaysOn;
+
+    private LifeGrid(final int numberOfRows, final int numberOfColumns, final LifeRule lifeRule) {
+        super(numberOfRows, numberOfColumns);
+        this.lifeRule = lifeRule;
+        wordsPerRow = Math.ceilDiv(numberOfColumns, BITS_PER_WORD);
+        lastWordMask = -1L >>> (wordsPerRow * BITS_PER_WORD - numberOfColumns);
+        neighbourCountsToCheck = IntStream.rangeClosed(0, LifeRule.MAX_NUMBER_OF_NEIGHBOURS)
+            .filter(count -> lifeRule.isBorn(count) || lifeRule.survives(count))
+            .toArray();
+
+        cells = new long[numberOfRows * wordsPerRow];
+        nextCells = new long[numberOfRows * wordsPerRow];
+    }
+
+    /**
+     * Creates a {@link LifeGrid} of size {@code numberOfRows}x{@code numberOfColumns}, with all cells dead.
+     *
+     * @param numberOfRows    the number of rows
+     * @param numberOfColumns the number of columns
+     * @param lifeRule        the {@link LifeRule} to apply each generation
+     * @return the created {@link LifeGrid}
+     * @throws IllegalArgumentException thrown if either dimension is not a positive integer
+     */
+    public static LifeGrid ofSize(final int numberOfRows, final int numberOfColumns, final LifeRule lifeRule) {
+        return new LifeGrid(numberOfRows, numberOfColumns, lifeRule);
+    }
+
+    /**
+     * Creates a {@link LifeGrid} from a {@link Grid} of {@link Boolean}s, where a cell is alive if its value is {@code true}.
+     *
+     * @param grid     the {@link Grid} of {@link Boolean}s
+     * @param lifeRule the {@link LifeRule} to apply each generation
+     * @return the created {@link LifeGrid}
+     */
+    public static LifeGrid from(final Grid<Boolean> grid, final LifeRule lifeRule) {
+        final LifeGrid lifeGrid = ofSize(grid.numberOfRows(), grid.numberOfColumns(), lifeRule);
+        for (int row = 0; row < grid.numberOfRows(); row++) {
+            for (int column = 0; column < grid.numberOfColumns(); column++) {
+                lifeGrid.set(row, column, Boolean.TRUE.equals(grid.at(row, column)));
+            }
+        }
+        return lifeGrid;
+    }
+
+    /**
+     * Returns whether the cell at the given ({@code row}, {@code column}) is alive.
+     *
+     * @param row    the row
+     * @param column the column
+     * @return {@code true} if the cell is alive
+     */
+    public boolean at(final int row, final int column) {
+        return (cells[wordIndex(row, column)] & bit(column)) != 0L;
+    }
+
+    /**
+     * Sets whether the cell at the given ({@code row}, {@code column}) is alive.
+     *
+     * @param row    the row
+     * @param column the column
+     * @param value  {@code true} if the cell is alive
+     */
+    public void set(final int row, final int column, final boolean value) {
+        final int wordIndex = wordIndex(row, column);
+        if (value) {
+            cells[wordIndex] |= bit(column);
+        } else {
+            cells[wordIndex] &= ~bit(column);
+        }
+    }
+
+    /**
+     * Turns on the four corners of the {@link LifeGrid}, and keeps them on after every generation, regardless of the {@link LifeRule}.
+     */
+    public void setCornersAlwaysOn() {
+        cornersAlwaysOn = true;
+        turnOnCorners();
+    }
+
+    /**
+     * Counts the number of live cells.
+     *
+     * @return the number of live cells
+     */
+    public long countAlive() {
+        long alive = 0L;
+        for (final long word : cells) {
+            alive += Long.bitCount(word);
+        }
+        return alive;
+    }
+
+    /**
+     * Applies the {@link LifeRule} to every cell {@code numberOfGenerations} times.
+     *
+     * @param numberOfGenerations the number of generations
+     */
+    public void step(final int numberOfGenerations) {
+        for (int generation = 0; generation < numberOfGenerations; generation++) {
+            stepRows(0, numberOfRows);
+            swapBuffers();
+        }
+    }
+
+    /**
+     * Applies the {@link LifeRule} to every cell {@code numberOfGenerations} times, with each generation split into bands of rows that are stepped
+     * in parallel. This is only worth the overhead for large grids.
+     *
+     * @param numberOfGenerations the number of generations
+     */
+    public void stepInParallel(final int numberOfGenerations) {
+        final int numberOfBands = Math.ceilDiv(numberOfRows, ROWS_PER_BAND);
+        for (int generation = 0; generation < numberOfGenerations; generation++) {
+            IntStream.range(0, numberOfBands)
+                .parallel()
+                .forEach(band -> stepRows(band * ROWS_PER_BAND, Math.min(numberOfRows, (band + 1) * ROWS_PER_BAND)));
+            swapBuffers();
+        }
+    }
+
+    private void swapBuffers() {
+        final long[] previousCells = cells;
+        cells = nextCells;
+        nextCells = previousCells;
+
+        if (cornersAlwaysOn) {
+            turnOnCorners();
+        }
+    }
+
+    private void stepRows(final int startRow, final int endRow) {
+        for (int row = startRow; row < endRow; row++) {
+            final int rowOffset = row * wordsPerRow;
+            final int aboveOffset = row == 0 ? -1 : rowOffset - wordsPerRow;
+            final int belowOffset = row == numberOfRows - 1 ? -1 : rowOffset + wordsPerRow;
+
+            for (int word = 0; word < wordsPerRow; word++) {
+                final long next = nextWord(aboveOffset, rowOffset, belowOffset, word);
+                nextCells[rowOffset + word] = word == wordsPerRow - 1 ? next & lastWordMask : next;
+            }
+        }
+    }
+
+    private long nextWord(final int aboveOffset, final int rowOffset, final int belowOffset, final int word) {
+        final long alive = cells[rowOffset + word];
+
+        // The eight neighbours of every cell in the word, each as a word of bits
+        final long aboveLeft = shiftedFromLeft(aboveOffset, word);
+        final long above = wordAt(aboveOffset, word);
+        final long aboveRight = shiftedFromRight(aboveOffset, word);
+        final long left = shiftedFromLeft(rowOffset, word);
+        final long right = shiftedFromRight(rowOffset, word);
+        final long belowLeft = shiftedFromLeft(belowOffset, word);
+        final long below = wordAt(belowOffset, word);
+        final long belowRight = shiftedFromRight(belowOffset, word);
+
+        // Sum the neighbours with full adders, where each bit of the count (1s, 2s, 4s and 8s) is held in its own word
+        final long sumA = aboveLeft ^ above ^ aboveRight;
+        final long carryA = (aboveLeft & above) | (aboveRight & (aboveLeft ^ above));
+        final long sumB = left ^ right ^ belowLeft;
+        final long carryB = (left & right) | (belowLeft & (left ^ right));
+        final long sumC = below ^ belowRight;
+        final long carryC = below & belowRight;
+
+        final long ones = sumA ^ sumB ^ sumC;
+        final long carryD = (sumA & sumB) | (sumC & (sumA ^ sumB));
+
+        final long twosSum = carryA ^ carryB ^ carryC;
+        final long carryE = (carryA & carryB) | (carryC & (carryA ^ carryB));
+        final long twos = twosSum ^ carryD;
+        final long carryF = twosSum & carryD;
+
+        final long fours = carryE ^ carryF;
+        final long eights = carryE & carryF;
+
+        long born = 0L;
+        long survives = 0L;
+        for (final int count : neighbourCountsToCheck) {
+            final long hasCount = matchBit(ones, count & 1) & matchBit(twos, count & 2) & matchBit(fours, count & 4) & matchBit(eights, count & 8);
+            if (lifeRule.isBorn(count)) {
+                born |= hasCount;
+            }
+            if (lifeRule.survives(count)) {
+                survives |= hasCount;
+            }
+        }
+
+        return (alive & survives) | (~alive & born);
+    }
+
+    private static long matchBit(final long countBit, final int wantedBit) {
+        return wantedBit == 0 ? ~countBit : countBit;
+    }
+
+    private long wordAt(final int offset, final int word) {
+        return offset < 0 ? 0L : cells[offset + word];
+    }
+
+    // Moves each cell one column to the right, so each bit holds the value of its left neighbour
+    private long shiftedFromLeft(final int offset, final int word) {
+        if (offset < 0) {
+            return 0L;
+        }
+
+        final long carry = word == 0 ? 0L : cells[offset + word - 1] >>> (BITS_PER_WORD - 1);
+        return (cells[offset + word] << 1) | carry;
+    }
+
+    // Moves each cell one column to the left, so each bit holds the value of its right neighbour
+    private long shiftedFromRight(final int offset, final int word) {
+        if (offset < 0) {
+            return 0L;
+        }
+
+        final long carry = word == wordsPerRow - 1 ? 0L : cells[offset + word + 1] << (BITS_PER_WORD - 1);
+        return (cells[offset + word] >>> 1) | carry;
+    }
+
+    private void turnOnCorners() {
+        final int lastRow = numberOfRows - 1;
+        final int lastColumn = numberOfColumns - 1;
+        set(0, 0, true);
+        set(0, lastColumn, true);
+        set(lastRow, 0, true);
+        set(lastRow, lastColumn, true);
+    }
+
+    private int wordIndex(final int row, final int column) {
+        if (!exists(row, column)) {
+            throw new IllegalArgumentException(String.format("Cell (%d, %d) is outside the grid of size %dx%d", row, column, numberOfRows,
+                numberOfColumns));
+        }
+        return row * wordsPerRow + column / BITS_PER_WORD;
+    }
+
+    private static long bit(final int column) {
+        return 1L << (column % BITS_PER_WORD);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.grid;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The rule for a cellular automaton like <a href="https://en.wikipedia.org/wiki/Conway%27s_Game_of_Life">Conway's Game of Life</a>, in B/S
+ * notation. Each count is stored as a bit in a mask, where bit {@code n} is set if a cell with {@code n} live neighbours is born (for
+ * {@code birthMask}) or survives (for {@code survivalMask}).
+ *
+ * @param birthMask    the neighbour counts for which a dead cell becomes alive
+ * @param survivalMask the neighbour counts for which a live cell stays alive
+ */
+public record LifeRule(int birthMask, int survivalMask) {
+
+    // Declared before CONWAY, since it is needed to parse it
+    private static final Pattern RULE_PATTERN = Pattern.compile("B([0-8]*)/S([0-8]*)");
+
+    /**
+     * The rule for Conway's Game of Life, <b>B3/S23</b>.
+     */
+    public static final LifeRule CONWAY = parse("B3/S23");
+
+    /**
+     * The maximum number of live neighbours a cell can have.
+     */
+    public static final int MAX_NUMBER_OF_NEIGHBOURS = 8;
+
+    /**
+     * Creates a {@link LifeRule} from a {@link CharSequence} in the format:
+     * <pre>
+     *     B[birthCounts]/S[survivalCounts]
+     * </pre>
+     *
+     * <p>
+     * Where each count is a single digit from <b>0</b> to <b>8</b>, such as <b>B36/S23</b>.
+     *
+     * @param input the {@link CharSequence} to parse
+     * @return the {@link LifeRule}
+     * @throws IllegalArgumentException thrown if the input does not match the expected format
+     */
+    public static LifeRule parse(final CharSequence input) {
+        final Matcher matcher = RULE_PATTERN.matcher(input);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Unable to find match in input: " + input);
+        }
+
+        return new LifeRule(toMask(matcher.group(1)), toMask(matcher.group(2)));
+    }
+
+    private static int toMask(final String counts) {
+        int mask = 0;
+        for (final char count : counts.toCharArray()) {
+            mask |= 1 << (count - '0');
+        }
+        return mask;
+    }
+
+    /**
+     * Checks if a dead cell with {@code numberOfNeighbours} live neighbours becomes alive.
+     *
+     * @param numberOfNeighbours the number of live neighbours
+     * @return {@code true} if the cell is born
+     */
+    public boolean isBorn(final int numberOfNeighbours) {
+        return (birthMask & (1 << numberOfNeighbours)) != 0;
+    }
+
+    /**
+     * Checks if a live cell with {@code numberOfNeighbours} live neighbours stays alive.
+     *
+     * @param numberOfNeighbours the number of live neighbours
+     * @return {@code true} if the cell survives
+     */
+    public boolean survives(final int numberOfNeighbours) {
+        return (survivalMask & (1 << numberOfNeighbours)) != 0;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.grid;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.IntPredicate;
+import java.util.stream.Stream;
+import net.zodac.advent.pojo.RotationDirection;
+
+/**
+ * Base class for a grid of primitive values, stored in a single flat array in row-major order. Unlike {@link Grid}, the implementations do not
+ * box their values, and the grid does not need to be square.
+ *
+ * <p>
+ * The value at ({@code row}, {@code column}) is stored at the index {@code (row * numberOfColumns) + column}.
+ *
+ * @see BooleanGrid
+ * @see CharGrid
+ * @see IntGrid
+ */
+public abstract class PrimitiveGrid {
+
+    /**
+     * The number of rows in the grid.
+     */
+    protected final int numberOfRows;
+
+    /**
+     * The number of columns in the grid.
+     */
+    protected final int numberOfColumns;
+
+    /**
+     * Constructor for {@link PrimitiveGrid}.
+     *
+     * @param numberOfRows    the number of rows
+     * @param numberOfColumns the number of columns
+     * @throws IllegalArgumentException thrown if either dimension is not a positive integer
+     */
+    protected PrimitiveGrid(final int numberOfRows, final int numberOfColumns) {
+        if (numberOfRows <= 0 || numberOfColumns <= 0) {
+            throw new IllegalArgumentException(String.format("Size must be positive integer, found: %dx%d", numberOfRows, numberOfColumns));
+        }
+
+        this.numberOfRows = numberOfRows;
+        this.numberOfColumns = numberOfColumns;
+    }
+
+    /**
+     * Returns the number of rows in the grid.
+     *
+     * @return the number of rows
+     */
+    public int numberOfRows() {
+        return numberOfRows;
+    }
+
+    /**
+     * Returns the number of columns in the grid.
+     *
+     * @return the number of columns
+     */
+    public int numberOfColumns() {
+        return numberOfColumns;
+    }
+
+    /**
+     * Returns the total number of elements in the grid.
+     *
+     * @return the number of elements
+     */
+    public int elementsInGrid() {
+        return numberOfRows * numberOfColumns;
+    }
+
+    /**
+     * Checks if the given ({@code row}, {@code column}) exists in the bounds of the grid.
+     *
+     * @param row    the row
+     * @param column the column
+     * @return {@code true} if the ({@code row}, {@code column}) is valid for this grid
+     */
+    public boolean exists(final int row, final int column) {
+        return row >= 0 && row < numberOfRows && column >= 0 && column < numberOfColumns;
+    }
+
+    /**
+     * Checks if the given {@link Point} exists in the bounds of the grid.
+     *
+     * @param point the {@link Point} to check
+     * @return {@code true} if the {@link Point} is valid for this grid
+     */
+    public boolean exists(final Point point) {
+        return exists(point.x(), point.y());
+    }
+
+    /**
+     * Converts the ({@code row}, {@code column}) into the index of the backing array.
+     *
+     * @param row    the row
+     * @param column the column
+     * @return the index in the backing array
+     * @throws ArrayIndexOutOfBoundsException thrown if the ({@code row}, {@code column}) is outside the grid
+     */
+    protected int index(final int row, final int column) {
+        if (!exists(row, column)) {
+            throw new ArrayIndexOutOfBoundsException(
+                String.format("(%d, %d) is outside of the %dx%d grid", row, column, numberOfRows, numberOfColumns));
+        }
+        return (row * numberOfColumns) + column;
+    }
+
+    /**
+     * Validates that the box defined by ({@code x1}, {@code y1}) and ({@code x2}, {@code y2}) is within the bounds of the grid.
+     *
+     * @param x1 the first row
+     * @param y1 the first column
+     * @param x2 the second row
+     * @param y2 the second column
+     * @throws IllegalArgumentException thrown if any corner of the box is outside the grid
+     */
+    protected void validateBox(final int x1, final int y1, final int x2, final int y2) {
+        if (x1 < 0 || y1 < 0) {
+            throw new IllegalArgumentException(String.format("x1, y1 must be at least 0, found: (%s, %s)", x1, y1));
+        }
+
+        if (x2 >= numberOfRows || y2 >= numberOfColumns) {
+            throw new IllegalArgumentException(String.format("x2, y2 must be less than (%s, %s), found: (%s, %s)", numberOfRows,
+                numberOfColumns, x2, y2));
+        }
+    }
+
+    /**
+     * Returns the index in a rotated copy of the grid where the value from the current ({@code row}, {@code column}) will be stored. The rotated
+     * grid has {@link #numberOfColumns()} rows and {@link #numberOfRows()} columns.
+     *
+     * @param row               the row in the current grid
+     * @param column            the column in the current grid
+     * @param rotationDirection the direction of rotation
+     * @return the index in the rotated grid's backing array
+     * @throws IllegalArgumentException thrown if the {@link RotationDirection} is not {@link RotationDirection#CLOCKWISE} or
+     *                                  {@link RotationDirection#ANTI_CLOCKWISE}
+     */
+    protected int rotatedIndex(final int row, final int column, final RotationDirection rotationDirection) {
+        // The rotated grid has 'numberOfRows' columns
+        return switch (rotationDirection) {
+            case CLOCKWISE -> (column * numberOfRows) + (numberOfRows - 1 - row);
+            case ANTI_CLOCKWISE -> ((numberOfColumns - 1 - column) * numberOfRows) + row;
+            default -> throw new IllegalArgumentException("Unable to handle rotation in direction: " + rotationDirection);
+        };
+    }
+
+    /**
+     * Returns all {@link Point}s whose backing array index matches the {@link IntPredicate}, in row-major order.
+     *
+     * @param indexPredicate the {@link IntPredicate} for the backing array index
+     * @return a {@link Stream} of the matching {@link Point}s
+     */
+    protected Stream<Point> findIndices(final IntPredicate indexPredicate) {
+        final Collection<Point> points = new ArrayList<>();
+        final int elementsInGrid = elementsInGrid();
+        for (int i = 0; i < elementsInGrid; i++) {
+            if (indexPredicate.test(i)) {
+                points.add(Point.of(i / numberOfColumns, i % numberOfColumns));
+            }
+        }
+        return points.stream();
+    }
+}
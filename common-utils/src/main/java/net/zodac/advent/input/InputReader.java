@@ -25,15 +25,18 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import net.zodac.advent.grid.BooleanGrid;
+import net.zodac.advent.grid.CharGrid;
 import net.zodac.advent.grid.Grid;
 import net.zodac.advent.grid.GridFactory;
+import net.zodac.advent.grid.IntGrid;
 import net.zodac.advent.util.StringUtils;
 
 /**
@@ -45,6 +48,11 @@ import net.zodac.advent.util.StringUtils;
  * This utility class is made up of multiple inner classes, to allow for code-completion as object types are updated, or the output is limited.
  *
  * <p>
+ * Input files are read lazily, one line at a time, so the full file is never held in memory unless the output requires it, such as
+ * {@link Reader#readStream()} which reads all lines so the input file is not left open. The primitive grids ({@link BooleanGrid},
+ * {@link CharGrid} and {@link IntGrid}) are read directly from a memory-mapped file, without creating a {@link String} for each line.
+ *
+ * <p>
  * Some examples of how to use this class are:
  *
  * <p>
@@ -173,7 +181,7 @@ public final class InputReader {
          * @return a {@link GridReader}
          */
         public GridReader asGrid() {
-            return new GridReader(filteredStream().toList());
+            return new GridReader(this);
         }
 
         /**
@@ -213,6 +221,28 @@ public final class InputReader {
             return as(StringUtils::collectNumbersInOrder);
         }
 
+        /**
+         * Used to convert each line in the input file into a {@code long} array, without boxing each number. Uses the same rules as
+         * {@link #asLinesOfSeparatedNumbers()} to find each number.
+         *
+         * @return a {@link Reader} for {@code long} arrays
+         * @see StringUtils#parseNumbersInOrder(CharSequence)
+         */
+        public Reader<long[]> asLinesOfNumbers() {
+            return as(StringUtils::parseNumbersInOrder);
+        }
+
+        /**
+         * Used to read all numbers in the input file into a single {@link NumberTable}. The numbers are scanned directly from the memory-mapped input
+         * file, without creating a {@link String} for each line or boxing each number.
+         *
+         * @return the {@link NumberTable}
+         * @see StringUtils#forEachNumberInOrder(CharSequence, java.util.function.LongConsumer)
+         */
+        public NumberTable asNumberTable() {
+            return NumberTable.scan(mappedLines());
+        }
+
         /**
          * Used to convert each line in the input file into a {@link List} of {@link String}s, usually used when each line is a series of
          * comma-separated {@link String}s.
@@ -228,17 +258,22 @@ public final class InputReader {
         }
 
         private Stream<String> filteredStream() {
-            final Stream<String> filteredStream = readLines(inputFilePath).stream();
+            final Stream<String> filteredStream = readLines(inputFilePath);
             return filterBlankLines ? filteredStream.filter(s -> !s.isBlank()) : filteredStream;
         }
 
-        private static List<String> readLines(final Path filePath) {
+        // The file is only closed when the Stream is closed, so each Reader closes its Stream once it has been fully read
+        private static Stream<String> readLines(final Path filePath) {
             try {
-                return Files.readAllLines(filePath);
+                return Files.lines(filePath);
             } catch (final IOException e) {
                 throw new IllegalArgumentException(String.format("Unable to read input file '%s'", filePath), e);
             }
         }
+
+        private MappedLines mappedLines() {
+            return MappedLines.map(inputFilePath, filterBlankLines);
+        }
     }
 
     /**
@@ -268,7 +303,9 @@ public final class InputReader {
          * @return the output {@link List}
          */
         public List<T> readAllLines() {
-            return stream.toList();
+            try (stream) {
+                return stream.toList();
+            }
         }
 
         /**
@@ -280,7 +317,9 @@ public final class InputReader {
          * @return the output of type {@code R}
          */
         public <A, R> R readAllLines(final Collector<? super T, A, R> collector) {
-            return stream.collect(collector);
+            try (stream) {
+                return stream.collect(collector);
+            }
         }
 
         /**
@@ -289,16 +328,19 @@ public final class InputReader {
          * @return the output element
          */
         public T readFirstLine() {
-            return stream.limit(1).toList().getFirst();
+            try (stream) {
+                return stream.limit(1).toList().getFirst();
+            }
         }
 
         /**
-         * To allow for flexibility, returns the current {@link Stream} to allow for more specific chained functions.
+         * To allow for flexibility, returns a {@link Stream} of all lines to allow for more specific chained functions. All lines are read before the
+         * {@link Stream} is returned, so the input file has already been closed and the caller does not need to close the {@link Stream}.
          *
-         * @return the current {@link Stream}
+         * @return a {@link Stream} of all lines
          */
         public Stream<T> readStream() {
-            return stream;
+            return readAllLines().stream();
         }
 
         /**
@@ -348,7 +390,9 @@ public final class InputReader {
          * @return the input as a single {@link String}
          */
         public String readAllAsSingleString() {
-            return stream.collect(Collectors.joining("\n"));
+            try (stream) {
+                return stream.collect(Collectors.joining("\n"));
+            }
         }
     }
 
@@ -382,14 +426,18 @@ public final class InputReader {
             final List<List<T>> groups = new ArrayList<>();
 
             List<T> currentGroup = new ArrayList<>();
-            for (final T line : stream.toList()) {
-                if (predicate.test(line)) {
-                    if (!currentGroup.isEmpty()) {
-                        groups.add(currentGroup);
+            try (stream) {
+                final Iterator<? extends T> lines = stream.iterator();
+                while (lines.hasNext()) {
+                    final T line = lines.next();
+                    if (predicate.test(line)) {
+                        if (!currentGroup.isEmpty()) {
+                            groups.add(currentGroup);
+                        }
+                        currentGroup = new ArrayList<>();
+                    } else {
+                        currentGroup.add(line);
                     }
-                    currentGroup = new ArrayList<>();
-                } else {
-                    currentGroup.add(line);
                 }
             }
 
@@ -402,14 +450,17 @@ public final class InputReader {
     }
 
     /**
-     * Takes the full input as a {@link List} of {@link String}s from the {@link InputConverter}, and allows it to be converted to a {@link Grid}.
+     * Takes the input file from the {@link InputConverter}, and allows it to be converted to a {@link Grid}. The {@link Grid}s of objects are built
+     * from a {@link List} of {@link String}s, while the primitive grids are filled directly from the bytes of the memory-mapped input file.
      */
     public static final class GridReader {
 
-        private final List<String> strings;
+        private static final char MISSING_CHARACTER = ' ';
+
+        private final InputConverter inputConverter;
 
-        private GridReader(final List<String> strings) {
-            this.strings = Collections.unmodifiableList(strings);
+        private GridReader(final InputConverter inputConverter) {
+            this.inputConverter = inputConverter;
         }
 
         /**
@@ -420,7 +471,7 @@ public final class InputReader {
          * @see GridFactory#ofBooleans(List, char)
          */
         public Grid<Boolean> ofBooleans(final char symbolSignifyingTrue) {
-            return GridFactory.ofBooleans(strings, symbolSignifyingTrue);
+            return GridFactory.ofBooleans(strings(), symbolSignifyingTrue);
         }
 
         /**
@@ -430,7 +481,7 @@ public final class InputReader {
          * @see GridFactory#ofCharacters(List)
          */
         public Grid<Character> ofCharacters() {
-            return GridFactory.ofCharacters(strings);
+            return GridFactory.ofCharacters(strings());
         }
 
         /**
@@ -440,7 +491,7 @@ public final class InputReader {
          * @see GridFactory#ofIntegers(List)
          */
         public Grid<Integer> ofIntegers() {
-            return GridFactory.ofIntegers(strings);
+            return GridFactory.ofIntegers(strings());
         }
 
         /**
@@ -452,8 +503,87 @@ public final class InputReader {
          * @return the {@link Character} {@link Grid}
          */
         public <T> Grid<T> of(final Function<? super Character, ? extends T> converter) {
-            return Grid.parseGrid(strings, converter);
+            return Grid.parseGrid(strings(), converter);
+        }
+
+        /**
+         * Converts the input file to a {@link BooleanGrid}, without boxing each value. The number of columns is defined by the longest line.
+         *
+         * @param symbolSignifyingTrue the symbol in the input file that defines a {@code true} value
+         * @return the {@link BooleanGrid}
+         * @throws IllegalArgumentException thrown if the input is empty
+         * @see GridFactory#ofBooleanGrid(List, char)
+         */
+        public BooleanGrid ofBooleanGrid(final char symbolSignifyingTrue) {
+            final MappedLines lines = nonEmptyMappedLines();
+            final BooleanGrid booleanGrid = BooleanGrid.ofSize(lines.numberOfLines(), lines.longestLength());
+
+            for (int row = 0; row < lines.numberOfLines(); row++) {
+                for (int column = 0; column < lines.lineLength(row); column++) {
+                    if (lines.charAt(row, column) == symbolSignifyingTrue) {
+                        booleanGrid.set(row, column, true);
+                    }
+                }
+            }
+            return booleanGrid;
+        }
+
+        /**
+         * Converts the input file to a {@link CharGrid}, without boxing each value. The number of columns is defined by the longest line, and any
+         * missing values in shorter lines are <b>'{@value #MISSING_CHARACTER}'</b>.
+         *
+         * @return the {@link CharGrid}
+         * @throws IllegalArgumentException thrown if the input is empty
+         * @see GridFactory#ofCharGrid(List)
+         */
+        public CharGrid ofCharGrid() {
+            final MappedLines lines = nonEmptyMappedLines();
+            final CharGrid charGrid = CharGrid.ofSize(lines.numberOfLines(), lines.longestLength());
+
+            for (int row = 0; row < lines.numberOfLines(); row++) {
+                final int lineLength = lines.lineLength(row);
+                for (int column = 0; column < lines.longestLength(); column++) {
+                    charGrid.set(row, column, column < lineLength ? lines.charAt(row, column) : MISSING_CHARACTER);
+                }
+            }
+            return charGrid;
+        }
+
+        /**
+         * Converts the input file to an {@link IntGrid}, without boxing each value. Any character that is not a digit has the value <b>0</b>.
+         *
+         * @return the {@link IntGrid}
+         * @throws IllegalArgumentException thrown if the input is empty
+         * @see GridFactory#ofIntGrid(List)
+         */
+        public IntGrid ofIntGrid() {
+            final MappedLines lines = nonEmptyMappedLines();
+            final IntGrid intGrid = IntGrid.ofSize(lines.numberOfLines(), lines.longestLength());
+
+            for (int row = 0; row < lines.numberOfLines(); row++) {
+                for (int column = 0; column < lines.lineLength(row); column++) {
+                    intGrid.set(row, column, toDigit(lines.charAt(row, column)));
+                }
+            }
+            return intGrid;
+        }
+
+        private List<String> strings() {
+            try (final Stream<String> lines = inputConverter.filteredStream()) {
+                return lines.toList();
+            }
+        }
+
+        private MappedLines nonEmptyMappedLines() {
+            final MappedLines lines = inputConverter.mappedLines();
+            if (lines.numberOfLines() == 0 || lines.longestLength() == 0) {
+                throw new IllegalArgumentException("Input cannot be empty");
+            }
+            return lines;
+        }
+
+        private static int toDigit(final char character) {
+            return character >= '0' && character <= '9' ? character - '0' : 0;
         }
     }
 }
-
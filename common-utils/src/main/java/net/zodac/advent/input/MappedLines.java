@@ -0,0 +1,209 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.input;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Memory-mapped view of the lines of an input file, used to build primitive grids directly from the bytes of the file without creating a
+ * {@link String} for each line. Only the start and length of each line is stored on the heap. The input is expected to be ASCII, so each byte is
+ * treated as a single character.
+ *
+ * <p>
+ * Lines are terminated in the same way as {@link java.io.BufferedReader#readLine()}, by <b>\n</b>, <b>\r</b> or <b>\r\n</b>.
+ */
+final class MappedLines {
+
+    private static final int INITIAL_NUMBER_OF_LINES = 256;
+
+    private final MappedByteBuffer buffer;
+    private int[] lineStarts = new int[INITIAL_NUMBER_OF_LINES];
+    private int[] lineLengths = new int[INITIAL_NUMBER_OF_LINES];
+    private int numberOfLines;
+    private int longestLength;
+
+    private MappedLines(final MappedByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Maps the input file and finds the start and length of each line.
+     *
+     * @param filePath          the {@link Path} to the input file
+     * @param excludeBlankLines whether lines that are blank should be ignored
+     * @return the {@link MappedLines}
+     * @throws IllegalArgumentException thrown if the file cannot be read, or is too large to be mapped
+     */
+    static MappedLines map(final Path filePath, final boolean excludeBlankLines) {
+        try (final FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(String.format("Input file '%s' is too large to be mapped, found %d bytes", filePath, size));
+            }
+
+            final MappedLines mappedLines = new MappedLines(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            mappedLines.findLines(excludeBlankLines);
+            return mappedLines;
+        } catch (final IOException e) {
+            throw new IllegalArgumentException(String.format("Unable to read input file '%s'", filePath), e);
+        }
+    }
+
+    private void findLines(final boolean excludeBlankLines) {
+        final int size = buffer.limit();
+        int lineStart = 0;
+
+        for (int i = 0; i < size; i++) {
+            final byte current = buffer.get(i);
+            if (current != '\n' && current != '\r') {
+                continue;
+            }
+
+            addLine(lineStart, i - lineStart, excludeBlankLines);
+
+            // Treat "\r\n" as a single line terminator
+            if (current == '\r' && i + 1 < size && buffer.get(i + 1) == '\n') {
+                i++;
+            }
+            lineStart = i + 1;
+        }
+
+        // Final line has no terminator
+        if (lineStart < size) {
+            addLine(lineStart, size - lineStart, excludeBlankLines);
+        }
+    }
+
+    private void addLine(final int start, final int length, final boolean excludeBlankLines) {
+        if (excludeBlankLines && isBlank(start, length)) {
+            return;
+        }
+
+        if (numberOfLines == lineStarts.length) {
+            lineStarts = Arrays.copyOf(lineStarts, numberOfLines * 2);
+            lineLengths = Arrays.copyOf(lineLengths, numberOfLines * 2);
+        }
+
+        lineStarts[numberOfLines] = start;
+        lineLengths[numberOfLines] = length;
+        numberOfLines++;
+        longestLength = Math.max(longestLength, length);
+    }
+
+    private boolean isBlank(final int start, final int length) {
+        for (int i = start; i < start + length; i++) {
+            final byte value = buffer.get(i);
+            if (value != ' ' && value != '\t' && value != '\f' && value != 0x0B) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The number of lines in the input file.
+     *
+     * @return the number of lines
+     */
+    int numberOfLines() {
+        return numberOfLines;
+    }
+
+    /**
+     * The length of the longest line in the input file.
+     *
+     * @return the longest line length
+     */
+    int longestLength() {
+        return longestLength;
+    }
+
+    /**
+     * The length of the given line.
+     *
+     * @param line the line number, starting from {@code 0}
+     * @return the length of the line
+     */
+    int lineLength(final int line) {
+        return lineLengths[line];
+    }
+
+    /**
+     * Retrieves the character at the given {@code column} of the given {@code line}.
+     *
+     * @param line   the line number, starting from {@code 0}
+     * @param column the column, which must be less than {@link #lineLength(int)}
+     * @return the character
+     */
+    char charAt(final int line, final int column) {
+        return (char) (buffer.get(lineStarts[line] + column) & 0xFF);
+    }
+
+    /**
+     * Retrieves the given line as a {@link CharSequence} backed by the mapped file, rather than copying it into a {@link String}.
+     *
+     * @param line the line number, starting from {@code 0}
+     * @return the line
+     */
+    CharSequence line(final int line) {
+        return new MappedLine(lineStarts[line], lineLengths[line]);
+    }
+
+    private final class MappedLine implements CharSequence {
+
+        private final int start;
+        private final int length;
+
+        private MappedLine(final int start, final int length) {
+            this.start = start;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds for line of length %d", index, length));
+            }
+            return (char) (buffer.get(start + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(final int startIndex, final int endIndex) {
+            return toString().substring(startIndex, endIndex);
+        }
+
+        @Override
+        public String toString() {
+            final char[] characters = new char[length];
+            for (int i = 0; i < length; i++) {
+                characters[i] = (char) (buffer.get(start + i) & 0xFF);
+            }
+            return new String(characters);
+        }
+    }
+}
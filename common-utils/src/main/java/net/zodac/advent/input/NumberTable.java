@@ -0,0 +1,125 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.input;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+import net.zodac.advent.util.StringUtils;
+
+/**
+ * All numbers in an input file, stored as a single flat {@code long} array with the offset of the first number of each line. Created by
+ * {@link InputReader.InputConverter#asNumberTable()}, where the numbers are scanned directly from the memory-mapped input file.
+ *
+ * @see StringUtils#forEachNumberInOrder(CharSequence, java.util.function.LongConsumer)
+ */
+public final class NumberTable {
+
+    private final long[] values;
+    private final int[] lineOffsets;
+
+    private NumberTable(final long[] values, final int[] lineOffsets) {
+        this.values = values;
+        this.lineOffsets = lineOffsets;
+    }
+
+    /**
+     * Scans each line of the {@link MappedLines} for numbers.
+     *
+     * @param lines the {@link MappedLines} to scan
+     * @return the {@link NumberTable}
+     */
+    static NumberTable scan(final MappedLines lines) {
+        final int numberOfLines = lines.numberOfLines();
+        final LongStream.Builder values = LongStream.builder();
+        final int[] lineOffsets = new int[numberOfLines + 1];
+
+        for (int line = 0; line < numberOfLines; line++) {
+            lineOffsets[line + 1] = lineOffsets[line] + StringUtils.forEachNumberInOrder(lines.line(line), values);
+        }
+
+        return new NumberTable(values.build().toArray(), lineOffsets);
+    }
+
+    /**
+     * The number of lines in the input file.
+     *
+     * @return the number of lines
+     */
+    public int numberOfLines() {
+        return lineOffsets.length - 1;
+    }
+
+    /**
+     * The number of numbers found in the given line.
+     *
+     * @param line the line number, starting from {@code 0}
+     * @return the number of numbers in the line
+     */
+    public int lineSize(final int line) {
+        return lineOffsets[line + 1] - lineOffsets[line];
+    }
+
+    /**
+     * Retrieves a number from the given line.
+     *
+     * @param line  the line number, starting from {@code 0}
+     * @param index the index of the number within the line
+     * @return the number
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the line
+     */
+    public long get(final int line, final int index) {
+        if (index < 0 || index >= lineSize(line)) {
+            throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds for line %d with %d numbers", index, line, lineSize(line)));
+        }
+        return values[lineOffsets[line] + index];
+    }
+
+    /**
+     * Retrieves a copy of all numbers in the given line.
+     *
+     * @param line the line number, starting from {@code 0}
+     * @return the numbers in the line
+     */
+    public long[] line(final int line) {
+        return Arrays.copyOfRange(values, lineOffsets[line], lineOffsets[line + 1]);
+    }
+
+    /**
+     * Retrieves the {@code index}th number of every line as a single column. Every line is expected to have more than {@code index} numbers.
+     *
+     * @param index the index of the number within each line
+     * @return the numbers in the column
+     * @throws IndexOutOfBoundsException thrown if any line does not have a number at {@code index}
+     */
+    public long[] column(final int index) {
+        final long[] column = new long[numberOfLines()];
+        for (int line = 0; line < column.length; line++) {
+            column[line] = get(line, index);
+        }
+        return column;
+    }
+
+    /**
+     * Retrieves all numbers in the input file, in order.
+     *
+     * @return a {@link LongStream} of all numbers
+     */
+    public LongStream stream() {
+        return Arrays.stream(values);
+    }
+}
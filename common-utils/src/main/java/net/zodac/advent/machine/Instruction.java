@@ -0,0 +1,127 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.machine;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A single instruction for a {@link RegisterMachine}, made up of an {@link Opcode}, its operands, and the number of cycles it takes to complete.
+ *
+ * @param opcode   the {@link Opcode}
+ * @param register the register the {@link Opcode} acts on, or {@link #NO_REGISTER} if it does not act on a register
+ * @param argument the argument of the {@link Opcode}, or <b>0</b> if it takes no argument
+ * @param cycles   the number of cycles the {@link Instruction} takes to complete
+ */
+public record Instruction(Opcode opcode, char register, int argument, int cycles) {
+
+    /**
+     * The register used for {@link Opcode}s which do not act on a register.
+     */
+    public static final char NO_REGISTER = ' ';
+
+    private static final int DEFAULT_CYCLES = 1;
+    private static final Pattern OPERAND_SEPARATOR_PATTERN = Pattern.compile("[\\s,]+");
+
+    /**
+     * Creates an {@link Instruction} which takes a single cycle to complete.
+     *
+     * @param opcode   the {@link Opcode}
+     * @param register the register the {@link Opcode} acts on, or {@link #NO_REGISTER} if it does not act on a register
+     * @param argument the argument of the {@link Opcode}, or <b>0</b> if it takes no argument
+     * @return the created {@link Instruction}
+     * @throws IllegalArgumentException thrown if the {@link Opcode} acts on a register and {@code register} is not a lowercase letter
+     */
+    public static Instruction create(final Opcode opcode, final char register, final int argument) {
+        return create(opcode, register, argument, DEFAULT_CYCLES);
+    }
+
+    /**
+     * Creates an {@link Instruction}.
+     *
+     * @param opcode   the {@link Opcode}
+     * @param register the register the {@link Opcode} acts on, or {@link #NO_REGISTER} if it does not act on a register
+     * @param argument the argument of the {@link Opcode}, or <b>0</b> if it takes no argument
+     * @param cycles   the number of cycles the {@link Instruction} takes to complete
+     * @return the created {@link Instruction}
+     * @throws IllegalArgumentException thrown if the {@link Opcode} acts on a register and {@code register} is not a lowercase letter, or if
+     *                                  {@code cycles} is less than <b>1</b>
+     */
+    public static Instruction create(final Opcode opcode, final char register, final int argument, final int cycles) {
+        if (opcode.hasRegister() && (register < 'a' || register > 'z')) {
+            throw new IllegalArgumentException(String.format("Register for %s must be a lowercase letter, found: %s", opcode, register));
+        }
+        validateCycles(opcode, cycles);
+
+        return new Instruction(opcode, register, argument, cycles);
+    }
+
+    /**
+     * Creates an {@link Instruction} from a {@link String} in the format:
+     * <pre>
+     *     [mnemonic] [register], [argument]
+     * </pre>
+     *
+     * <p>
+     * The mnemonic is looked up in {@code operationsByMnemonic}, which defines the {@link Opcode} and the number of cycles of the
+     * {@link Instruction}. The register is only expected if {@link Opcode#hasRegister()}, and the argument is only expected if
+     * {@link Operation#readsArgument()}. Operands may be separated by whitespace and/or commas, and the argument may have a leading sign.
+     *
+     * @param input                the {@link String} to parse
+     * @param operationsByMnemonic the {@link Operation} for each mnemonic
+     * @return the {@link Instruction}
+     * @throws IllegalArgumentException thrown if the mnemonic is unknown, or the number of operands does not match the {@link Operation}
+     */
+    public static Instruction parse(final String input, final Map<String, Operation> operationsByMnemonic) {
+        final String[] tokens = OPERAND_SEPARATOR_PATTERN.split(input.strip());
+        final Operation operation = operationsByMnemonic.get(tokens[0]);
+        if (operation == null) {
+            throw new IllegalArgumentException(String.format("Unknown mnemonic in instruction: %s", input));
+        }
+
+        final Opcode opcode = operation.opcode();
+        final int numberOfOperands = (opcode.hasRegister() ? 1 : 0) + (operation.readsArgument() ? 1 : 0);
+        if (tokens.length != numberOfOperands + 1) {
+            throw new IllegalArgumentException(String.format("Expected %d operand(s) for %s, found: %s", numberOfOperands, opcode, input));
+        }
+
+        final char register = opcode.hasRegister() ? parseRegister(tokens[1], input) : NO_REGISTER;
+        final int argument = operation.readsArgument() ? Integer.parseInt(tokens[numberOfOperands]) : operation.fixedArgument().orElse(0);
+        return create(opcode, register, argument, operation.cycles());
+    }
+
+    /**
+     * Checks that an {@link Instruction} for the {@link Opcode} takes at least one cycle to complete.
+     *
+     * @param opcode the {@link Opcode}
+     * @param cycles the number of cycles
+     * @throws IllegalArgumentException thrown if {@code cycles} is less than <b>1</b>
+     */
+    static void validateCycles(final Opcode opcode, final int cycles) {
+        if (cycles < 1) {
+            throw new IllegalArgumentException(String.format("Cycles for %s must be at least 1, found: %d", opcode, cycles));
+        }
+    }
+
+    private static char parseRegister(final String token, final String input) {
+        if (token.length() != 1) {
+            throw new IllegalArgumentException(String.format("Register must be a single character, found: %s", input));
+        }
+        return token.charAt(0);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.machine;
+
+/**
+ * Enum defining the operations that can be executed by a {@link RegisterMachine}. Each {@link Opcode} may act on a single register, and may take a
+ * single {@code int} argument, which is either a value or a relative jump offset. The number of cycles each {@link Instruction} takes is not
+ * defined by its {@link Opcode}, but by the {@link Instruction} itself (see {@link Operation}).
+ */
+public enum Opcode {
+
+    /**
+     * Adds the argument to the register:
+     * <pre>
+     *     r = r + argument
+     * </pre>
+     */
+    ADD(true, true),
+
+    /**
+     * Divides the register by the argument, rounding towards <b>0</b>:
+     * <pre>
+     *     r = r / argument
+     * </pre>
+     */
+    DIVIDE(true, true),
+
+    /**
+     * Multiplies the register by the argument:
+     * <pre>
+     *     r = r * argument
+     * </pre>
+     */
+    MULTIPLY(true, true),
+
+    /**
+     * Jumps by the argument, relative to the current instruction.
+     */
+    JUMP(false, true),
+
+    /**
+     * Jumps by the argument, relative to the current instruction, if the register is even.
+     */
+    JUMP_IF_EVEN(true, true),
+
+    /**
+     * Jumps by the argument, relative to the current instruction, if the register is exactly <b>1</b>.
+     */
+    JUMP_IF_ONE(true, true),
+
+    /**
+     * Does nothing.
+     */
+    NO_OPERATION(false, false);
+
+    private final boolean hasRegister;
+    private final boolean hasArgument;
+
+    Opcode(final boolean hasRegister, final boolean hasArgument) {
+        this.hasRegister = hasRegister;
+        this.hasArgument = hasArgument;
+    }
+
+    /**
+     * Whether the {@link Opcode} acts on a register.
+     *
+     * @return {@code true} if the {@link Opcode} has a register operand
+     */
+    public boolean hasRegister() {
+        return hasRegister;
+    }
+
+    /**
+     * Whether the {@link Opcode} takes an {@code int} argument.
+     *
+     * @return {@code true} if the {@link Opcode} has an argument operand
+     */
+    public boolean hasArgument() {
+        return hasArgument;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package net.zodac.advent.machine;
+
+import java.util.OptionalInt;
+
+/**
+ * Defines how a mnemonic in an input program is converted into an {@link Instruction}: the {@link Opcode} it executes, the number of cycles it
+ * takes, and optionally a fixed argument, for mnemonics where the argument is implied rather than written in the input (such as a mnemonic that
+ * always halves a register).
+ *
+ * @param opcode        the {@link Opcode}
+ * @param cycles        the number of cycles the {@link Instruction} takes to complete
+ * @param fixedArgument the argument used for every {@link Instruction}, or {@link OptionalInt#empty()} if it is read from the input
+ */
+public record Operation(Opcode opcode, int cycles, OptionalInt fixedArgument) {
+
+    private static final int DEFAULT_CYCLES = 1;
+
+    /**
+     * Creates an {@link Operation} which takes a single cycle, and reads its operands from the input.
+     *
+     * @param opcode the {@link Opcode}
+     * @return the created {@link Operation}
+     */
+    public static Operation of(final Opcode opcode) {
+        return new Operation(opcode, DEFAULT_CYCLES, OptionalInt.empty());
+    }
+
+    /**
+     * Creates an {@link Operation} which takes a single cycle, and always uses the {@code fixedArgument} rather than reading one from the input.
+     *
+     * @param opcode        the {@link Opcode}
+     * @param fixedArgument the argument used for every {@link Instruction}
+     * @return the created {@link Operation}
+     * @throws IllegalArgumentException thrown if the {@link Opcode} does not take an argument
+     */
+    public static Operation withFixedArgument(final Opcode opcode, final int fixedArgument) {
+        if (!opcode.hasArgument()) {
+            throw new IllegalArgumentException(String.format("%s does not take an argument", opcode));
+        }
+        return new Operation(opcode, DEFAULT_CYCLES, OptionalInt.of(fixedArgument));
+    }
+
+    /**
+     * Creates a copy of this {@link Operation} which takes the given number of cycles to complete.
+     *
+     * @param numberOfCycles the number of cycles the {@link Instruction} takes to complete
+     * @return the new {@link Operation}
+     * @throws IllegalArgumentException thrown if {@code numberOfCycles} is less than <b>1</b>
+     */
+    public Operation takingCycles(final int numberOfCycles) {
+        Instruction.validateCycles(opcode, numberOfCycles);
+        return new Operation(opcode, numberOfCycles, fixedArgument);
+    }
+
+    /**
+     * Whether the argument of each {@link Instruction} is read from the input.
+     *
+     * @return {@code true} if the {@link Opcode} takes an argument and there is no fixed argument
+     */
+    public boolean readsArgument() {
+        return opcode.hasArgument() && fixedArgument.isEmpty();
+    }
+}
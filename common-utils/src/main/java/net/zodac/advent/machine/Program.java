@@ -0,0 +1,112 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.machine;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled program for a {@link RegisterMachine}. Each {@link Instruction} is stored as {@value #INSTRUCTION_WIDTH} consecutive {@code int}s in a
+ * single array (the {@link Opcode#ordinal()}, the register index, the argument and the number of cycles), so no {@link String}s or objects are read
+ * while it runs.
+ */
+public final class Program {
+
+    static final int INSTRUCTION_WIDTH = 4;
+    static final int NUMBER_OF_REGISTERS = 26;
+
+    private final int[] code;
+    private final int numberOfInstructions;
+
+    private Program(final int[] code, final int numberOfInstructions) {
+        this.code = code;
+        this.numberOfInstructions = numberOfInstructions;
+    }
+
+    /**
+     * Compiles the {@link Instruction}s into a {@link Program}.
+     *
+     * @param instructions the {@link Instruction}s
+     * @return the {@link Program}
+     */
+    public static Program compile(final Collection<Instruction> instructions) {
+        final int[] code = new int[instructions.size() * INSTRUCTION_WIDTH];
+
+        int offset = 0;
+        for (final Instruction instruction : instructions) {
+            code[offset] = instruction.opcode().ordinal();
+            code[offset + 1] = instruction.opcode().hasRegister() ? registerIndex(instruction.register()) : 0;
+            code[offset + 2] = instruction.argument();
+            code[offset + 3] = instruction.cycles();
+            offset += INSTRUCTION_WIDTH;
+        }
+
+        return new Program(code, instructions.size());
+    }
+
+    /**
+     * Parses each {@link String} as an {@link Instruction}, then compiles them into a {@link Program}.
+     *
+     * @param lines                the {@link String} instructions
+     * @param operationsByMnemonic the {@link Operation} for each mnemonic
+     * @return the {@link Program}
+     * @throws IllegalArgumentException thrown if any {@link String} is not a valid {@link Instruction}
+     * @see Instruction#parse(String, Map)
+     */
+    public static Program parse(final List<String> lines, final Map<String, Operation> operationsByMnemonic) {
+        final List<Instruction> instructions = lines
+            .stream()
+            .map(line -> Instruction.parse(line, operationsByMnemonic))
+            .toList();
+        return compile(instructions);
+    }
+
+    /**
+     * The number of {@link Instruction}s in the {@link Program}.
+     *
+     * @return the number of {@link Instruction}s
+     */
+    public int numberOfInstructions() {
+        return numberOfInstructions;
+    }
+
+    /**
+     * The compiled instructions of the {@link Program}, with {@value #INSTRUCTION_WIDTH} {@code int}s per {@link Instruction}. The array is not
+     * copied, so must not be updated by the caller.
+     *
+     * @return the compiled instructions
+     */
+    int[] code() {
+        return code;
+    }
+
+    /**
+     * Converts a register name into its index in the {@link RegisterMachine}, where register {@code a} has index <b>0</b>.
+     *
+     * @param register the register name
+     * @return the index of the register
+     * @throws IllegalArgumentException thrown if the register is not a lowercase letter
+     */
+    static int registerIndex(final char register) {
+        if (register < 'a' || register > 'z') {
+            throw new IllegalArgumentException(String.format("Register must be a lowercase letter, found: %s", register));
+        }
+        return register - 'a';
+    }
+}
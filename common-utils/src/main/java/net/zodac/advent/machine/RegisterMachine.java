@@ -0,0 +1,169 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.machine;
+
+import java.util.Arrays;
+import net.zodac.advent.util.MathUtils;
+
+/**
+ * A register machine which executes a compiled {@link Program}. There is a {@code long} register for each lowercase letter, all starting at
+ * <b>0</b>. The machine halts once the next instruction is outside the {@link Program}.
+ *
+ * <p>
+ * The {@link Program} can either be run to completion with {@link #run()}, or executed one cycle at a time with {@link #tick()}, where an
+ * {@link Instruction} only takes effect at the end of its final cycle (see {@link Instruction#cycles()}). The number of times each
+ * {@link Instruction} has been executed is tracked, and can be retrieved with {@link #executionCounts()}.
+ */
+public final class RegisterMachine {
+
+    private static final Opcode[] OPCODES = Opcode.values();
+
+    private final int[] code;
+    private final int numberOfInstructions;
+    private final long[] registers = new long[Program.NUMBER_OF_REGISTERS];
+    private final long[] executionCounts;
+
+    private int programCounter;
+    private int cyclesInCurrentInstruction;
+    private long cycles;
+
+    private RegisterMachine(final Program program) {
+        code = program.code();
+        numberOfInstructions = program.numberOfInstructions();
+        executionCounts = new long[numberOfInstructions];
+    }
+
+    /**
+     * Creates a {@link RegisterMachine} for the {@link Program}, with all registers set to <b>0</b>.
+     *
+     * @param program the {@link Program} to execute
+     * @return the created {@link RegisterMachine}
+     */
+    public static RegisterMachine create(final Program program) {
+        return new RegisterMachine(program);
+    }
+
+    /**
+     * Retrieves the value of a register.
+     *
+     * @param register the register name
+     * @return the register value
+     * @throws IllegalArgumentException thrown if the {@code register} is not a lowercase letter
+     */
+    public long register(final char register) {
+        return registers[Program.registerIndex(register)];
+    }
+
+    /**
+     * Sets the value of a register.
+     *
+     * @param register the register name
+     * @param value    the new register value
+     * @throws IllegalArgumentException thrown if the {@code register} is not a lowercase letter
+     */
+    public void setRegister(final char register, final long value) {
+        registers[Program.registerIndex(register)] = value;
+    }
+
+    /**
+     * Checks if the {@link RegisterMachine} has halted, because the next instruction is outside the {@link Program}.
+     *
+     * @return {@code true} if the {@link RegisterMachine} has halted
+     */
+    public boolean isHalted() {
+        return programCounter < 0 || programCounter >= numberOfInstructions;
+    }
+
+    /**
+     * The total number of cycles executed so far.
+     *
+     * @return the number of cycles
+     */
+    public long cycles() {
+        return cycles;
+    }
+
+    /**
+     * Runs the {@link Program} until the {@link RegisterMachine} halts. If the {@link Program} never halts, this method will not return.
+     */
+    public void run() {
+        // Any cycles already spent on the current instruction by tick() still count towards it
+        cycles -= cyclesInCurrentInstruction;
+        cyclesInCurrentInstruction = 0;
+
+        int counter = programCounter;
+        while (counter >= 0 && counter < numberOfInstructions) {
+            final int offset = counter * Program.INSTRUCTION_WIDTH;
+            cycles += code[offset + 3];
+            executionCounts[counter]++;
+            counter = execute(counter, offset);
+        }
+        programCounter = counter;
+    }
+
+    /**
+     * Executes a single cycle of the {@link Program}. If this is the final cycle of the current {@link Instruction}, the {@link Instruction} takes
+     * effect and the {@link RegisterMachine} moves on to the next {@link Instruction}.
+     *
+     * @throws IllegalStateException thrown if the {@link RegisterMachine} has halted
+     */
+    public void tick() {
+        if (isHalted()) {
+            throw new IllegalStateException("Machine has halted");
+        }
+
+        cycles++;
+        cyclesInCurrentInstruction++;
+
+        final int offset = programCounter * Program.INSTRUCTION_WIDTH;
+        if (cyclesInCurrentInstruction == code[offset + 3]) {
+            executionCounts[programCounter]++;
+            programCounter = execute(programCounter, offset);
+            cyclesInCurrentInstruction = 0;
+        }
+    }
+
+    /**
+     * The number of times each {@link Instruction} in the {@link Program} has been executed, indexed by its position in the {@link Program}.
+     *
+     * @return the execution count for each {@link Instruction}
+     */
+    public long[] executionCounts() {
+        return Arrays.copyOf(executionCounts, numberOfInstructions);
+    }
+
+    private int execute(final int counter, final int offset) {
+        final Opcode opcode = OPCODES[code[offset]];
+        final int register = code[offset + 1];
+        final int argument = code[offset + 2];
+
+        registers[register] = switch (opcode) {
+            case ADD -> registers[register] + argument;
+            case DIVIDE -> registers[register] / argument;
+            case MULTIPLY -> registers[register] * argument;
+            case JUMP, JUMP_IF_EVEN, JUMP_IF_ONE, NO_OPERATION -> registers[register];
+        };
+
+        return switch (opcode) {
+            case JUMP -> counter + argument;
+            case JUMP_IF_EVEN -> MathUtils.isEven(registers[register]) ? counter + argument : counter + 1;
+            case JUMP_IF_ONE -> registers[register] == 1L ? counter + argument : counter + 1;
+            case ADD, DIVIDE, MULTIPLY, NO_OPERATION -> counter + 1;
+        };
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.math;
+
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+
+/**
+ * Utility class used to find the first number whose (scaled) divisor sum exceeds some threshold. The sum for a number {@code n} is:
+ * <pre>
+ *     multiplier * Σ d, for each divisor d of n where n / d &lt;= maxMultiplesPerDivisor
+ * </pre>
+ *
+ * <p>
+ * Rather than sieving every number up to the worst-case bound in one (potentially huge) array, the numbers are sieved in fixed-size segments that
+ * fit in the CPU cache, using {@code long} accumulators. Each segment only needs the divisors up to the square root of its largest number, since
+ * every divisor {@code d <= √n} is paired with the cofactor {@code n / d}. A batch of consecutive segments is sieved in parallel, and the search
+ * stops at the first batch that contains a qualifying number, so the memory used is bounded by the batch size rather than the threshold.
+ */
+public final class DivisorSumSieve {
+
+    private static final int SEGMENT_SIZE = 1 << 15;
+    private static final int SEGMENTS_PER_BATCH = Math.max(1, Runtime.getRuntime().availableProcessors() * 2);
+    private static final long NOT_FOUND = -1L;
+
+    private DivisorSumSieve() {
+
+    }
+
+    /**
+     * Finds the first number {@code n} where {@code multiplier * σ(n)} is greater than {@code threshold}, where {@code σ(n)} is the sum of all
+     * divisors of {@code n}.
+     *
+     * @param threshold  the value the scaled divisor sum must be greater than
+     * @param multiplier the value each divisor is scaled by
+     * @return the first number with a scaled divisor sum greater than {@code threshold}
+     * @throws IllegalArgumentException thrown if {@code threshold} is negative, or {@code multiplier} is not positive
+     * @see #findFirstGreaterThan(long, long, long)
+     */
+    public static long findFirstGreaterThan(final long threshold, final long multiplier) {
+        return findFirstGreaterThan(threshold, multiplier, Long.MAX_VALUE);
+    }
+
+    /**
+     * Finds the first number {@code n} where the scaled divisor sum is greater than {@code threshold}, where a divisor {@code d} is only included
+     * if {@code n} is at most its {@code maxMultiplesPerDivisor}th multiple.
+     *
+     * <p>
+     * Since {@code n} is always a divisor of itself, the search is bounded by {@code threshold / multiplier + 1}.
+     *
+     * @param threshold              the value the scaled divisor sum must be greater than
+     * @param multiplier             the value each divisor is scaled by
+     * @param maxMultiplesPerDivisor the maximum number of multiples each divisor contributes to
+     * @return the first number with a scaled divisor sum greater than {@code threshold}
+     * @throws IllegalArgumentException thrown if {@code threshold} is negative, or {@code multiplier} or {@code maxMultiplesPerDivisor} is not
+     *                                  positive
+     */
+    public static long findFirstGreaterThan(final long threshold, final long multiplier, final long maxMultiplesPerDivisor) {
+        if (threshold < 0L) {
+            throw new IllegalArgumentException(String.format("Threshold must be non-negative, found: %d", threshold));
+        }
+
+        if (multiplier <= 0L) {
+            throw new IllegalArgumentException(String.format("Multiplier must be positive, found: %d", multiplier));
+        }
+
+        if (maxMultiplesPerDivisor <= 0L) {
+            throw new IllegalArgumentException(String.format("Maximum multiples per divisor must be positive, found: %d", maxMultiplesPerDivisor));
+        }
+
+        final long lastCandidate = threshold / multiplier + 1L;
+        final long numbersPerBatch = (long) SEGMENT_SIZE * SEGMENTS_PER_BATCH;
+
+        for (long batchStart = 1L; batchStart <= lastCandidate; batchStart += numbersPerBatch) {
+            final long start = batchStart;
+            final OptionalLong first = LongStream.range(0L, SEGMENTS_PER_BATCH)
+                .parallel()
+                .map(segment -> {
+                    final long segmentStart = start + segment * SEGMENT_SIZE;
+                    if (segmentStart > lastCandidate) {
+                        return NOT_FOUND;
+                    }
+
+                    final long segmentEnd = Math.min(segmentStart + SEGMENT_SIZE, lastCandidate + 1L);
+                    return searchSegment(segmentStart, segmentEnd, threshold, multiplier, maxMultiplesPerDivisor);
+                })
+                .filter(number -> number != NOT_FOUND)
+                .min();
+
+            if (first.isPresent()) {
+                return first.getAsLong();
+            }
+        }
+
+        throw new IllegalStateException(String.format("No number found with a divisor sum greater than %d", threshold));
+    }
+
+    private static long searchSegment(final long start, final long end, final long threshold, final long multiplier,
+                                      final long maxMultiplesPerDivisor) {
+        final long[] sums = new long[(int) (end - start)];
+        final long largestSmallDivisor = floorSqrt(end - 1L);
+
+        for (long divisor = 1L; divisor <= largestSmallDivisor; divisor++) {
+            final boolean cofactorContributes = divisor <= maxMultiplesPerDivisor;
+            long cofactor = Math.max(divisor, Math.ceilDiv(start, divisor));
+
+            for (long number = cofactor * divisor; number < end; number += divisor, cofactor++) {
+                final int index = (int) (number - start);
+                if (cofactor <= maxMultiplesPerDivisor) {
+                    sums[index] += divisor;
+                }
+
+                if (cofactorContributes && cofactor != divisor) {
+                    sums[index] += cofactor;
+                }
+            }
+        }
+
+        for (int i = 0; i < sums.length; i++) {
+            if (sums[i] * multiplier > threshold) {
+                return start + i;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static long floorSqrt(final long value) {
+        long root = (long) Math.sqrt((double) value);
+        while (root * root > value) {
+            root--;
+        }
+        while ((root + 1L) * (root + 1L) <= value) {
+            root++;
+        }
+        return root;
+    }
+}
@@ -22,32 +22,39 @@ import java.util.Optional;
 /**
  * Class that holds the result of a {@link CycleFinder} invocation.
  *
+ * <p>
+ * The states are numbered from the initial state, which is state <b>0</b>. A cycle of length {@code cycleLength} starting at state
+ * {@code cycleStart} means that state {@code cycleStart} is the first state to be repeated, with state {@code cycleStart + cycleLength} being
+ * equal to it.
+ *
  * @param finalCycleValue the final value at the end of the cycle
- * @param cycleSize       the size of the cycle/loop
+ * @param cycleStart      the index of the first state in the cycle
+ * @param cycleLength     the length of the cycle/loop
  * @param <T>             the type of the final value
  */
-public record Cycle<T>(Optional<T> finalCycleValue, int cycleSize) {
+public record Cycle<T>(Optional<T> finalCycleValue, long cycleStart, long cycleLength) {
 
     /**
-     * A cycle was found, and the {@code finalCycleValue} and {@code cycleSize} are populated.
+     * A cycle was found, and the {@code finalCycleValue}, {@code cycleStart} and {@code cycleLength} are populated.
      *
      * @param finalCycleValue the final value at the end of the cycle
-     * @param cycleSize       the size of the cycle/loop
+     * @param cycleStart      the index of the first state in the cycle
+     * @param cycleLength     the length of the cycle/loop
      * @param <T>             the type of the {@code cycleValue}
      * @return the successful {@link Cycle}
      */
-    public static <T> Cycle<T> cycleFound(final T finalCycleValue, final int cycleSize) {
-        return new Cycle<>(Optional.of(finalCycleValue), cycleSize);
+    public static <T> Cycle<T> cycleFound(final T finalCycleValue, final long cycleStart, final long cycleLength) {
+        return new Cycle<>(Optional.of(finalCycleValue), cycleStart, cycleLength);
     }
 
     /**
-     * No cycle was found, and the {@code finalCycleValue} and {@code cycleSize} are no populated.
+     * No cycle was found, and the {@code finalCycleValue}, {@code cycleStart} and {@code cycleLength} are not populated.
      *
      * @param <T> the type of the {@code cycleValue}
      * @return the unsuccessful {@link Cycle}
      */
     public static <T> Cycle<T> noCycle() {
-        return new Cycle<>(Optional.empty(), 0);
+        return new Cycle<>(Optional.empty(), 0L, 0L);
     }
 
     /**
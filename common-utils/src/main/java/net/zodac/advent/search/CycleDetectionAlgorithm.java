@@ -0,0 +1,40 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+/**
+ * The algorithms supported for detecting a cycle in a sequence of states without storing the states, for when the number of possible states is
+ * too large (or unbounded) to track which have been visited.
+ */
+public enum CycleDetectionAlgorithm {
+
+    /**
+     * Floyd's 'tortoise and hare' algorithm, where the hare moves two states for every one state the tortoise moves.
+     *
+     * @see <a href="https://en.wikipedia.org/wiki/Cycle_detection#Floyd's_tortoise_and_hare">Floyd's tortoise and hare</a>
+     */
+    FLOYD,
+
+    /**
+     * Brent's algorithm, where the tortoise teleports to the hare at every power of two. This needs fewer state transitions than
+     * {@link #FLOYD}.
+     *
+     * @see <a href="https://en.wikipedia.org/wiki/Cycle_detection#Brent's_algorithm">Brent's algorithm</a>
+     */
+    BRENT
+}
@@ -18,17 +18,27 @@
 package net.zodac.advent.search;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
-import net.zodac.advent.util.CollectionUtils;
+import java.util.function.ToLongFunction;
 
 /**
  * Utility class used to perform an operation a set number of times, and determine if there is a cycle in the results.
+ *
+ * <p>
+ * There are three ways to find a {@link Cycle}, trading memory for the number of times the operation is performed:
+ * <ul>
+ *     <li>{@link #findCycle(Object, Function, long)} stores every state, and performs the operation the fewest times</li>
+ *     <li>{@link #findCycleByFingerprint(Object, Function, ToLongFunction, long)} only stores a 64-bit fingerprint of each state, then replays the
+ *     operation to find the final state</li>
+ *     <li>{@link #findCycle(Object, Function, long, CycleDetectionAlgorithm)} stores no states, but performs the operation more times</li>
+ * </ul>
  */
 public final class CycleFinder {
 
-    private static final int DEFAULT_CYCLE_START_INDEX = 1;
+    private static final int NEW_FINGERPRINT = -1;
 
     private CycleFinder() {
 
@@ -41,6 +51,9 @@ public final class CycleFinder {
      * 'jump-ahead' to determine the expected value at the end of the {@code maximumIterations}, which is also included in the {@link Cycle}.
      *
      * <p>
+     * Each state is stored along with its index, so the first instance of a repeated value and the final value can be found without searching.
+     *
+     * <p>
      * If no cycle is found by the end of {@code maximumIterations}, we end and return {@link Cycle#noCycle()}.
      *
      * @param initialState      the initial state before starting the cycle
@@ -51,27 +64,180 @@ public final class CycleFinder {
      */
     public static <T> Cycle<T> findCycle(final T initialState,
                                          final Function<? super T, ? extends T> manipulator,
-                                         final int maximumIterations) {
-        int cycleStartIndex = DEFAULT_CYCLE_START_INDEX;
-        final Set<T> seen = new LinkedHashSet<>();
-        T mutableInput = initialState;
-
-        for (int i = 0; i < maximumIterations; i++) {
-            mutableInput = manipulator.apply(mutableInput);
+                                         final long maximumIterations) {
+        final Map<T, Integer> indexByState = new HashMap<>();
+        final List<T> states = new ArrayList<>();
+        T state = initialState;
 
-            if (!seen.add(mutableInput)) {
-                cycleStartIndex = CollectionUtils.indexOf(seen, mutableInput);
-                break;
+        for (int i = 0; i <= maximumIterations && i < Integer.MAX_VALUE; i++) {
+            final Integer previousIndex = indexByState.putIfAbsent(state, i);
+            if (previousIndex != null) {
+                final long cycleLength = i - previousIndex;
+                final long finalIndex = finalIndex(previousIndex, cycleLength, maximumIterations);
+                return Cycle.cycleFound(states.get((int) finalIndex), previousIndex, cycleLength);
             }
+
+            states.add(state);
+            state = manipulator.apply(state);
         }
 
-        if (cycleStartIndex == DEFAULT_CYCLE_START_INDEX) {
+        return Cycle.noCycle();
+    }
+
+    /**
+     * Given an {@code initialState}, we update this state using the provided {@code manipulator} {@link Function} until a cycle is found, without
+     * storing any states. The {@link Cycle} is found using the {@link CycleDetectionAlgorithm}, then the states are replayed from the
+     * {@code initialState} to find the start of the cycle and the expected value at the end of the {@code maximumIterations}.
+     *
+     * <p>
+     * This needs {@code O(1)} memory, but performs the {@code manipulator} {@link Function} more times than
+     * {@link #findCycle(Object, Function, long)}, so the {@code manipulator} {@link Function} must be deterministic. If no cycle is found within
+     * {@code maximumIterations} applications of the {@link Function} during the search, we end and return {@link Cycle#noCycle()}.
+     *
+     * @param initialState            the initial state before starting the cycle
+     * @param manipulator             the {@link Function} to perform on the initial state (and all intermediate states)
+     * @param maximumIterations       the number of times to perform the {@link Function}
+     * @param cycleDetectionAlgorithm the {@link CycleDetectionAlgorithm} to use
+     * @param <T>                     the type of the input
+     * @return the {@link Cycle}
+     */
+    public static <T> Cycle<T> findCycle(final T initialState,
+                                         final Function<? super T, ? extends T> manipulator,
+                                         final long maximumIterations,
+                                         final CycleDetectionAlgorithm cycleDetectionAlgorithm) {
+        final long cycleLength = switch (cycleDetectionAlgorithm) {
+            case FLOYD -> findCycleLengthFloyd(initialState, manipulator, maximumIterations);
+            case BRENT -> findCycleLengthBrent(initialState, manipulator, maximumIterations);
+        };
+
+        if (cycleLength == 0L) {
             return Cycle.noCycle();
         }
 
-        final int cycleSize = seen.size() - cycleStartIndex;
-        final int index = (cycleStartIndex + ((maximumIterations - cycleStartIndex) % cycleSize)) - 1;
-        final T finalCycleValue = new ArrayList<>(seen).get(index);
-        return Cycle.cycleFound(finalCycleValue, cycleSize);
+        // With the hare cycleLength states ahead of the tortoise, they first meet at the start of the cycle
+        T tortoise = initialState;
+        T hare = advance(initialState, manipulator, cycleLength);
+        long cycleStart = 0L;
+        while (!tortoise.equals(hare)) {
+            tortoise = manipulator.apply(tortoise);
+            hare = manipulator.apply(hare);
+            cycleStart++;
+        }
+
+        final long finalIndex = finalIndex(cycleStart, cycleLength, maximumIterations);
+        return Cycle.cycleFound(advance(tortoise, manipulator, finalIndex - cycleStart), cycleStart, cycleLength);
+    }
+
+    /**
+     * Given an {@code initialState}, we update this state {@code maximumIterations} number of times, using the provided {@code manipulator}
+     * {@link Function}. Rather than storing each state, we only store the 64-bit {@code fingerprint} of each state along with its index, in a
+     * primitive map. Once a fingerprint is repeated, the states are replayed from the {@code initialState} to find the expected value at the end of
+     * the {@code maximumIterations}.
+     *
+     * <p>
+     * This is useful when each state is large, like a {@link net.zodac.advent.grid.Grid}. The {@code manipulator} {@link Function} must be
+     * deterministic, and the replayed states are compared to confirm the cycle, in case two different states have the same fingerprint.
+     *
+     * <p>
+     * If no cycle is found by the end of {@code maximumIterations}, we end and return {@link Cycle#noCycle()}.
+     *
+     * @param initialState      the initial state before starting the cycle
+     * @param manipulator       the {@link Function} to perform on the initial state (and all intermediate states)
+     * @param fingerprint       the {@link ToLongFunction} to create a 64-bit fingerprint of a state
+     * @param maximumIterations the number of times to perform the {@link Function}
+     * @param <T>               the type of the input
+     * @return the {@link Cycle}
+     * @throws IllegalStateException thrown if two different states in the cycle have the same fingerprint
+     */
+    public static <T> Cycle<T> findCycleByFingerprint(final T initialState,
+                                                      final Function<? super T, ? extends T> manipulator,
+                                                      final ToLongFunction<? super T> fingerprint,
+                                                      final long maximumIterations) {
+        final LongIntHashMap indexByFingerprint = new LongIntHashMap();
+        T state = initialState;
+
+        for (int i = 0; i <= maximumIterations && i < Integer.MAX_VALUE; i++) {
+            final int previousIndex = indexByFingerprint.putIfAbsent(fingerprint.applyAsLong(state), i);
+            if (previousIndex != NEW_FINGERPRINT) {
+                final T cycleStartState = advance(initialState, manipulator, previousIndex);
+                if (!cycleStartState.equals(state)) {
+                    throw new IllegalStateException(String.format("States %d and %d have the same fingerprint, but are different", previousIndex, i));
+                }
+
+                final long cycleLength = i - previousIndex;
+                final long finalIndex = finalIndex(previousIndex, cycleLength, maximumIterations);
+                return Cycle.cycleFound(advance(cycleStartState, manipulator, finalIndex - previousIndex), previousIndex, cycleLength);
+            }
+
+            state = manipulator.apply(state);
+        }
+
+        return Cycle.noCycle();
+    }
+
+    // Returns 0 if no cycle is found
+    private static <T> long findCycleLengthFloyd(final T initialState, final Function<? super T, ? extends T> manipulator,
+                                                 final long maximumIterations) {
+        T tortoise = manipulator.apply(initialState);
+        T hare = manipulator.apply(tortoise);
+        long hareIndex = 2L;
+
+        while (!tortoise.equals(hare)) {
+            if (hareIndex + 2L > maximumIterations) {
+                return 0L;
+            }
+
+            tortoise = manipulator.apply(tortoise);
+            hare = manipulator.apply(manipulator.apply(hare));
+            hareIndex += 2L;
+        }
+
+        // The tortoise is now inside the cycle, so walk around it once
+        long cycleLength = 1L;
+        hare = manipulator.apply(tortoise);
+        while (!tortoise.equals(hare)) {
+            hare = manipulator.apply(hare);
+            cycleLength++;
+        }
+        return cycleLength;
+    }
+
+    // Returns 0 if no cycle is found
+    private static <T> long findCycleLengthBrent(final T initialState, final Function<? super T, ? extends T> manipulator,
+                                                 final long maximumIterations) {
+        long power = 1L;
+        long cycleLength = 1L;
+        long hareIndex = 1L;
+        T tortoise = initialState;
+        T hare = manipulator.apply(initialState);
+
+        while (!tortoise.equals(hare)) {
+            if (hareIndex >= maximumIterations) {
+                return 0L;
+            }
+
+            if (power == cycleLength) {
+                tortoise = hare;
+                power <<= 1;
+                cycleLength = 0L;
+            }
+            hare = manipulator.apply(hare);
+            cycleLength++;
+            hareIndex++;
+        }
+        return cycleLength;
+    }
+
+    // The index of the state reached after the maximum iterations, mapped back into the first occurrence of the cycle
+    private static long finalIndex(final long cycleStart, final long cycleLength, final long maximumIterations) {
+        return cycleStart + ((maximumIterations - cycleStart) % cycleLength);
+    }
+
+    private static <T> T advance(final T state, final Function<? super T, ? extends T> manipulator, final long numberOfIterations) {
+        T advancedState = state;
+        for (long i = 0L; i < numberOfIterations; i++) {
+            advancedState = manipulator.apply(advancedState);
+        }
+        return advancedState;
     }
 }
@@ -17,34 +17,29 @@
 
 package net.zodac.advent.search;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import net.zodac.advent.pojo.Route;
-import net.zodac.advent.util.PermutationUtils;
 
 /**
- * Calculator that can calculate the shortest or longest path across a {@link List} of {@link Route}s, while visiting all locations once.
+ * Calculator that can calculate the shortest or longest path across a {@link List} of {@link Route}s, while visiting all locations once. Each
+ * location is interned to an index in a distance matrix, and the best path is found with the Held-Karp algorithm.
  */
 public final class DistanceCalculator {
 
-    private final Map<String, Integer> distancesBySourceAndDestination;
-    private final List<? extends List<String>> permutations;
+    private static final int MAX_NUMBER_OF_LOCATIONS = 20;
+
+    private final int[][] distances;
     private final Set<Option> options;
 
-    private DistanceCalculator(final Map<String, Integer> distancesBySourceAndDestination,
-                               final List<? extends List<String>> permutations,
-                               final Option... options) {
-        this.distancesBySourceAndDestination = Collections.unmodifiableMap(distancesBySourceAndDestination);
-        this.permutations = Collections.unmodifiableList(permutations);
-        this.options = options.length > 0 ? EnumSet.copyOf(Arrays.asList(options)) : EnumSet.noneOf(Option.class);
+    private DistanceCalculator(final int[][] distances, final Set<Option> options) {
+        this.distances = distances;
+        this.options = options;
     }
 
     /**
@@ -58,7 +53,7 @@ public final class DistanceCalculator {
         CALCULATE_BOTH_DIRECTIONS,
 
         /**
-         * When generating permutations, the last entry must also loop back to the first entry.
+         * When calculating a path, the last location must also loop back to the first location.
          */
         LOOPS_TO_START,
 
@@ -69,15 +64,13 @@ public final class DistanceCalculator {
     }
 
     /**
-     * Creates an instance of {@link DistanceCalculator}. We use the provided {@link Route}s to create a map of all distances by location, and also
-     * all available permutations of the locations.
+     * Creates an instance of {@link DistanceCalculator}. We use the provided {@link Route}s to create a matrix of all distances between locations.
      *
      * <p>
      * Sets all available {@link DistanceCalculator.Option}s.
      *
      * @param routes the {@link Route}s
      * @return the created {@link DistanceCalculator}
-     * @see PermutationUtils#generateAll(List)
      * @see #createWithOptions(Collection, Option...)
      */
     public static DistanceCalculator createWithAllOptions(final Collection<Route> routes) {
@@ -85,15 +78,13 @@ public final class DistanceCalculator {
     }
 
     /**
-     * Creates an instance of {@link DistanceCalculator}. We use the provided {@link Route}s to create a map of all distances by location, and also
-     * all available permutations of the locations.
+     * Creates an instance of {@link DistanceCalculator}. We use the provided {@link Route}s to create a matrix of all distances between locations.
      *
      * <p>
      * Does not set any {@link DistanceCalculator.Option}s.
      *
      * @param routes the {@link Route}s
      * @return the created {@link DistanceCalculator}
-     * @see PermutationUtils#generateAll(List)
      * @see #createWithOptions(Collection, Option...)
      */
     public static DistanceCalculator create(final Collection<Route> routes) {
@@ -101,31 +92,43 @@ public final class DistanceCalculator {
     }
 
     /**
-     * Creates an instance of {@link DistanceCalculator}. We use the provided {@link Route}s to create a map of all distances by location, and also
-     * all available permutations of the locations.
+     * Creates an instance of {@link DistanceCalculator}. We use the provided {@link Route}s to create a matrix of all distances between locations.
      *
      * @param routes  the {@link Route}s
      * @param options the {@link DistanceCalculator.Option}s to be enabled
      * @return the created {@link DistanceCalculator}
-     * @see PermutationUtils#generateAll(List)
      */
     public static DistanceCalculator createWithOptions(final Collection<Route> routes, final Option... options) {
-        final Map<String, Integer> distancesBySourceAndDestination = HashMap.newHashMap(routes.size());
+        final Set<Option> enabledOptions = options.length > 0 ? EnumSet.copyOf(Arrays.asList(options)) : EnumSet.noneOf(Option.class);
 
-        final Set<String> sources = new HashSet<>();
+        // Each location is interned to an index, so the distances can be stored directly in a matrix
+        final Map<String, Integer> indexByLocation = new LinkedHashMap<>();
         for (final Route route : routes) {
-            sources.add(route.from());
-            sources.add(route.to());
+            indexOf(indexByLocation, route.from());
+            indexOf(indexByLocation, route.to());
+        }
 
-            final String key = route.from() + route.to();
-            distancesBySourceAndDestination.put(key, route.value());
+        final List<String> locations = List.copyOf(indexByLocation.keySet());
+        final int numberOfLocations = locations.size();
+        final int[][] routeDistances = new int[numberOfLocations][numberOfLocations];
+        final boolean[][] hasRoute = new boolean[numberOfLocations][numberOfLocations];
+        for (final Route route : routes) {
+            final int from = indexOf(indexByLocation, route.from());
+            final int to = indexOf(indexByLocation, route.to());
+            routeDistances[from][to] = route.value();
+            hasRoute[from][to] = true;
         }
 
-        final List<List<String>> permutations = PermutationUtils.generateAll(new ArrayList<>(sources))
-            .stream()
-            .toList();
+        final int[][] distances = new int[numberOfLocations][numberOfLocations];
+        for (int from = 0; from < numberOfLocations; from++) {
+            for (int to = 0; to < numberOfLocations; to++) {
+                if (from != to) {
+                    distances[from][to] = calculateDistance(routeDistances, hasRoute, locations, from, to, enabledOptions);
+                }
+            }
+        }
 
-        return new DistanceCalculator(distancesBySourceAndDestination, permutations, options);
+        return new DistanceCalculator(distances, enabledOptions);
     }
 
     /**
@@ -134,15 +137,7 @@ public final class DistanceCalculator {
      * @return the distance of the shortest path
      */
     public int distanceOfShortestPath() {
-        int minimumDistance = calculateDistance(permutations.getFirst());
-
-        // First entry is used as 'baseline' distance, compare remaining entries in the subList to this value
-        for (final List<String> permutation : permutations.subList(1, permutations.size())) {
-            final int distanceOfPath = calculateDistance(permutation);
-            minimumDistance = Math.min(minimumDistance, distanceOfPath);
-        }
-
-        return minimumDistance;
+        return heldKarp(false);
     }
 
     /**
@@ -151,57 +146,126 @@ public final class DistanceCalculator {
      * @return the distance of the longest path
      */
     public int distanceOfLongestPath() {
-        int maximumDistance = calculateDistance(permutations.getFirst());
+        return heldKarp(true);
+    }
+
+    /**
+     * Finds the best path using the Held-Karp algorithm, rather than checking every permutation of the locations. For each subset of locations
+     * (stored as a bitmask) and each location in that subset, we store the best distance of a path that visits exactly that subset and ends at that
+     * location. Each path is then extended by one location at a time, in increasing order of the subset bitmask, so every smaller subset has been
+     * completed before it is extended. This takes O(n^2 * 2^n) time, instead of O(n!).
+     *
+     * <p>
+     * If {@link Option#LOOPS_TO_START} is enabled, the first location is fixed as the start, since every rotation of a loop has the same distance.
+     * The subsets then only include the remaining locations, and the distance back to the first location is added at the end.
+     *
+     * @param findLongest whether the longest path should be found, otherwise the shortest path is found
+     * @return the distance of the best path
+     * @throws IllegalStateException thrown if there are more than {@value #MAX_NUMBER_OF_LOCATIONS} locations
+     */
+    private int heldKarp(final boolean findLongest) {
+        final boolean loopsToStart = isEnabled(Option.LOOPS_TO_START);
+        final int numberOfLocations = distances.length;
+        if (numberOfLocations <= 1) {
+            return 0;
+        }
 
-        // First entry is used as 'baseline' distance, compare remaining entries in the subList to this value
-        for (final List<String> permutation : permutations.subList(1, permutations.size())) {
-            final List<String> newPermutation = new ArrayList<>(permutation);
+        if (numberOfLocations > MAX_NUMBER_OF_LOCATIONS) {
+            throw new IllegalStateException(
+                String.format("Can only calculate paths for at most %d locations, found: %d", MAX_NUMBER_OF_LOCATIONS, numberOfLocations));
+        }
 
-            if (isEnabled(Option.LOOPS_TO_START)) {
-                newPermutation.add(permutation.getFirst());
-            }
+        // When looping, location 0 is the fixed start, so the subsets are made up of the other locations, offset by 1
+        final int offset = loopsToStart ? 1 : 0;
+        final int numberOfSubsetLocations = numberOfLocations - offset;
+        final int numberOfSubsets = 1 << numberOfSubsetLocations;
+        final int unset = findLongest ? Integer.MIN_VALUE : Integer.MAX_VALUE;
 
-            final int distanceOfPath = calculateDistance(newPermutation);
-            maximumDistance = Math.max(maximumDistance, distanceOfPath);
+        final int[] bestDistances = new int[numberOfSubsets * numberOfSubsetLocations];
+        Arrays.fill(bestDistances, unset);
+        for (int location = 0; location < numberOfSubsetLocations; location++) {
+            bestDistances[(1 << location) * numberOfSubsetLocations + location] = loopsToStart ? distances[0][location + offset] : 0;
         }
 
-        return maximumDistance;
-    }
+        for (int subset = 1; subset < numberOfSubsets; subset++) {
+            for (int last = 0; last < numberOfSubsetLocations; last++) {
+                final int distanceToLast = bestDistances[subset * numberOfSubsetLocations + last];
+                if (distanceToLast == unset) {
+                    continue;
+                }
+
+                final int[] distancesFromLast = distances[last + offset];
+                for (int next = 0; next < numberOfSubsetLocations; next++) {
+                    final int nextBit = 1 << next;
+                    if ((subset & nextBit) != 0) {
+                        continue;
+                    }
+
+                    final int index = (subset | nextBit) * numberOfSubsetLocations + next;
+                    final int distance = distanceToLast + distancesFromLast[next + offset];
+                    if (bestDistances[index] == unset || isBetter(distance, bestDistances[index], findLongest)) {
+                        bestDistances[index] = distance;
+                    }
+                }
+            }
+        }
 
-    private int calculateDistance(final List<String> permutation) {
-        final int permutationLengthExceptLast = permutation.size() - 1;
-        int totalDistance = 0;
-        for (int i = 0; i < permutationLengthExceptLast; i++) {
-            final String from = permutation.get(i);
-            final String to = permutation.get(i + 1);
-            totalDistance += getValue(from, to);
+        final int allLocations = numberOfSubsets - 1;
+        int bestDistance = unset;
+        for (int last = 0; last < numberOfSubsetLocations; last++) {
+            final int distanceToLast = bestDistances[allLocations * numberOfSubsetLocations + last];
+            final int distance = loopsToStart ? distanceToLast + distances[last + offset][0] : distanceToLast;
 
-            if (isEnabled(Option.CALCULATE_BOTH_DIRECTIONS)) {
-                totalDistance += getValue(to, from);
+            if (bestDistance == unset || isBetter(distance, bestDistance, findLongest)) {
+                bestDistance = distance;
             }
         }
+        return bestDistance;
+    }
+
+    private static boolean isBetter(final int distance, final int currentBestDistance, final boolean findLongest) {
+        return findLongest ? distance > currentBestDistance : distance < currentBestDistance;
+    }
+
+    // Returns the existing index of the location, or interns it to the next index if it has not been seen before
+    private static int indexOf(final Map<String, Integer> indexByLocation, final String location) {
+        final Integer existingIndex = indexByLocation.putIfAbsent(location, indexByLocation.size());
+        return existingIndex == null ? indexByLocation.size() - 1 : existingIndex;
+    }
 
-        return totalDistance;
+    private static int calculateDistance(final int[][] routeDistances,
+                                         final boolean[][] hasRoute,
+                                         final List<String> locations,
+                                         final int from,
+                                         final int to,
+                                         final Set<Option> options
+    ) {
+        final int distance = getValue(routeDistances, hasRoute, locations, from, to, options);
+        return options.contains(Option.CALCULATE_BOTH_DIRECTIONS)
+            ? distance + getValue(routeDistances, hasRoute, locations, to, from, options)
+            : distance;
     }
 
-    private int getValue(final String from, final String to) {
-        final String key = from + to;
-        if (distancesBySourceAndDestination.containsKey(key)) {
-            return distancesBySourceAndDestination.get(key);
+    private static int getValue(final int[][] routeDistances,
+                                final boolean[][] hasRoute,
+                                final List<String> locations,
+                                final int from,
+                                final int to,
+                                final Set<Option> options
+    ) {
+        if (hasRoute[from][to]) {
+            return routeDistances[from][to];
         }
 
-        if (isEnabled(Option.UNI_DIRECTIONAL_DISTANCES)) {
-            throw new IllegalArgumentException(
-                String.format("Unable to find a value for %s in saved values %s", key, distancesBySourceAndDestination));
+        if (options.contains(Option.UNI_DIRECTIONAL_DISTANCES)) {
+            throw new IllegalArgumentException(String.format("Unable to find a route from %s to %s", locations.get(from), locations.get(to)));
         }
 
-        final String reverseKey = to + from;
-        if (distancesBySourceAndDestination.containsKey(reverseKey)) {
-            return distancesBySourceAndDestination.get(reverseKey);
+        if (hasRoute[to][from]) {
+            return routeDistances[to][from];
         }
 
-        throw new IllegalArgumentException(
-            String.format("Unable to find a value for %s or %s in saved values %s", key, reverseKey, distancesBySourceAndDestination));
+        throw new IllegalArgumentException(String.format("Unable to find a route between %s and %s", locations.get(from), locations.get(to)));
     }
 
     private boolean isEnabled(final Option option) {
@@ -0,0 +1,39 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Defines the edges from a state in a search. Rather than returning a collection of neighbours, each neighbour and the cost to reach it is passed to
+ * an {@link ObjLongConsumer}, so no collection needs to be created for each expanded state.
+ *
+ * @param <S> the type of the state
+ * @see ShortestPathSearcher
+ */
+@FunctionalInterface
+public interface EdgeFunction<S> {
+
+    /**
+     * Passes each neighbour of the {@code state} and the cost to move to it to the {@code edgeConsumer}.
+     *
+     * @param state        the current state
+     * @param edgeConsumer the {@link ObjLongConsumer} accepting each neighbour state and its cost
+     */
+    void forEachEdge(S state, ObjLongConsumer<S> edgeConsumer);
+}
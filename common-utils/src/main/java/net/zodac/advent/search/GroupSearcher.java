@@ -17,14 +17,14 @@
 
 package net.zodac.advent.search;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Predicate;
 import net.zodac.advent.grid.AdjacentDirection;
-import net.zodac.advent.grid.AdjacentPointsSelector;
 import net.zodac.advent.grid.Grid;
 import net.zodac.advent.grid.Point;
 
@@ -34,6 +34,9 @@ import net.zodac.advent.grid.Point;
  */
 public final class GroupSearcher {
 
+    private static final int MAX_NUMBER_OF_CARDINAL_NEIGHBOURS = 4;
+    private static final int NO_GROUP = -1;
+
     private GroupSearcher() {
 
     }
@@ -47,55 +50,189 @@ public final class GroupSearcher {
      * @return the groups, keyed by value
      */
     public static <E> Map<E, Set<Set<Point>>> findGroups(final Grid<? extends E> grid) {
-        // Map to store the result
+        final int[] labels = new int[grid.elementsInGrid()];
+        final int numberOfGroups = label(grid, labels, new int[labels.length]);
+
+        final List<Set<Point>> groups = new ArrayList<>(numberOfGroups);
+        for (int i = 0; i < numberOfGroups; i++) {
+            groups.add(new HashSet<>());
+        }
+
+        for (int index = 0; index < labels.length; index++) {
+            groups.get(labels[index]).add(grid.pointOf(index));
+        }
+
         final Map<E, Set<Set<Point>>> groupedPointsByValue = new HashMap<>();
-        final Set<Point> visited = new HashSet<>();
+        for (final Set<Point> group : groups) {
+            final E value = grid.at(group.iterator().next());
+            groupedPointsByValue
+                .computeIfAbsent(value, _ -> new HashSet<>())
+                .add(group);
+        }
+
+        return groupedPointsByValue;
+    }
+
+    /**
+     * Searches the input {@link Grid} for all groups, and labels each index of the {@link Grid} with its group. Rather than materialising the
+     * {@link Point}s of each group, a {@link GroupSummary} is returned for each group with its area, perimeter and number of sides.
+     *
+     * <p>
+     * The groups are found with an iterative flood-fill, so large groups will not overflow the stack.
+     *
+     * @param grid the {@link Grid} to search
+     * @param <E>  the type of the {@link Grid}
+     * @return the {@link LabelledGroups}
+     */
+    public static <E> LabelledGroups labelGroups(final Grid<? extends E> grid) {
         final int numberOfRows = grid.numberOfRows();
         final int numberOfColumns = grid.numberOfColumns();
+        final int[] labels = new int[grid.elementsInGrid()];
+        final int[] firstIndexByLabel = new int[labels.length];
+        final int numberOfGroups = label(grid, labels, firstIndexByLabel);
 
-        for (int i = 0; i < numberOfRows; i++) {
-            for (int j = 0; j < numberOfColumns; j++) {
-                final Point currentPoint = Point.of(i, j);
-                if (visited.contains(currentPoint)) {
-                    continue;
-                }
+        final long[] areas = new long[numberOfGroups];
+        final long[] perimeters = new long[numberOfGroups];
+        final long[] corners = new long[numberOfGroups];
+
+        for (int index = 0; index < labels.length; index++) {
+            final int label = labels[index];
+            final int row = index / numberOfColumns;
+            final int column = index % numberOfColumns;
+
+            final boolean up = isInGroup(labels, numberOfRows, numberOfColumns, row - 1, column, label);
+            final boolean down = isInGroup(labels, numberOfRows, numberOfColumns, row + 1, column, label);
+            final boolean left = isInGroup(labels, numberOfRows, numberOfColumns, row, column - 1, label);
+            final boolean right = isInGroup(labels, numberOfRows, numberOfColumns, row, column + 1, label);
+
+            areas[label]++;
+            perimeters[label] += countEdge(up) + countEdge(down) + countEdge(left) + countEdge(right);
+
+            // The number of sides of a group is equal to the number of corners, so count the corners of each index
+            corners[label] += countCorner(up, left, isInGroup(labels, numberOfRows, numberOfColumns, row - 1, column - 1, label))
+                + countCorner(up, right, isInGroup(labels, numberOfRows, numberOfColumns, row - 1, column + 1, label))
+                + countCorner(down, right, isInGroup(labels, numberOfRows, numberOfColumns, row + 1, column + 1, label))
+                + countCorner(down, left, isInGroup(labels, numberOfRows, numberOfColumns, row + 1, column - 1, label));
+        }
+
+        final List<GroupSummary> groups = new ArrayList<>(numberOfGroups);
+        for (int label = 0; label < numberOfGroups; label++) {
+            groups.add(new GroupSummary(label, firstIndexByLabel[label], areas[label], perimeters[label], corners[label]));
+        }
+
+        return new LabelledGroups(numberOfColumns, labels, groups);
+    }
+
+    /**
+     * Searches the input {@link Grid} for all grouped {@link Point}s, using a {@link UnionFind} rather than a flood-fill. Each index is merged with
+     * its right and lower neighbours if they have the same value, so the {@link Grid} is scanned once in row-major order with no search stack. The
+     * result is the same as {@link #findGroups(Grid)}.
+     *
+     * @param grid the {@link Grid} to search
+     * @param <E>  the type of the {@link Grid}
+     * @return the groups, keyed by value
+     */
+    public static <E> Map<E, Set<Set<Point>>> findGroupsUsingUnionFind(final Grid<? extends E> grid) {
+        final int numberOfColumns = grid.numberOfColumns();
+        final int elementsInGrid = grid.elementsInGrid();
+        final UnionFind unionFind = new UnionFind(elementsInGrid);
+
+        // Only the right and lower neighbours need to be checked, since the left and upper neighbours have already been merged with this index
+        for (int index = 0; index < elementsInGrid; index++) {
+            final E value = grid.at(index);
 
-                // Perform DFS to find all connected points, and update the input collection
-                final Set<Point> groupedPoints = new HashSet<>();
-                final E currentValue = grid.at(currentPoint);
-                dfs(currentPoint, grid, visited, groupedPoints, point -> grid.at(point).equals(currentValue));
+            if ((index % numberOfColumns) < numberOfColumns - 1 && value.equals(grid.at(index + 1))) {
+                unionFind.union(index, index + 1);
+            }
 
-                // Add the component to the map
-                groupedPointsByValue
-                    .computeIfAbsent(currentValue, _ -> new HashSet<>())
-                    .add(groupedPoints);
+            if (index + numberOfColumns < elementsInGrid && value.equals(grid.at(index + numberOfColumns))) {
+                unionFind.union(index, index + numberOfColumns);
             }
         }
 
+        // Collect the points of each set, in the order the sets are first seen
+        final int[] groupIdsByRoot = new int[elementsInGrid];
+        Arrays.fill(groupIdsByRoot, NO_GROUP);
+        final List<Set<Point>> groups = new ArrayList<>(unionFind.numberOfSets());
+        final Map<E, Set<Set<Point>>> groupedPointsByValue = new HashMap<>();
+
+        for (int index = 0; index < elementsInGrid; index++) {
+            final int root = unionFind.find(index);
+            if (groupIdsByRoot[root] == NO_GROUP) {
+                groupIdsByRoot[root] = groups.size();
+                groups.add(new HashSet<>());
+            }
+            groups.get(groupIdsByRoot[root]).add(grid.pointOf(index));
+        }
+
+        for (final Set<Point> group : groups) {
+            final E value = grid.at(group.iterator().next());
+            groupedPointsByValue
+                .computeIfAbsent(value, _ -> new HashSet<>())
+                .add(group);
+        }
+
         return groupedPointsByValue;
     }
 
-    private static <E> void dfs(final Point pointToCheck,
-                                final Grid<E> grid,
-                                final Set<? super Point> visited,
-                                final Set<? super Point> currentGroup,
-                                final Predicate<? super Point> predicate
-    ) {
-        // Check if the point has already been checked, out of bounds or already visited or not meeting the predicate
-        if (visited.contains(pointToCheck) || !grid.exists(pointToCheck) || !predicate.test(pointToCheck)) {
-            return;
+    private static <E> int label(final Grid<E> grid, final int[] labels, final int[] firstIndexByLabel) {
+        Arrays.fill(labels, NO_GROUP);
+        final int[] indicesToCheck = new int[labels.length];
+        final int[] neighbours = new int[MAX_NUMBER_OF_CARDINAL_NEIGHBOURS];
+        int numberOfGroups = 0;
+
+        for (int index = 0; index < labels.length; index++) {
+            if (labels[index] == NO_GROUP) {
+                firstIndexByLabel[numberOfGroups] = index;
+                fill(index, numberOfGroups, grid, labels, indicesToCheck, neighbours);
+                numberOfGroups++;
+            }
         }
 
-        // Add the current point to the group and mark as visited to skip in future iterations
-        currentGroup.add(pointToCheck);
-        visited.add(pointToCheck);
+        return numberOfGroups;
+    }
+
+    private static <E> void fill(final int startIndex,
+                                 final int label,
+                                 final Grid<E> grid,
+                                 final int[] labels,
+                                 final int[] indicesToCheck,
+                                 final int[] neighbours
+    ) {
+        final E wantedValue = grid.at(startIndex);
+
+        // Indices are labelled when added to the stack, so each index is added at most once and the stack cannot overflow
+        int numberOfIndicesToCheck = 0;
+        indicesToCheck[numberOfIndicesToCheck++] = startIndex;
+        labels[startIndex] = label;
 
-        final AdjacentPointsSelector adjacentPointsSelector = AdjacentPointsSelector.bounded(false, AdjacentDirection.CARDINAL, grid.size());
-        final List<Point> neighbourPoints = pointToCheck.getAdjacentPoints(adjacentPointsSelector).toList();
+        while (numberOfIndicesToCheck > 0) {
+            final int indexToCheck = indicesToCheck[--numberOfIndicesToCheck];
 
-        // Recursively check all neighbours to update current group
-        for (final Point neighbourPoint : neighbourPoints) {
-            dfs(neighbourPoint, grid, visited, currentGroup, predicate);
+            final int numberOfNeighbours = grid.neighbourIndices(indexToCheck, AdjacentDirection.CARDINAL, neighbours);
+            for (int i = 0; i < numberOfNeighbours; i++) {
+                final int neighbourIndex = neighbours[i];
+
+                if (labels[neighbourIndex] == NO_GROUP && grid.at(neighbourIndex).equals(wantedValue)) {
+                    labels[neighbourIndex] = label;
+                    indicesToCheck[numberOfIndicesToCheck++] = neighbourIndex;
+                }
+            }
         }
     }
+
+    private static boolean isInGroup(final int[] labels, final int numberOfRows, final int numberOfColumns, final int row, final int column,
+                                     final int label) {
+        return row >= 0 && row < numberOfRows && column >= 0 && column < numberOfColumns && labels[row * numberOfColumns + column] == label;
+    }
+
+    // An edge exists between an index and its neighbour if the neighbour is not in the same group
+    private static int countEdge(final boolean neighbourInGroup) {
+        return neighbourInGroup ? 0 : 1;
+    }
+
+    // A corner exists on the outside of a group if neither side is in the group, or on the inside if both sides are but the diagonal is not
+    private static int countCorner(final boolean firstSide, final boolean secondSide, final boolean diagonal) {
+        return (!firstSide && !secondSide) || (firstSide && secondSide && !diagonal) ? 1 : 0;
+    }
 }
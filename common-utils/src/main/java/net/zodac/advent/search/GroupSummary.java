@@ -0,0 +1,31 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+/**
+ * Summary of a single group found by {@link GroupSearcher#labelGroups(net.zodac.advent.grid.Grid)}.
+ *
+ * @param label      the label of the group, as stored in the {@link LabelledGroups}
+ * @param firstIndex the first index (in row-major order) of the {@link net.zodac.advent.grid.Grid} which belongs to the group
+ * @param area       the number of elements in the group
+ * @param perimeter  the number of edges between the group and any other group (or the edge of the {@link net.zodac.advent.grid.Grid})
+ * @param sides      the number of straight sides in the perimeter, which is equal to the number of corners
+ */
+public record GroupSummary(int label, int firstIndex, long area, long perimeter, long sides) {
+
+}
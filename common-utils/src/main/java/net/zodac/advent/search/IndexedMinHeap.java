@@ -0,0 +1,157 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of {@code int} ids, each with a {@code long} priority. The heap position of each id is tracked, so the priority of an id that is
+ * already in the heap can be decreased in place, rather than adding a duplicate entry.
+ */
+final class IndexedMinHeap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NOT_IN_HEAP = -1;
+
+    private int[] heap = new int[DEFAULT_CAPACITY];
+    private int[] positionsById = new int[0];
+    private long[] prioritiesById = new long[0];
+    private int size;
+
+    /**
+     * Checks if the heap has no ids.
+     *
+     * @return {@code true} if the heap is empty
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds the {@code id} to the heap with the given {@code priority}. If the {@code id} is already in the heap, its priority is lowered to
+     * {@code priority} if that is smaller than its current priority, otherwise the heap is unchanged.
+     *
+     * @param id       the id, which must be at least <b>0</b>
+     * @param priority the priority of the id
+     */
+    void insertOrDecrease(final int id, final long priority) {
+        ensureIdCapacity(id);
+
+        final int position = positionsById[id];
+        if (position == NOT_IN_HEAP) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, size * 2);
+            }
+
+            prioritiesById[id] = priority;
+            heap[size] = id;
+            positionsById[id] = size;
+            siftUp(size);
+            size++;
+        } else if (priority < prioritiesById[id]) {
+            prioritiesById[id] = priority;
+            siftUp(position);
+        }
+    }
+
+    /**
+     * Removes and returns the id with the lowest priority.
+     *
+     * @return the id with the lowest priority
+     * @throws IllegalStateException thrown if the heap is empty
+     */
+    int poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+
+        final int lowestId = heap[0];
+        positionsById[lowestId] = NOT_IN_HEAP;
+        size--;
+
+        if (size > 0) {
+            heap[0] = heap[size];
+            positionsById[heap[0]] = 0;
+            siftDown(0);
+        }
+        return lowestId;
+    }
+
+    private void siftUp(final int startPosition) {
+        final int id = heap[startPosition];
+        final long priority = prioritiesById[id];
+
+        int position = startPosition;
+        while (position > 0) {
+            final int parentPosition = (position - 1) >>> 1;
+            final int parentId = heap[parentPosition];
+            if (prioritiesById[parentId] <= priority) {
+                break;
+            }
+
+            heap[position] = parentId;
+            positionsById[parentId] = position;
+            position = parentPosition;
+        }
+
+        heap[position] = id;
+        positionsById[id] = position;
+    }
+
+    private void siftDown(final int startPosition) {
+        final int id = heap[startPosition];
+        final long priority = prioritiesById[id];
+
+        int position = startPosition;
+        while (true) {
+            int childPosition = (position * 2) + 1;
+            if (childPosition >= size) {
+                break;
+            }
+
+            // Pick the smaller of the two children
+            if (childPosition + 1 < size && prioritiesById[heap[childPosition + 1]] < prioritiesById[heap[childPosition]]) {
+                childPosition++;
+            }
+
+            final int childId = heap[childPosition];
+            if (priority <= prioritiesById[childId]) {
+                break;
+            }
+
+            heap[position] = childId;
+            positionsById[childId] = position;
+            position = childPosition;
+        }
+
+        heap[position] = id;
+        positionsById[id] = position;
+    }
+
+    private void ensureIdCapacity(final int id) {
+        if (id < positionsById.length) {
+            return;
+        }
+
+        final int oldLength = positionsById.length;
+        final int newLength = Math.max(id + 1, Math.max(DEFAULT_CAPACITY, oldLength * 2));
+        positionsById = Arrays.copyOf(positionsById, newLength);
+        prioritiesById = Arrays.copyOf(prioritiesById, newLength);
+        Arrays.fill(positionsById, oldLength, newLength, NOT_IN_HEAP);
+    }
+}
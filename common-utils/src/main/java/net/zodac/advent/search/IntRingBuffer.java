@@ -0,0 +1,117 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+/**
+ * A double-ended queue of {@code int} values, backed by a ring buffer which grows as needed. Used in place of a {@link java.util.Deque} of
+ * {@link Integer}s to avoid boxing each value.
+ */
+final class IntRingBuffer {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values;
+    private int head;
+    private int size;
+
+    /**
+     * Creates an empty {@link IntRingBuffer} with a default capacity.
+     */
+    IntRingBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty {@link IntRingBuffer} with space for {@code initialCapacity} values before it needs to grow.
+     *
+     * @param initialCapacity the initial capacity
+     */
+    IntRingBuffer(final int initialCapacity) {
+        values = new int[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Checks if the {@link IntRingBuffer} has no values.
+     *
+     * @return {@code true} if the {@link IntRingBuffer} is empty
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all values from the {@link IntRingBuffer}, keeping its current capacity.
+     */
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the {@code value} to the front of the {@link IntRingBuffer}.
+     *
+     * @param value the value to add
+     */
+    void addFirst(final int value) {
+        growIfFull();
+        head = (head - 1 + values.length) % values.length;
+        values[head] = value;
+        size++;
+    }
+
+    /**
+     * Adds the {@code value} to the back of the {@link IntRingBuffer}.
+     *
+     * @param value the value to add
+     */
+    void addLast(final int value) {
+        growIfFull();
+        values[(head + size) % values.length] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the value at the front of the {@link IntRingBuffer}.
+     *
+     * @return the first value
+     * @throws IllegalStateException thrown if the {@link IntRingBuffer} is empty
+     */
+    int pollFirst() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+
+        final int value = values[head];
+        head = (head + 1) % values.length;
+        size--;
+        return value;
+    }
+
+    private void growIfFull() {
+        if (size < values.length) {
+            return;
+        }
+
+        final int[] newValues = new int[values.length * 2];
+        final int valuesUntilEnd = Math.min(size, values.length - head);
+        System.arraycopy(values, head, newValues, 0, valuesUntilEnd);
+        System.arraycopy(values, 0, newValues, valuesUntilEnd, size - valuesUntilEnd);
+        values = newValues;
+        head = 0;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+import java.util.List;
+
+/**
+ * Result of {@link GroupSearcher#labelGroups(net.zodac.advent.grid.Grid)}. Each index of the {@link net.zodac.advent.grid.Grid} is assigned the
+ * label of its group, with labels starting from {@code 0} in the order the groups are first seen in row-major order.
+ */
+public final class LabelledGroups {
+
+    private final int numberOfColumns;
+    private final int[] labels;
+    private final List<GroupSummary> groups;
+
+    /**
+     * Creates the {@link LabelledGroups}. The {@code labels} are not copied, so must not be updated after being passed in.
+     *
+     * @param numberOfColumns the number of columns in the {@link net.zodac.advent.grid.Grid}, used to convert a row and column into an index
+     * @param labels          the label of each index in the {@link net.zodac.advent.grid.Grid}, in row-major order
+     * @param groups          the {@link GroupSummary} for each label
+     */
+    LabelledGroups(final int numberOfColumns, final int[] labels, final List<GroupSummary> groups) {
+        this.numberOfColumns = numberOfColumns;
+        this.labels = labels;
+        this.groups = List.copyOf(groups);
+    }
+
+    /**
+     * Retrieves the label of the group at the given index.
+     *
+     * @param index the row-major index in the {@link net.zodac.advent.grid.Grid}
+     * @return the label of the group
+     */
+    public int labelAt(final int index) {
+        return labels[index];
+    }
+
+    /**
+     * Retrieves the label of the group at the given row and column.
+     *
+     * @param row    the row
+     * @param column the column
+     * @return the label of the group
+     */
+    public int labelAt(final int row, final int column) {
+        return labels[row * numberOfColumns + column];
+    }
+
+    /**
+     * The {@link GroupSummary} for each group, where the {@link GroupSummary} for label {@code n} is at index {@code n}.
+     *
+     * @return the {@link GroupSummary}s
+     */
+    public List<GroupSummary> groups() {
+        return groups;
+    }
+
+    /**
+     * The number of groups found.
+     *
+     * @return the number of groups
+     */
+    public int numberOfGroups() {
+        return groups.size();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+import java.util.Arrays;
+
+/**
+ * An open-addressing hash map from {@code long} keys to non-negative {@code int} values, using linear probing. Neither keys nor values are boxed, so
+ * a state packed into a {@code long} can be mapped to its id without allocating.
+ */
+final class LongIntHashMap {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int EMPTY = -1;
+    private static final long HASH_MULTIPLIER = 0x9E37_79B9_7F4A_7C15L;
+
+    private long[] keys = new long[DEFAULT_CAPACITY];
+    private int[] values = filledWithEmpty(DEFAULT_CAPACITY);
+    private int mask = DEFAULT_CAPACITY - 1;
+    private int size;
+
+    /**
+     * Maps the {@code key} to the {@code value}, unless the {@code key} is already mapped.
+     *
+     * @param key   the key
+     * @param value the value, which must be at least <b>0</b>
+     * @return the existing value for the {@code key}, or <b>-1</b> if the {@code key} was not mapped and {@code value} was added
+     */
+    int putIfAbsent(final long key, final int value) {
+        int slot = slotOf(key);
+        while (values[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+
+        // Keep the load factor at or below 0.5, so probe sequences stay short
+        if (size * 2 > keys.length) {
+            resize();
+        }
+        return EMPTY;
+    }
+
+    private int slotOf(final long key) {
+        final long hash = key * HASH_MULTIPLIER;
+        return (int) (hash ^ (hash >>> Integer.SIZE)) & mask;
+    }
+
+    private void resize() {
+        final long[] oldKeys = keys;
+        final int[] oldValues = values;
+
+        keys = new long[oldKeys.length * 2];
+        values = filledWithEmpty(keys.length);
+        mask = keys.length - 1;
+
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            if (oldValues[oldSlot] != EMPTY) {
+                int slot = slotOf(oldKeys[oldSlot]);
+                while (values[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[oldSlot];
+                values[slot] = oldValues[oldSlot];
+            }
+        }
+    }
+
+    private static int[] filledWithEmpty(final int capacity) {
+        final int[] emptyValues = new int[capacity];
+        Arrays.fill(emptyValues, EMPTY);
+        return emptyValues;
+    }
+}
@@ -19,6 +19,8 @@ package net.zodac.advent.search;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
 import net.zodac.advent.function.TriFunction;
 import net.zodac.advent.grid.Direction;
 import net.zodac.advent.grid.Grid;
@@ -30,6 +32,13 @@ import net.zodac.advent.pojo.tuple.Pair;
  */
 public final class LoopFinder {
 
+    /**
+     * The state returned by a state transition function to signify that the traversal has ended (for example, by leaving the {@link Grid}).
+     */
+    public static final int TERMINATED = -1;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
     private LoopFinder() {
 
     }
@@ -79,6 +88,7 @@ public final class LoopFinder {
      * @param pointUpdate     the {@link TriFunction} rule to define how to move from the current {@link Point} to the next
      * @param <E>             the type of the {@link Grid} to search
      * @return {@code true} if a loop exists within the {@link Grid} based on the update rules
+     * @see #doesLoopExist(int, IntUnaryOperator, VisitedStateSet)
      */
     public static <E> boolean doesLoopExist(final Grid<E> grid, final Point startPoint, final Direction startDirection,
                                             final TriFunction<? super Grid<E>, ? super Point, ? super Direction, Direction> directionUpdate,
@@ -102,4 +112,152 @@ public final class LoopFinder {
             currentPoint = pointUpdate.apply(grid, currentPoint, currentDirection);
         }
     }
+
+    /**
+     * Traverses a sequence of states, beginning at {@code startState}, and checks if any state is revisited. Each state must be in the range
+     * {@code [0, visitedStates.numberOfStates())}, and the traversal ends without a loop once {@code nextState} returns {@link #TERMINATED}.
+     *
+     * <p>
+     * Unlike {@link #doesLoopExist(Grid, Point, Direction, TriFunction, TriFunction)}, no objects are created during the traversal. A {@link Point}
+     * and {@link Direction} on a {@link Grid} can be encoded as a single state with {@link #packState(int, Direction)}, and the
+     * {@link VisitedStateSet} (sized by {@link #numberOfStates(Grid)}) is cleared in {@code O(1)} time, so it can be reused for every check. When
+     * checking in parallel, each thread needs its own {@link VisitedStateSet}:
+     *
+     * <p>
+     * {@snippet :
+     *     final ThreadLocal<VisitedStateSet> visitedStates = ThreadLocal.withInitial(() -> VisitedStateSet.create(LoopFinder.numberOfStates(grid)));
+     *     final long numberOfLoops = candidates
+     *         .parallelStream()
+     *         .filter(candidate -> LoopFinder.doesLoopExist(startState, state -> nextState(candidate, state), visitedStates.get()))
+     *         .count();
+     *}
+     *
+     * @param startState    the initial state
+     * @param nextState     the {@link IntUnaryOperator} returning the state following the current state, or {@link #TERMINATED}
+     * @param visitedStates the {@link VisitedStateSet} used to track the visited states, which is cleared before the traversal
+     * @return {@code true} if a state is revisited
+     */
+    public static boolean doesLoopExist(final int startState, final IntUnaryOperator nextState, final VisitedStateSet visitedStates) {
+        visitedStates.clear();
+
+        int state = startState;
+        while (state != TERMINATED) {
+            if (!visitedStates.add(state)) {
+                return true;
+            }
+            state = nextState.applyAsInt(state);
+        }
+        return false;
+    }
+
+    /**
+     * Traverses a sequence of states, beginning at {@code startState}, and checks if any state is revisited. The traversal ends without a loop
+     * once {@code nextState} returns {@link #TERMINATED}, so all other states must be non-negative.
+     *
+     * <p>
+     * No states are stored, so this can be used when there are too many possible states to track with a {@link VisitedStateSet}, at the cost of
+     * calling {@code nextState} more than once for some states. The {@code nextState} function must therefore be deterministic.
+     *
+     * @param startState              the initial state
+     * @param nextState               the {@link LongUnaryOperator} returning the state following the current state, or {@link #TERMINATED}
+     * @param cycleDetectionAlgorithm the {@link CycleDetectionAlgorithm} to use
+     * @return {@code true} if a state is revisited
+     */
+    public static boolean doesLoopExist(final long startState, final LongUnaryOperator nextState,
+                                        final CycleDetectionAlgorithm cycleDetectionAlgorithm) {
+        if (startState == TERMINATED) {
+            return false;
+        }
+
+        return switch (cycleDetectionAlgorithm) {
+            case FLOYD -> doesLoopExistFloyd(startState, nextState);
+            case BRENT -> doesLoopExistBrent(startState, nextState);
+        };
+    }
+
+    /**
+     * Encodes a {@link Grid} index and {@link Direction} into a single state.
+     *
+     * @param index     the index of the {@link Point} in the {@link Grid}
+     * @param direction the {@link Direction}
+     * @return the state
+     * @see Grid#indexOf(Point)
+     */
+    public static int packState(final int index, final Direction direction) {
+        return index * DIRECTIONS.length + direction.ordinal();
+    }
+
+    /**
+     * Decodes the {@link Grid} index from a state created by {@link #packState(int, Direction)}.
+     *
+     * @param state the state
+     * @return the index of the {@link Point} in the {@link Grid}
+     */
+    public static int indexOfState(final int state) {
+        return state / DIRECTIONS.length;
+    }
+
+    /**
+     * Decodes the {@link Direction} from a state created by {@link #packState(int, Direction)}.
+     *
+     * @param state the state
+     * @return the {@link Direction}
+     */
+    public static Direction directionOfState(final int state) {
+        return DIRECTIONS[state % DIRECTIONS.length];
+    }
+
+    /**
+     * Returns the number of states that can be created by {@link #packState(int, Direction)} for the {@link Grid}.
+     *
+     * @param grid the {@link Grid}
+     * @return the number of possible states
+     */
+    public static int numberOfStates(final Grid<?> grid) {
+        return Math.multiplyExact(grid.elementsInGrid(), DIRECTIONS.length);
+    }
+
+    private static boolean doesLoopExistFloyd(final long startState, final LongUnaryOperator nextState) {
+        long tortoise = startState;
+        long hare = startState;
+
+        while (true) {
+            hare = nextState.applyAsLong(hare);
+            if (hare == TERMINATED) {
+                return false;
+            }
+
+            hare = nextState.applyAsLong(hare);
+            if (hare == TERMINATED) {
+                return false;
+            }
+
+            tortoise = nextState.applyAsLong(tortoise);
+            if (tortoise == hare) {
+                return true;
+            }
+        }
+    }
+
+    private static boolean doesLoopExistBrent(final long startState, final LongUnaryOperator nextState) {
+        long power = 1L;
+        long length = 1L;
+        long tortoise = startState;
+        long hare = nextState.applyAsLong(startState);
+
+        while (hare != tortoise) {
+            if (hare == TERMINATED) {
+                return false;
+            }
+
+            if (power == length) {
+                tortoise = hare;
+                power <<= 1;
+                length = 0L;
+            }
+            hare = nextState.applyAsLong(hare);
+            length++;
+        }
+        return true;
+    }
 }
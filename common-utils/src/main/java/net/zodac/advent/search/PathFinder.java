@@ -18,17 +18,13 @@
 package net.zodac.advent.search;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Queue;
 import java.util.SequencedSet;
 import java.util.Set;
 import java.util.function.BiPredicate;
+import net.zodac.advent.function.IntBiPredicate;
 import net.zodac.advent.grid.AdjacentDirection;
 import net.zodac.advent.grid.AdjacentPointsSelector;
 import net.zodac.advent.grid.Grid;
@@ -36,6 +32,13 @@ import net.zodac.advent.grid.Point;
 
 /**
  * Utility class used to perform different types of path-finding algorithms on {@link Point}s within a {@link Grid}.
+ *
+ * <p>
+ * The Breadth-First-Search here is kept separate from {@link ShortestPathSearcher}, which can search over any type of state. That has to assign
+ * an id to each state as it is discovered (through a {@link java.util.HashMap} or a packed {@code long} key), and boxes each {@link Integer}
+ * state passed through its {@link EdgeFunction}. Within a {@link Grid}, every {@link Point} already has a dense index, so the index is used as the
+ * id directly, with no lookup, allocation or resizing, and the neighbours are found with bounds checks on the row and column. Searches over
+ * anything other than a single {@link Grid} should use {@link ShortestPathSearcher}.
  */
 public final class PathFinder {
 
@@ -55,53 +58,144 @@ public final class PathFinder {
      * @param adjacentPointFilter the {@link BiPredicate} to filter potential neighbour {@link Point}s
      * @param <E>                 the type of the {@link Grid}
      * @return the shortest paths from the start {@link Point} to the end {@link Point} as a {@link SequencedSet}
-     * @see AdjacentPointsSelector
+     * @see #shortestIndices(Grid, int, int, AdjacentDirection, IntBiPredicate)
      */
     public static <E> SequencedSet<Point> shortest(final Grid<E> grid, final Point startPoint, final Point endPoint,
                                                    final AdjacentDirection adjacentDirection,
                                                    final BiPredicate<? super Point, ? super Point> adjacentPointFilter) {
-        final Map<Point, Point> previousPointsInPath = new HashMap<>();
-        final Queue<Point> queue = new LinkedList<>();
-        queue.add(startPoint);
+        final int[] path = shortestIndices(grid, grid.indexOf(startPoint), grid.indexOf(endPoint), adjacentDirection,
+            (currentIndex, nextIndex) -> adjacentPointFilter.test(grid.pointOf(currentIndex), grid.pointOf(nextIndex)));
+        return toPoints(grid, path);
+    }
+
+    /**
+     * Finds the shortest possible path between the start index and the end index of a {@link Grid} using Breadth-First-Search, where each
+     * {@link Point} is represented by its index in the {@link Grid} (see {@link Grid#indexOf(int, int)}). Retrieves all neighbour indices based off
+     * the {@link AdjacentDirection}. The potential neighbours are filtered by the {@link IntBiPredicate} for the current and next index on the
+     * {@link Grid}.
+     *
+     * <p>
+     * No {@link Point}s are created during the search. The queue is a single {@code int[]}, and the parent of each visited index is stored in an
+     * {@code int[]}, which also tracks whether the index has been visited. The returned path can be converted to {@link Point}s with
+     * {@link #toPoints(Grid, int[])} if needed.
+     *
+     * @param grid                the {@link Grid} in which to search
+     * @param startIndex          the start index
+     * @param endIndex            the end index
+     * @param adjacentDirection   the {@link AdjacentDirection} to select neighbour indices
+     * @param adjacentIndexFilter the {@link IntBiPredicate} to filter potential neighbour indices
+     * @param <E>                 the type of the {@link Grid}
+     * @return the indices of the shortest path from the start index to the end index inclusive, or an empty array if no path exists
+     */
+    public static <E> int[] shortestIndices(final Grid<E> grid, final int startIndex, final int endIndex,
+                                            final AdjacentDirection adjacentDirection,
+                                            final IntBiPredicate adjacentIndexFilter) {
+        final int numberOfRows = grid.numberOfRows();
+        final int numberOfColumns = grid.numberOfColumns();
+        final boolean cardinal = AdjacentDirection.isCardinal(adjacentDirection);
+        final boolean diagonal = AdjacentDirection.isDiagonal(adjacentDirection);
 
-        // Set to track visited points
-        final Collection<Point> visited = new HashSet<>();
-        visited.add(startPoint);
+        // Each index is stored as (parent + 1), so the default value of 0 means the index has not been visited
+        final int[] parentsPlusOne = new int[grid.elementsInGrid()];
+        parentsPlusOne[startIndex] = startIndex + 1;
 
-        while (!queue.isEmpty()) {
-            final Point currentPoint = queue.poll();
+        // Indices are marked as visited when they are queued, so each is queued at most once and the queue never needs to wrap around
+        final int[] queue = new int[grid.elementsInGrid()];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = startIndex;
+
+        while (head < tail) {
+            final int currentIndex = queue[head++];
 
             // If we reach the destination, reconstruct and return the path
-            if (currentPoint.equals(endPoint)) {
-                return rebuildPath(previousPointsInPath, endPoint);
+            if (currentIndex == endIndex) {
+                return rebuildPath(parentsPlusOne, endIndex);
             }
 
-            final List<Point> validNeighbours = currentPoint
-                .getAdjacentPoints(AdjacentPointsSelector.bounded(false, adjacentDirection, grid.size()))
-                .filter(nextPoint -> adjacentPointFilter.test(currentPoint, nextPoint) && !visited.contains(nextPoint))
-                .toList();
+            final int row = currentIndex / numberOfColumns;
+            final int column = currentIndex % numberOfColumns;
+            final boolean hasUp = row > 0;
+            final boolean hasDown = row < numberOfRows - 1;
+            final boolean hasLeft = column > 0;
+            final boolean hasRight = column < numberOfColumns - 1;
+
+            if (cardinal) {
+                if (hasUp) {
+                    tail = enqueue(currentIndex, currentIndex - numberOfColumns, adjacentIndexFilter, parentsPlusOne, queue, tail);
+                }
+                if (hasDown) {
+                    tail = enqueue(currentIndex, currentIndex + numberOfColumns, adjacentIndexFilter, parentsPlusOne, queue, tail);
+                }
+                if (hasLeft) {
+                    tail = enqueue(currentIndex, currentIndex - 1, adjacentIndexFilter, parentsPlusOne, queue, tail);
+                }
+                if (hasRight) {
+                    tail = enqueue(currentIndex, currentIndex + 1, adjacentIndexFilter, parentsPlusOne, queue, tail);
+                }
+            }
 
-            for (final Point validNeighbour : validNeighbours) {
-                queue.add(validNeighbour);
-                visited.add(validNeighbour);
-                previousPointsInPath.put(validNeighbour, currentPoint);
+            if (diagonal) {
+                if (hasUp && hasLeft) {
+                    tail = enqueue(currentIndex, currentIndex - numberOfColumns - 1, adjacentIndexFilter, parentsPlusOne, queue, tail);
+                }
+                if (hasUp && hasRight) {
+                    tail = enqueue(currentIndex, currentIndex - numberOfColumns + 1, adjacentIndexFilter, parentsPlusOne, queue, tail);
+                }
+                if (hasDown && hasLeft) {
+                    tail = enqueue(currentIndex, currentIndex + numberOfColumns - 1, adjacentIndexFilter, parentsPlusOne, queue, tail);
+                }
+                if (hasDown && hasRight) {
+                    tail = enqueue(currentIndex, currentIndex + numberOfColumns + 1, adjacentIndexFilter, parentsPlusOne, queue, tail);
+                }
             }
         }
 
-        // If no path is found, return an empty list
-        return new LinkedHashSet<>();
+        // If no path is found, return an empty path
+        return new int[0];
     }
 
-    private static SequencedSet<Point> rebuildPath(final Map<Point, Point> previousPointsInPath, final Point latestPointInPath) {
+    /**
+     * Converts a path of indices in a {@link Grid} into the equivalent {@link Point}s.
+     *
+     * @param grid    the {@link Grid} the path was found in
+     * @param indices the indices of the path
+     * @param <E>     the type of the {@link Grid}
+     * @return the {@link Point}s of the path, in the same order as the {@code indices}
+     * @see #shortestIndices(Grid, int, int, AdjacentDirection, IntBiPredicate)
+     */
+    public static <E> SequencedSet<Point> toPoints(final Grid<E> grid, final int[] indices) {
         final SequencedSet<Point> path = new LinkedHashSet<>();
-        Point current = latestPointInPath;
+        for (final int index : indices) {
+            path.add(grid.pointOf(index));
+        }
+        return path;
+    }
+
+    private static int enqueue(final int currentIndex, final int nextIndex, final IntBiPredicate adjacentIndexFilter, final int[] parentsPlusOne,
+                               final int[] queue, final int tail) {
+        if (parentsPlusOne[nextIndex] != 0 || !adjacentIndexFilter.test(currentIndex, nextIndex)) {
+            return tail;
+        }
 
-        while (current != null) {
-            path.add(current);
-            current = previousPointsInPath.get(current);
+        parentsPlusOne[nextIndex] = currentIndex + 1;
+        queue[tail] = nextIndex;
+        return tail + 1;
+    }
+
+    private static int[] rebuildPath(final int[] parentsPlusOne, final int endIndex) {
+        int pathLength = 1;
+        for (int index = endIndex; parentsPlusOne[index] - 1 != index; index = parentsPlusOne[index] - 1) {
+            pathLength++;
         }
 
-        return path.reversed();
+        final int[] path = new int[pathLength];
+        int index = endIndex;
+        for (int i = pathLength - 1; i >= 0; i--) {
+            path[i] = index;
+            index = parentsPlusOne[index] - 1;
+        }
+        return path;
     }
 
     /**
@@ -144,7 +238,8 @@ public final class PathFinder {
         if (current.equals(end)) {
             paths.add(new ArrayList<>(currentPath));
         } else {
-            current.getAdjacentPoints(AdjacentPointsSelector.bounded(false, adjacentDirection, grid.size()))
+            current.getAdjacentPoints(AdjacentPointsSelector.unbounded(false, adjacentDirection))
+                .filter(grid::exists)
                 .filter(nextPoint -> adjacentPointFilter.test(current, nextPoint) && !visited.contains(nextPoint))
                 .forEach(neighbour -> dfs(grid, neighbour, end, currentPath, paths, visited, adjacentDirection, adjacentPointFilter));
         }
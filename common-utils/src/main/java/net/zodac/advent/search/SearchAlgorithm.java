@@ -0,0 +1,53 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+/**
+ * The algorithms supported by the {@link ShortestPathSearcher}.
+ */
+public enum SearchAlgorithm {
+
+    /**
+     * Breadth-First Search, where every edge has a cost of <b>1</b>. Any cost provided by the {@link EdgeFunction} is ignored.
+     *
+     * @see <a href="https://en.wikipedia.org/wiki/Breadth-first_search">Breadth-First Search</a>
+     */
+    BREADTH_FIRST,
+
+    /**
+     * 0-1 Breadth-First Search, where every edge has a cost of either <b>0</b> or <b>1</b>.
+     *
+     * @see <a href="https://cp-algorithms.com/graph/01_bfs.html">0-1 BFS</a>
+     */
+    ZERO_ONE_BREADTH_FIRST,
+
+    /**
+     * Dijkstra's algorithm, where every edge has a non-negative cost.
+     *
+     * @see <a href="https://en.wikipedia.org/wiki/Dijkstra%27s_algorithm">Dijkstra's algorithm</a>
+     */
+    DIJKSTRA,
+
+    /**
+     * A* search, where every edge has a non-negative cost and the remaining cost to a goal is estimated by a heuristic. The heuristic must never
+     * overestimate the remaining cost, and must be consistent, otherwise the result may not be the shortest path.
+     *
+     * @see <a href="https://en.wikipedia.org/wiki/A*_search_algorithm">A* search algorithm</a>
+     */
+    A_STAR
+}
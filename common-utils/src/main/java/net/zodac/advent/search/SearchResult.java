@@ -0,0 +1,74 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+import java.util.List;
+
+/**
+ * Class that holds the result of a {@link ShortestPathSearcher} invocation.
+ *
+ * @param distance the total cost of the shortest path, or {@link Long#MAX_VALUE} if no path exists
+ * @param path     the states in the shortest path, from the start state to the goal state inclusive, or empty if no path exists
+ * @param <S>      the type of the states
+ */
+public record SearchResult<S>(long distance, List<S> path) {
+
+    /**
+     * A path was found, and the {@code distance} and {@code path} are populated.
+     *
+     * @param distance the total cost of the shortest path
+     * @param path     the states in the shortest path
+     * @param <S>      the type of the states
+     * @return the successful {@link SearchResult}
+     */
+    public static <S> SearchResult<S> pathFound(final long distance, final List<S> path) {
+        return new SearchResult<>(distance, List.copyOf(path));
+    }
+
+    /**
+     * No path was found to any goal state.
+     *
+     * @param <S> the type of the states
+     * @return the unsuccessful {@link SearchResult}
+     */
+    public static <S> SearchResult<S> noPath() {
+        return new SearchResult<>(Long.MAX_VALUE, List.of());
+    }
+
+    /**
+     * Checks if the {@link SearchResult} was successful and whether a path exists.
+     *
+     * @return {@code true} if a path exists
+     */
+    public boolean doesPathExist() {
+        return !path.isEmpty();
+    }
+
+    /**
+     * Returns the goal state that was reached. Should only be checked after {@link #doesPathExist()}.
+     *
+     * @return the goal state
+     * @throws IllegalStateException thrown if no path exists
+     */
+    public S endState() {
+        if (path.isEmpty()) {
+            throw new IllegalStateException("No path found");
+        }
+        return path.getLast();
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Utility class to find the shortest path from a start state to any goal state, using one of the {@link SearchAlgorithm}s. States can be of any type,
+ * and the edges from each state are defined by an {@link EdgeFunction}.
+ *
+ * <p>
+ * Each distinct state (as defined by {@link Object#equals(Object)} and {@link Object#hashCode()}) is assigned an {@code int} id when it is first
+ * discovered. All distances, parents and visited flags are then stored in primitive arrays indexed by that id, and {@link SearchAlgorithm#DIJKSTRA}
+ * and {@link SearchAlgorithm#A_STAR} use an indexed binary heap which updates the priority of a queued state in place, rather than queueing it
+ * again.
+ *
+ * <p>
+ * Where a state already has a compact canonical form,
+ * {@link #findShortestPathByKey(Object, EdgeFunction, Predicate, SearchAlgorithm, ToLongFunction)} (or its overload taking an
+ * {@link SearchAlgorithm#A_STAR} heuristic) can be used instead, which identifies states by a packed {@code long} key rather than by
+ * {@link Object#equals(Object)}, so no boxed key or {@link Object#hashCode()} call is needed to look up a state.
+ */
+public final class ShortestPathSearcher {
+
+    private static final ToLongFunction<Object> NO_HEURISTIC = _ -> 0L;
+
+    private ShortestPathSearcher() {
+
+    }
+
+    /**
+     * Finds the shortest path from the {@code start} state to any state matching the {@code isGoal} {@link Predicate}.
+     *
+     * @param start           the start state
+     * @param edgeFunction    the {@link EdgeFunction} defining the neighbours of each state, and the cost to move to them
+     * @param isGoal          the {@link Predicate} defining whether a state is a goal state
+     * @param searchAlgorithm the {@link SearchAlgorithm} to use
+     * @param <S>             the type of the states
+     * @return the {@link SearchResult}, or {@link SearchResult#noPath()} if no goal state can be reached
+     * @throws IllegalArgumentException thrown if the {@link EdgeFunction} provides an invalid cost for the {@link SearchAlgorithm}
+     */
+    public static <S> SearchResult<S> findShortestPath(final S start,
+                                                       final EdgeFunction<S> edgeFunction,
+                                                       final Predicate<? super S> isGoal,
+                                                       final SearchAlgorithm searchAlgorithm) {
+        return findShortestPath(start, edgeFunction, isGoal, searchAlgorithm, NO_HEURISTIC);
+    }
+
+    /**
+     * Finds the shortest path from the {@code start} state to any state matching the {@code isGoal} {@link Predicate}. The {@code heuristic} is only
+     * used for {@link SearchAlgorithm#A_STAR}, and is ignored for all other {@link SearchAlgorithm}s.
+     *
+     * @param start           the start state
+     * @param edgeFunction    the {@link EdgeFunction} defining the neighbours of each state, and the cost to move to them
+     * @param isGoal          the {@link Predicate} defining whether a state is a goal state
+     * @param searchAlgorithm the {@link SearchAlgorithm} to use
+     * @param heuristic       the estimated remaining cost from a state to the closest goal state
+     * @param <S>             the type of the states
+     * @return the {@link SearchResult}, or {@link SearchResult#noPath()} if no goal state can be reached
+     * @throws IllegalArgumentException thrown if the {@link EdgeFunction} provides an invalid cost for the {@link SearchAlgorithm}
+     */
+    public static <S> SearchResult<S> findShortestPath(final S start,
+                                                       final EdgeFunction<S> edgeFunction,
+                                                       final Predicate<? super S> isGoal,
+                                                       final SearchAlgorithm searchAlgorithm,
+                                                       final ToLongFunction<? super S> heuristic) {
+        final ToLongFunction<? super S> searchHeuristic = searchAlgorithm == SearchAlgorithm.A_STAR ? heuristic : NO_HEURISTIC;
+        final Search<S> search = new Search<>(edgeFunction, searchAlgorithm, searchHeuristic, null);
+        return search.run(start, isGoal);
+    }
+
+    /**
+     * Finds the shortest path from the {@code start} state to any state matching the {@code isGoal} {@link Predicate}, where two states are
+     * considered the same if they have the same {@code stateKey}. This allows states which carry extra data that does not affect their neighbours
+     * (such as the history of how they were reached) to be deduplicated, and avoids hashing the full state.
+     *
+     * @param start           the start state
+     * @param edgeFunction    the {@link EdgeFunction} defining the neighbours of each state, and the cost to move to them
+     * @param isGoal          the {@link Predicate} defining whether a state is a goal state
+     * @param searchAlgorithm the {@link SearchAlgorithm} to use
+     * @param stateKey        the canonical {@code long} key of a state, which must be equal for two states exactly when they are the same state
+     * @param <S>             the type of the states
+     * @return the {@link SearchResult}, or {@link SearchResult#noPath()} if no goal state can be reached
+     * @throws IllegalArgumentException thrown if the {@link EdgeFunction} provides an invalid cost for the {@link SearchAlgorithm}
+     */
+    public static <S> SearchResult<S> findShortestPathByKey(final S start,
+                                                            final EdgeFunction<S> edgeFunction,
+                                                            final Predicate<? super S> isGoal,
+                                                            final SearchAlgorithm searchAlgorithm,
+                                                            final ToLongFunction<? super S> stateKey) {
+        return findShortestPathByKey(start, edgeFunction, isGoal, searchAlgorithm, NO_HEURISTIC, stateKey);
+    }
+
+    /**
+     * Finds the shortest path from the {@code start} state to any state matching the {@code isGoal} {@link Predicate}, where two states are
+     * considered the same if they have the same {@code stateKey}. The {@code heuristic} is only used for {@link SearchAlgorithm#A_STAR}, and is
+     * ignored for all other {@link SearchAlgorithm}s.
+     *
+     * @param start           the start state
+     * @param edgeFunction    the {@link EdgeFunction} defining the neighbours of each state, and the cost to move to them
+     * @param isGoal          the {@link Predicate} defining whether a state is a goal state
+     * @param searchAlgorithm the {@link SearchAlgorithm} to use
+     * @param heuristic       the estimated remaining cost from a state to the closest goal state
+     * @param stateKey        the canonical {@code long} key of a state, which must be equal for two states exactly when they are the same state
+     * @param <S>             the type of the states
+     * @return the {@link SearchResult}, or {@link SearchResult#noPath()} if no goal state can be reached
+     * @throws IllegalArgumentException thrown if the {@link EdgeFunction} provides an invalid cost for the {@link SearchAlgorithm}
+     */
+    public static <S> SearchResult<S> findShortestPathByKey(final S start,
+                                                            final EdgeFunction<S> edgeFunction,
+                                                            final Predicate<? super S> isGoal,
+                                                            final SearchAlgorithm searchAlgorithm,
+                                                            final ToLongFunction<? super S> heuristic,
+                                                            final ToLongFunction<? super S> stateKey) {
+        final ToLongFunction<? super S> searchHeuristic = searchAlgorithm == SearchAlgorithm.A_STAR ? heuristic : NO_HEURISTIC;
+        final Search<S> search = new Search<>(edgeFunction, searchAlgorithm, searchHeuristic, stateKey);
+        return search.run(start, isGoal);
+    }
+
+    /**
+     * The state of a single search. It is also used as the {@link ObjLongConsumer} passed to the {@link EdgeFunction}, so no consumer needs to be
+     * created for each expanded state.
+     *
+     * @param <S> the type of the states
+     */
+    private static final class Search<S> implements ObjLongConsumer<S> {
+
+        private static final int DEFAULT_CAPACITY = 64;
+        private static final int NO_PARENT = -1;
+        private static final int NEW_STATE = -1;
+
+        private final EdgeFunction<S> edgeFunction;
+        private final SearchAlgorithm searchAlgorithm;
+        private final ToLongFunction<? super S> heuristic;
+        @Nullable
+        private final ToLongFunction<? super S> stateKey; // If null, states are deduplicated by equality instead
+
+        private final Map<S, Integer> idsByState = new HashMap<>();
+        private final LongIntHashMap idsByKey = new LongIntHashMap();
+        private final List<S> statesById = new ArrayList<>();
+        private final BitSet closed = new BitSet();
+        private long[] distancesById = new long[DEFAULT_CAPACITY];
+        private int[] parentsById = new int[DEFAULT_CAPACITY];
+
+        private final IntRingBuffer queue = new IntRingBuffer();
+        private final IndexedMinHeap heap = new IndexedMinHeap();
+
+        private int currentId;
+        private long currentDistance;
+
+        Search(final EdgeFunction<S> edgeFunction,
+               final SearchAlgorithm searchAlgorithm,
+               final ToLongFunction<? super S> heuristic,
+               @Nullable final ToLongFunction<? super S> stateKey) {
+            this.edgeFunction = edgeFunction;
+            this.searchAlgorithm = searchAlgorithm;
+            this.heuristic = heuristic;
+            this.stateKey = stateKey;
+        }
+
+        SearchResult<S> run(final S start, final Predicate<? super S> isGoal) {
+            return switch (searchAlgorithm) {
+                case BREADTH_FIRST -> breadthFirst(start, isGoal);
+                case ZERO_ONE_BREADTH_FIRST -> zeroOneBreadthFirst(start, isGoal);
+                case DIJKSTRA, A_STAR -> bestFirst(start, isGoal);
+            };
+        }
+
+        SearchResult<S> breadthFirst(final S start, final Predicate<? super S> isGoal) {
+            distancesById[idOf(start)] = 0L;
+
+            // Ids are assigned in the order the states are discovered, so the ids themselves act as the queue
+            for (int id = 0; id < statesById.size(); id++) {
+                final S state = statesById.get(id);
+                if (isGoal.test(state)) {
+                    return toResult(id);
+                }
+
+                expand(id, state);
+            }
+
+            return SearchResult.noPath();
+        }
+
+        SearchResult<S> zeroOneBreadthFirst(final S start, final Predicate<? super S> isGoal) {
+            final int startId = idOf(start);
+            distancesById[startId] = 0L;
+            queue.addFirst(startId);
+
+            while (!queue.isEmpty()) {
+                final int id = queue.pollFirst();
+                if (closed.get(id)) {
+                    continue;
+                }
+
+                closed.set(id);
+                final S state = statesById.get(id);
+                if (isGoal.test(state)) {
+                    return toResult(id);
+                }
+
+                expand(id, state);
+            }
+
+            return SearchResult.noPath();
+        }
+
+        SearchResult<S> bestFirst(final S start, final Predicate<? super S> isGoal) {
+            final int startId = idOf(start);
+            distancesById[startId] = 0L;
+            heap.insertOrDecrease(startId, heuristic.applyAsLong(start));
+
+            while (!heap.isEmpty()) {
+                final int id = heap.poll();
+                closed.set(id);
+
+                final S state = statesById.get(id);
+                if (isGoal.test(state)) {
+                    return toResult(id);
+                }
+
+                expand(id, state);
+            }
+
+            return SearchResult.noPath();
+        }
+
+        private void expand(final int id, final S state) {
+            currentId = id;
+            currentDistance = distancesById[id];
+            edgeFunction.forEachEdge(state, this);
+        }
+
+        @Override
+        public void accept(final S neighbour, final long cost) {
+            switch (searchAlgorithm) {
+                case BREADTH_FIRST -> acceptBreadthFirst(neighbour);
+                case ZERO_ONE_BREADTH_FIRST -> acceptZeroOneBreadthFirst(neighbour, cost);
+                case DIJKSTRA, A_STAR -> acceptBestFirst(neighbour, cost);
+                default -> throw new IllegalArgumentException("Unable to handle search algorithm: " + searchAlgorithm);
+            }
+        }
+
+        private void acceptBreadthFirst(final S neighbour) {
+            final int neighbourId = idOf(neighbour);
+            if (distancesById[neighbourId] == Long.MAX_VALUE) {
+                distancesById[neighbourId] = currentDistance + 1;
+                parentsById[neighbourId] = currentId;
+            }
+        }
+
+        private void acceptZeroOneBreadthFirst(final S neighbour, final long cost) {
+            if (cost != 0L && cost != 1L) {
+                throw new IllegalArgumentException(String.format("Cost must be 0 or 1 for %s, found: %d", searchAlgorithm, cost));
+            }
+
+            final int neighbourId = idOf(neighbour);
+            final long distance = currentDistance + cost;
+            if (!closed.get(neighbourId) && distance < distancesById[neighbourId]) {
+                distancesById[neighbourId] = distance;
+                parentsById[neighbourId] = currentId;
+                keepBestState(neighbourId, neighbour);
+
+                if (cost == 0L) {
+                    queue.addFirst(neighbourId);
+                } else {
+                    queue.addLast(neighbourId);
+                }
+            }
+        }
+
+        private void acceptBestFirst(final S neighbour, final long cost) {
+            if (cost < 0L) {
+                throw new IllegalArgumentException(String.format("Cost must be non-negative for %s, found: %d", searchAlgorithm, cost));
+            }
+
+            final int neighbourId = idOf(neighbour);
+            final long distance = currentDistance + cost;
+            if (!closed.get(neighbourId) && distance < distancesById[neighbourId]) {
+                distancesById[neighbourId] = distance;
+                parentsById[neighbourId] = currentId;
+                keepBestState(neighbourId, neighbour);
+                heap.insertOrDecrease(neighbourId, distance + heuristic.applyAsLong(neighbour));
+            }
+        }
+
+        private int idOf(final S state) {
+            final int newId = statesById.size();
+            final int existingId = existingIdOf(state, newId);
+            if (existingId != NEW_STATE) {
+                return existingId;
+            }
+
+            statesById.add(state);
+            if (newId == distancesById.length) {
+                distancesById = Arrays.copyOf(distancesById, newId * 2);
+                parentsById = Arrays.copyOf(parentsById, newId * 2);
+            }
+            distancesById[newId] = Long.MAX_VALUE;
+            parentsById[newId] = NO_PARENT;
+            return newId;
+        }
+
+        private int existingIdOf(final S state, final int newId) {
+            if (stateKey != null) {
+                return idsByKey.putIfAbsent(stateKey.applyAsLong(state), newId);
+            }
+
+            final Integer existingId = idsByState.putIfAbsent(state, newId);
+            return existingId == null ? NEW_STATE : existingId;
+        }
+
+        // States sharing a key may still differ, so keep the one on the current best path as the state returned in the SearchResult
+        private void keepBestState(final int id, final S state) {
+            if (stateKey != null) {
+                statesById.set(id, state);
+            }
+        }
+
+        private SearchResult<S> toResult(final int goalId) {
+            final List<S> path = new ArrayList<>();
+            for (int id = goalId; id != NO_PARENT; id = parentsById[id]) {
+                path.add(statesById.get(id));
+            }
+            return SearchResult.pathFound(distancesById[goalId], path.reversed());
+        }
+    }
+}
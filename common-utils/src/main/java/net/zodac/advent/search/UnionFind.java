@@ -0,0 +1,125 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+/**
+ * A disjoint-set (or union-find) of {@code int} elements in the range {@code [0, size)}. Each element starts in its own set, and sets can be merged
+ * with {@link #union(int, int)}. Uses path compression and union by rank, so any sequence of operations runs in near-linear time overall.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Disjoint-set_data_structure">Disjoint-set data structure</a>
+ */
+public final class UnionFind {
+
+    private final int[] parents;
+    private final byte[] ranks;
+    private int numberOfSets;
+
+    /**
+     * Creates a {@link UnionFind} where each of the {@code size} elements is in its own set.
+     *
+     * @param size the number of elements
+     * @throws IllegalArgumentException thrown if {@code size} is negative
+     */
+    public UnionFind(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must be at least 0, found: " + size);
+        }
+
+        parents = new int[size];
+        ranks = new byte[size];
+        numberOfSets = size;
+
+        for (int i = 0; i < size; i++) {
+            parents[i] = i;
+        }
+    }
+
+    /**
+     * Finds the representative element of the set containing {@code element}. Two elements are in the same set if and only if they have the same
+     * representative.
+     *
+     * @param element the element
+     * @return the representative element of its set
+     */
+    public int find(final int element) {
+        int current = element;
+        while (parents[current] != current) {
+            // Path halving: point each visited element at its grandparent, flattening the tree as we go
+            parents[current] = parents[parents[current]];
+            current = parents[current];
+        }
+        return current;
+    }
+
+    /**
+     * Merges the sets containing {@code first} and {@code second}.
+     *
+     * @param first  the first element
+     * @param second the second element
+     * @return {@code true} if the sets were merged, or {@code false} if the elements were already in the same set
+     */
+    public boolean union(final int first, final int second) {
+        final int firstRoot = find(first);
+        final int secondRoot = find(second);
+        if (firstRoot == secondRoot) {
+            return false;
+        }
+
+        // Attach the shorter tree under the taller one, so the trees stay shallow
+        if (ranks[firstRoot] < ranks[secondRoot]) {
+            parents[firstRoot] = secondRoot;
+        } else if (ranks[firstRoot] > ranks[secondRoot]) {
+            parents[secondRoot] = firstRoot;
+        } else {
+            parents[secondRoot] = firstRoot;
+            ranks[firstRoot]++;
+        }
+
+        numberOfSets--;
+        return true;
+    }
+
+    /**
+     * Checks if {@code first} and {@code second} are in the same set.
+     *
+     * @param first  the first element
+     * @param second the second element
+     * @return {@code true} if both elements are in the same set
+     */
+    public boolean isConnected(final int first, final int second) {
+        return find(first) == find(second);
+    }
+
+    /**
+     * Returns the number of distinct sets.
+     *
+     * @return the number of sets
+     */
+    public int numberOfSets() {
+        return numberOfSets;
+    }
+
+    /**
+     * Returns the total number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return parents.length;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+import java.util.Arrays;
+
+/**
+ * A set of visited {@code int} states in the range {@code [0, numberOfStates)}, which can be cleared in {@code O(1)} time and reused between
+ * searches without allocating.
+ *
+ * <p>
+ * Rather than storing a flag per state, each state stores the epoch in which it was last visited. Clearing the set just starts a new epoch, so
+ * any state stamped with an earlier epoch is no longer visited. The stamps only need to be reset when the epoch overflows.
+ *
+ * <p>
+ * This class is not thread-safe, so when searching in parallel each thread should use its own instance (for example, from a
+ * {@link ThreadLocal}).
+ */
+public final class VisitedStateSet {
+
+    private static final int INITIAL_EPOCH = 1;
+
+    private final int[] stamps;
+    private int epoch = INITIAL_EPOCH;
+
+    private VisitedStateSet(final int numberOfStates) {
+        stamps = new int[numberOfStates];
+    }
+
+    /**
+     * Creates an empty {@link VisitedStateSet}.
+     *
+     * @param numberOfStates the number of possible states
+     * @return the created {@link VisitedStateSet}
+     * @throws IllegalArgumentException thrown if {@code numberOfStates} is negative
+     */
+    public static VisitedStateSet create(final int numberOfStates) {
+        if (numberOfStates < 0) {
+            throw new IllegalArgumentException(String.format("Number of states cannot be negative, found: %d", numberOfStates));
+        }
+        return new VisitedStateSet(numberOfStates);
+    }
+
+    /**
+     * Marks the {@code state} as visited.
+     *
+     * @param state the state
+     * @return {@code true} if the {@code state} had not already been visited
+     * @throws ArrayIndexOutOfBoundsException thrown if the {@code state} is not in the range {@code [0, numberOfStates)}
+     */
+    public boolean add(final int state) {
+        if (stamps[state] == epoch) {
+            return false;
+        }
+
+        stamps[state] = epoch;
+        return true;
+    }
+
+    /**
+     * Checks if the {@code state} has been visited.
+     *
+     * @param state the state
+     * @return {@code true} if the {@code state} has been visited
+     * @throws ArrayIndexOutOfBoundsException thrown if the {@code state} is not in the range {@code [0, numberOfStates)}
+     */
+    public boolean contains(final int state) {
+        return stamps[state] == epoch;
+    }
+
+    /**
+     * Marks all states as not visited.
+     */
+    public void clear() {
+        if (epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            epoch = INITIAL_EPOCH;
+        } else {
+            epoch++;
+        }
+    }
+
+    /**
+     * Returns the number of possible states.
+     *
+     * @return the number of possible states
+     */
+    public int numberOfStates() {
+        return stamps.length;
+    }
+}
@@ -17,7 +17,9 @@
 
 package net.zodac.advent.util;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -29,6 +31,9 @@ public final class CryptoUtils {
     private static final char[] HEXADECIMAL_VALUES = "0123456789ABCDEF".toCharArray();
     private static final int BIT_MASK_FORWARD = 0xF0;
     private static final int BIT_MASK_REVERSE = 0x0F;
+    private static final int BITS_PER_NIBBLE = 4;
+    private static final int NIBBLES_PER_BYTE = 2;
+    private static final int HEXADECIMAL_RADIX = 16;
 
     private CryptoUtils() {
 
@@ -37,11 +42,15 @@ public final class CryptoUtils {
     /**
      * Hashes the input {@link String} using the specified {@link MessageDigest} hashing algorithm, in hexadecimal.
      *
+     * <p>
+     * This looks up the hashing algorithm and allocates new buffers for every call. For hashing in a loop, prefer a {@link Hasher}.
+     *
      * @param input            the {@link String} to be hashed
      * @param hashingAlgorithm the {@link MessageDigest} hashing algorithm to be used to hash the input
      * @return the hashed {@link String}, in hexadecimal, as a {@code char[]}
      * @throws IllegalArgumentException thrown if the input is {@link String#isBlank()}
      * @throws NoSuchAlgorithmException thrown if the {@link MessageDigest} hashing algorithm is not found
+     * @see #hasher(String)
      */
     public static char[] hexadecimalHash(final String input, final String hashingAlgorithm) throws NoSuchAlgorithmException {
         if (input.isBlank()) {
@@ -51,17 +60,262 @@ public final class CryptoUtils {
         final MessageDigest digest = MessageDigest.getInstance(hashingAlgorithm);
         digest.update(input.getBytes(StandardCharsets.UTF_8));
         final byte[] hash = digest.digest();
-        return toHex(hash);
+        final char[] result = new char[hash.length * NIBBLES_PER_BYTE];
+        toHex(hash, hash.length, result);
+        return result;
+    }
+
+    /**
+     * Creates a new {@link Hasher} for the specified {@link MessageDigest} hashing algorithm.
+     *
+     * @param hashingAlgorithm the {@link MessageDigest} hashing algorithm to be used
+     * @return the {@link Hasher}
+     * @throws NoSuchAlgorithmException thrown if the {@link MessageDigest} hashing algorithm is not found
+     */
+    public static Hasher hasher(final String hashingAlgorithm) throws NoSuchAlgorithmException {
+        return new Hasher(MessageDigest.getInstance(hashingAlgorithm));
+    }
+
+    /**
+     * Creates a {@link ThreadLocal} that will lazily create a single {@link Hasher} for each {@link Thread} that uses it. The hashing algorithm is
+     * validated once when this method is called, rather than by each {@link Thread}.
+     *
+     * <p>
+     * An example of its usage when hashing in parallel:
+     *
+     * <p>
+     * {@snippet :
+     *     final ThreadLocal<CryptoUtils.Hasher> hasherPerThread = CryptoUtils.hasherPerThread("MD5");
+     *     IntStream.range(0, 1_000_000)
+     *         .parallel()
+     *         .filter(i -> hasherPerThread.get().hashStartsWithZeroes(inputFor(i), 0, lengthFor(i), 5))
+     *         .min();
+     *}
+     *
+     * @param hashingAlgorithm the {@link MessageDigest} hashing algorithm to be used
+     * @return the {@link ThreadLocal} {@link Hasher}
+     * @throws NoSuchAlgorithmException thrown if the {@link MessageDigest} hashing algorithm is not found
+     */
+    public static ThreadLocal<Hasher> hasherPerThread(final String hashingAlgorithm) throws NoSuchAlgorithmException {
+        MessageDigest.getInstance(hashingAlgorithm); // Fail fast if the algorithm is not available
+        return ThreadLocal.withInitial(() -> {
+            try {
+                return hasher(hashingAlgorithm);
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalStateException(String.format("Unable to find hashing algorithm '%s'", hashingAlgorithm), e);
+            }
+        });
+    }
+
+    /**
+     * Converts a hexadecimal {@link String} into the value of each of its nibbles (hex digits), which can then be compared against a hash with
+     * {@link #startsWithNibbles(byte[], int[])}. Both upper-case and lower-case hexadecimal digits are supported.
+     *
+     * @param hexadecimal the hexadecimal {@link String}
+     * @return the value of each nibble, in order
+     * @throws IllegalArgumentException thrown if the input contains a non-hexadecimal character
+     */
+    public static int[] toNibbles(final CharSequence hexadecimal) {
+        final int[] nibbles = new int[hexadecimal.length()];
+        for (int i = 0; i < nibbles.length; i++) {
+            nibbles[i] = Character.digit(hexadecimal.charAt(i), HEXADECIMAL_RADIX);
+
+            if (nibbles[i] < 0) {
+                throw new IllegalArgumentException(String.format("Input must be a hexadecimal value, found: '%s'", hexadecimal));
+            }
+        }
+        return nibbles;
+    }
+
+    /**
+     * Returns the value of the nibble (hex digit) at the given {@code index} of the raw hash. The nibble at index <b>0</b> is the most significant
+     * half of the first byte, which would be the first character of the hexadecimal representation.
+     *
+     * @param hash  the raw hash bytes
+     * @param index the index of the nibble
+     * @return the value of the nibble, between <b>0</b> and <b>15</b>
+     */
+    public static int nibbleAt(final byte[] hash, final int index) {
+        final int hashByte = hash[index / NIBBLES_PER_BYTE];
+        return (index % NIBBLES_PER_BYTE == 0) ? (hashByte & BIT_MASK_FORWARD) >>> BITS_PER_NIBBLE : hashByte & BIT_MASK_REVERSE;
+    }
+
+    /**
+     * Checks whether the hexadecimal representation of the raw hash would start with the provided nibbles, without converting it to hexadecimal.
+     *
+     * @param hash          the raw hash bytes
+     * @param prefixNibbles the wanted nibble values
+     * @return {@code true} if the hash starts with all the nibbles in {@code prefixNibbles}
+     * @see #toNibbles(CharSequence)
+     */
+    public static boolean startsWithNibbles(final byte[] hash, final int[] prefixNibbles) {
+        if (prefixNibbles.length > hash.length * NIBBLES_PER_BYTE) {
+            return false;
+        }
+
+        for (int i = 0; i < prefixNibbles.length; i++) {
+            if (nibbleAt(hash, i) != prefixNibbles[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the hexadecimal representation of the raw hash would start with {@code numberOfZeroes} '0' characters, without converting it
+     * to hexadecimal. Whole zero bytes are checked first, and only a trailing odd nibble needs to be masked.
+     *
+     * @param hash           the raw hash bytes
+     * @param numberOfZeroes the number of leading zero nibbles
+     * @return {@code true} if the hash starts with at least {@code numberOfZeroes} zero nibbles
+     */
+    public static boolean startsWithZeroes(final byte[] hash, final int numberOfZeroes) {
+        if (numberOfZeroes > hash.length * NIBBLES_PER_BYTE) {
+            return false;
+        }
+
+        final int fullBytes = numberOfZeroes / NIBBLES_PER_BYTE;
+        for (int i = 0; i < fullBytes; i++) {
+            if (hash[i] != 0) {
+                return false;
+            }
+        }
+        return numberOfZeroes % NIBBLES_PER_BYTE == 0 || (hash[fullBytes] & BIT_MASK_FORWARD) == 0;
     }
 
-    private static char[] toHex(final byte[] input) {
+    private static void toHex(final byte[] input, final int length, final char[] output) {
         // Using code from: https://stackoverflow.com/a/32976536/2000246
-        final char[] result = new char[(input.length << 1)];
-        for (int i = 0; i < input.length; i++) {
+        for (int i = 0; i < length; i++) {
             final byte b = input[i];
-            result[2 * i] = HEXADECIMAL_VALUES[(b & BIT_MASK_FORWARD) >>> 4];
-            result[2 * i + 1] = HEXADECIMAL_VALUES[b & BIT_MASK_REVERSE];
+            output[2 * i] = HEXADECIMAL_VALUES[(b & BIT_MASK_FORWARD) >>> BITS_PER_NIBBLE];
+            output[2 * i + 1] = HEXADECIMAL_VALUES[b & BIT_MASK_REVERSE];
+        }
+    }
+
+    /**
+     * A stateful hasher that reuses a single {@link MessageDigest} and an internal output buffer across calls. All inputs and outputs are
+     * caller-supplied buffers, so no allocation is needed per hash.
+     *
+     * <p>
+     * A {@link Hasher} is <b>not</b> thread-safe. For parallel hashing, use {@link CryptoUtils#hasherPerThread(String)} to give each
+     * {@link Thread} its own instance.
+     */
+    public static final class Hasher {
+
+        private final MessageDigest digest;
+        private final byte[] hashBuffer;
+
+        private Hasher(final MessageDigest digest) {
+            this.digest = digest;
+            hashBuffer = new byte[digest.getDigestLength()];
+        }
+
+        /**
+         * The number of bytes produced by each hash.
+         *
+         * @return the length of the hash in bytes
+         */
+        public int digestLength() {
+            return hashBuffer.length;
+        }
+
+        /**
+         * Hashes the {@code input} bytes from {@code offset} (for {@code length} bytes), writing the raw hash into the start of {@code output}.
+         *
+         * @param input  the bytes to hash
+         * @param offset the offset of the first byte to hash
+         * @param length the number of bytes to hash
+         * @param output the buffer to write the hash into, at least {@link #digestLength()} in size
+         * @throws IllegalArgumentException thrown if the {@code output} is too small for the hash
+         */
+        public void hash(final byte[] input, final int offset, final int length, final byte[] output) {
+            validateOutput(output);
+            digest.update(input, offset, length);
+            complete(output);
+        }
+
+        /**
+         * Hashes the remaining bytes of the {@link ByteBuffer}, writing the raw hash into the start of {@code output}. The {@link ByteBuffer}'s
+         * position is moved to its limit.
+         *
+         * @param input  the {@link ByteBuffer} to hash
+         * @param output the buffer to write the hash into, at least {@link #digestLength()} in size
+         * @throws IllegalArgumentException thrown if the {@code output} is too small for the hash
+         */
+        public void hash(final ByteBuffer input, final byte[] output) {
+            validateOutput(output);
+            digest.update(input);
+            complete(output);
+        }
+
+        /**
+         * Hashes the {@code input} bytes from {@code offset} (for {@code length} bytes), writing the hash in upper-case hexadecimal into the start
+         * of {@code output}.
+         *
+         * @param input  the bytes to hash
+         * @param offset the offset of the first byte to hash
+         * @param length the number of bytes to hash
+         * @param output the buffer to write the hexadecimal hash into, at least twice {@link #digestLength()} in size
+         * @throws IllegalArgumentException thrown if the {@code output} is too small for the hexadecimal hash
+         */
+        public void hexadecimalHash(final byte[] input, final int offset, final int length, final char[] output) {
+            final int hexadecimalLength = hashBuffer.length * NIBBLES_PER_BYTE;
+            if (output.length < hexadecimalLength) {
+                throw new IllegalArgumentException(String.format("Output must have space for at least %d characters, found: %d", hexadecimalLength,
+                    output.length));
+            }
+
+            hash(input, offset, length, hashBuffer);
+            toHex(hashBuffer, hashBuffer.length, output);
+        }
+
+        /**
+         * Hashes the {@code input} bytes from {@code offset} (for {@code length} bytes), and checks if the hexadecimal hash would start with
+         * {@code numberOfZeroes} '0' characters.
+         *
+         * @param input          the bytes to hash
+         * @param offset         the offset of the first byte to hash
+         * @param length         the number of bytes to hash
+         * @param numberOfZeroes the number of leading zero nibbles
+         * @return {@code true} if the hash starts with at least {@code numberOfZeroes} zero nibbles
+         * @see CryptoUtils#startsWithZeroes(byte[], int)
+         */
+        public boolean hashStartsWithZeroes(final byte[] input, final int offset, final int length, final int numberOfZeroes) {
+            hash(input, offset, length, hashBuffer);
+            return startsWithZeroes(hashBuffer, numberOfZeroes);
+        }
+
+        /**
+         * Hashes the {@code input} bytes from {@code offset} (for {@code length} bytes), and checks if the hexadecimal hash would start with the
+         * provided nibbles.
+         *
+         * @param input         the bytes to hash
+         * @param offset        the offset of the first byte to hash
+         * @param length        the number of bytes to hash
+         * @param prefixNibbles the wanted nibble values
+         * @return {@code true} if the hash starts with all the nibbles in {@code prefixNibbles}
+         * @see CryptoUtils#toNibbles(CharSequence)
+         * @see CryptoUtils#startsWithNibbles(byte[], int[])
+         */
+        public boolean hashStartsWith(final byte[] input, final int offset, final int length, final int[] prefixNibbles) {
+            hash(input, offset, length, hashBuffer);
+            return startsWithNibbles(hashBuffer, prefixNibbles);
+        }
+
+        // Validated before updating the digest, so a failed call does not leave partial input in the digest for the next call
+        private void validateOutput(final byte[] output) {
+            if (output.length < hashBuffer.length) {
+                throw new IllegalArgumentException(String.format("Output must have space for at least %d bytes, found: %d", hashBuffer.length,
+                    output.length));
+            }
+        }
+
+        private void complete(final byte[] output) {
+            try {
+                digest.digest(output, 0, output.length);
+            } catch (final DigestException e) {
+                throw new IllegalStateException("Unable to write hash into output buffer", e);
+            }
         }
-        return result;
     }
 }
@@ -33,6 +33,7 @@ import net.zodac.advent.math.MathOperation;
 public final class MathUtils {
 
     private static final double TRIANGULAR_NUMBER_DENOMINATOR = 2.0D;
+    private static final int MAX_FACTORIAL_INPUT = 20;
 
     private MathUtils() {
 
@@ -107,6 +108,26 @@ public final class MathUtils {
         return total - 1;
     }
 
+    /**
+     * Calculates the factorial of the provided {@code value}, which is the product of all positive integers up to and including the {@code value}.
+     *
+     * @param value the value whose factorial is to be found
+     * @return the factorial of the input
+     * @throws IllegalArgumentException thrown if the {@code value} is negative, or greater than {@value #MAX_FACTORIAL_INPUT} (since the factorial
+     *                                  would overflow a {@code long})
+     */
+    public static long factorial(final int value) {
+        if (value < 0 || value > MAX_FACTORIAL_INPUT) {
+            throw new IllegalArgumentException(String.format("Factorial input must be between 0 and %d, found: %d", MAX_FACTORIAL_INPUT, value));
+        }
+
+        long factorial = 1L;
+        for (int i = 2; i <= value; i++) {
+            factorial *= i;
+        }
+        return factorial;
+    }
+
     /**
      * Calculates the Greatest Common Divisor (also known as the Highest Common Factor) of the provided {@code long}s.
      *
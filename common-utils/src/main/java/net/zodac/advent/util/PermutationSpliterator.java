@@ -0,0 +1,152 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.util;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link Spliterator.OfLong} over the lexicographic permutations of the indices {@code [0, size)}, which applies a {@link ToLongFunction} to each
+ * permutation. Each {@link PermutationSpliterator} covers a range of permutation ranks, and is split by halving that range. The first permutation
+ * of a range is created directly from its rank, and every following permutation is created in-place from the previous one, so no permutations
+ * are stored.
+ */
+final class PermutationSpliterator implements Spliterator.OfLong {
+
+    private static final long MINIMUM_SPLIT_SIZE = 1_024L;
+
+    private final ToLongFunction<? super int[]> function;
+    private final int[] permutation;
+    private long rank;
+    private long endRank;
+
+    /**
+     * Creates a {@link PermutationSpliterator} covering the permutations with a rank from {@code startRank} (inclusive) to {@code endRank}
+     * (exclusive).
+     *
+     * @param size      the number of indices in each permutation
+     * @param startRank the lexicographic rank of the first permutation
+     * @param endRank   the lexicographic rank after the last permutation
+     * @param function  the {@link ToLongFunction} to apply to each permutation
+     */
+    PermutationSpliterator(final int size, final long startRank, final long endRank, final ToLongFunction<? super int[]> function) {
+        this.function = function;
+        permutation = permutationAtRank(size, startRank);
+        rank = startRank;
+        this.endRank = endRank;
+    }
+
+    @Override
+    public boolean tryAdvance(final LongConsumer action) {
+        if (rank >= endRank) {
+            return false;
+        }
+
+        action.accept(function.applyAsLong(permutation));
+        rank++;
+        if (rank < endRank) {
+            nextPermutation(permutation);
+        }
+        return true;
+    }
+
+    @Override
+    public Spliterator.@Nullable OfLong trySplit() {
+        final long remaining = endRank - rank;
+        if (remaining < MINIMUM_SPLIT_SIZE) {
+            return null;
+        }
+
+        final long middleRank = rank + (remaining / 2);
+        final PermutationSpliterator prefix = new PermutationSpliterator(permutation.length, rank, middleRank, function);
+        rank = middleRank;
+        copyPermutationAtRank(permutation, middleRank);
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return endRank - rank;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+
+    /**
+     * Creates the permutation of {@code [0, size)} at the given lexicographic {@code rank}, using the factorial number system.
+     *
+     * @param size the number of indices
+     * @param rank the rank of the permutation, where {@code 0} is the ascending permutation
+     * @return the permutation
+     */
+    static int[] permutationAtRank(final int size, final long rank) {
+        final int[] permutation = new int[size];
+        copyPermutationAtRank(permutation, rank);
+        return permutation;
+    }
+
+    private static void copyPermutationAtRank(final int[] permutation, final long rank) {
+        final int size = permutation.length;
+        final int[] available = new int[size];
+        for (int i = 0; i < size; i++) {
+            available[i] = i;
+        }
+
+        long remainingRank = rank;
+        for (int i = 0; i < size; i++) {
+            final long factorial = MathUtils.factorial(size - 1 - i);
+            final int availableIndex = (int) (remainingRank / factorial);
+            remainingRank %= factorial;
+
+            permutation[i] = available[availableIndex];
+            System.arraycopy(available, availableIndex + 1, available, availableIndex, size - 1 - i - availableIndex);
+        }
+    }
+
+    // Standard next lexicographic permutation: find the rightmost ascent, swap it with the next largest value to its right, then reverse the suffix
+    private static void nextPermutation(final int[] permutation) {
+        int pivot = permutation.length - 2;
+        while (pivot >= 0 && permutation[pivot] >= permutation[pivot + 1]) {
+            pivot--;
+        }
+
+        if (pivot < 0) {
+            return;
+        }
+
+        int successor = permutation.length - 1;
+        while (permutation[successor] <= permutation[pivot]) {
+            successor--;
+        }
+        swap(permutation, pivot, successor);
+
+        for (int left = pivot + 1, right = permutation.length - 1; left < right; left++, right--) {
+            swap(permutation, left, right);
+        }
+    }
+
+    private static void swap(final int[] values, final int first, final int second) {
+        final int temp = values[first];
+        values[first] = values[second];
+        values[second] = temp;
+    }
+}
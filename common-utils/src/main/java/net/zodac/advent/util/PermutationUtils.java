@@ -20,12 +20,18 @@ package net.zodac.advent.util;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility class for permutations of {@link java.util.Collection}s.
  */
 public final class PermutationUtils {
 
+    private static final int MAX_NUMBER_OF_ELEMENTS = 20; // 21! overflows a long
+
     private PermutationUtils() {
 
     }
@@ -57,26 +63,69 @@ public final class PermutationUtils {
      * @return the {@link List} of permutations
      */
     public static <E> List<List<E>> generateAll(final List<? extends E> input) {
-        if (input.isEmpty()) {
-            return List.of(List.of());
-        }
+        return PermutationUtils.<E>streamAll(input).toList();
+    }
 
-        final List<? extends E> modifiableInput = new ArrayList<>(input);
-        final E firstElement = modifiableInput.removeFirst();
-        final List<List<E>> returnValue = new ArrayList<>();
-        final List<List<E>> permutations = generateAll(modifiableInput);
+    /**
+     * Lazily generates permutations of the input {@link List}, in lexicographic order of the indices of the input. Each permutation is only created
+     * when it is consumed from the {@link Stream}, and the {@link Stream} can be split efficiently for a {@link Stream#parallel()} {@link Stream}.
+     *
+     * @param input the {@link List} from which permutations should be generated
+     * @param <E>   the type of the input {@link List}
+     * @return a {@link Stream} of the permutations
+     * @throws IllegalArgumentException thrown if the input has more than {@value #MAX_NUMBER_OF_ELEMENTS} elements
+     * @see #streamIndexPermutations(int)
+     */
+    public static <E> Stream<List<E>> streamAll(final List<? extends E> input) {
+        final List<E> elements = List.copyOf(input);
+        return streamIndexPermutations(elements.size())
+            .map(permutation -> {
+                final List<E> permutedElements = new ArrayList<>(permutation.length);
+                for (final int index : permutation) {
+                    permutedElements.add(elements.get(index));
+                }
+                return permutedElements;
+            });
+    }
 
-        for (final List<E> smallerPermutation : permutations) {
-            final int sizeOfSmallerPermutation = smallerPermutation.size();
+    /**
+     * Lazily generates all permutations of the indices {@code [0, size)}, in lexicographic order. Each permutation is a new array, so can be
+     * safely stored by the caller.
+     *
+     * @param size the number of indices
+     * @return a {@link Stream} of the permutations
+     * @throws IllegalArgumentException thrown if {@code size} is negative or greater than {@value #MAX_NUMBER_OF_ELEMENTS}
+     * @see #mapIndexPermutations(int, ToLongFunction)
+     */
+    public static Stream<int[]> streamIndexPermutations(final int size) {
+        validateSize(size);
+        return LongStream.range(0L, MathUtils.factorial(size))
+            .mapToObj(rank -> PermutationSpliterator.permutationAtRank(size, rank));
+    }
 
-            for (int index = 0; index <= sizeOfSmallerPermutation; index++) {
-                final List<E> temp = new ArrayList<>(smallerPermutation);
-                temp.add(index, firstElement);
-                returnValue.add(temp);
-            }
-        }
+    /**
+     * Applies the {@code function} to every permutation of the indices {@code [0, size)}, in lexicographic order. Unlike
+     * {@link #streamIndexPermutations(int)}, a single array is updated in-place for each permutation, so nothing is allocated per permutation. The
+     * {@code function} must not store or modify the array it is given.
+     *
+     * <p>
+     * The returned {@link LongStream} can be split efficiently for a {@link LongStream#parallel()} {@link LongStream}, with each split using its own
+     * array.
+     *
+     * @param size     the number of indices
+     * @param function the {@link ToLongFunction} to apply to each permutation
+     * @return a {@link LongStream} of the {@code function} output for each permutation
+     * @throws IllegalArgumentException thrown if {@code size} is negative or greater than {@value #MAX_NUMBER_OF_ELEMENTS}
+     */
+    public static LongStream mapIndexPermutations(final int size, final ToLongFunction<? super int[]> function) {
+        validateSize(size);
+        return StreamSupport.longStream(new PermutationSpliterator(size, 0L, MathUtils.factorial(size), function), false);
+    }
 
-        return returnValue;
+    private static void validateSize(final int size) {
+        if (size < 0 || size > MAX_NUMBER_OF_ELEMENTS) {
+            throw new IllegalArgumentException(String.format("Size must be between 0 and %d, found: %d", MAX_NUMBER_OF_ELEMENTS, size));
+        }
     }
 
     /**
@@ -18,6 +18,7 @@
 package net.zodac.advent.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -25,12 +26,18 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * Utility class for generating the power-set of an input {@link java.util.Collection}.
  */
 public final class PowerSetUtils {
 
+    private static final int MAX_NUMBER_OF_ELEMENTS = Long.SIZE - 2;
+    // Each half of a meet-in-the-middle search stores 2^(n/2) subset sums, which is 128MB of longs for a half of 24 values
+    private static final int MAX_NUMBER_OF_SUMMED_ELEMENTS = 48;
+
     private PowerSetUtils() {
 
     }
@@ -98,8 +105,7 @@ public final class PowerSetUtils {
      * @see #getPowerList(List)
      */
     public static <T, G> List<List<T>> getFilteredPowerList(final List<T> input, final PowerSetFilter<G, ? super T> powerSetFilter) {
-        return getPowerList(input)
-            .stream()
+        return streamPowerList(input)
             .filter(combinations -> isValidCombination(combinations, powerSetFilter))
             .toList();
     }
@@ -167,8 +173,7 @@ public final class PowerSetUtils {
      * @see #getPowerList(List)
      */
     public static <T, G> Set<Set<T>> getFilteredPowerSet(final Set<T> input, final PowerSetFilter<G, ? super T> powerSetFilter) {
-        return getPowerSet(input)
-            .stream()
+        return streamPowerSet(input)
             .filter(combinations -> isValidCombination(combinations, powerSetFilter))
             .collect(Collectors.toSet());
     }
@@ -199,24 +204,181 @@ public final class PowerSetUtils {
      * @see #getPowerSet(Set)
      */
     public static <T> List<List<T>> getPowerList(final List<? extends T> input) {
-        final List<List<T>> powerList = new ArrayList<>();
-        if (input.isEmpty()) {
-            powerList.add(new ArrayList<>(0));
-            return powerList;
+        return PowerSetUtils.<T>streamPowerList(input).toList();
+    }
+
+    /**
+     * Lazily generates the power-list of the input with duplicates, as described in {@link #getPowerList(List)}. Each combination is only created
+     * when it is consumed from the {@link Stream}, so the full power-list is never held in memory. The {@link Stream} is backed by a
+     * {@link LongStream#range(long, long)} of bitmasks, so can be split efficiently for a {@link Stream#parallel()} {@link Stream}.
+     *
+     * @param input the input {@link List}
+     * @param <T>   the type of the {@link List}
+     * @return a {@link Stream} of the power-list of the input, with 2^n entries
+     * @throws IllegalArgumentException thrown if the input has more than {@value #MAX_NUMBER_OF_ELEMENTS} elements
+     * @see #subsetMasks(int)
+     */
+    public static <T> Stream<List<T>> streamPowerList(final List<? extends T> input) {
+        final List<T> elements = List.copyOf(input);
+        return subsetMasks(elements.size())
+            .mapToObj(mask -> subsetOf(elements, mask));
+    }
+
+    /**
+     * Returns a {@link LongStream} of every bitmask for a set of {@code numberOfElements} elements, from {@code 0} (the empty subset) to
+     * {@code 2^numberOfElements - 1} (the full set). If bit {@code i} is set in a mask, then the {@code i}th element is in the subset.
+     *
+     * @param numberOfElements the number of elements in the set
+     * @return the subset bitmasks
+     * @throws IllegalArgumentException thrown if {@code numberOfElements} is negative or more than {@value #MAX_NUMBER_OF_ELEMENTS}
+     */
+    public static LongStream subsetMasks(final int numberOfElements) {
+        validateNumberOfElements(numberOfElements);
+        return LongStream.range(0L, 1L << numberOfElements);
+    }
+
+    /**
+     * Calculates the sum of the {@code values} in the subset defined by the {@code mask}.
+     *
+     * @param values the values
+     * @param mask   the subset bitmask, as returned by {@link #subsetMasks(int)}
+     * @return the sum of the subset
+     */
+    public static long subsetSum(final long[] values, final long mask) {
+        long sum = 0L;
+        long remainingMask = mask;
+        while (remainingMask != 0L) {
+            sum += values[Long.numberOfTrailingZeros(remainingMask)];
+            remainingMask &= remainingMask - 1;
         }
+        return sum;
+    }
 
-        final List<T> list = new ArrayList<>(input);
-        final T head = list.removeFirst();
-        final List<T> remainder = new ArrayList<>(list);
+    /**
+     * Counts the number of subsets of the {@code values} which sum to {@code targetSum}, grouped by the size of the subset. Duplicate values are
+     * treated as separate elements, as with {@link #getPowerList(List)}.
+     *
+     * <p>
+     * Rather than checking all 2^n subsets, this uses a meet-in-the-middle search. The sums of all subsets of each half of the {@code values} are
+     * calculated (with each subset sum built from a smaller subset sum, so no collections are created), then grouped by subset size and sorted. The
+     * matching pairs are then counted by walking each pair of sorted groups towards each other, so only 2 * 2^(n/2) subset sums are created.
+     *
+     * @param values    the values
+     * @param targetSum the wanted sum of each subset
+     * @return an array where index {@code i} is the number of subsets of size {@code i} which sum to {@code targetSum}
+     * @throws IllegalArgumentException thrown if there are more than {@value #MAX_NUMBER_OF_SUMMED_ELEMENTS} values
+     */
+    public static long[] countSubsetsWithSumBySize(final long[] values, final long targetSum) {
+        validateNumberOfElements(values.length, MAX_NUMBER_OF_SUMMED_ELEMENTS);
+        final int firstHalfSize = values.length / 2;
+        final long[][] firstHalfSumsBySize = subsetSumsBySize(Arrays.copyOfRange(values, 0, firstHalfSize));
+        final long[][] secondHalfSumsBySize = subsetSumsBySize(Arrays.copyOfRange(values, firstHalfSize, values.length));
 
-        for (final List<T> subList : getPowerList(remainder)) {
-            final List<T> newList = new ArrayList<>();
-            newList.add(head);
-            newList.addAll(subList);
-            powerList.add(newList);
-            powerList.add(subList);
+        final long[] countsBySize = new long[values.length + 1];
+        for (int firstSize = 0; firstSize < firstHalfSumsBySize.length; firstSize++) {
+            for (int secondSize = 0; secondSize < secondHalfSumsBySize.length; secondSize++) {
+                countsBySize[firstSize + secondSize] +=
+                    countPairsWithSum(firstHalfSumsBySize[firstSize], secondHalfSumsBySize[secondSize], targetSum);
+            }
+        }
+        return countsBySize;
+    }
+
+    /**
+     * Counts the number of subsets of the {@code values} which sum to {@code targetSum}.
+     *
+     * @param values    the values
+     * @param targetSum the wanted sum of each subset
+     * @return the number of subsets which sum to {@code targetSum}
+     * @throws IllegalArgumentException thrown if there are more than {@value #MAX_NUMBER_OF_SUMMED_ELEMENTS} values
+     * @see #countSubsetsWithSumBySize(long[], long)
+     */
+    public static long countSubsetsWithSum(final long[] values, final long targetSum) {
+        return Arrays.stream(countSubsetsWithSumBySize(values, targetSum)).sum();
+    }
+
+    // Each subset sum is the sum of the same subset without its lowest element, plus that element
+    private static long[][] subsetSumsBySize(final long[] values) {
+        final int numberOfSubsets = 1 << values.length;
+        final long[] sums = new long[numberOfSubsets];
+        final int[] numberOfSubsetsBySize = new int[values.length + 1];
+        numberOfSubsetsBySize[0] = 1;
+
+        for (int mask = 1; mask < numberOfSubsets; mask++) {
+            sums[mask] = sums[mask & (mask - 1)] + values[Integer.numberOfTrailingZeros(mask)];
+            numberOfSubsetsBySize[Integer.bitCount(mask)]++;
+        }
+
+        final long[][] sumsBySize = new long[values.length + 1][];
+        for (int size = 0; size <= values.length; size++) {
+            sumsBySize[size] = new long[numberOfSubsetsBySize[size]];
+        }
+
+        final int[] nextIndexBySize = new int[values.length + 1];
+        for (int mask = 0; mask < numberOfSubsets; mask++) {
+            final int size = Integer.bitCount(mask);
+            sumsBySize[size][nextIndexBySize[size]++] = sums[mask];
+        }
+
+        for (final long[] sumsForSize : sumsBySize) {
+            Arrays.sort(sumsForSize);
+        }
+        return sumsBySize;
+    }
+
+    // Both arrays are sorted, so walk the first forwards and the second backwards, counting runs of equal values when a pair matches
+    private static long countPairsWithSum(final long[] firstSums, final long[] secondSums, final long targetSum) {
+        long count = 0L;
+        int first = 0;
+        int second = secondSums.length - 1;
+
+        while (first < firstSums.length && second >= 0) {
+            final long sum = firstSums[first] + secondSums[second];
+            if (sum < targetSum) {
+                first++;
+            } else if (sum > targetSum) {
+                second--;
+            } else {
+                final long firstValue = firstSums[first];
+                final long secondValue = secondSums[second];
+                long firstRun = 0L;
+                long secondRun = 0L;
+
+                while (first < firstSums.length && firstSums[first] == firstValue) {
+                    firstRun++;
+                    first++;
+                }
+
+                while (second >= 0 && secondSums[second] == secondValue) {
+                    secondRun++;
+                    second--;
+                }
+
+                count += firstRun * secondRun;
+            }
+        }
+        return count;
+    }
+
+    private static <T> List<T> subsetOf(final List<T> elements, final long mask) {
+        final List<T> subset = new ArrayList<>(Long.bitCount(mask));
+        long remainingMask = mask;
+        while (remainingMask != 0L) {
+            subset.add(elements.get(Long.numberOfTrailingZeros(remainingMask)));
+            remainingMask &= remainingMask - 1;
+        }
+        return subset;
+    }
+
+    private static void validateNumberOfElements(final int numberOfElements) {
+        validateNumberOfElements(numberOfElements, MAX_NUMBER_OF_ELEMENTS);
+    }
+
+    private static void validateNumberOfElements(final int numberOfElements, final int maxNumberOfElements) {
+        if (numberOfElements < 0 || numberOfElements > maxNumberOfElements) {
+            throw new IllegalArgumentException(
+                String.format("Number of elements must be between 0 and %d, found: %d", maxNumberOfElements, numberOfElements));
         }
-        return powerList;
     }
 
     /**
@@ -244,24 +406,21 @@ public final class PowerSetUtils {
      * @see #getPowerList(List)
      */
     public static <T> Set<Set<T>> getPowerSet(final Set<? extends T> input) {
-        final Set<Set<T>> powerSet = new HashSet<>();
-        if (input.isEmpty()) {
-            powerSet.add(HashSet.newHashSet(0));
-            return powerSet;
-        }
-
-        final List<T> list = new ArrayList<>(input);
-        final T head = list.removeFirst();
-        final Set<T> remainder = new HashSet<>(list);
+        return PowerSetUtils.<T>streamPowerSet(input).collect(Collectors.toSet());
+    }
 
-        for (final Set<T> subSet : getPowerSet(remainder)) {
-            final Set<T> newSet = new HashSet<>();
-            newSet.add(head);
-            newSet.addAll(subSet);
-            powerSet.add(newSet);
-            powerSet.add(subSet);
-        }
-        return powerSet;
+    /**
+     * Lazily generates the power-set of the input {@link Set}, as described in {@link #getPowerSet(Set)}.
+     *
+     * @param input the input {@link Set}
+     * @param <T>   the type of the {@link Set}
+     * @return a {@link Stream} of the power-set of the input, with 2^n entries
+     * @throws IllegalArgumentException thrown if the input has more than {@value #MAX_NUMBER_OF_ELEMENTS} elements
+     * @see #streamPowerList(List)
+     */
+    public static <T> Stream<Set<T>> streamPowerSet(final Set<? extends T> input) {
+        return streamPowerList(List.copyOf(input))
+            .<Set<T>>map(HashSet::new);
     }
 
     private static <T, G> boolean isValidCombination(final Collection<? extends T> powerSetCombinations, final PowerSetFilter<G, T> powerSetFilter) {
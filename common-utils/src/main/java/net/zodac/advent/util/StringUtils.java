@@ -28,9 +28,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import net.zodac.advent.pojo.tuple.Pair;
 
 /**
@@ -179,17 +181,82 @@ public final class StringUtils {
      * @return the found {@link Long}s
      */
     public static List<Long> collectNumbersInOrder(final CharSequence input) {
-        final Matcher matcher = NUMBER_PATTERN.matcher(input);
-
         final List<Long> numbers = new ArrayList<>();
-        while (matcher.find()) {
-            final String value = matcher.group();
-            if (NumberUtils.isLong(value)) {
-                numbers.add(Long.parseLong(value));
+        forEachNumberInOrder(input, numbers::add);
+        return numbers;
+    }
+
+    /**
+     * Parses the input {@link CharSequence} and returns any {@code long} values in the order provided, without boxing each value. The rules for
+     * what is considered a number are the same as {@link #collectNumbersInOrder(CharSequence)}.
+     *
+     * @param input the {@link CharSequence} to check
+     * @return the found {@code long}s
+     * @see #forEachNumberInOrder(CharSequence, LongConsumer)
+     */
+    public static long[] parseNumbersInOrder(final CharSequence input) {
+        final LongStream.Builder numbers = LongStream.builder();
+        forEachNumberInOrder(input, numbers);
+        return numbers.build().toArray();
+    }
+
+    /**
+     * Scans the input {@link CharSequence} and passes any {@code long} values to the {@code action} in the order provided. This matches the same
+     * values as {@link #NUMBER_PATTERN}, but scans each character directly rather than using a {@link Matcher}:
+     *
+     * <ul>
+     *     <li>A number is a sequence of digits, with no letter, digit or underscore directly before or after it</li>
+     *     <li>A number is negative if it is directly preceded by a <b>'-'</b></li>
+     *     <li>Any number that is too large for a {@code long} is ignored</li>
+     * </ul>
+     *
+     * @param input  the {@link CharSequence} to check
+     * @param action the {@link LongConsumer} to receive each number
+     * @return the number of values passed to the {@code action}
+     */
+    public static int forEachNumberInOrder(final CharSequence input, final LongConsumer action) {
+        final int inputLength = input.length();
+        int numberOfNumbers = 0;
+        int i = 0;
+
+        while (i < inputLength) {
+            if (!isDigit(input.charAt(i)) || (i > 0 && isWordCharacter(input.charAt(i - 1)))) {
+                i++;
+                continue;
+            }
+
+            final boolean negative = i > 0 && input.charAt(i - 1) == '-';
+            final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+            final long multiplicationLimit = limit / 10;
+            boolean overflow = false;
+            long result = 0L;
+
+            // Accumulate negatively, as in Long#parseLong(String), so Long.MIN_VALUE can be parsed
+            while (i < inputLength && isDigit(input.charAt(i))) {
+                final int digit = input.charAt(i) - '0';
+                if (result < multiplicationLimit || result * 10 < limit + digit) {
+                    overflow = true;
+                } else {
+                    result = result * 10 - digit;
+                }
+                i++;
+            }
+
+            if (!overflow && (i == inputLength || !isWordCharacter(input.charAt(i)))) {
+                action.accept(negative ? result : -result);
+                numberOfNumbers++;
             }
         }
 
-        return numbers;
+        return numberOfNumbers;
+    }
+
+    private static boolean isDigit(final char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static boolean isWordCharacter(final char character) {
+        return isDigit(character) || character == '_' || (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z');
     }
 
     /**
@@ -0,0 +1,111 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.grid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import net.zodac.advent.pojo.RotationDirection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BooleanGrid}.
+ */
+class BooleanGridTest {
+
+    @Test
+    void testSetBox() {
+        final BooleanGrid booleanGrid = BooleanGrid.ofSize(4, 4);
+        booleanGrid.setBox(1, 1, 2, 3, true);
+        assertThat(booleanGrid.sumValues())
+            .isEqualTo(6L);
+        assertThat(booleanGrid.at(0, 1))
+            .isFalse();
+        assertThat(booleanGrid.at(2, 3))
+            .isTrue();
+
+        booleanGrid.setBox(2, 0, 2, 3, false);
+        assertThat(booleanGrid.sumValues())
+            .isEqualTo(3L);
+    }
+
+    @Test
+    void testToggleBox() {
+        final BooleanGrid booleanGrid = BooleanGrid.ofSize(3, 3);
+        booleanGrid.toggleBox(0, 0, 2, 2);
+        booleanGrid.toggleBox(1, 1, 1, 1);
+        assertThat(booleanGrid.sumValues())
+            .isEqualTo(8L);
+        assertThat(booleanGrid.findValue(false))
+            .containsExactly(Point.of(1, 1));
+    }
+
+    @Test
+    void testDrawBox_matchesGrid() {
+        final BooleanGrid booleanGrid = BooleanGrid.ofSize(3, 3);
+        final Grid<Boolean> grid = GridFactory.ofBooleansWithSize(3);
+
+        booleanGrid.drawBox(0, 1, 2, 2, currentValue -> !currentValue);
+        grid.drawBox(0, 1, 2, 2, currentValue -> !currentValue);
+
+        assertThat(booleanGrid.sumValues())
+            .isEqualTo(grid.sumValues(value -> Boolean.TRUE.equals(value) ? 1 : 0));
+    }
+
+    @Test
+    void testDrawBox_invalidCoordinates() {
+        final BooleanGrid booleanGrid = BooleanGrid.ofSize(3, 3);
+
+        assertThatThrownBy(() -> booleanGrid.setBox(0, 0, 3, 2, true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("x2, y2 must be less than (3, 3), found: (3, 2)");
+    }
+
+    @Test
+    void testAt_outOfRangeColumnDoesNotWrapToNextRow() {
+        final BooleanGrid booleanGrid = BooleanGrid.ofSize(2, 2);
+        booleanGrid.set(1, 0, true);
+
+        assertThatThrownBy(() -> booleanGrid.at(0, 2))
+            .isInstanceOf(ArrayIndexOutOfBoundsException.class)
+            .hasMessage("(0, 2) is outside of the 2x2 grid");
+        assertThatThrownBy(() -> booleanGrid.set(0, -1, true))
+            .isInstanceOf(ArrayIndexOutOfBoundsException.class)
+            .hasMessage("(0, -1) is outside of the 2x2 grid");
+    }
+
+    @Test
+    void testRotate() {
+        final BooleanGrid booleanGrid = BooleanGrid.parse(List.of(
+            "#..",
+            "..."
+        ), '#');
+
+        final BooleanGrid clockwise = booleanGrid.rotate(RotationDirection.CLOCKWISE);
+        assertThat(clockwise.numberOfRows())
+            .isEqualTo(3);
+        assertThat(clockwise.numberOfColumns())
+            .isEqualTo(2);
+        assertThat(clockwise.at(0, 1))
+            .isTrue();
+
+        assertThat(clockwise.rotate(RotationDirection.ANTI_CLOCKWISE))
+            .isEqualTo(booleanGrid);
+    }
+}
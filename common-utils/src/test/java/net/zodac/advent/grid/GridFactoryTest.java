@@ -71,4 +71,94 @@ class GridFactoryTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("Size must be positive integer, found: -1");
     }
+
+    @Test
+    void testOfBooleanGrid() {
+        final List<String> input = List.of(
+            "#.",
+            ".#"
+        );
+
+        final BooleanGrid output = GridFactory.ofBooleanGrid(input, '#');
+        assertThat(output.elementsInGrid())
+            .isEqualTo(4);
+
+        assertThat(output.at(0, 0))
+            .isTrue();
+        assertThat(output.at(0, 1))
+            .isFalse();
+        assertThat(output.at(1, 0))
+            .isFalse();
+        assertThat(output.at(1, 1))
+            .isTrue();
+        assertThat(output.sumValues())
+            .isEqualTo(2L);
+    }
+
+    @Test
+    void testOfCharGrid() {
+        final List<String> input = List.of(
+            "abc",
+            "d"
+        );
+
+        final CharGrid output = GridFactory.ofCharGrid(input);
+        assertThat(output.numberOfRows())
+            .isEqualTo(2);
+        assertThat(output.numberOfColumns())
+            .isEqualTo(3);
+
+        assertThat(output.at(0, 2))
+            .isEqualTo('c');
+        assertThat(output.at(1, 0))
+            .isEqualTo('d');
+        assertThat(output.at(1, 2))
+            .isEqualTo(' ');
+
+        assertThatThrownBy(() -> GridFactory.ofCharGrid(List.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Input cannot be empty");
+    }
+
+    @Test
+    void testOfIntGrid() {
+        final List<String> input = List.of(
+            "12",
+            "23"
+        );
+
+        final IntGrid output = GridFactory.ofIntGrid(input);
+        assertThat(output.elementsInGrid())
+            .isEqualTo(4);
+
+        assertThat(output.at(Point.of(0, 0)))
+            .isEqualTo(1);
+        assertThat(output.at(Point.of(0, 1)))
+            .isEqualTo(2);
+        assertThat(output.at(Point.of(1, 0)))
+            .isEqualTo(2);
+        assertThat(output.at(Point.of(1, 1)))
+            .isEqualTo(3);
+        assertThat(output.sumValues())
+            .isEqualTo(8L);
+    }
+
+    @Test
+    void testOfIntGridWithSize() {
+        final IntGrid output = GridFactory.ofIntGridWithSize(2);
+        assertThat(output.elementsInGrid())
+            .isEqualTo(4);
+        assertThat(output.sumValues())
+            .isEqualTo(0L);
+
+        assertThatThrownBy(() -> GridFactory.ofIntGridWithSize(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Size must be positive integer, found: 0");
+        assertThatThrownBy(() -> GridFactory.ofBooleanGridWithSize(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Size must be positive integer, found: -1");
+        assertThatThrownBy(() -> GridFactory.ofCharGridWithSize(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Size must be positive integer, found: -1");
+    }
 }
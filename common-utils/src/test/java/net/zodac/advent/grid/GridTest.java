@@ -18,8 +18,13 @@
 package net.zodac.advent.grid;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import net.zodac.advent.pojo.RotationDirection;
 import net.zodac.advent.util.NumberUtils;
 import org.junit.jupiter.api.Test;
 
@@ -80,4 +85,255 @@ class GridTest {
         assertThat(output.at(Point.of(1, 1)))
             .isEqualTo(3);
     }
+
+    @Test
+    void testRectangularGrid() {
+        final List<String> input = List.of(
+            "abc",
+            "def"
+        );
+
+        final Grid<Character> output = Grid.parseGrid(input, character -> character);
+        assertThat(output.numberOfRows())
+            .isEqualTo(2);
+        assertThat(output.numberOfColumns())
+            .isEqualTo(3);
+        assertThat(output.elementsInGrid())
+            .isEqualTo(6);
+
+        assertThat(output.indexOf(1, 2))
+            .isEqualTo(5);
+        assertThat(output.at(5))
+            .isEqualTo('f');
+        assertThat(output.pointOf(4))
+            .isEqualTo(Point.of(1, 1));
+        assertThat(output.rowAt(1))
+            .containsExactly('d', 'e', 'f');
+
+        assertThat(output.exists(Point.of(1, 2)))
+            .isTrue();
+        assertThat(output.exists(Point.of(2, 0)))
+            .isFalse();
+        assertThat(output.exists(Point.of(0, 3)))
+            .isFalse();
+        assertThatThrownBy(() -> output.at(0, 3))
+            .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testNeighbourIndices() {
+        final Grid<Boolean> grid = new Grid<>(2, 3, new Boolean[]{false, false, false, false, false, false});
+        final int[] neighbours = new int[8];
+
+        final int numberOfCardinalNeighbours = grid.neighbourIndices(0, AdjacentDirection.CARDINAL, neighbours);
+        assertThat(Arrays.copyOf(neighbours, numberOfCardinalNeighbours))
+            .containsExactlyInAnyOrder(1, 3);
+
+        final int numberOfNeighbours = grid.neighbourIndices(4, AdjacentDirection.ALL, neighbours);
+        assertThat(Arrays.copyOf(neighbours, numberOfNeighbours))
+            .containsExactlyInAnyOrder(0, 1, 2, 3, 5);
+
+        final int numberOfDiagonalNeighbours = grid.neighbourIndices(2, AdjacentDirection.DIAGONAL, neighbours);
+        assertThat(Arrays.copyOf(neighbours, numberOfDiagonalNeighbours))
+            .containsExactly(4);
+
+        assertThat(grid.neighbourIndex(2, Direction.RIGHT))
+            .isEqualTo(-1);
+        assertThat(grid.neighbourIndex(2, Direction.DOWN))
+            .isEqualTo(5);
+    }
+
+    @Test
+    void testRotate_rectangularGrid() {
+        final Grid<Character> grid = Grid.parseGrid(List.of(
+            "abc",
+            "def"
+        ), character -> character);
+
+        final Grid<Character> clockwise = grid.rotate(RotationDirection.CLOCKWISE);
+        assertThat(clockwise)
+            .isEqualTo(Grid.parseGrid(List.of(
+                "da",
+                "eb",
+                "fc"
+            ), character -> character));
+
+        assertThat(clockwise.rotate(RotationDirection.ANTI_CLOCKWISE))
+            .isEqualTo(grid);
+    }
+
+    @Test
+    void testUpdateAt_doesNotChangeOriginalGrid() {
+        final Grid<Character> grid = Grid.parseGrid(List.of(
+            "abc",
+            "def"
+        ), character -> character);
+
+        final Grid<Character> updated = grid.updateAt(Point.of(1, 1), 'x');
+        assertThat(updated.at(1, 1))
+            .isEqualTo('x');
+        assertThat(updated.rowAt(1))
+            .containsExactly('d', 'x', 'f');
+        assertThat(updated)
+            .isEqualTo(Grid.parseGrid(List.of(
+                "abc",
+                "dxf"
+            ), character -> character));
+        assertThat(grid.at(1, 1))
+            .isEqualTo('e');
+
+        final Grid<Character> updatedTwice = updated.updateAt(Point.of(1, 1), 'y').updateAt(Point.of(0, 0), 'z');
+        assertThat(updatedTwice)
+            .isEqualTo(Grid.parseGrid(List.of(
+                "zbc",
+                "dyf"
+            ), character -> character));
+        assertThat(updated.at(1, 1))
+            .isEqualTo('x');
+
+        assertThatThrownBy(() -> grid.updateAt(Point.of(0, 3), 'x'))
+            .isInstanceOf(ArrayIndexOutOfBoundsException.class)
+            .hasMessage("(0, 3) is outside of the 2x3 grid");
+    }
+
+    @Test
+    void testUpdateAt_manyUpdates() {
+        final int gridSize = 10;
+        Grid<Integer> grid = new Grid<>(gridSize, new Integer[gridSize][gridSize], 0);
+
+        for (int i = 0; i < gridSize * gridSize; i++) {
+            grid = grid.updateAt(Point.of(i / gridSize, i % gridSize), i);
+        }
+
+        for (int i = 0; i < gridSize * gridSize; i++) {
+            assertThat(grid.at(i))
+                .isEqualTo(i);
+        }
+        assertThat(grid.sumValues(value -> value))
+            .isEqualTo(4_950L);
+    }
+
+    @Test
+    void testFindValue_readsUpdatedGridWithoutChangingOtherGrids() {
+        final Grid<Integer> grid = new Grid<>(3, new Integer[3][3], 0);
+        final Grid<Integer> updated = grid.updateAt(Point.of(1, 1), 5);
+        final Grid<Integer> updatedTwice = updated.updateAt(Point.of(2, 2), 7);
+
+        assertThat(updated.findValue(value -> value == 5))
+            .containsExactly(Point.of(1, 1));
+        assertThat(updated.sumValues(value -> value))
+            .isEqualTo(5L);
+
+        updated.drawBox(0, 0, 2, 2, value -> value + 1);
+        assertThat(updated.sumValues(value -> value))
+            .isEqualTo(14L);
+        assertThat(grid.sumValues(value -> value))
+            .isZero();
+        assertThat(updatedTwice.sumValues(value -> value))
+            .isEqualTo(12L);
+        assertThat(updatedTwice.at(1, 1))
+            .isEqualTo(5);
+    }
+
+    @Test
+    void testEqualsAndHashCode_updatedGridMatchesCopiedGrid() {
+        final Grid<Integer> grid = new Grid<>(3, new Integer[3][3], 0);
+        final Grid<Integer> updated = grid.updateAt(Point.of(1, 1), 5).updateAt(Point.of(0, 2), 7);
+        final Grid<Integer> copied = new Grid<>(updated.getInternalGrid());
+
+        assertThat(updated)
+            .isEqualTo(copied);
+        assertThat(updated)
+            .hasSameHashCodeAs(copied);
+        assertThat(copied)
+            .isEqualTo(updated);
+        assertThat(updated)
+            .isNotEqualTo(grid);
+
+        // Reading the updated Grid does not change how either Grid is stored, so the hash code is stable when used as a key
+        final Map<Grid<Integer>, String> gridsByName = new HashMap<>();
+        gridsByName.put(updated, "updated");
+        assertThat(updated.findValue(value -> value == 5))
+            .containsExactly(Point.of(1, 1));
+        assertThat(gridsByName.get(copied))
+            .isEqualTo("updated");
+        assertThat(grid.sumValues(value -> value))
+            .isZero();
+    }
+
+    @Test
+    void testDrawBox_doesNotChangeSharedValues() {
+        final Grid<Integer> grid = new Grid<>(3, new Integer[3][3], 0);
+        final Grid<Integer> updated = grid.updateAt(Point.of(0, 0), 5);
+
+        grid.drawBox(0, 0, 2, 2, value -> value + 1);
+        updated.drawBox(1, 1, 1, 1, value -> value + 2);
+
+        assertThat(grid.sumValues(value -> value))
+            .isEqualTo(9L);
+        assertThat(updated.sumValues(value -> value))
+            .isEqualTo(7L);
+        assertThat(updated.at(0, 0))
+            .isEqualTo(5);
+    }
+
+    @Test
+    void testBuilder() {
+        final Grid<Character> grid = Grid.parseGrid(List.of(
+            "abc",
+            "def"
+        ), character -> character);
+
+        final Grid.Builder<Character> builder = grid.toBuilder()
+            .set(Point.of(0, 0), 'x')
+            .set(Point.of(1, 2), 'y');
+        final Grid<Character> built = builder.build();
+
+        assertThat(built)
+            .isEqualTo(Grid.parseGrid(List.of(
+                "xbc",
+                "dey"
+            ), character -> character));
+        assertThat(grid.at(0, 0))
+            .isEqualTo('a');
+
+        builder.set(Point.of(0, 1), 'z');
+        assertThat(builder.at(Point.of(0, 1)))
+            .isEqualTo('z');
+        assertThat(built.at(0, 1))
+            .isEqualTo('b');
+
+        assertThatThrownBy(() -> builder.set(Point.of(2, 0), 'x'))
+            .isInstanceOf(ArrayIndexOutOfBoundsException.class)
+            .hasMessage("(2, 0) is outside of the 2x3 grid");
+    }
+
+    @Test
+    void testConstructor_invalidNumberOfValues() {
+        assertThatThrownBy(() -> new Grid<>(2, 2, new Integer[]{1, 2, 3}))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Expected 2x2 values, found: 3");
+    }
+
+    @Test
+    void testConstructor_jaggedRows() {
+        assertThatThrownBy(() -> Grid.parseGrid(List.of(
+            "abc",
+            "de"
+        ), character -> character))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Expected all rows to have 3 columns, found 2 in row 1");
+    }
+
+    @Test
+    void testDrawBox_invalidCoordinates() {
+        final Grid<Integer> grid = new Grid<>(3, new Integer[3][3], 0);
+
+        assertThatThrownBy(() -> grid.drawBox(0, 0, 3, 2, value -> value + 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("x2, y2 must be less than (3, 3), found: (3, 2)");
+        assertThatThrownBy(() -> grid.drawBox(0, 0, 2, 3, value -> value + 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("x2, y2 must be less than (3, 3), found: (2, 3)");
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.grid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Unit tests for {@link LifeGrid}.
+ */
+class LifeGridTest {
+
+    @Test
+    void testStep_blinker() {
+        final LifeGrid lifeGrid = LifeGrid.ofSize(5, 5, LifeRule.CONWAY);
+        lifeGrid.set(2, 1, true);
+        lifeGrid.set(2, 2, true);
+        lifeGrid.set(2, 3, true);
+
+        lifeGrid.step(1);
+        assertThat(lifeGrid.at(1, 2) && lifeGrid.at(2, 2) && lifeGrid.at(3, 2))
+            .isTrue();
+        assertThat(lifeGrid.at(2, 1) || lifeGrid.at(2, 3))
+            .isFalse();
+
+        lifeGrid.step(1);
+        assertThat(lifeGrid.at(2, 1) && lifeGrid.at(2, 2) && lifeGrid.at(2, 3))
+            .isTrue();
+        assertThat(lifeGrid.countAlive())
+            .isEqualTo(3L);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "B3/S23,20,70",
+        "B3/S23,64,64",
+        "B36/S23,33,130",
+        "B2/S,17,65",
+        "B0/S8,9,70",
+    })
+    void testStep_matchesCellByCellRule(final String rule, final int numberOfRows, final int numberOfColumns) {
+        final LifeRule lifeRule = LifeRule.parse(rule);
+        final Random random = new Random(2015L);
+        final boolean[][] expected = new boolean[numberOfRows][numberOfColumns];
+        final LifeGrid lifeGrid = LifeGrid.ofSize(numberOfRows, numberOfColumns, lifeRule);
+        for (int row = 0; row < numberOfRows; row++) {
+            for (int column = 0; column < numberOfColumns; column++) {
+                expected[row][column] = random.nextBoolean();
+                lifeGrid.set(row, column, expected[row][column]);
+            }
+        }
+
+        for (int generation = 0; generation < 10; generation++) {
+            lifeGrid.step(1);
+            stepCellByCell(expected, lifeRule);
+
+            for (int row = 0; row < numberOfRows; row++) {
+                for (int column = 0; column < numberOfColumns; column++) {
+                    assertThat(lifeGrid.at(row, column))
+                        .isEqualTo(expected[row][column]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testStepInParallel_matchesStep() {
+        final Random random = new Random(18L);
+        final LifeGrid sequential = LifeGrid.ofSize(200, 150, LifeRule.CONWAY);
+        final LifeGrid parallel = LifeGrid.ofSize(200, 150, LifeRule.CONWAY);
+        for (int row = 0; row < 200; row++) {
+            for (int column = 0; column < 150; column++) {
+                final boolean value = random.nextBoolean();
+                sequential.set(row, column, value);
+                parallel.set(row, column, value);
+            }
+        }
+
+        sequential.step(25);
+        parallel.stepInParallel(25);
+
+        assertThat(parallel.countAlive())
+            .isEqualTo(sequential.countAlive());
+        for (int row = 0; row < 200; row++) {
+            for (int column = 0; column < 150; column++) {
+                assertThat(parallel.at(row, column))
+                    .isEqualTo(sequential.at(row, column));
+            }
+        }
+    }
+
+    @Test
+    void testSetCornersAlwaysOn() {
+        final LifeGrid lifeGrid = LifeGrid.ofSize(3, 70, LifeRule.CONWAY);
+        lifeGrid.setCornersAlwaysOn();
+        lifeGrid.step(3);
+
+        assertThat(lifeGrid.at(0, 0) && lifeGrid.at(0, 69) && lifeGrid.at(2, 0) && lifeGrid.at(2, 69))
+            .isTrue();
+        assertThat(lifeGrid.countAlive())
+            .isEqualTo(4L);
+    }
+
+    @Test
+    void testParse_invalidRule() {
+        assertThatThrownBy(() -> LifeRule.parse("B9/S23"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Unable to find match in input: B9/S23");
+    }
+
+    @Test
+    void testSet_outsideGrid() {
+        final LifeGrid lifeGrid = LifeGrid.ofSize(3, 3, LifeRule.CONWAY);
+
+        assertThatThrownBy(() -> lifeGrid.set(3, 0, true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cell (3, 0) is outside the grid of size 3x3");
+    }
+
+    private static void stepCellByCell(final boolean[][] cells, final LifeRule lifeRule) {
+        final int numberOfRows = cells.length;
+        final int numberOfColumns = cells[0].length;
+        final boolean[][] previous = new boolean[numberOfRows][];
+        for (int row = 0; row < numberOfRows; row++) {
+            previous[row] = cells[row].clone();
+        }
+
+        for (int row = 0; row < numberOfRows; row++) {
+            for (int column = 0; column < numberOfColumns; column++) {
+                int neighbours = 0;
+                for (int rowOffset = -1; rowOffset <= 1; rowOffset++) {
+                    for (int columnOffset = -1; columnOffset <= 1; columnOffset++) {
+                        final int neighbourRow = row + rowOffset;
+                        final int neighbourColumn = column + columnOffset;
+                        if ((rowOffset != 0 || columnOffset != 0) && neighbourRow >= 0 && neighbourRow < numberOfRows && neighbourColumn >= 0
+                            && neighbourColumn < numberOfColumns && previous[neighbourRow][neighbourColumn]) {
+                            neighbours++;
+                        }
+                    }
+                }
+                cells[row][column] = previous[row][column] ? lifeRule.survives(neighbours) : lifeRule.isBorn(neighbours);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.input;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import net.zodac.advent.grid.GridFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link InputReader}.
+ */
+class InputReaderTest {
+
+    private static final String GRID_FILE = "jaggedGrid.txt";
+    private static final String EMPTY_FILE = "emptyFile.txt";
+    private static final String NUMBERS_FILE = "validCsvOfIntegers.csv";
+
+    @Test
+    void testAsStrings() {
+        final List<String> lines = InputReader.forExample(GRID_FILE)
+            .asStrings()
+            .readAllLines();
+
+        assertThat(lines)
+            .containsExactly("#.1", ".2", "", "9#3");
+    }
+
+    @Test
+    void testAsStrings_excludeBlankLines() {
+        final String input = InputReader.forExample(GRID_FILE)
+            .excludeBlankLines()
+            .asStrings()
+            .readAllAsSingleString();
+
+        assertThat(input)
+            .isEqualTo("#.1\n.2\n9#3");
+    }
+
+    @Test
+    void testReadStream() {
+        final List<String> lines = InputReader.forExample(GRID_FILE)
+            .excludeBlankLines()
+            .asStrings()
+            .readStream()
+            .filter(line -> line.contains("#"))
+            .toList();
+
+        assertThat(lines)
+            .containsExactly("#.1", "9#3");
+    }
+
+    @Test
+    void testAsGrid_primitiveGridsMatchStringGrids() {
+        final List<String> lines = InputReader.forExample(GRID_FILE)
+            .excludeBlankLines()
+            .asStrings()
+            .readAllLines();
+
+        assertThat(InputReader.forExample(GRID_FILE).excludeBlankLines().asGrid().ofCharGrid())
+            .isEqualTo(GridFactory.ofCharGrid(lines));
+        assertThat(InputReader.forExample(GRID_FILE).excludeBlankLines().asGrid().ofIntGrid())
+            .isEqualTo(GridFactory.ofIntGrid(lines));
+        assertThat(InputReader.forExample(GRID_FILE).excludeBlankLines().asGrid().ofBooleanGrid('#'))
+            .isEqualTo(GridFactory.ofBooleanGrid(lines, '#'));
+    }
+
+    @Test
+    void testAsGrid_blankLinesIncluded() {
+        assertThat(InputReader.forExample(GRID_FILE).asGrid().ofCharGrid().numberOfRows())
+            .isEqualTo(4);
+    }
+
+    @Test
+    void testAsGrid_emptyFile() {
+        final InputReader.GridReader gridReader = InputReader.forExample(EMPTY_FILE).asGrid();
+
+        assertThatThrownBy(gridReader::ofCharGrid)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Input cannot be empty");
+    }
+
+    @Test
+    void testAsNumberTable() {
+        final NumberTable numberTable = InputReader.forExample(NUMBERS_FILE).asNumberTable();
+
+        assertThat(numberTable.numberOfLines())
+            .isEqualTo(3);
+        assertThat(numberTable.lineSize(1))
+            .isEqualTo(3);
+        assertThat(numberTable.get(1, 2))
+            .isEqualTo(6L);
+        assertThat(numberTable.line(2))
+            .isEqualTo(new long[] {7L, 8L, 9L});
+        assertThat(numberTable.column(0))
+            .isEqualTo(new long[] {1L, 4L, 7L});
+        assertThat(numberTable.stream().sum())
+            .isEqualTo(45L);
+    }
+
+    @Test
+    void testAsLinesOfNumbers() {
+        final List<long[]> lines = InputReader.forExample(NUMBERS_FILE)
+            .asLinesOfNumbers()
+            .readAllLines();
+
+        assertThat(lines)
+            .hasSize(3);
+        assertThat(lines.getFirst())
+            .isEqualTo(new long[] {1L, 2L, 3L});
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.machine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Unit tests for {@link RegisterMachine}.
+ */
+class RegisterMachineTest {
+
+    private static final Map<String, Operation> OPERATIONS_BY_MNEMONIC = Map.of(
+        "add", Operation.of(Opcode.ADD).takingCycles(2),
+        "hlf", Operation.withFixedArgument(Opcode.DIVIDE, 2),
+        "inc", Operation.withFixedArgument(Opcode.ADD, 1),
+        "tpl", Operation.withFixedArgument(Opcode.MULTIPLY, 3),
+        "jmp", Operation.of(Opcode.JUMP),
+        "jie", Operation.of(Opcode.JUMP_IF_EVEN),
+        "jio", Operation.of(Opcode.JUMP_IF_ONE),
+        "noop", Operation.of(Opcode.NO_OPERATION)
+    );
+
+    // Counts the Collatz steps from the starting value of 'a' down to 1 in register 'b'
+    private static final List<String> COLLATZ_PROGRAM = List.of(
+        "jio a, +8",
+        "inc b",
+        "jie a, +4",
+        "tpl a",
+        "inc a",
+        "jmp +2",
+        "hlf a",
+        "jmp -7"
+    );
+
+    @Test
+    void testRun() {
+        final RegisterMachine registerMachine = RegisterMachine.create(Program.parse(COLLATZ_PROGRAM, OPERATIONS_BY_MNEMONIC));
+        registerMachine.setRegister('a', 27L);
+        registerMachine.run();
+
+        assertThat(registerMachine.isHalted())
+            .isTrue();
+        assertThat(registerMachine.register('a'))
+            .isEqualTo(1L);
+        assertThat(registerMachine.register('b'))
+            .isEqualTo(111L);
+        assertThat(registerMachine.register('z'))
+            .isEqualTo(0L);
+    }
+
+    @Test
+    void testExecutionCounts() {
+        final RegisterMachine registerMachine = RegisterMachine.create(Program.parse(COLLATZ_PROGRAM, OPERATIONS_BY_MNEMONIC));
+        registerMachine.setRegister('a', 6L);
+        registerMachine.run();
+
+        // 6 -> 3 -> 10 -> 5 -> 16 -> 8 -> 4 -> 2 -> 1
+        assertThat(registerMachine.executionCounts())
+            .containsExactly(9L, 8L, 8L, 2L, 2L, 2L, 6L, 8L);
+        assertThat(registerMachine.cycles())
+            .isEqualTo(45L);
+    }
+
+    @Test
+    void testTick() {
+        final Program program = Program.parse(List.of("noop", "add x, 3", "add x, -5"), OPERATIONS_BY_MNEMONIC);
+        final RegisterMachine registerMachine = RegisterMachine.create(program);
+        registerMachine.setRegister('x', 1L);
+
+        final long[] expectedValuesBeforeEachCycle = {1L, 1L, 1L, 4L, 4L};
+        for (final long expectedValue : expectedValuesBeforeEachCycle) {
+            assertThat(registerMachine.isHalted())
+                .isFalse();
+            assertThat(registerMachine.register('x'))
+                .isEqualTo(expectedValue);
+            registerMachine.tick();
+        }
+
+        assertThat(registerMachine.isHalted())
+            .isTrue();
+        assertThat(registerMachine.register('x'))
+            .isEqualTo(-1L);
+        assertThat(registerMachine.cycles())
+            .isEqualTo(5L);
+        assertThatThrownBy(registerMachine::tick)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Machine has halted");
+    }
+
+    @Test
+    void testRun_afterPartialInstruction() {
+        final RegisterMachine registerMachine = RegisterMachine.create(Program.parse(List.of("add x, 3", "add x, 3"), OPERATIONS_BY_MNEMONIC));
+        registerMachine.tick();
+        registerMachine.run();
+
+        assertThat(registerMachine.register('x'))
+            .isEqualTo(6L);
+        assertThat(registerMachine.cycles())
+            .isEqualTo(4L);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "mul a,Unknown mnemonic in instruction: mul a",
+        "inc,'Expected 1 operand(s) for ADD, found: inc'",
+        "'jmp a, +2','Expected 1 operand(s) for JUMP, found: jmp a, +2'",
+        "inc ab,'Register must be a single character, found: inc ab'",
+        "inc A,'Register for ADD must be a lowercase letter, found: A'",
+    })
+    void testParse_givenInvalidInstruction(final String input, final String errorMessage) {
+        assertThatThrownBy(() -> Program.parse(List.of(input), OPERATIONS_BY_MNEMONIC))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(errorMessage);
+    }
+
+    @Test
+    void testParse_givenFixedArgument() {
+        assertThatThrownBy(() -> Program.parse(List.of("hlf a, 2"), OPERATIONS_BY_MNEMONIC))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Expected 1 operand(s) for DIVIDE, found: hlf a, 2");
+        assertThatThrownBy(() -> Operation.withFixedArgument(Opcode.NO_OPERATION, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("NO_OPERATION does not take an argument");
+    }
+
+    @Test
+    void testCreate_givenInvalidCycles() {
+        assertThatThrownBy(() -> Instruction.create(Opcode.NO_OPERATION, Instruction.NO_REGISTER, 0, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cycles for NO_OPERATION must be at least 1, found: 0");
+        assertThatThrownBy(() -> Operation.of(Opcode.ADD).takingCycles(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cycles for ADD must be at least 1, found: -1");
+    }
+
+    @Test
+    void testRegister_givenInvalidRegister() {
+        final RegisterMachine registerMachine = RegisterMachine.create(Program.parse(List.of(), OPERATIONS_BY_MNEMONIC));
+
+        assertThatThrownBy(() -> registerMachine.register('A'))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Register must be a lowercase letter, found: A");
+    }
+}
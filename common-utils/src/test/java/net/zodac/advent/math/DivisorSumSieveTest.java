@@ -0,0 +1,77 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.math;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Unit tests for {@link DivisorSumSieve}.
+ */
+class DivisorSumSieveTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "0,1,1",
+        "70,10,6",
+        "70,11,4",
+        "150,10,10",            // House 8 has exactly 150, which is not greater than the threshold
+        "3_000_000,10,75_600",  // Spans multiple segments
+    })
+    void testFindFirstGreaterThan(final long threshold, final long multiplier, final long expected) {
+        assertThat(DivisorSumSieve.findFirstGreaterThan(threshold, multiplier))
+            .isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "100,1,1,101",           // Only the number itself contributes
+        "100,10,2,8",
+        "3_000_000,11,50,75_600",
+    })
+    void testFindFirstGreaterThan_withMaxMultiplesPerDivisor(final long threshold, final long multiplier, final long maxMultiplesPerDivisor,
+                                                             final long expected) {
+        assertThat(DivisorSumSieve.findFirstGreaterThan(threshold, multiplier, maxMultiplesPerDivisor))
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void testFindFirstGreaterThan_givenNegativeThreshold() {
+        assertThatThrownBy(() -> DivisorSumSieve.findFirstGreaterThan(-1L, 10L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Threshold must be non-negative, found: -1");
+    }
+
+    @Test
+    void testFindFirstGreaterThan_givenNonPositiveMultiplier() {
+        assertThatThrownBy(() -> DivisorSumSieve.findFirstGreaterThan(70L, 0L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Multiplier must be positive, found: 0");
+    }
+
+    @Test
+    void testFindFirstGreaterThan_givenNonPositiveMaxMultiplesPerDivisor() {
+        assertThatThrownBy(() -> DivisorSumSieve.findFirstGreaterThan(70L, 10L, 0L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Maximum multiples per divisor must be positive, found: 0");
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Unit tests for {@link CycleFinder}.
+ */
+class CycleFinderTest {
+
+    // 0, 1, 2, 3, 4, 5, 2, 3, 4, 5, ... so the cycle starts at index 2 with a length of 4
+    private static final UnaryOperator<Integer> CYCLE_AFTER_TWO_STATES = value -> value < 5 ? value + 1 : 2;
+    private static final UnaryOperator<Integer> NO_CYCLE = value -> value + 1;
+
+    @ParameterizedTest
+    @CsvSource({
+        "10,2",
+        "1_000_000_001,5",
+    })
+    void testFindCycle(final long maximumIterations, final int expectedValue) {
+        final Cycle<Integer> expected = Cycle.cycleFound(expectedValue, 2L, 4L);
+
+        assertThat(CycleFinder.findCycle(0, CYCLE_AFTER_TWO_STATES, maximumIterations))
+            .isEqualTo(expected);
+        assertThat(CycleFinder.findCycleByFingerprint(0, CYCLE_AFTER_TWO_STATES, Integer::longValue, maximumIterations))
+            .isEqualTo(expected);
+
+        for (final CycleDetectionAlgorithm cycleDetectionAlgorithm : CycleDetectionAlgorithm.values()) {
+            assertThat(CycleFinder.findCycle(0, CYCLE_AFTER_TWO_STATES, maximumIterations, cycleDetectionAlgorithm))
+                .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testFindCycle_cycleIncludesInitialState() {
+        final UnaryOperator<Integer> manipulator = value -> (value + 1) % 3;
+        final Cycle<Integer> expected = Cycle.cycleFound(1, 0L, 3L);
+
+        assertThat(CycleFinder.findCycle(0, manipulator, 1_000_000_000L))
+            .isEqualTo(expected);
+        assertThat(CycleFinder.findCycleByFingerprint(0, manipulator, Integer::longValue, 1_000_000_000L))
+            .isEqualTo(expected);
+        assertThat(CycleFinder.findCycle(0, manipulator, 1_000_000_000L, CycleDetectionAlgorithm.BRENT))
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void testFindCycle_noCycle() {
+        assertThat(CycleFinder.findCycle(0, NO_CYCLE, 100L).doesCycleExist())
+            .isFalse();
+        assertThat(CycleFinder.findCycleByFingerprint(0, NO_CYCLE, Integer::longValue, 100L).doesCycleExist())
+            .isFalse();
+
+        for (final CycleDetectionAlgorithm cycleDetectionAlgorithm : CycleDetectionAlgorithm.values()) {
+            assertThat(CycleFinder.findCycle(0, NO_CYCLE, 100L, cycleDetectionAlgorithm).doesCycleExist())
+                .isFalse();
+        }
+    }
+
+    @Test
+    void testFindCycleByFingerprint_givenFingerprintCollision() {
+        assertThatThrownBy(() -> CycleFinder.findCycleByFingerprint(0, NO_CYCLE, _ -> 0L, 100L))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("States 0 and 1 have the same fingerprint, but are different");
+    }
+}
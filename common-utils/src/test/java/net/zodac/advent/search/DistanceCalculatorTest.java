@@ -0,0 +1,161 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import net.zodac.advent.pojo.Route;
+import net.zodac.advent.util.PermutationUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DistanceCalculator}.
+ */
+class DistanceCalculatorTest {
+
+    private static final int NUMBER_OF_LOCATIONS = 8;
+    private static final long RANDOM_SEED = 2015L;
+
+    @Test
+    void testDistanceOfPath_givenNoOptions_thenMatchesAllPermutations() {
+        final int[][] distances = randomDistances();
+        final DistanceCalculator distanceCalculator = DistanceCalculator.create(toRoutes(distances));
+
+        assertThat(distanceCalculator.distanceOfShortestPath())
+            .isEqualTo(bruteForce(distances, false, false));
+        assertThat(distanceCalculator.distanceOfLongestPath())
+            .isEqualTo(bruteForce(distances, false, true));
+    }
+
+    @Test
+    void testDistanceOfPath_givenAllOptions_thenMatchesAllPermutations() {
+        final int[][] distances = randomDistances();
+        final DistanceCalculator distanceCalculator = DistanceCalculator.createWithAllOptions(toRoutes(distances));
+
+        assertThat(distanceCalculator.distanceOfShortestPath())
+            .isEqualTo(bruteForce(distances, true, false));
+        assertThat(distanceCalculator.distanceOfLongestPath())
+            .isEqualTo(bruteForce(distances, true, true));
+    }
+
+    @Test
+    void testDistanceOfPath_givenSixteenLocations() {
+        // Every location is 1 away from its neighbours in a line, and 100 away from all other locations
+        final List<Route> routes = new ArrayList<>();
+        for (int from = 0; from < 16; from++) {
+            for (int to = from + 1; to < 16; to++) {
+                routes.add(Route.create(locationName(from), locationName(to), to == from + 1 ? 1 : 100));
+            }
+        }
+
+        final DistanceCalculator distanceCalculator = DistanceCalculator.create(routes);
+        assertThat(distanceCalculator.distanceOfShortestPath())
+            .isEqualTo(15);
+        assertThat(distanceCalculator.distanceOfLongestPath())
+            .isEqualTo(1_500);
+    }
+
+    @Test
+    void testCreate_givenMissingUniDirectionalRoute() {
+        final List<Route> routes = List.of(Route.create("A", "B", 1));
+
+        assertThatThrownBy(() -> DistanceCalculator.createWithOptions(routes, DistanceCalculator.Option.UNI_DIRECTIONAL_DISTANCES))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Unable to find a route from B to A");
+    }
+
+    @Test
+    void testCreate_givenMissingRoute() {
+        final List<Route> routes = List.of(Route.create("A", "B", 1), Route.create("B", "C", 1));
+
+        assertThatThrownBy(() -> DistanceCalculator.create(routes))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Unable to find a route between A and C");
+    }
+
+    @Test
+    void testCreate_givenLocationNamesWhichConcatenateToTheSameKey() {
+        // "ab" -> "c" and "a" -> "bc" would both be "abc" if the location names were concatenated
+        final List<Route> routes = List.of(
+            Route.create("ab", "c", 1),
+            Route.create("a", "bc", 2),
+            Route.create("ab", "a", 10),
+            Route.create("ab", "bc", 10),
+            Route.create("c", "a", 10),
+            Route.create("c", "bc", 10)
+        );
+
+        final DistanceCalculator distanceCalculator = DistanceCalculator.create(routes);
+        assertThat(distanceCalculator.distanceOfShortestPath())
+            .isEqualTo(13);
+        assertThat(distanceCalculator.distanceOfLongestPath())
+            .isEqualTo(30);
+    }
+
+    private static int[][] randomDistances() {
+        final Random random = new Random(RANDOM_SEED);
+        final int[][] distances = new int[NUMBER_OF_LOCATIONS][NUMBER_OF_LOCATIONS];
+        for (int from = 0; from < NUMBER_OF_LOCATIONS; from++) {
+            for (int to = 0; to < NUMBER_OF_LOCATIONS; to++) {
+                if (from != to) {
+                    distances[from][to] = random.nextInt(-100, 100);
+                }
+            }
+        }
+        return distances;
+    }
+
+    private static List<Route> toRoutes(final int[][] distances) {
+        final List<Route> routes = new ArrayList<>();
+        for (int from = 0; from < distances.length; from++) {
+            for (int to = 0; to < distances.length; to++) {
+                if (from != to) {
+                    routes.add(Route.create(locationName(from), locationName(to), distances[from][to]));
+                }
+            }
+        }
+        return routes;
+    }
+
+    private static String locationName(final int location) {
+        return String.valueOf((char) ('A' + location));
+    }
+
+    private static int bruteForce(final int[][] distances, final boolean allOptions, final boolean findLongest) {
+        final ToIntFunction<int[]> distanceOfPermutation = permutation -> {
+            int total = 0;
+            final int numberOfSteps = allOptions ? permutation.length : permutation.length - 1;
+            for (int i = 0; i < numberOfSteps; i++) {
+                final int from = permutation[i];
+                final int to = permutation[(i + 1) % permutation.length];
+                total += allOptions ? distances[from][to] + distances[to][from] : distances[from][to];
+            }
+            return total;
+        };
+
+        final IntStream distancesOfPermutations = PermutationUtils.streamIndexPermutations(distances.length)
+            .mapToInt(distanceOfPermutation);
+        return findLongest ? distancesOfPermutations.max().orElseThrow() : distancesOfPermutations.min().orElseThrow();
+    }
+}
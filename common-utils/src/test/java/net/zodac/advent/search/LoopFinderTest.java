@@ -20,6 +20,7 @@ package net.zodac.advent.search;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.function.LongUnaryOperator;
 import java.util.stream.Stream;
 import net.zodac.advent.grid.Direction;
 import net.zodac.advent.grid.Grid;
@@ -63,6 +64,65 @@ class LoopFinderTest {
             .isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @MethodSource("provideForHasLoop_integerGrid")
+    void testHasLoop_packedStates(final Grid<Integer> inputGrid, final boolean expected) {
+        final VisitedStateSet visitedStates = VisitedStateSet.create(LoopFinder.numberOfStates(inputGrid));
+        final int startState = LoopFinder.packState(inputGrid.indexOf(Point.of(0, 0)), Direction.RIGHT);
+
+        final boolean result = LoopFinder.doesLoopExist(startState, state -> {
+            final int index = LoopFinder.indexOfState(state);
+            final Direction direction = LoopFinder.directionOfState(state);
+
+            // If the next index doesn't exist within the Grid, end the traversal
+            Direction nextDirection = direction;
+            int nextIndex = inputGrid.neighbourIndex(index, nextDirection);
+            if (nextIndex == -1) {
+                return LoopFinder.TERMINATED;
+            }
+
+            // If we find a value greater than 3, turn right
+            while (inputGrid.at(nextIndex) > 3) {
+                nextDirection = nextDirection.rotateRight();
+                nextIndex = inputGrid.neighbourIndex(index, nextDirection);
+
+                if (nextDirection == direction || nextIndex == -1) {
+                    return LoopFinder.TERMINATED;
+                }
+            }
+            return LoopFinder.packState(nextIndex, nextDirection);
+        }, visitedStates);
+
+        assertThat(result)
+            .isEqualTo(expected);
+
+        // The VisitedStateSet is cleared before each traversal, so can be reused
+        assertThat(LoopFinder.doesLoopExist(startState, _ -> LoopFinder.TERMINATED, visitedStates))
+            .isFalse();
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideForHasLoop_unboundedStates")
+    void testHasLoop_unboundedStates(final LongUnaryOperator nextState, final boolean expected) {
+        for (final CycleDetectionAlgorithm cycleDetectionAlgorithm : CycleDetectionAlgorithm.values()) {
+            assertThat(LoopFinder.doesLoopExist(3L, nextState, cycleDetectionAlgorithm))
+                .isEqualTo(expected);
+        }
+    }
+
+    private static Stream<Arguments> provideForHasLoop_unboundedStates() {
+        return Stream.of(
+            // Terminates after counting up
+            Arguments.of((LongUnaryOperator) state -> state < 1_000L ? state + 1L : LoopFinder.TERMINATED, false),
+            // Pseudo-random sequence, which must eventually repeat
+            Arguments.of((LongUnaryOperator) state -> ((state * state) + 1L) % 1_000_003L, true),
+            // Loops back to the start state
+            Arguments.of((LongUnaryOperator) state -> (state + 1L) % 10L, true),
+            // Stays on the same state
+            Arguments.of((LongUnaryOperator) state -> state, true)
+        );
+    }
+
     private static Stream<Arguments> provideForHasLoop_integerGrid() {
         return Stream.of(
             // Integer grid with no loop
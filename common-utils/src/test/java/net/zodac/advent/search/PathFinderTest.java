@@ -0,0 +1,83 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import net.zodac.advent.grid.AdjacentDirection;
+import net.zodac.advent.grid.Grid;
+import net.zodac.advent.grid.Point;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PathFinder}.
+ */
+class PathFinderTest {
+
+    private static final char OBSTACLE_SYMBOL = '#';
+
+    private static final Grid<Character> GRID = Grid.parseGrid(List.of(
+        "..#....",
+        ".##.##.",
+        "....#..",
+        "##.##.#",
+        "......."
+    ), character -> character);
+
+    @Test
+    void testShortestIndices() {
+        final int[] path = PathFinder.shortestIndices(GRID, GRID.indexOf(0, 0), GRID.indexOf(0, 6), AdjacentDirection.CARDINAL,
+            (_, nextIndex) -> GRID.at(nextIndex) != OBSTACLE_SYMBOL);
+
+        // Down and across the third row, then back up through the gap and along the top row
+        assertThat(path.length - 1)
+            .isEqualTo(10);
+        assertThat(path[0])
+            .isEqualTo(GRID.indexOf(0, 0));
+        assertThat(path[path.length - 1])
+            .isEqualTo(GRID.indexOf(0, 6));
+    }
+
+    @Test
+    void testShortestIndices_diagonal() {
+        final int[] path = PathFinder.shortestIndices(GRID, GRID.indexOf(0, 0), GRID.indexOf(4, 4), AdjacentDirection.ALL, (_, _) -> true);
+
+        assertThat(path)
+            .containsExactly(GRID.indexOf(0, 0), GRID.indexOf(1, 1), GRID.indexOf(2, 2), GRID.indexOf(3, 3), GRID.indexOf(4, 4));
+    }
+
+    @Test
+    void testShortestIndices_noPath() {
+        // The end index is an obstacle, so can never be reached
+        final int[] path = PathFinder.shortestIndices(GRID, GRID.indexOf(0, 0), GRID.indexOf(0, 2), AdjacentDirection.CARDINAL,
+            (_, nextIndex) -> GRID.at(nextIndex) != OBSTACLE_SYMBOL);
+
+        assertThat(path)
+            .isEmpty();
+    }
+
+    @Test
+    void testShortest() {
+        final List<Point> path = List.copyOf(PathFinder.shortest(GRID, Point.of(0, 0), Point.of(2, 3), AdjacentDirection.CARDINAL,
+            (_, nextPoint) -> GRID.at(nextPoint) != OBSTACLE_SYMBOL));
+
+        assertThat(path)
+            .containsExactly(Point.of(0, 0), Point.of(1, 0), Point.of(2, 0), Point.of(2, 1), Point.of(2, 2), Point.of(2, 3));
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.zodac.advent.grid.Point;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Unit tests for {@link ShortestPathSearcher}.
+ */
+class ShortestPathSearcherTest {
+
+    // A -> B costs 1, A -> C costs 5, B -> C costs 1, C -> D costs 1, B -> D costs 4
+    private static final Map<String, Map<String, Long>> WEIGHTED_GRAPH = Map.of(
+        "A", Map.of("B", 1L, "C", 5L),
+        "B", Map.of("C", 1L, "D", 4L),
+        "C", Map.of("D", 1L),
+        "D", Map.of()
+    );
+
+    private static final EdgeFunction<String> WEIGHTED_EDGES =
+        (state, edgeConsumer) -> WEIGHTED_GRAPH.getOrDefault(state, Map.of()).forEach(edgeConsumer::accept);
+
+    @ParameterizedTest
+    @CsvSource({
+        "DIJKSTRA",
+        "A_STAR",
+    })
+    void testFindShortestPath_weightedGraph(final SearchAlgorithm searchAlgorithm) {
+        final SearchResult<String> searchResult =
+            ShortestPathSearcher.findShortestPath("A", WEIGHTED_EDGES, "D"::equals, searchAlgorithm, _ -> 0L);
+
+        assertThat(searchResult.doesPathExist())
+            .isTrue();
+        assertThat(searchResult.distance())
+            .isEqualTo(3L);
+        assertThat(searchResult.path())
+            .containsExactly("A", "B", "C", "D");
+        assertThat(searchResult.endState())
+            .isEqualTo("D");
+    }
+
+    @Test
+    void testFindShortestPath_breadthFirstIgnoresCosts() {
+        final SearchResult<String> searchResult =
+            ShortestPathSearcher.findShortestPath("A", WEIGHTED_EDGES, "D"::equals, SearchAlgorithm.BREADTH_FIRST);
+
+        assertThat(searchResult.distance())
+            .isEqualTo(2L);
+        assertThat(searchResult.path())
+            .hasSize(3);
+    }
+
+    @Test
+    void testFindShortestPath_zeroOneBreadthFirst() {
+        // Moving right is free, moving down costs 1
+        final EdgeFunction<Point> edgeFunction = (point, edgeConsumer) -> {
+            if (point.y() < 5) {
+                edgeConsumer.accept(point.moveRight(), 0L);
+            }
+            if (point.x() < 5) {
+                edgeConsumer.accept(point.moveDown(), 1L);
+            }
+        };
+
+        final SearchResult<Point> searchResult = ShortestPathSearcher.findShortestPath(Point.atOrigin(), edgeFunction,
+            Point.of(5, 5)::equals, SearchAlgorithm.ZERO_ONE_BREADTH_FIRST);
+
+        assertThat(searchResult.distance())
+            .isEqualTo(5L);
+        assertThat(searchResult.path())
+            .hasSize(11);
+    }
+
+    @Test
+    void testFindShortestPath_aStarWithManhattanHeuristic() {
+        final Point goal = Point.of(20, 20);
+        final EdgeFunction<Point> edgeFunction = (point, edgeConsumer) -> {
+            for (final Point neighbour : List.of(point.moveUp(), point.moveDown(), point.moveLeft(), point.moveRight())) {
+                if (neighbour.x() >= 0 && neighbour.y() >= 0 && neighbour.x() <= 20 && neighbour.y() <= 20 && !isWall(neighbour)) {
+                    edgeConsumer.accept(neighbour, 1L);
+                }
+            }
+        };
+
+        final SearchResult<Point> aStarResult = ShortestPathSearcher.findShortestPath(Point.atOrigin(), edgeFunction, goal::equals,
+            SearchAlgorithm.A_STAR, point -> Math.abs(goal.x() - point.x()) + Math.abs(goal.y() - point.y()));
+        final SearchResult<Point> breadthFirstResult = ShortestPathSearcher.findShortestPath(Point.atOrigin(), edgeFunction, goal::equals,
+            SearchAlgorithm.BREADTH_FIRST);
+
+        assertThat(aStarResult.distance())
+            .isEqualTo(breadthFirstResult.distance());
+        assertThat(aStarResult.path())
+            .hasSize((int) aStarResult.distance() + 1);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "BREADTH_FIRST",
+        "ZERO_ONE_BREADTH_FIRST",
+        "DIJKSTRA",
+        "A_STAR",
+    })
+    void testFindShortestPath_noPath(final SearchAlgorithm searchAlgorithm) {
+        final SearchResult<String> searchResult =
+            ShortestPathSearcher.findShortestPath("D", (_, _) -> {
+            }, "A"::equals, searchAlgorithm);
+
+        assertThat(searchResult.doesPathExist())
+            .isFalse();
+        assertThat(searchResult.distance())
+            .isEqualTo(Long.MAX_VALUE);
+        assertThatThrownBy(searchResult::endState)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("No path found");
+    }
+
+    @Test
+    void testFindShortestPath_invalidCosts() {
+        assertThatThrownBy(() -> ShortestPathSearcher.findShortestPath("A", WEIGHTED_EDGES, "D"::equals, SearchAlgorithm.ZERO_ONE_BREADTH_FIRST))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cost must be 0 or 1 for ZERO_ONE_BREADTH_FIRST, found: 5");
+
+        assertThatThrownBy(() -> ShortestPathSearcher.findShortestPath("A", (_, edgeConsumer) -> edgeConsumer.accept("B", -1L), "B"::equals,
+            SearchAlgorithm.DIJKSTRA))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cost must be non-negative for DIJKSTRA, found: -1");
+    }
+
+    @Test
+    void testFindShortestPathByKey_deduplicatesStatesWithSameKey() {
+        // Each state is a path of visited nodes, which would never be equal, but is keyed only by the node it ends on
+        final EdgeFunction<List<String>> pathEdges = (path, edgeConsumer) -> WEIGHTED_GRAPH.getOrDefault(path.getLast(), Map.of())
+            .forEach((neighbour, cost) -> {
+                final List<String> nextPath = new ArrayList<>(path);
+                nextPath.add(neighbour);
+                edgeConsumer.accept(nextPath, cost);
+            });
+        final Set<List<String>> expandedPaths = new HashSet<>();
+        final EdgeFunction<List<String>> recordingEdges = (path, edgeConsumer) -> {
+            expandedPaths.add(path);
+            pathEdges.forEachEdge(path, edgeConsumer);
+        };
+
+        final SearchResult<List<String>> searchResult = ShortestPathSearcher.findShortestPathByKey(List.of("A"), recordingEdges,
+            path -> "D".equals(path.getLast()), SearchAlgorithm.DIJKSTRA, path -> path.getLast().charAt(0));
+
+        assertThat(searchResult.distance())
+            .isEqualTo(3L);
+        assertThat(searchResult.endState())
+            .containsExactly("A", "B", "C", "D");
+        assertThat(expandedPaths)
+            .containsExactlyInAnyOrder(List.of("A"), List.of("A", "B"), List.of("A", "B", "C"));
+    }
+
+    @Test
+    void testFindShortestPathByKey_aStarWithManhattanHeuristic() {
+        final Point goal = Point.of(20, 20);
+        final EdgeFunction<Point> edgeFunction = (point, edgeConsumer) -> {
+            for (final Point neighbour : List.of(point.moveUp(), point.moveDown(), point.moveLeft(), point.moveRight())) {
+                if (neighbour.x() >= 0 && neighbour.y() >= 0 && neighbour.x() <= 20 && neighbour.y() <= 20 && !isWall(neighbour)) {
+                    edgeConsumer.accept(neighbour, 1L);
+                }
+            }
+        };
+        final Set<Point> expandedPoints = new HashSet<>();
+        final EdgeFunction<Point> recordingEdges = (point, edgeConsumer) -> {
+            expandedPoints.add(point);
+            edgeFunction.forEachEdge(point, edgeConsumer);
+        };
+
+        final SearchResult<Point> aStarResult = ShortestPathSearcher.findShortestPathByKey(Point.atOrigin(), recordingEdges, goal::equals,
+            SearchAlgorithm.A_STAR, point -> Math.abs(goal.x() - point.x()) + Math.abs(goal.y() - point.y()), point -> point.x() * 32L + point.y());
+        final int aStarExpansions = expandedPoints.size();
+        expandedPoints.clear();
+        final SearchResult<Point> dijkstraResult = ShortestPathSearcher.findShortestPathByKey(Point.atOrigin(), recordingEdges, goal::equals,
+            SearchAlgorithm.DIJKSTRA, point -> point.x() * 32L + point.y());
+
+        assertThat(aStarResult.distance())
+            .isEqualTo(dijkstraResult.distance());
+        assertThat(aStarExpansions)
+            .isLessThan(expandedPoints.size());
+    }
+
+    // A vertical wall at y=10, with a single gap at the bottom
+    private static boolean isWall(final Point point) {
+        return point.y() == 10 && point.x() < 20;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link UnionFind}.
+ */
+class UnionFindTest {
+
+    @Test
+    void testUnion() {
+        final UnionFind unionFind = new UnionFind(6);
+        assertThat(unionFind.numberOfSets())
+            .isEqualTo(6);
+
+        assertThat(unionFind.union(0, 1))
+            .isTrue();
+        assertThat(unionFind.union(2, 3))
+            .isTrue();
+        assertThat(unionFind.union(1, 3))
+            .isTrue();
+        assertThat(unionFind.union(0, 2))
+            .isFalse();
+
+        assertThat(unionFind.isConnected(0, 3))
+            .isTrue();
+        assertThat(unionFind.isConnected(0, 4))
+            .isFalse();
+        assertThat(unionFind.find(2))
+            .isEqualTo(unionFind.find(1));
+        assertThat(unionFind.numberOfSets())
+            .isEqualTo(3);
+        assertThat(unionFind.size())
+            .isEqualTo(6);
+    }
+
+    @Test
+    void testUnion_longChain() {
+        final int size = 100_000;
+        final UnionFind unionFind = new UnionFind(size);
+        for (int i = 1; i < size; i++) {
+            unionFind.union(i - 1, i);
+        }
+
+        assertThat(unionFind.numberOfSets())
+            .isEqualTo(1);
+        assertThat(unionFind.isConnected(0, size - 1))
+            .isTrue();
+    }
+
+    @Test
+    void testConstructor_invalidSize() {
+        assertThatThrownBy(() -> new UnionFind(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Size must be at least 0, found: -1");
+    }
+}
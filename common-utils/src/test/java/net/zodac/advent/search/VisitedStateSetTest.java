@@ -0,0 +1,79 @@
+/*
+ * BSD Zero Clause License
+ *
+ * Copyright (c) 2021-2025 zodac.net
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package net.zodac.advent.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link VisitedStateSet}.
+ */
+class VisitedStateSetTest {
+
+    @Test
+    void testAddAndContains() {
+        final VisitedStateSet visitedStates = VisitedStateSet.create(5);
+        assertThat(visitedStates.numberOfStates())
+            .isEqualTo(5);
+        assertThat(visitedStates.contains(2))
+            .isFalse();
+
+        assertThat(visitedStates.add(2))
+            .isTrue();
+        assertThat(visitedStates.add(2))
+            .isFalse();
+        assertThat(visitedStates.contains(2))
+            .isTrue();
+        assertThat(visitedStates.contains(3))
+            .isFalse();
+    }
+
+    @Test
+    void testClear() {
+        final VisitedStateSet visitedStates = VisitedStateSet.create(5);
+        visitedStates.add(0);
+        visitedStates.add(4);
+
+        visitedStates.clear();
+        assertThat(visitedStates.contains(0))
+            .isFalse();
+        assertThat(visitedStates.contains(4))
+            .isFalse();
+
+        assertThat(visitedStates.add(4))
+            .isTrue();
+        assertThat(visitedStates.contains(4))
+            .isTrue();
+    }
+
+    @Test
+    void testAdd_outsideRange() {
+        final VisitedStateSet visitedStates = VisitedStateSet.create(5);
+        assertThatThrownBy(() -> visitedStates.add(5))
+            .isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testCreate_givenNegativeNumberOfStates() {
+        assertThatThrownBy(() -> VisitedStateSet.create(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Number of states cannot be negative, found: -1");
+    }
+}
@@ -20,6 +20,8 @@ package net.zodac.advent.util;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.NoSuchAlgorithmException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -48,4 +50,119 @@ class CryptoUtilsTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage(errorMessage);
     }
+
+    @Test
+    void testHasher_hexadecimalHash() throws NoSuchAlgorithmException {
+        final CryptoUtils.Hasher hasher = CryptoUtils.hasher("MD5");
+        final byte[] input = "abcdef609043".getBytes(StandardCharsets.UTF_8);
+        final char[] output = new char[hasher.digestLength() * 2];
+
+        hasher.hexadecimalHash(input, 0, input.length, output);
+        assertThat(output)
+            .isEqualTo("000001DBBFA3A5C83A2D506429C7B00E".toCharArray());
+
+        // Reusing the same hasher and output buffer should give the same result
+        hasher.hexadecimalHash(input, 0, input.length, output);
+        assertThat(output)
+            .isEqualTo("000001DBBFA3A5C83A2D506429C7B00E".toCharArray());
+    }
+
+    @Test
+    void testHasher_hashWithOffsetAndByteBuffer() throws NoSuchAlgorithmException {
+        final CryptoUtils.Hasher hasher = CryptoUtils.hasher("MD5");
+        final byte[] input = "xxabcdef609043yy".getBytes(StandardCharsets.UTF_8);
+
+        final byte[] arrayOutput = new byte[hasher.digestLength()];
+        hasher.hash(input, 2, 12, arrayOutput);
+
+        final byte[] bufferOutput = new byte[hasher.digestLength()];
+        hasher.hash(ByteBuffer.wrap(input, 2, 12), bufferOutput);
+
+        assertThat(bufferOutput)
+            .isEqualTo(arrayOutput);
+        assertThat(CryptoUtils.startsWithZeroes(arrayOutput, 5))
+            .isTrue();
+        assertThat(CryptoUtils.startsWithZeroes(arrayOutput, 6))
+            .isFalse();
+    }
+
+    @Test
+    void testHasher_givenOutputTooSmall() throws NoSuchAlgorithmException {
+        final CryptoUtils.Hasher hasher = CryptoUtils.hasher("MD5");
+        final byte[] input = "abcdef609043".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> hasher.hash(input, 0, input.length, new byte[4]))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Output must have space for at least 16 bytes, found: 4");
+
+        // A failed call should not affect the next hash
+        final char[] output = new char[hasher.digestLength() * 2];
+        hasher.hexadecimalHash(input, 0, input.length, output);
+        assertThat(output)
+            .isEqualTo("000001DBBFA3A5C83A2D506429C7B00E".toCharArray());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "abcdef609043,00000,true",
+        "abcdef609043,000001db,true",
+        "abcdef609043,000001DB,true",
+        "abcdef609043,000000,false",
+        "abcdef609043,000001dc,false",
+    })
+    void testHasher_hashStartsWith(final String input, final String prefix, final boolean expected) throws NoSuchAlgorithmException {
+        final CryptoUtils.Hasher hasher = CryptoUtils.hasher("MD5");
+        final byte[] inputBytes = input.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(hasher.hashStartsWith(inputBytes, 0, inputBytes.length, CryptoUtils.toNibbles(prefix)))
+            .isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "abcdef609043,5,true",
+        "abcdef609043,6,false",
+        "abcdef609043,0,true",
+        "abcdef609043,33,false",
+    })
+    void testHasher_hashStartsWithZeroes(final String input, final int numberOfZeroes, final boolean expected) throws NoSuchAlgorithmException {
+        final CryptoUtils.Hasher hasher = CryptoUtils.hasher("MD5");
+        final byte[] inputBytes = input.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(hasher.hashStartsWithZeroes(inputBytes, 0, inputBytes.length, numberOfZeroes))
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void testHasherPerThread() throws NoSuchAlgorithmException {
+        final ThreadLocal<CryptoUtils.Hasher> hasherPerThread = CryptoUtils.hasherPerThread("MD5");
+        assertThat(hasherPerThread.get())
+            .isEqualTo(hasherPerThread.get());
+    }
+
+    @Test
+    void testHasherPerThread_givenInvalidAlgorithm() {
+        assertThatThrownBy(() -> CryptoUtils.hasherPerThread("INVALID"))
+            .isInstanceOf(NoSuchAlgorithmException.class);
+    }
+
+    @Test
+    void testNibbleAt() {
+        final byte[] hash = {(byte) 0x1F, (byte) 0xA0};
+        assertThat(CryptoUtils.nibbleAt(hash, 0))
+            .isEqualTo(1);
+        assertThat(CryptoUtils.nibbleAt(hash, 1))
+            .isEqualTo(15);
+        assertThat(CryptoUtils.nibbleAt(hash, 2))
+            .isEqualTo(10);
+        assertThat(CryptoUtils.nibbleAt(hash, 3))
+            .isZero();
+    }
+
+    @Test
+    void testToNibbles_givenInvalidValue() {
+        assertThatThrownBy(() -> CryptoUtils.toNibbles("00g0"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Input must be a hexadecimal value, found: '00g0'");
+    }
 }
@@ -26,6 +26,8 @@ import net.zodac.advent.grid.Grid;
 import net.zodac.advent.grid.GridFactory;
 import net.zodac.advent.grid.Point;
 import net.zodac.advent.search.GroupSearcher;
+import net.zodac.advent.search.GroupSummary;
+import net.zodac.advent.search.LabelledGroups;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -79,4 +81,50 @@ class GroupSearcherTest {
                 )
             );
     }
+
+    @Test
+    void testSearcher_usingUnionFind() {
+        final Grid<Character> grid = GridFactory.ofCharacters(List.of(
+            "RRRRIICCFF",
+            "RRRRIICCCF",
+            "VVRRRCCFFF",
+            "VVRCCCJFFF",
+            "VVVVCJJCFE",
+            "VVIVCCJJEE",
+            "VVIIICJJEE",
+            "MIIIIIJJEE",
+            "MIIISIJEEE",
+            "MMMISSJEEE"
+        ));
+
+        assertThat(GroupSearcher.findGroupsUsingUnionFind(grid))
+            .isEqualTo(GroupSearcher.findGroups(grid));
+    }
+
+    @Test
+    void testLabelGroups() {
+        final Grid<Character> grid = GridFactory.ofCharacters(List.of(
+            "AAAA",
+            "BBCD",
+            "BBCC",
+            "EEEC"
+        ));
+
+        final LabelledGroups labelledGroups = GroupSearcher.labelGroups(grid);
+
+        assertThat(labelledGroups.numberOfGroups())
+            .isEqualTo(5);
+        assertThat(labelledGroups.labelAt(2, 2))
+            .isEqualTo(2);
+        assertThat(labelledGroups.labelAt(15))
+            .isEqualTo(2);
+        assertThat(labelledGroups.groups())
+            .containsExactly(
+                new GroupSummary(0, 0, 4L, 10L, 4L),
+                new GroupSummary(1, 4, 4L, 8L, 4L),
+                new GroupSummary(2, 6, 4L, 10L, 8L),
+                new GroupSummary(3, 7, 1L, 4L, 4L),
+                new GroupSummary(4, 12, 3L, 8L, 4L)
+            );
+    }
 }
@@ -84,6 +84,30 @@ class MathUtilsTest {
             .hasMessage(errorMessage);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "0,1",                      // Zero
+        "1,1",                      // One
+        "5,120",                    // Small value
+        "20,2432902008176640000",   // Largest value
+    })
+    void testFactorial(final int input, final long expected) {
+        final long output = MathUtils.factorial(input);
+        assertThat(output)
+            .isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "-1,'Factorial input must be between 0 and 20, found: -1'", // Negative
+        "21,'Factorial input must be between 0 and 20, found: 21'", // Overflows long
+    })
+    void testFactorial_givenInvalidInputs(final int input, final String errorMessage) {
+        assertThatThrownBy(() -> MathUtils.factorial(input))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(errorMessage);
+    }
+
     @ParameterizedTest
     @MethodSource("provideForGreatestCommonDivisor")
     void testGreatestCommonDivisor(final long input, final long[] additionalInputs, final long expected) {
@@ -18,10 +18,14 @@
 package net.zodac.advent.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -154,4 +158,51 @@ class PermutationUtilsTest {
             )
         );
     }
+
+    @Test
+    void testStreamIndexPermutations() {
+        final List<List<Integer>> output = PermutationUtils.streamIndexPermutations(3)
+            .map(permutation -> Arrays.stream(permutation).boxed().toList())
+            .toList();
+        assertThat(output)
+            .containsExactly(
+                List.of(0, 1, 2),
+                List.of(0, 2, 1),
+                List.of(1, 0, 2),
+                List.of(1, 2, 0),
+                List.of(2, 0, 1),
+                List.of(2, 1, 0)
+            );
+    }
+
+    @Test
+    void testMapIndexPermutations_givenParallelStream() {
+        // Encode each permutation of 9 indices as a base-10 number, so every permutation is distinct and the sum can be checked
+        final ToLongFunction<int[]> toBase10 = permutation -> {
+            long value = 0L;
+            for (final int index : permutation) {
+                value = value * 10 + index;
+            }
+            return value;
+        };
+        final long[] output = PermutationUtils.mapIndexPermutations(9, toBase10)
+            .parallel()
+            .toArray();
+
+        assertThat(output.length)
+            .isEqualTo(362_880);
+        assertThat(output[0])
+            .isEqualTo(12_345_678L);
+        assertThat(output[output.length - 1])
+            .isEqualTo(876_543_210L);
+        assertThat(Arrays.stream(output).distinct().count())
+            .isEqualTo(362_880L);
+    }
+
+    @Test
+    void testMapIndexPermutations_givenInvalidSize() {
+        assertThatThrownBy(() -> PermutationUtils.mapIndexPermutations(21, _ -> 0L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Size must be between 0 and 20, found: 21");
+    }
 }
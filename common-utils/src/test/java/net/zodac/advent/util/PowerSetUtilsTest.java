@@ -18,10 +18,13 @@
 package net.zodac.advent.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -351,6 +354,71 @@ class PowerSetUtilsTest {
             );
     }
 
+    @Test
+    void whenStreamPowerList_givenParallelStream_thenAllCombinationsAreReturned() {
+        final List<Integer> input = IntStream.range(0, 20).boxed().toList();
+        final long numberOfCombinations = PowerSetUtils.streamPowerList(input)
+            .parallel()
+            .count();
+        assertThat(numberOfCombinations)
+            .isEqualTo(1L << 20);
+    }
+
+    @Test
+    void whenCountSubsetsWithSumBySize_givenDuplicateValues_thenEachDuplicateIsCounted() {
+        final long[] input = {20L, 15L, 10L, 5L, 5L};
+        final long[] output = PowerSetUtils.countSubsetsWithSumBySize(input, 25L);
+        assertThat(output)
+            .isEqualTo(new long[] {0L, 0L, 3L, 1L, 0L, 0L});
+    }
+
+    @Test
+    void whenCountSubsetsWithSum_givenValues_thenMatchesPowerList() {
+        final List<Integer> input = List.of(3, -1, 4, 1, -5, 9, 2, 6, 5, 3, 5, 8, 9);
+        final long[] values = input.stream().mapToLong(Integer::longValue).toArray();
+
+        for (int targetSum = -10; targetSum <= 30; targetSum++) {
+            final long wantedSum = targetSum;
+            final long expected = PowerSetUtils.streamPowerList(input)
+                .filter(combination -> combination.stream().mapToLong(Integer::longValue).sum() == wantedSum)
+                .count();
+
+            assertThat(PowerSetUtils.countSubsetsWithSum(values, wantedSum))
+                .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void whenCountSubsetsWithSumBySize_givenFortyValues_thenSubsetsAreCounted() {
+        final long[] input = new long[40];
+        Arrays.fill(input, 1L);
+        final long[] output = PowerSetUtils.countSubsetsWithSumBySize(input, 20L);
+        assertThat(output[20])
+            .isEqualTo(137_846_528_820L);
+    }
+
+    @Test
+    void whenSubsetSum_givenMask_thenSelectedValuesAreSummed() {
+        final long[] input = {1L, 10L, 100L, 1_000L};
+        assertThat(PowerSetUtils.subsetSum(input, 0b1010L))
+            .isEqualTo(1_010L);
+    }
+
+    @Test
+    void whenSubsetMasks_givenTooManyElements_thenExceptionIsThrown() {
+        assertThatThrownBy(() -> PowerSetUtils.subsetMasks(63))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Number of elements must be between 0 and 62, found: 63");
+    }
+
+    @Test
+    void whenCountSubsetsWithSum_givenTooManyValues_thenExceptionIsThrown() {
+        final long[] input = new long[49];
+        assertThatThrownBy(() -> PowerSetUtils.countSubsetsWithSum(input, 0L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Number of elements must be between 0 and 48, found: 49");
+    }
+
     private static class BaseFilterable {
 
     }
@@ -25,9 +25,11 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Matcher;
 import java.util.stream.Stream;
 import net.zodac.advent.pojo.tuple.Pair;
 import org.junit.jupiter.api.Test;
@@ -202,6 +204,43 @@ class StringUtilsTest {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("provideForParseNumbersInOrder")
+    void testParseNumbersInOrder(final String input, final long[] expected) {
+        final long[] output = StringUtils.parseNumbersInOrder(input);
+        assertThat(output)
+            .isEqualTo(expected);
+    }
+
+    private static Stream<Arguments> provideForParseNumbersInOrder() {
+        return Stream.of(
+            Arguments.of("1 -23 456", new long[] {1L, -23L, 456L}),                  // Negative number
+            Arguments.of("5-3,7", new long[] {5L, -3L, 7L}),                           // Minus sign directly after a number
+            Arguments.of("a12 12b x_1 4", new long[] {4L}),                            // Numbers attached to words
+            Arguments.of("-9223372036854775808", new long[] {Long.MIN_VALUE}),         // Smallest long
+            Arguments.of("9223372036854775808 1", new long[] {1L}),                    // Number too large for long
+            Arguments.of("No numbers here", new long[] {}),                            // No numbers
+            Arguments.of("", new long[] {})                                            // Empty
+        );
+    }
+
+    @Test
+    void testParseNumbersInOrder_matchesNumberPattern() {
+        for (final String naughtyString : getBigNaughtyListOfStrings()) {
+            final Matcher matcher = StringUtils.NUMBER_PATTERN.matcher(naughtyString);
+            final List<Long> expected = new ArrayList<>();
+            while (matcher.find()) {
+                if (NumberUtils.isLong(matcher.group())) {
+                    expected.add(Long.parseLong(matcher.group()));
+                }
+            }
+
+            assertThat(StringUtils.collectNumbersInOrder(naughtyString))
+                .as("Input: '%s'", naughtyString)
+                .isEqualTo(expected);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("provideForCommonChars")
     void testCommonChars(final String first, final String[] others, final Set<Character> expected) {
@@ -554,6 +593,7 @@ class StringUtilsTest {
             StringUtils.characterFrequencies(naughtyString);
             StringUtils.characterIndexes(naughtyString, 'a');
             StringUtils.collectNumbersInOrder(naughtyString);
+            StringUtils.parseNumbersInOrder(naughtyString);
             StringUtils.containsAllCharacters("myTest", naughtyString);
             StringUtils.containsAny("myTest", naughtyString);
             StringUtils.containsDuplicates(naughtyString);